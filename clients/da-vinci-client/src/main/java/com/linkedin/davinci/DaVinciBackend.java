@@ -303,7 +303,10 @@ public class DaVinciBackend implements Closeable {
             readOnlyStoreRepository,
             storageService.getStorageEngineRepository(),
             backendConfig.getMaxConcurrentSnapshotUser(),
-            backendConfig.getSnapshotRetentionTimeInMin());
+            backendConfig.getSnapshotRetentionTimeInMin(),
+            backendConfig.getBlobTransferClientStreamCount(),
+            backendConfig.isBlobTransferIncrementalEnabled(),
+            metricsRepository);
       } else {
         blobTransferManager = null;
       }
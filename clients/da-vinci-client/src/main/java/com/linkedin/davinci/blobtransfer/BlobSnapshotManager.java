@@ -17,6 +17,8 @@ import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -54,6 +56,12 @@ public class BlobSnapshotManager {
   // snapshot/offset consistency
   // Example: <topicName, <partitionId, offset>>
   private Map<String, Map<Integer, BlobTransferPartitionMetadata>> snapshotMetadataRecords;
+  // A map to cache the checksums of the snapshot files, since the SST files are shared by the snapshots recreated for
+  // the same partition, use to avoid reading the unchanged files again for every incremental transfer
+  // Example: <snapshotDir, <fileName, checksum>>
+  private Map<String, Map<String, SnapshotFileChecksum>> snapshotFileChecksums;
+  // Example: <snapshotDir, lock>
+  private final Map<String, Object> snapshotChecksumLocks = new VeniceConcurrentHashMap<>();
 
   private final ReadOnlyStoreRepository readOnlyStoreRepository;
   private final StorageEngineRepository storageEngineRepository;
@@ -80,6 +88,7 @@ public class BlobSnapshotManager {
     this.concurrentSnapshotUsers = new VeniceConcurrentHashMap<>();
     this.snapshotTimestamps = new VeniceConcurrentHashMap<>();
     this.snapshotMetadataRecords = new VeniceConcurrentHashMap<>();
+    this.snapshotFileChecksums = new VeniceConcurrentHashMap<>();
   }
 
   /**
@@ -327,4 +336,50 @@ public class BlobSnapshotManager {
         offsetRecordByte,
         storeVersionStateByte);
   }
+
+  /**
+   * Get the name, size and checksum of the given files of the snapshot of a partition, used by the incremental
+   * transfer. The checksum of a file is computed once and reused as long as its size and modification time don't
+   * change, which holds for the SST files hard-linked into the recreated snapshots. The concurrent requests for the
+   * same snapshot wait for each other, so the files are only read once. This reads the files, so it should not be
+   * called from an event loop.
+   * @param blobTransferRequest the blob transfer request
+   * @param files the files of the snapshot
+   * @return the metadata of the files, in the same order
+   */
+  public List<BlobTransferFileMetadata> getSnapshotFileMetadata(BlobTransferPayload blobTransferRequest, File[] files) {
+    String snapshotDir = blobTransferRequest.getSnapshotDir();
+    // Not computed within the map, which would block the other snapshots hashed into the same bin while reading.
+    Object snapshotLock = snapshotChecksumLocks.computeIfAbsent(snapshotDir, k -> new Object());
+    synchronized (snapshotLock) {
+      Map<String, SnapshotFileChecksum> cachedChecksums = snapshotFileChecksums.get(snapshotDir);
+      Map<String, SnapshotFileChecksum> checksums = new VeniceConcurrentHashMap<>();
+      List<BlobTransferFileMetadata> fileMetadataList = new ArrayList<>(files.length);
+      for (File file: files) {
+        SnapshotFileChecksum checksum = cachedChecksums == null ? null : cachedChecksums.get(file.getName());
+        if (checksum == null || checksum.fileMetadata.getFileSize() != file.length()
+            || checksum.lastModified != file.lastModified()) {
+          try {
+            checksum = new SnapshotFileChecksum(BlobTransferUtils.getFileMetadata(file), file.lastModified());
+          } catch (IOException e) {
+            throw new VeniceException("Failed to compute the checksum of snapshot file: " + file, e);
+          }
+        }
+        checksums.put(file.getName(), checksum);
+        fileMetadataList.add(checksum.fileMetadata);
+      }
+      snapshotFileChecksums.put(snapshotDir, checksums);
+      return fileMetadataList;
+    }
+  }
+
+  private static class SnapshotFileChecksum {
+    private final BlobTransferFileMetadata fileMetadata;
+    private final long lastModified;
+
+    private SnapshotFileChecksum(BlobTransferFileMetadata fileMetadata, long lastModified) {
+      this.fileMetadata = fileMetadata;
+      this.lastModified = lastModified;
+    }
+  }
 }
@@ -0,0 +1,74 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+
+/**
+ * This class is the metadata of a single file of a partition in the blob transfer, which identifies the content of the
+ * file by its size and its CRC32 checksum, so the files a client already has could be skipped.
+ */
+public class BlobTransferFileMetadata {
+  public String fileName;
+  public long fileSize;
+  public long checksum;
+
+  public BlobTransferFileMetadata() {
+  }
+
+  public BlobTransferFileMetadata(
+      @JsonProperty("fileName") String fileName,
+      @JsonProperty("fileSize") long fileSize,
+      @JsonProperty("checksum") long checksum) {
+    this.fileName = fileName;
+    this.fileSize = fileSize;
+    this.checksum = checksum;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public void setFileName(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public void setFileSize(long fileSize) {
+    this.fileSize = fileSize;
+  }
+
+  public long getChecksum() {
+    return checksum;
+  }
+
+  public void setChecksum(long checksum) {
+    this.checksum = checksum;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BlobTransferFileMetadata that = (BlobTransferFileMetadata) o;
+    return fileSize == that.fileSize && checksum == that.checksum && Objects.equals(fileName, that.fileName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(fileName, fileSize, checksum);
+  }
+
+  @Override
+  public String toString() {
+    return "BlobTransferFileMetadata {" + " fileName='" + fileName + ", fileSize=" + fileSize + ", checksum="
+        + checksum + " }";
+  }
+}
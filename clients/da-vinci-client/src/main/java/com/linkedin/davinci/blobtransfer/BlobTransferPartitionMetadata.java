@@ -1,6 +1,8 @@
 package com.linkedin.davinci.blobtransfer;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -11,6 +13,9 @@ public class BlobTransferPartitionMetadata {
   public int partitionId;
   public java.nio.ByteBuffer offsetRecord;
   public java.nio.ByteBuffer storeVersionState;
+  // The name, size and checksum of all files of the snapshot, only set if the client asks for an incremental transfer,
+  // in which case the files the client already has are not sent. Nullable.
+  public List<BlobTransferFileMetadata> files;
 
   public BlobTransferPartitionMetadata() {
   }
@@ -58,9 +63,36 @@ public class BlobTransferPartitionMetadata {
     return storeVersionState;
   }
 
+  public List<BlobTransferFileMetadata> getFiles() {
+    return files;
+  }
+
+  public void setFiles(List<BlobTransferFileMetadata> files) {
+    this.files = files;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BlobTransferPartitionMetadata that = (BlobTransferPartitionMetadata) o;
+    return partitionId == that.partitionId && Objects.equals(topicName, that.topicName)
+        && Objects.equals(offsetRecord, that.offsetRecord) && Objects.equals(storeVersionState, that.storeVersionState)
+        && Objects.equals(files, that.files);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(topicName, partitionId, offsetRecord, storeVersionState, files);
+  }
+
   @Override
   public String toString() {
     return "BlobTransferPartitionMetadata {" + " topicName='" + topicName + ", partitionId=" + partitionId
-        + ", offsetRecord=" + offsetRecord + ", storeVersionState=" + storeVersionState + " }";
+        + ", offsetRecord=" + offsetRecord + ", storeVersionState=" + storeVersionState + ", files=" + files + " }";
   }
 }
@@ -4,12 +4,14 @@ import static com.linkedin.venice.store.rocksdb.RocksDBUtils.composePartitionDbD
 import static com.linkedin.venice.store.rocksdb.RocksDBUtils.composeSnapshotDir;
 
 import com.linkedin.venice.utils.Utils;
+import java.nio.file.Paths;
 
 
 /**
  * POJO to hold the payload for blob transfer related informartion
  */
 public class BlobTransferPayload {
+  private static final String TRANSFER_DIR_NAME = ".blob_transfer_files";
   private final int partition;
   private final String topicName;
   private final String partitionDir;
@@ -30,6 +32,14 @@ public class BlobTransferPayload {
     return composeSnapshotDir(partitionDir);
   }
 
+  /**
+   * The directory the files fetched from a peer are written to, which are only moved into the partition directory once
+   * the transfer completes, so a failed transfer doesn't leave the local copy of the partition half overwritten.
+   */
+  public String getTransferDir() {
+    return Paths.get(partitionDir, TRANSFER_DIR_NAME).toString();
+  }
+
   public String getFullResourceName() {
     return Utils.getReplicaId(topicName, partition);
   }
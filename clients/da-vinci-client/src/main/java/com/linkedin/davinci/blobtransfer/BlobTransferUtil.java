@@ -4,6 +4,7 @@ import static com.linkedin.venice.client.store.ClientFactory.getTransportClient;
 
 import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
+import com.linkedin.davinci.stats.BlobTransferStats;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.venice.blobtransfer.DaVinciBlobFinder;
@@ -13,6 +14,7 @@ import com.linkedin.venice.client.store.AvroGenericStoreClientImpl;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.helix.HelixCustomizedViewOfflinePushRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import io.tehuti.metrics.MetricsRepository;
 import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -48,9 +50,18 @@ public class BlobTransferUtil {
         readOnlyStoreRepository,
         storageEngineRepository,
         maxConcurrentSnapshotUser,
-        snapshotRetentionTimeInMin);
+        snapshotRetentionTimeInMin,
+        1,
+        false,
+        null);
   }
 
+  /**
+   * Get a P2P blob transfer manager for DaVinci Client and start it.
+   * @param clientStreamCount the number of parallel connections to fetch the files of a partition
+   * @param incrementalTransferEnabled whether to only fetch the files missing or changed in the local copy
+   * @param metricsRepository the metrics repository to record the transfer stats, nullable
+   */
   public static BlobTransferManager<Void> getP2PBlobTransferManagerForDVCAndStart(
       int p2pTransferServerPort,
       int p2pTransferClientPort,
@@ -60,7 +71,10 @@ public class BlobTransferUtil {
       ReadOnlyStoreRepository readOnlyStoreRepository,
       StorageEngineRepository storageEngineRepository,
       int maxConcurrentSnapshotUser,
-      int snapshotRetentionTimeInMin) {
+      int snapshotRetentionTimeInMin,
+      int clientStreamCount,
+      boolean incrementalTransferEnabled,
+      MetricsRepository metricsRepository) {
     try {
       BlobSnapshotManager blobSnapshotManager = new BlobSnapshotManager(
           readOnlyStoreRepository,
@@ -72,9 +86,15 @@ public class BlobTransferUtil {
           new AvroGenericStoreClientImpl<>(getTransportClient(clientConfig), false, clientConfig);
       BlobTransferManager<Void> manager = new NettyP2PBlobTransferManager(
           new P2PBlobTransferService(p2pTransferServerPort, baseDir, blobSnapshotManager),
-          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService),
+          new NettyFileTransferClient(
+              p2pTransferClientPort,
+              baseDir,
+              storageMetadataService,
+              clientStreamCount,
+              incrementalTransferEnabled),
           new DaVinciBlobFinder(storeClient),
-          baseDir);
+          baseDir,
+          metricsRepository == null ? null : new BlobTransferStats(metricsRepository));
       manager.start();
       return manager;
     } catch (Exception e) {
@@ -90,6 +110,9 @@ public class BlobTransferUtil {
    * @param p2pTransferClientPort the port used by the P2P transfer client
    * @param baseDir the base directory of the underlying storage
    * @param customizedViewFuture the future of the customized view repository
+   * @param clientStreamCount the number of parallel connections to fetch the files of a partition
+   * @param incrementalTransferEnabled whether to only fetch the files missing or changed in the local copy
+   * @param metricsRepository the metrics repository to record the transfer stats
    * @return the blob transfer manager
    */
   public static BlobTransferManager<Void> getP2PBlobTransferManagerForServerAndStart(
@@ -101,7 +124,10 @@ public class BlobTransferUtil {
       ReadOnlyStoreRepository readOnlyStoreRepository,
       StorageEngineRepository storageEngineRepository,
       int maxConcurrentSnapshotUser,
-      int snapshotRetentionTimeInMin) {
+      int snapshotRetentionTimeInMin,
+      int clientStreamCount,
+      boolean incrementalTransferEnabled,
+      MetricsRepository metricsRepository) {
     try {
       BlobSnapshotManager blobSnapshotManager = new BlobSnapshotManager(
           readOnlyStoreRepository,
@@ -111,9 +137,15 @@ public class BlobTransferUtil {
           snapshotRetentionTimeInMin);
       BlobTransferManager<Void> manager = new NettyP2PBlobTransferManager(
           new P2PBlobTransferService(p2pTransferServerPort, baseDir, blobSnapshotManager),
-          new NettyFileTransferClient(p2pTransferClientPort, baseDir, storageMetadataService),
+          new NettyFileTransferClient(
+              p2pTransferClientPort,
+              baseDir,
+              storageMetadataService,
+              clientStreamCount,
+              incrementalTransferEnabled),
           new ServerBlobFinder(customizedViewFuture),
-          baseDir);
+          baseDir,
+          new BlobTransferStats(metricsRepository));
       manager.start();
       return manager;
     } catch (Exception e) {
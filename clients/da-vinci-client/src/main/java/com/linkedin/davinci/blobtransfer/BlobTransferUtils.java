@@ -1,12 +1,23 @@
 package com.linkedin.davinci.blobtransfer;
 
 import io.netty.handler.codec.http.HttpResponse;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
 
 
 public class BlobTransferUtils {
   public static final String BLOB_TRANSFER_STATUS = "X-Blob-Transfer-Status";
   public static final String BLOB_TRANSFER_COMPLETED = "Completed";
   public static final String BLOB_TRANSFER_TYPE = "X-Blob-Transfer-Type";
+  // query parameters to fetch a subset of the files of a partition over one of the parallel connections
+  public static final String BLOB_TRANSFER_STREAM_INDEX = "stream_index";
+  public static final String BLOB_TRANSFER_STREAM_COUNT = "stream_count";
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
 
   public enum BlobTransferType {
     FILE, METADATA
@@ -24,4 +35,42 @@ public class BlobTransferUtils {
     }
     return metadataHeader.equals(BlobTransferUtils.BlobTransferType.METADATA.name());
   }
+
+  /**
+   * Get the name, size and CRC32 checksum of a file, which reads the whole file.
+   * @param file the file
+   * @return the metadata of the file
+   */
+  public static BlobTransferFileMetadata getFileMetadata(File file) throws IOException {
+    CRC32 checksum = new CRC32();
+    byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+    long fileSize = 0;
+    try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+      int length;
+      while ((length = inputStream.read(buffer)) > 0) {
+        checksum.update(buffer, 0, length);
+        fileSize += length;
+      }
+    }
+    return new BlobTransferFileMetadata(file.getName(), fileSize, checksum.getValue());
+  }
+
+  /**
+   * Get the metadata of all regular files in the given directory, the sub-directories are ignored.
+   * @param dir the directory
+   * @return the metadata of the files, or an empty list if the directory doesn't exist
+   */
+  public static List<BlobTransferFileMetadata> getFileMetadataInDir(File dir) throws IOException {
+    List<BlobTransferFileMetadata> fileMetadataList = new ArrayList<>();
+    File[] files = dir.listFiles();
+    if (files == null) {
+      return fileMetadataList;
+    }
+    for (File file: files) {
+      if (file.isFile()) {
+        fileMetadataList.add(getFileMetadata(file));
+      }
+    }
+    return fileMetadataList;
+  }
 }
@@ -2,20 +2,24 @@ package com.linkedin.davinci.blobtransfer;
 
 import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
+import com.linkedin.davinci.stats.BlobTransferStats;
 import com.linkedin.venice.blobtransfer.BlobFinder;
 import com.linkedin.venice.blobtransfer.BlobPeersDiscoveryResponse;
 import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
 import com.linkedin.venice.exceptions.VenicePeersConnectionException;
 import com.linkedin.venice.exceptions.VenicePeersNotFoundException;
 import com.linkedin.venice.meta.Version;
-import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -34,6 +38,10 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
       "Replica %s failed to connect to any peer, after trying all possible hosts.";
   private static final String FETCHED_BLOB_SUCCESS_MSG =
       "Replica {} successfully fetched blob from peer {} in {} seconds";
+  private static final String FETCHED_BLOB_THROUGHPUT_MSG =
+      "Replica {} fetched {} bytes from peer {} in {} ms, throughput: {} MB/s";
+  private static final String RESUME_FETCH_BLOB_MSG =
+      "Replica {} failed to fetch blob from peer {}, resuming from the files received. Exception: {}";
   private static final String PEER_CONNECTION_EXCEPTION_MSG =
       "Replica {} get error when connect to peer: {}. Exception: {}";
   private static final String PEER_NO_SNAPSHOT_MSG =
@@ -47,16 +55,28 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
   // peer finder is responsible to find the peers that have the requested blob
   protected final BlobFinder peerFinder;
   private final String baseDir;
+  // nullable
+  private final BlobTransferStats blobTransferStats;
 
   public NettyP2PBlobTransferManager(
       P2PBlobTransferService blobTransferService,
       NettyFileTransferClient nettyClient,
       BlobFinder peerFinder,
       String baseDir) {
+    this(blobTransferService, nettyClient, peerFinder, baseDir, null);
+  }
+
+  public NettyP2PBlobTransferManager(
+      P2PBlobTransferService blobTransferService,
+      NettyFileTransferClient nettyClient,
+      BlobFinder peerFinder,
+      String baseDir,
+      BlobTransferStats blobTransferStats) {
     this.blobTransferService = blobTransferService;
     this.nettyClient = nettyClient;
     this.peerFinder = peerFinder;
     this.baseDir = baseDir;
+    this.blobTransferStats = blobTransferStats;
   }
 
   @Override
@@ -104,8 +124,10 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
    * 4. If the connected host does not have the requested file,
    *    a VeniceBlobTransferFileNotFoundException is thrown, and the process moves on to the next available host.
    * 5. If any unexpected exception occurs, such as InterruptedException, ExecutionException, or TimeoutException
-   *    during the file/metadata transfer, a VeniceException is thrown,
-   *    and the process moves on to the next possible host, and the partially downloaded blobs are deleted.
+   *    during the file/metadata transfer, a VeniceException is thrown. If some files were received already, the
+   *    transfer is resumed from the same host once, see {@link #fetchFromPeer}. Otherwise, or if the resumed transfer
+   *    fails again, the process moves on to the next possible host, and the partially downloaded blobs are deleted,
+   *    while the local copy of the partition is kept.
    *
    *  - Success case:
    *  1. If the blob is successfully fetched from a peer, an InputStream of the blob is returned.
@@ -142,18 +164,18 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
 
         // Attempt to fetch the blob from the current peer asynchronously
         LOGGER.info("Attempting to connect to host: {}", chosenHost);
+        Instant peerStartTime = Instant.now();
 
-        return nettyClient.get(chosenHost, storeName, version, partition)
-            .toCompletableFuture()
-            .thenAccept(inputStream -> {
-              // Success case: Complete the future with the input stream
-              LOGGER.info(
-                  FETCHED_BLOB_SUCCESS_MSG,
-                  replicaId,
-                  chosenHost,
-                  Duration.between(startTime, Instant.now()).getSeconds());
-              resultFuture.complete(inputStream);
-            })
+        return fetchFromPeer(chosenHost, storeName, version, partition, replicaId).thenAccept(receivedBytes -> {
+          // Success case: Complete the future, the files are written to the disk by the client already
+          LOGGER.info(
+              FETCHED_BLOB_SUCCESS_MSG,
+              replicaId,
+              chosenHost,
+              Duration.between(startTime, Instant.now()).getSeconds());
+          recordTransfer(chosenHost, replicaId, receivedBytes, peerStartTime);
+          resultFuture.complete(null);
+        })
             .exceptionally(ex -> {
               handlePeerFetchException(ex, chosenHost, storeName, version, partition, replicaId);
               return null;
@@ -171,6 +193,55 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
     });
   }
 
+  /**
+   * Fetch the blob from the given peer. If the transfer fails after receiving some files, e.g. the connection is reset
+   * in the middle of a big partition, it's resumed once from the same peer, which skips the files received already,
+   * instead of starting over from the next peer.
+   */
+  private CompletableFuture<Long> fetchFromPeer(
+      String chosenHost,
+      String storeName,
+      int version,
+      int partition,
+      String replicaId) {
+    return nettyClient.get(chosenHost, storeName, version, partition)
+        .toCompletableFuture()
+        .handle((receivedBytes, ex) -> {
+          if (ex == null) {
+            return CompletableFuture.completedFuture(receivedBytes);
+          }
+          if (!nettyClient.isResumable(chosenHost, storeName, version, partition)) {
+            CompletableFuture<Long> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(ex);
+            return failedFuture;
+          }
+          LOGGER.warn(RESUME_FETCH_BLOB_MSG, replicaId, chosenHost, ex.getMessage());
+          if (blobTransferStats != null) {
+            blobTransferStats.recordTransferResume();
+          }
+          return nettyClient.resume(chosenHost, storeName, version, partition).toCompletableFuture();
+        })
+        .thenCompose(Function.identity());
+  }
+
+  /**
+   * Log and record the throughput of a successful transfer, based on the bytes actually received from the peer, so the
+   * local files reused by an incremental transfer don't inflate it.
+   */
+  private void recordTransfer(String chosenHost, String replicaId, long bytes, Instant startTime) {
+    long timeInMs = Duration.between(startTime, Instant.now()).toMillis();
+    LOGGER.info(
+        FETCHED_BLOB_THROUGHPUT_MSG,
+        replicaId,
+        bytes,
+        chosenHost,
+        timeInMs,
+        String.format("%.2f", bytes / 1024d / 1024d / (Math.max(timeInMs, 1) / 1000d)));
+    if (blobTransferStats != null) {
+      blobTransferStats.recordTransfer(bytes, timeInMs);
+    }
+  }
+
   /**
    * Handle the exception thrown when fetching the blob from a peer.
    */
@@ -189,12 +260,22 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
       LOGGER.error(PEER_NO_SNAPSHOT_MSG, replicaId, chosenHost, ex.getMessage());
     } else {
       // error case 5: other exceptions (InterruptedException, ExecutionException, TimeoutException) that are not
-      // expected, move to the next possible host
-      RocksDBUtils.deletePartitionDir(baseDir, storeName, version, partition);
+      // expected, move to the next possible host. The files are only moved into the partition directory once the
+      // transfer completes, so the local copy of the partition, if any, is kept.
+      deleteTransferDir(storeName, version, partition, replicaId);
       LOGGER.error(FAILED_TO_FETCH_BLOB_MSG, replicaId, chosenHost, ex.getMessage());
     }
   }
 
+  private void deleteTransferDir(String storeName, int version, int partition, String replicaId) {
+    File transferDir = new File(new BlobTransferPayload(baseDir, storeName, version, partition).getTransferDir());
+    try {
+      FileUtils.deleteDirectory(transferDir);
+    } catch (IOException e) {
+      LOGGER.warn("Failed to delete the partially downloaded blobs of replica {} at {}", replicaId, transferDir, e);
+    }
+  }
+
   @Override
   public void close() throws Exception {
     blobTransferService.close();
@@ -1,8 +1,24 @@
 package com.linkedin.davinci.blobtransfer.client;
 
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STREAM_COUNT;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STREAM_INDEX;
+import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.linkedin.davinci.blobtransfer.BlobTransferFileMetadata;
+import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
+import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VenicePeersConnectionException;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
@@ -13,31 +29,96 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.timeout.IdleStateHandler;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
+/**
+ * The client to fetch the files of a partition from a peer. The files could be fetched over several parallel
+ * connections, each of which gets its share of the files from the peer, so a single TCP connection or a single
+ * event loop thread doesn't become the bottleneck of the transfer.
+ *
+ * The files received successfully by the latest transfer of each partition are tracked, so a transfer failed in the
+ * middle could be resumed from the same peer by {@link #resume} instead of starting over.
+ *
+ * The files are written to the transfer directory of the partition, see {@link BlobTransferPayload#getTransferDir()},
+ * and only replace the files in the partition directory once the transfer completes. If the incremental transfer is
+ * enabled, the name, size and checksum of the local files of the partition, e.g. a stale copy of the same version left
+ * by a restart, are sent to the peer, which skips the files with the same content, and the local ones are hard-linked
+ * into the transfer directory instead, so a restart mostly fetches the SST files changed since then.
+ */
 public class NettyFileTransferClient {
   private static final Logger LOGGER = LogManager.getLogger(NettyFileTransferClient.class);
   private static final int MAX_METADATA_CONTENT_LENGTH = 1024 * 1024 * 100;
+  private static final int CHECKSUM_THREAD_COUNT = 2;
+  private static final int MAX_PENDING_CHECKSUM_TASKS = 100;
   EventLoopGroup workerGroup;
   Bootstrap clientBootstrap;
   private final String baseDir;
   private final int serverPort;
   private StorageMetadataService storageMetadataService;
+  private final int streamCount;
+  private final boolean incrementalTransferEnabled;
+  // Example: <replicaId, progress of the latest transfer>
+  private final Map<String, TransferProgress> transferProgresses = new VeniceConcurrentHashMap<>();
+  // computes the checksums of the local files for the incremental transfers, off the event loop
+  private final ExecutorService checksumExecutor = new ThreadPoolExecutor(
+      CHECKSUM_THREAD_COUNT,
+      CHECKSUM_THREAD_COUNT,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(MAX_PENDING_CHECKSUM_TASKS),
+      new DaemonThreadFactory("BlobTransferClientChecksum"));
+
+  public NettyFileTransferClient(int serverPort, String baseDir, StorageMetadataService storageMetadataService) {
+    this(serverPort, baseDir, storageMetadataService, 1, false);
+  }
 
   // TODO 1: move tunable configs to a config class
   // TODO 2: consider either increasing worker threads or have a dedicated thread pool to handle requests.
-  public NettyFileTransferClient(int serverPort, String baseDir, StorageMetadataService storageMetadataService) {
+  public NettyFileTransferClient(
+      int serverPort,
+      String baseDir,
+      StorageMetadataService storageMetadataService,
+      int streamCount,
+      boolean incrementalTransferEnabled) {
+    if (streamCount < 1) {
+      throw new IllegalArgumentException("Invalid blob transfer stream count: " + streamCount);
+    }
     this.baseDir = baseDir;
     this.serverPort = serverPort;
     this.storageMetadataService = storageMetadataService;
+    this.streamCount = streamCount;
+    this.incrementalTransferEnabled = incrementalTransferEnabled;
 
     clientBootstrap = new Bootstrap();
     workerGroup = new NioEventLoopGroup();
@@ -52,39 +133,300 @@ public class NettyFileTransferClient {
     });
   }
 
-  public CompletionStage<InputStream> get(String host, String storeName, int version, int partition) {
-    CompletionStage<InputStream> inputStream = new CompletableFuture<>();
+  /**
+   * @return the future of the number of bytes received from the peer, which excludes the local files reused.
+   */
+  public CompletionStage<Long> get(String host, String storeName, int version, int partition) {
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    TransferProgress progress = new TransferProgress(host);
+    String replicaId = getReplicaId(storeName, version, partition);
+    transferProgresses.put(replicaId, progress);
     try {
-      // Connects to the remote host
-      Channel ch = connectToHost(host, storeName, version, partition);
-
-      // Request to get the blob file and metadata
-      // Attach the file handler to the pipeline
-      // Attach the metadata handler to the pipeline
-      ch.pipeline()
-          .addLast(new IdleStateHandler(0, 0, 60))
-          .addLast(new MetadataAggregator(MAX_METADATA_CONTENT_LENGTH))
-          .addLast(new P2PFileTransferClientHandler(baseDir, inputStream, storeName, version, partition))
-          .addLast(new P2PMetadataTransferHandler(storageMetadataService, baseDir, storeName, version, partition));
-      // Send a GET request
-      ch.writeAndFlush(prepareRequest(storeName, version, partition));
-    } catch (Exception e) {
-      if (!inputStream.toCompletableFuture().isCompletedExceptionally()) {
-        inputStream.toCompletableFuture().completeExceptionally(e);
+      // the files left by a previous transfer, e.g. from another peer, could not be trusted
+      FileUtils.deleteDirectory(new File(payload.getTransferDir()));
+    } catch (IOException e) {
+      return failToPrepare(replicaId, payload, progress, e);
+    }
+    if (!incrementalTransferEnabled) {
+      return fetch(host, storeName, version, partition, progress, false);
+    }
+    // The caller could be an event loop, e.g. the one completing the transfer from the previous peer, so the local
+    // files are read by the checksum executor instead.
+    CompletableFuture<Void> localFilesFuture;
+    try {
+      localFilesFuture = CompletableFuture.runAsync(() -> {
+        try {
+          for (BlobTransferFileMetadata localFile: BlobTransferUtils
+              .getFileMetadataInDir(new File(payload.getPartitionDir()))) {
+            progress.localFiles.put(localFile.getFileName(), localFile);
+          }
+        } catch (IOException e) {
+          throw new VeniceException("Failed to compute the checksums of the local files", e);
+        }
+      }, checksumExecutor);
+    } catch (RejectedExecutionException e) {
+      return failToPrepare(replicaId, payload, progress, e);
+    }
+    return localFilesFuture.handle((ignored, e) -> {
+      if (e != null) {
+        return failToPrepare(replicaId, payload, progress, e.getCause() != null ? e.getCause() : e);
       }
+      return fetch(host, storeName, version, partition, progress, false);
+    }).thenCompose(Function.identity());
+  }
+
+  private CompletionStage<Long> failToPrepare(
+      String replicaId,
+      BlobTransferPayload payload,
+      TransferProgress progress,
+      Throwable e) {
+    transferProgresses.remove(replicaId, progress);
+    CompletableFuture<Long> receivedBytes = new CompletableFuture<>();
+    receivedBytes.completeExceptionally(
+        new VeniceException("Failed to prepare the transfer directory for " + payload.getFullResourceName(), e));
+    return receivedBytes;
+  }
+
+  /**
+   * @return whether the latest transfer of the partition from the given host failed after receiving some files, so it
+   *         could be resumed by {@link #resume}.
+   */
+  public boolean isResumable(String host, String storeName, int version, int partition) {
+    TransferProgress progress = transferProgresses.get(getReplicaId(storeName, version, partition));
+    return progress != null && progress.host.equals(host) && !progress.completedFiles.isEmpty();
+  }
+
+  /**
+   * Resume the latest failed transfer of the partition from the given host, which skips the files received already,
+   * unless they changed on the peer in the meantime, e.g. the MANIFEST of a recreated snapshot.
+   * @return the future of the number of bytes received from the peer, including the ones received by the failed
+   *         transfer.
+   */
+  public CompletionStage<Long> resume(String host, String storeName, int version, int partition) {
+    String replicaId = getReplicaId(storeName, version, partition);
+    TransferProgress progress = transferProgresses.get(replicaId);
+    if (progress == null || !progress.host.equals(host)) {
+      CompletableFuture<Long> receivedBytes = new CompletableFuture<>();
+      receivedBytes
+          .completeExceptionally(new VeniceException("No transfer to resume for " + replicaId + " from " + host));
+      return receivedBytes;
     }
-    return inputStream;
+    return fetch(host, storeName, version, partition, progress, true);
   }
 
   public void close() {
     workerGroup.shutdownGracefully();
+    checksumExecutor.shutdownNow();
+  }
+
+  private CompletionStage<Long> fetch(
+      String host,
+      String storeName,
+      int version,
+      int partition,
+      TransferProgress progress,
+      boolean isResume) {
+    String replicaId = getReplicaId(storeName, version, partition);
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    CompletableFuture<Long> receivedBytes = new CompletableFuture<>();
+    List<CompletableFuture<InputStream>> streamFutures = new ArrayList<>(streamCount);
+    List<P2PMetadataTransferHandler> metadataHandlers = new ArrayList<>(streamCount);
+    List<Channel> channels = new CopyOnWriteArrayList<>();
+    AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    for (int streamIndex = 0; streamIndex < streamCount; streamIndex++) {
+      CompletableFuture<InputStream> streamFuture = new CompletableFuture<>();
+      streamFutures.add(streamFuture);
+      streamFuture.whenComplete((ignored, e) -> {
+        // Fail fast, the other connections would complete exceptionally once closed.
+        if (e != null && firstFailure.compareAndSet(null, e)) {
+          channels.forEach(Channel::close);
+        }
+      });
+      try {
+        // Connects to the remote host
+        Channel ch = connectToHost(host, storeName, version, partition);
+        channels.add(ch);
+
+        // Request to get the blob file and metadata
+        // Attach the file handler to the pipeline
+        // Attach the metadata handler to the pipeline, the metadata is only applied after all connections complete
+        P2PMetadataTransferHandler metadataHandler =
+            new P2PMetadataTransferHandler(storageMetadataService, baseDir, storeName, version, partition, true);
+        metadataHandlers.add(metadataHandler);
+        ch.pipeline()
+            .addLast(new IdleStateHandler(0, 0, 60))
+            .addLast(new MetadataAggregator(MAX_METADATA_CONTENT_LENGTH))
+            .addLast(
+                new P2PFileTransferClientHandler(
+                    baseDir,
+                    streamFuture,
+                    storeName,
+                    version,
+                    partition,
+                    payload.getTransferDir(),
+                    progress.completedFiles,
+                    progress.receivedBytes))
+            .addLast(metadataHandler);
+        // Send a GET request
+        ch.writeAndFlush(prepareRequest(storeName, version, partition, streamIndex, progress));
+      } catch (Exception e) {
+        streamFuture.completeExceptionally(e);
+        break;
+      }
+    }
+    if (firstFailure.get() != null) {
+      channels.forEach(Channel::close);
+    }
+
+    CompletableFuture.allOf(streamFutures.toArray(new CompletableFuture[0])).whenComplete((ignored, e) -> {
+      Throwable failure = firstFailure.get();
+      if (failure == null && e != null) {
+        failure = e.getCause() != null ? e.getCause() : e;
+      }
+      if (failure == null) {
+        try {
+          BlobTransferPartitionMetadata metadata = getMetadata(replicaId, metadataHandlers);
+          moveFilesToPartitionDir(payload, metadata, progress);
+          metadataHandlers.get(0).updateStorePartitionMetadata(storageMetadataService, metadata);
+        } catch (Exception updateException) {
+          failure = updateException;
+        }
+      }
+      if (failure == null || isResume || progress.completedFiles.isEmpty()) {
+        transferProgresses.remove(replicaId, progress);
+      }
+      if (failure == null) {
+        // the files are written to the disk by the handlers, so the future only completes with the amount received.
+        receivedBytes.complete(progress.receivedBytes.sum());
+      } else {
+        receivedBytes.completeExceptionally(failure);
+      }
+    });
+    return receivedBytes;
+  }
+
+  /**
+   * Get the metadata to apply once all connections complete. Every connection must get the same metadata, otherwise the
+   * snapshot was recreated on the peer in the middle of the transfer, and the files might not match the metadata.
+   */
+  private BlobTransferPartitionMetadata getMetadata(
+      String replicaId,
+      List<P2PMetadataTransferHandler> metadataHandlers) {
+    BlobTransferPartitionMetadata metadata = metadataHandlers.get(0).getMetadata();
+    if (metadata == null) {
+      throw new VeniceException("No metadata received for " + replicaId);
+    }
+    for (P2PMetadataTransferHandler metadataHandler: metadataHandlers) {
+      if (!metadata.equals(metadataHandler.getMetadata())) {
+        throw new VeniceException("Received different metadata over the parallel connections for " + replicaId);
+      }
+    }
+    return metadata;
+  }
+
+  /**
+   * Complete the files of the snapshot in the transfer directory, and replace the files in the partition directory
+   * with them. If the metadata lists the files of the snapshot, the files received are validated against their
+   * checksums, and the files skipped by the peer are hard-linked from the local copy of the partition.
+   */
+  private void moveFilesToPartitionDir(
+      BlobTransferPayload payload,
+      BlobTransferPartitionMetadata metadata,
+      TransferProgress progress) throws IOException {
+    Path partitionDir = Paths.get(payload.getPartitionDir());
+    Path transferDir = Paths.get(payload.getTransferDir());
+    Files.createDirectories(transferDir);
+    if (metadata.getFiles() != null) {
+      Set<String> snapshotFileNames = new HashSet<>();
+      int linkedFileCount = 0;
+      for (BlobTransferFileMetadata snapshotFile: metadata.getFiles()) {
+        String fileName = snapshotFile.getFileName();
+        snapshotFileNames.add(fileName);
+        BlobTransferFileMetadata receivedFile = progress.completedFiles.get(fileName);
+        if (receivedFile != null) {
+          if (!receivedFile.equals(snapshotFile)) {
+            throw new VeniceException(
+                "Checksum mismatch of file " + fileName + " for " + payload.getFullResourceName() + ". Expected: "
+                    + snapshotFile + ", Actual: " + receivedFile);
+          }
+          continue;
+        }
+        if (!snapshotFile.equals(progress.localFiles.get(fileName))) {
+          throw new VeniceException("File " + fileName + " not received for " + payload.getFullResourceName());
+        }
+        // a file partially received by a previous attempt
+        Files.deleteIfExists(transferDir.resolve(fileName));
+        Files.createLink(transferDir.resolve(fileName), partitionDir.resolve(fileName));
+        linkedFileCount++;
+      }
+      // the files received by a previous attempt, which are not part of the recreated snapshot anymore
+      for (File file: listFiles(transferDir)) {
+        if (!snapshotFileNames.contains(file.getName())) {
+          Files.delete(file.toPath());
+        }
+      }
+      LOGGER.info(
+          "Received {} files and reused {} local files for {}",
+          snapshotFileNames.size() - linkedFileCount,
+          linkedFileCount,
+          payload.getFullResourceName());
+    }
+
+    try {
+      for (File file: listFiles(partitionDir)) {
+        if (file.isFile()) {
+          Files.delete(file.toPath());
+        }
+      }
+      for (File file: listFiles(transferDir)) {
+        Files.move(file.toPath(), partitionDir.resolve(file.getName()), StandardCopyOption.ATOMIC_MOVE);
+      }
+      Files.delete(transferDir);
+    } catch (IOException e) {
+      // the local copy is partially replaced, so it's neither usable to bootstrap from nor to resume with
+      FileUtils.deleteDirectory(partitionDir.toFile());
+      progress.completedFiles.clear();
+      throw e;
+    }
   }
 
-  private FullHttpRequest prepareRequest(String storeName, int version, int partition) {
-    return new DefaultFullHttpRequest(
-        HttpVersion.HTTP_1_1,
-        HttpMethod.GET,
-        String.format("/%s/%d/%d", storeName, version, partition));
+  private static File[] listFiles(Path dir) throws IOException {
+    File[] files = dir.toFile().listFiles();
+    if (files == null) {
+      throw new IOException("Failed to list files in " + dir);
+    }
+    return files;
+  }
+
+  private FullHttpRequest prepareRequest(
+      String storeName,
+      int version,
+      int partition,
+      int streamIndex,
+      TransferProgress progress) throws JsonProcessingException {
+    String uri = String.format("/%s/%d/%d", storeName, version, partition);
+    if (streamCount > 1) {
+      uri += String.format(
+          "?%s=%d&%s=%d",
+          BLOB_TRANSFER_STREAM_INDEX,
+          streamIndex,
+          BLOB_TRANSFER_STREAM_COUNT,
+          streamCount);
+    }
+    // the files received by a previous attempt take precedence over the local ones with the same name
+    Map<String, BlobTransferFileMetadata> skippedFiles = new HashMap<>(progress.localFiles);
+    skippedFiles.putAll(progress.completedFiles);
+    if (!incrementalTransferEnabled && skippedFiles.isEmpty()) {
+      return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    }
+    // a list, even an empty one, asks the peer for the checksums of all files, see P2PFileTransferServerHandler
+    byte[] content = ObjectMapperFactory.getInstance().writeValueAsBytes(new ArrayList<>(skippedFiles.values()));
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, Unpooled.wrappedBuffer(content));
+    request.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.length);
+    request.headers().set(HttpHeaderNames.CONTENT_TYPE, APPLICATION_JSON);
+    return request;
   }
 
   /**
@@ -104,4 +446,24 @@ public class NettyFileTransferClient {
       throw new VenicePeersConnectionException(errorMsg, e);
     }
   }
+
+  private static String getReplicaId(String storeName, int version, int partition) {
+    return Utils.getReplicaId(Version.composeKafkaTopic(storeName, version), partition);
+  }
+
+  /**
+   * The files received successfully from a peer, and the local files of the partition before the transfer, from the
+   * file name to the file metadata.
+   */
+  private static class TransferProgress {
+    private final String host;
+    private final Map<String, BlobTransferFileMetadata> completedFiles = new VeniceConcurrentHashMap<>();
+    private final Map<String, BlobTransferFileMetadata> localFiles = new HashMap<>();
+    // the bytes received over all connections of all attempts, which could include files discarded later
+    private final LongAdder receivedBytes = new LongAdder();
+
+    private TransferProgress(String host) {
+      this.host = host;
+    }
+  }
 }
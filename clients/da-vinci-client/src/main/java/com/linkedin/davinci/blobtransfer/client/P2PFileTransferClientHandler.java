@@ -3,22 +3,28 @@ package com.linkedin.davinci.blobtransfer.client;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 
+import com.linkedin.davinci.blobtransfer.BlobTransferFileMetadata;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.venice.exceptions.VeniceBlobTransferFileNotFoundException;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpObject;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.ReferenceCountUtil;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
@@ -26,9 +32,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,12 +46,19 @@ import org.apache.logging.log4j.Logger;
  * The client-side Netty handler to process responses for P2P file transfer. It's not shareable among multiple requests since it
  * maintains the states for a single partition.
  * It's important to note that this handler is operated in a single thread, and it processes file transfers sequentially.
+ * The files received successfully are recorded in the given map with their sizes and checksums, which could be shared
+ * by the handlers of the parallel connections of the same transfer, so a failed transfer could be resumed without
+ * fetching these files again.
  */
 public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<HttpObject> {
   private static final Logger LOGGER = LogManager.getLogger(P2PFileTransferClientHandler.class);
   private static final Pattern FILENAME_PATTERN = Pattern.compile("filename=\"(.+?)\"");
   private final CompletionStage<InputStream> inputStreamFuture;
   private final BlobTransferPayload payload;
+  private final Path fileDir;
+  private final Map<String, BlobTransferFileMetadata> completedFiles;
+  private final LongAdder receivedBytes;
+  private final CRC32 checksum = new CRC32();
 
   // mutable states for a single file transfer. It will be updated for each file transfer.
   private FileChannel outputFileChannel;
@@ -55,8 +71,36 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
       String storeName,
       int version,
       int partition) {
+    this(
+        baseDir,
+        inputStreamFuture,
+        storeName,
+        version,
+        partition,
+        RocksDBUtils.composePartitionDbDir(baseDir, Version.composeKafkaTopic(storeName, version), partition),
+        new VeniceConcurrentHashMap<>(),
+        new LongAdder());
+  }
+
+  /**
+   * @param fileDir the directory to write the files to, e.g. {@link BlobTransferPayload#getTransferDir()}
+   * @param completedFiles the map to record the files received successfully
+   * @param receivedBytes the counter of the file content received, which could be shared like the map
+   */
+  public P2PFileTransferClientHandler(
+      String baseDir,
+      CompletionStage<InputStream> inputStreamFuture,
+      String storeName,
+      int version,
+      int partition,
+      String fileDir,
+      Map<String, BlobTransferFileMetadata> completedFiles,
+      LongAdder receivedBytes) {
     this.inputStreamFuture = inputStreamFuture;
     this.payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    this.fileDir = Paths.get(fileDir);
+    this.completedFiles = completedFiles;
+    this.receivedBytes = receivedBytes;
   }
 
   @Override
@@ -97,11 +141,10 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
       this.fileContentLength = Long.parseLong(response.headers().get(HttpHeaderNames.CONTENT_LENGTH));
 
       // Create the directory
-      Path partitionDir = Paths.get(payload.getPartitionDir());
-      Files.createDirectories(partitionDir);
+      Files.createDirectories(fileDir);
 
       // Prepare the file, remove it if it exists
-      if (Files.deleteIfExists(partitionDir.resolve(fileName))) {
+      if (Files.deleteIfExists(fileDir.resolve(fileName))) {
         LOGGER.debug(
             "File {} already exists for topic {} partition {}. Overwriting it.",
             fileName,
@@ -109,14 +152,17 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
             payload.getPartition());
       }
 
-      Path file = Files.createFile(partitionDir.resolve(fileName));
+      Path file = Files.createFile(fileDir.resolve(fileName));
+      checksum.reset();
 
       outputFileChannel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
 
     } else if (msg instanceof HttpContent) {
       HttpContent content = (HttpContent) msg;
       ByteBuf byteBuf = content.content();
-      if (byteBuf.readableBytes() == 0) {
+      // a chunked response, e.g. a file sent over an encrypted connection, ends with an empty last content
+      boolean isLastContent = content instanceof LastHttpContent;
+      if (byteBuf.readableBytes() == 0 && (!isLastContent || outputFileChannel == null)) {
         return;
       }
       // defensive check
@@ -124,25 +170,9 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
         throw new VeniceException("No file opened to write for " + payload.getFullResourceName());
       }
 
-      // Append content to the given file
-      // TODO: need to do perf test to see if this NIO implementation is really faster than regular I/O libs
-      long count = 0L;
-      long position = outputFileChannel.size();
-      long totalBytesToTransfer = byteBuf.readableBytes();
-      try (ByteBufInputStream byteBufInputStream = new ByteBufInputStream(byteBuf)) {
-        ReadableByteChannel inputChannel = Channels.newChannel(byteBufInputStream);
-        while (count < totalBytesToTransfer) {
-          long bytesToTransfer = totalBytesToTransfer - count;
-          long transferred = outputFileChannel.transferFrom(inputChannel, position, bytesToTransfer);
-          if (transferred == 0) {
-            break;
-          }
-          position += transferred;
-          count += transferred;
-        }
-      }
+      writeToFile(byteBuf);
 
-      if (content instanceof DefaultLastHttpContent) {
+      if (isLastContent) {
         // End of a single file transfer
         LOGGER.debug("A file {} received successfully for {}", fileName, payload.getFullResourceName());
         outputFileChannel.force(true);
@@ -153,6 +183,8 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
               "File size mismatch for " + fileName + ". Expected: " + fileContentLength + ", Actual: "
                   + outputFileChannel.size());
         }
+        outputFileChannel.close();
+        completedFiles.put(fileName, new BlobTransferFileMetadata(fileName, fileContentLength, checksum.getValue()));
         resetState();
       }
     } else {
@@ -160,6 +192,32 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
     }
   }
 
+  /**
+   * Append the content to the current file, and update the checksum of the file.
+   */
+  private void writeToFile(ByteBuf byteBuf) throws IOException {
+    receivedBytes.add(byteBuf.readableBytes());
+    for (ByteBuffer byteBuffer: byteBuf.nioBuffers()) {
+      checksum.update(byteBuffer);
+    }
+    // TODO: need to do perf test to see if this NIO implementation is really faster than regular I/O libs
+    long count = 0L;
+    long position = outputFileChannel.size();
+    long totalBytesToTransfer = byteBuf.readableBytes();
+    try (ByteBufInputStream byteBufInputStream = new ByteBufInputStream(byteBuf)) {
+      ReadableByteChannel inputChannel = Channels.newChannel(byteBufInputStream);
+      while (count < totalBytesToTransfer) {
+        long bytesToTransfer = totalBytesToTransfer - count;
+        long transferred = outputFileChannel.transferFrom(inputChannel, position, bytesToTransfer);
+        if (transferred == 0) {
+          break;
+        }
+        position += transferred;
+        count += transferred;
+      }
+    }
+  }
+
   @Override
   public void channelInactive(ChannelHandlerContext ctx) throws Exception {
     super.channelInactive(ctx);
@@ -168,6 +226,12 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
       outputFileChannel.close();
     }
     resetState();
+    // the peer could go away in the middle of the transfer, which should not leave the caller waiting forever
+    if (!inputStreamFuture.toCompletableFuture().isDone()) {
+      inputStreamFuture.toCompletableFuture()
+          .completeExceptionally(
+              new VeniceException("Connection closed before all files received for " + payload.getFullResourceName()));
+    }
   }
 
   @Override
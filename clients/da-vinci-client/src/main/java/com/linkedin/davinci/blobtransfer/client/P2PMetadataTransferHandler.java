@@ -1,7 +1,6 @@
 package com.linkedin.davinci.blobtransfer.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -24,6 +23,8 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * The client-side Netty handler to process responses for P2P metadata transfer.
+ * When the files are fetched over several connections, the metadata received on each of them is only kept, and it's up
+ * to the caller to apply it once all connections complete, see {@link NettyFileTransferClient}.
  */
 public class P2PMetadataTransferHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
   private static final Logger LOGGER = LogManager.getLogger(P2PMetadataTransferHandler.class);
@@ -35,6 +36,7 @@ public class P2PMetadataTransferHandler extends SimpleChannelInboundHandler<Full
   private final BlobTransferPayload payload;
   private BlobTransferPartitionMetadata metadata;
   private StorageMetadataService storageMetadataService;
+  private final boolean deferMetadataUpdate;
 
   public P2PMetadataTransferHandler(
       StorageMetadataService storageMetadataService,
@@ -42,8 +44,19 @@ public class P2PMetadataTransferHandler extends SimpleChannelInboundHandler<Full
       String storeName,
       int version,
       int partition) {
+    this(storageMetadataService, baseDir, storeName, version, partition, false);
+  }
+
+  public P2PMetadataTransferHandler(
+      StorageMetadataService storageMetadataService,
+      String baseDir,
+      String storeName,
+      int version,
+      int partition,
+      boolean deferMetadataUpdate) {
     this.storageMetadataService = storageMetadataService;
     this.payload = new BlobTransferPayload(baseDir, storeName, version, partition);
+    this.deferMetadataUpdate = deferMetadataUpdate;
   }
 
   @Override
@@ -74,7 +87,9 @@ public class P2PMetadataTransferHandler extends SimpleChannelInboundHandler<Full
     }
 
     metadata = transferredMetadata;
-    updateStorePartitionMetadata(storageMetadataService, metadata);
+    if (!deferMetadataUpdate) {
+      updateStorePartitionMetadata(storageMetadataService, metadata);
+    }
   }
 
   /**
@@ -110,7 +125,6 @@ public class P2PMetadataTransferHandler extends SimpleChannelInboundHandler<Full
     });
   }
 
-  @VisibleForTesting
   public BlobTransferPartitionMetadata getMetadata() {
     return metadata;
   }
@@ -8,15 +8,22 @@ import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
+import java.util.concurrent.Executor;
 
 
 public class BlobTransferNettyChannelInitializer extends ChannelInitializer<SocketChannel> {
+  private static final int MAX_REQUEST_CONTENT_LENGTH = 1024 * 1024;
   private final String baseDir;
   private BlobSnapshotManager blobSnapshotManager;
+  private final Executor checksumExecutor;
 
-  public BlobTransferNettyChannelInitializer(String baseDir, BlobSnapshotManager blobSnapshotManager) {
+  public BlobTransferNettyChannelInitializer(
+      String baseDir,
+      BlobSnapshotManager blobSnapshotManager,
+      Executor checksumExecutor) {
     this.baseDir = baseDir;
     this.blobSnapshotManager = blobSnapshotManager;
+    this.checksumExecutor = checksumExecutor;
   }
 
   @Override
@@ -26,12 +33,15 @@ public class BlobTransferNettyChannelInitializer extends ChannelInitializer<Sock
     pipeline
         // for http encoding/decoding.
         .addLast("codec", new HttpServerCodec())
-        .addLast("aggregator", new HttpObjectAggregator(65536))
+        // the request body could list the files the client already has, see P2PFileTransferServerHandler
+        .addLast("aggregator", new HttpObjectAggregator(MAX_REQUEST_CONTENT_LENGTH))
         // for detecting idle connections
         .addLast("idleStateHandler", new IdleStateHandler(0, 0, 300))
         // for safe writing of chunks for responses
         .addLast("chunker", new ChunkedWriteHandler())
         // for handling p2p file transfer
-        .addLast("p2pFileTransferHandler", new P2PFileTransferServerHandler(baseDir, blobSnapshotManager));
+        .addLast(
+            "p2pFileTransferHandler",
+            new P2PFileTransferServerHandler(baseDir, blobSnapshotManager, checksumExecutor));
   }
 }
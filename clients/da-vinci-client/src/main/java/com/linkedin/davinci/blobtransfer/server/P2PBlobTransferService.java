@@ -2,6 +2,7 @@ package com.linkedin.davinci.blobtransfer.server;
 
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
@@ -12,18 +13,27 @@ import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
 public class P2PBlobTransferService extends AbstractVeniceService {
   private static final Logger LOGGER = LogManager.getLogger(P2PBlobTransferService.class);
+  private static final int CHECKSUM_THREAD_COUNT = 2;
+  // the incremental transfers beyond this are rejected, and the client moves on to the next peer
+  private static final int MAX_PENDING_CHECKSUM_TASKS = 100;
 
   private final ServerBootstrap serverBootstrap;
   private EventLoopGroup bossGroup;
   private EventLoopGroup workerGroup;
   private final int port;
   private ChannelFuture channelFuture;
+  // computes the checksums of the snapshot files for the incremental transfers, off the event loop
+  private final ExecutorService checksumExecutor;
   // TODO 1: move tunable configs to a config class
   // TODO 2: add SSL/auth/Quota support
   // TODO 3: consider adding support for HTTP2
@@ -46,9 +56,17 @@ public class P2PBlobTransferService extends AbstractVeniceService {
       workerGroup = new NioEventLoopGroup(6);
     }
 
+    checksumExecutor = new ThreadPoolExecutor(
+        CHECKSUM_THREAD_COUNT,
+        CHECKSUM_THREAD_COUNT,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(MAX_PENDING_CHECKSUM_TASKS),
+        new DaemonThreadFactory("BlobTransferChecksum"));
+
     serverBootstrap.group(bossGroup, workerGroup)
         .channel(socketChannelClass)
-        .childHandler(new BlobTransferNettyChannelInitializer(baseDir, blobSnapshotManager))
+        .childHandler(new BlobTransferNettyChannelInitializer(baseDir, blobSnapshotManager, checksumExecutor))
         .option(ChannelOption.SO_BACKLOG, 1000)
         .option(ChannelOption.SO_REUSEADDR, true)
         .childOption(ChannelOption.SO_KEEPALIVE, true)
@@ -68,6 +86,7 @@ public class P2PBlobTransferService extends AbstractVeniceService {
     LOGGER.info("Shutting down NettyP2PBlobTransferManager");
     bossGroup.shutdownGracefully();
     workerGroup.shutdownGracefully();
+    checksumExecutor.shutdownNow();
     channelFuture.channel().closeFuture().sync();
   }
 }
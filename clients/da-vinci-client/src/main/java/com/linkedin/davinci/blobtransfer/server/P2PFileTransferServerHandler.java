@@ -2,6 +2,8 @@ package com.linkedin.davinci.blobtransfer.server;
 
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STREAM_COUNT;
+import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STREAM_INDEX;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_TYPE;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferType;
 import static com.linkedin.venice.utils.NettyUtils.setupResponseAndFlush;
@@ -9,12 +11,16 @@ import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_OCTET_STREAM;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
+import com.linkedin.davinci.blobtransfer.BlobTransferFileMetadata;
 import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.venice.request.RequestHelper;
 import com.linkedin.venice.utils.ObjectMapperFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
@@ -32,6 +38,7 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
 import io.netty.handler.timeout.IdleState;
@@ -40,6 +47,16 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -59,10 +76,16 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
   private boolean useZeroCopy = false;
   private final String baseDir;
   private BlobSnapshotManager blobSnapshotManager;
+  // computes the checksums of the snapshot files for the incremental transfers, off the event loop
+  private final Executor checksumExecutor;
 
-  public P2PFileTransferServerHandler(String baseDir, BlobSnapshotManager blobSnapshotManager) {
+  public P2PFileTransferServerHandler(
+      String baseDir,
+      BlobSnapshotManager blobSnapshotManager,
+      Executor checksumExecutor) {
     this.baseDir = baseDir;
     this.blobSnapshotManager = blobSnapshotManager;
+    this.checksumExecutor = checksumExecutor;
   }
 
   @Override
@@ -76,7 +99,13 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
   /**
    * This method is called with the request that is received from the client.
-   * It validates the incoming request, and currently it only supports GET
+   * It validates the incoming request, and currently it only supports GET.
+   * The client could fetch the files over several connections, in which case each request specifies the index of the
+   * connection and the total count in the query, and only gets its share of the files, see
+   * {@link #selectFilesForStream}. The request body could carry the name, size and checksum of the files the client
+   * already has, e.g. the local copy of a restarted replica, or the files received by a previous attempt, in which case
+   * the files with the same content are skipped, and the metadata carries the checksums of all files of the snapshot,
+   * so the client could reuse its own copy of the skipped files.
    * @param ctx           the {@link ChannelHandlerContext} which this {@link SimpleChannelInboundHandler}
    *                      belongs to
    * @param httpRequest           the message to handle
@@ -101,9 +130,22 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     try {
       final File snapshotDir;
       BlobTransferPartitionMetadata transferPartitionMetadata;
+      final int streamIndex;
+      final int streamCount;
+      // nullable, if the client doesn't ask for an incremental transfer
+      final List<BlobTransferFileMetadata> clientFiles;
 
       try {
-        blobTransferRequest = parseBlobTransferPayload(URI.create(httpRequest.uri()));
+        URI uri = URI.create(httpRequest.uri());
+        QueryStringDecoder queryStringDecoder = new QueryStringDecoder(uri);
+        streamIndex = getIntQueryParameter(queryStringDecoder, BLOB_TRANSFER_STREAM_INDEX, 0);
+        streamCount = getIntQueryParameter(queryStringDecoder, BLOB_TRANSFER_STREAM_COUNT, 1);
+        if (streamCount < 1 || streamIndex < 0 || streamIndex >= streamCount) {
+          throw new IllegalArgumentException(
+              "Invalid stream index " + streamIndex + " of stream count " + streamCount + " at " + uri);
+        }
+        clientFiles = parseClientFiles(httpRequest.content());
+        blobTransferRequest = parseBlobTransferPayload(URI.create(queryStringDecoder.rawPath()));
         snapshotDir = new File(blobTransferRequest.getSnapshotDir());
         try {
           transferPartitionMetadata = blobSnapshotManager.getTransferMetadata(blobTransferRequest);
@@ -134,36 +176,47 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
             ctx);
         return;
       }
+      // the files are sorted, so every stream of the same transfer gets the same list of files in the metadata
+      Arrays.sort(files);
 
-      // Set up the time limitation for the transfer
-      long startTime = System.currentTimeMillis();
-
-      // transfer files
-      for (File file: files) {
-        if (System.currentTimeMillis() - startTime >= TimeUnit.MINUTES.toMillis(MAX_TIMEOUT_FOR_BLOB_TRANSFER_IN_MIN)) {
-          String errMessage = String
-              .format(TRANSFER_TIMEOUT_ERROR_MSG_FORMAT, blobTransferRequest.getFullResourceName(), file.getName());
-          LOGGER.error(errMessage);
-          setupResponseAndFlush(HttpResponseStatus.REQUEST_TIMEOUT, errMessage.getBytes(), false, ctx);
-          return;
-        }
-
-        sendFile(file, ctx);
+      if (clientFiles == null) {
+        sendFiles(ctx, blobTransferRequest, transferPartitionMetadata, files, null, null, streamIndex, streamCount);
+        return;
       }
-
-      sendMetadata(ctx, transferPartitionMetadata);
-
-      // end of transfer
-      HttpResponse endOfTransfer = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
-      endOfTransfer.headers().set(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
-      String fullResourceName = blobTransferRequest.getFullResourceName();
-      ctx.writeAndFlush(endOfTransfer).addListener(future -> {
-        if (future.isSuccess()) {
-          LOGGER.debug("All files sent successfully for {}", fullResourceName);
-        } else {
-          LOGGER.error("Failed to send all files for {}", fullResourceName, future.cause());
+      // Computing the checksums reads the whole snapshot, which must not block the event loop.
+      final BlobTransferPayload request = blobTransferRequest;
+      final BlobTransferPartitionMetadata metadata = transferPartitionMetadata;
+      CompletableFuture<List<BlobTransferFileMetadata>> checksumFuture;
+      try {
+        checksumFuture = CompletableFuture
+            .supplyAsync(() -> blobSnapshotManager.getSnapshotFileMetadata(request, files), checksumExecutor);
+      } catch (RejectedExecutionException e) {
+        setupResponseAndFlush(
+            HttpResponseStatus.SERVICE_UNAVAILABLE,
+            ("Too many pending incremental transfers for " + request.getFullResourceName()).getBytes(),
+            false,
+            ctx);
+        return;
+      }
+      // the concurrent user count is decreased once the files are sent
+      blobTransferRequest = null;
+      checksumFuture.whenComplete((snapshotFiles, e) -> ctx.executor().execute(() -> {
+        try {
+          if (e != null) {
+            String errMessage = "Failed to compute the checksums of the snapshot files for "
+                + request.getFullResourceName();
+            LOGGER.error(errMessage, e);
+            setupResponseAndFlush(HttpResponseStatus.INTERNAL_SERVER_ERROR, errMessage.getBytes(), false, ctx);
+            return;
+          }
+          sendFiles(ctx, request, metadata, files, snapshotFiles, clientFiles, streamIndex, streamCount);
+        } catch (Exception sendException) {
+          LOGGER.error("Failed to send the files for {}", request.getFullResourceName(), sendException);
+          ctx.close();
+        } finally {
+          blobSnapshotManager.decreaseConcurrentUserCount(request);
         }
-      });
+      }));
     } finally {
       if (blobTransferRequest != null) {
         blobSnapshotManager.decreaseConcurrentUserCount(blobTransferRequest);
@@ -171,6 +224,70 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     }
   }
 
+  /**
+   * Send the share of the files of the given stream, followed by the metadata and the end of the transfer.
+   * @param snapshotFiles the name, size and checksum of the given files, only for an incremental transfer, nullable
+   * @param clientFiles the files the client already has, only for an incremental transfer, nullable
+   */
+  private void sendFiles(
+      ChannelHandlerContext ctx,
+      BlobTransferPayload blobTransferRequest,
+      BlobTransferPartitionMetadata transferPartitionMetadata,
+      File[] files,
+      List<BlobTransferFileMetadata> snapshotFiles,
+      List<BlobTransferFileMetadata> clientFiles,
+      int streamIndex,
+      int streamCount) throws IOException {
+    Set<String> skippedFileNames = Collections.emptySet();
+    if (clientFiles != null) {
+      skippedFileNames = new HashSet<>();
+      Set<BlobTransferFileMetadata> clientFileSet = new HashSet<>(clientFiles);
+      for (BlobTransferFileMetadata snapshotFile: snapshotFiles) {
+        if (clientFileSet.contains(snapshotFile)) {
+          skippedFileNames.add(snapshotFile.getFileName());
+        }
+      }
+      // copy the metadata, which could be shared by the other requests of the same snapshot
+      BlobTransferPartitionMetadata metadataWithFiles = new BlobTransferPartitionMetadata(
+          transferPartitionMetadata.getTopicName(),
+          transferPartitionMetadata.getPartitionId(),
+          transferPartitionMetadata.getOffsetRecord(),
+          transferPartitionMetadata.getStoreVersionState());
+      metadataWithFiles.setFiles(snapshotFiles);
+      transferPartitionMetadata = metadataWithFiles;
+    }
+
+    // Set up the time limitation for the transfer
+    long startTime = System.currentTimeMillis();
+
+    // transfer files
+    for (File file: selectFilesForStream(files, skippedFileNames, streamIndex, streamCount)) {
+      if (System.currentTimeMillis() - startTime >= TimeUnit.MINUTES.toMillis(MAX_TIMEOUT_FOR_BLOB_TRANSFER_IN_MIN)) {
+        String errMessage = String
+            .format(TRANSFER_TIMEOUT_ERROR_MSG_FORMAT, blobTransferRequest.getFullResourceName(), file.getName());
+        LOGGER.error(errMessage);
+        setupResponseAndFlush(HttpResponseStatus.REQUEST_TIMEOUT, errMessage.getBytes(), false, ctx);
+        return;
+      }
+
+      sendFile(file, ctx);
+    }
+
+    sendMetadata(ctx, transferPartitionMetadata);
+
+    // end of transfer
+    HttpResponse endOfTransfer = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    endOfTransfer.headers().set(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
+    String fullResourceName = blobTransferRequest.getFullResourceName();
+    ctx.writeAndFlush(endOfTransfer).addListener(future -> {
+      if (future.isSuccess()) {
+        LOGGER.debug("All files sent successfully for {}", fullResourceName);
+      } else {
+        LOGGER.error("Failed to send all files for {}", fullResourceName, future.cause());
+      }
+    });
+  }
+
   /**
    * Netty calls this function when events that we have registered for, occur (in this case we are specifically waiting
    * for {@link IdleStateEvent} so that we close connections that have been idle too long - maybe due to client failure)
@@ -196,6 +313,44 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ctx.close();
   }
 
+  /**
+   * Pick the files to send over the given stream: the skipped files are filtered out, and the rest are
+   * spread across the streams greedily by size, biggest first, so every stream transfers about the same amount of
+   * bytes. The assignment only depends on the names and sizes of the files, so every stream of the same transfer
+   * computes the same one.
+   */
+  static List<File> selectFilesForStream(
+      File[] files,
+      Set<String> skippedFileNames,
+      int streamIndex,
+      int streamCount) {
+    List<File> filesToSend = new ArrayList<>(files.length);
+    for (File file: files) {
+      if (!skippedFileNames.contains(file.getName())) {
+        filesToSend.add(file);
+      }
+    }
+    if (streamCount == 1) {
+      return filesToSend;
+    }
+    filesToSend.sort(Comparator.comparingLong(File::length).reversed().thenComparing(File::getName));
+    long[] streamBytes = new long[streamCount];
+    List<File> selectedFiles = new ArrayList<>();
+    for (File file: filesToSend) {
+      int leastLoadedStream = 0;
+      for (int i = 1; i < streamCount; i++) {
+        if (streamBytes[i] < streamBytes[leastLoadedStream]) {
+          leastLoadedStream = i;
+        }
+      }
+      streamBytes[leastLoadedStream] += file.length();
+      if (leastLoadedStream == streamIndex) {
+        selectedFiles.add(file);
+      }
+    }
+    return selectedFiles;
+  }
+
   private void sendFile(File file, ChannelHandlerContext ctx) throws IOException {
     RandomAccessFile raf = new RandomAccessFile(file, "r");
     ChannelFuture sendFileFuture;
@@ -262,6 +417,31 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     });
   }
 
+  private static int getIntQueryParameter(QueryStringDecoder queryStringDecoder, String name, int defaultValue) {
+    List<String> values = queryStringDecoder.parameters().get(name);
+    if (values == null || values.isEmpty()) {
+      return defaultValue;
+    }
+    return Integer.parseInt(values.get(0));
+  }
+
+  /**
+   * Parse the files the client already has, as a json list of {@link BlobTransferFileMetadata}.
+   * @return the files, or null if the request has no body
+   */
+  private static List<BlobTransferFileMetadata> parseClientFiles(ByteBuf content) throws IOException {
+    if (content == null || content.readableBytes() == 0) {
+      return null;
+    }
+    try {
+      return ObjectMapperFactory.getInstance()
+          .readValue(ByteBufUtil.getBytes(content), new TypeReference<List<BlobTransferFileMetadata>>() {
+          });
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Invalid client files in the request body", e);
+    }
+  }
+
   /**
    * Parse the URI to locate the blob
    * @param uri
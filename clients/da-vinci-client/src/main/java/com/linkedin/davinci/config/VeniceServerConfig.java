@@ -4,6 +4,8 @@ import static com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils.INGEST
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigConstants.DEFAULT_MAX_RECORD_SIZE_BYTES_BACKFILL;
 import static com.linkedin.venice.ConfigKeys.AUTOCREATE_DATA_PATH;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_CLIENT_STREAM_COUNT;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_INCREMENTAL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MANAGER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_CONCURRENT_SNAPSHOT_USER;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_SNAPSHOT_RETENTION_TIME_IN_MIN;
@@ -51,9 +53,11 @@ import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DEL
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_CONSUMER_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.PUBSUB_TOPIC_MANAGER_METADATA_FETCHER_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PRINCIPAL_NAME;
+import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_KEY_LEVEL_LOCK_STRIPE_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_LEADER_QUOTA_RECORDS_PER_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_LOOKUP_MULTI_GET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_REPORT_END_OF_INCREMENTAL_PUSH_STATUS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_CHANNEL_OPTION_WRITE_BUFFER_WATERMARK_HIGH_BYTES;
@@ -130,6 +134,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_T
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_CAPACITY_MULTIPLE;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_INTERVAL_IN_MILLIS;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_VIRTUAL_THREAD_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_VIRTUAL_THREAD_MAX_CONCURRENCY;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_INGESTION_REPAIR_SLEEP_INTERVAL_SECONDS;
@@ -143,6 +149,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SCHEMA_PRESENCE_CHECK_ENABLE
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHARED_CONSUMER_NON_EXISTING_TOPIC_CLEANUP_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_POOLED_DIRECT_BUFFER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SIZE;
@@ -153,12 +160,19 @@ import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_INTERV
 import static com.linkedin.venice.ConfigKeys.SERVER_STUCK_CONSUMER_REPAIR_THRESHOLD_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
+import static com.linkedin.venice.ConfigKeys.SERVER_VALUE_CACHE_CAPACITY_PER_STORE_VERSION;
 import static com.linkedin.venice.ConfigKeys.SERVER_ZSTD_DICT_COMPRESSION_LEVEL;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_ADAPTIVE_ASSIGNMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_ADAPTIVE_ASSIGNMENT_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_ENVELOPE_POOL_CAPACITY;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_GROUP_COMMIT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_GROUP_COMMIT_MAX_BYTES;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_GROUP_COMMIT_MAX_RECORD_COUNT;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED;
@@ -291,6 +305,28 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  /**
+   * Whether each store writer will group the consecutive follower records of the same partition into a single
+   * storage write batch, bounded by {@link #storeWriterGroupCommitMaxRecordCount} and
+   * {@link #storeWriterGroupCommitMaxBytes}.
+   */
+  private final boolean storeWriterGroupCommitEnabled;
+  private final int storeWriterGroupCommitMaxRecordCount;
+  private final long storeWriterGroupCommitMaxBytes;
+
+  /**
+   * Whether to move a topic-partition to a less-loaded drainer once all its buffered records have been persisted,
+   * instead of always sticking to the drainer picked by the static hash.
+   */
+  private final boolean storeWriterAdaptiveAssignmentEnabled;
+  private final long storeWriterAdaptiveAssignmentIntervalMs;
+
+  /**
+   * The max number of envelopes of each message type kept for reuse once the follower records holding them are
+   * persisted, and 0 means the envelopes are not recycled.
+   */
+  private final int storeWriterEnvelopePoolCapacity;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -410,6 +446,17 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean enableParallelBatchGet;
 
   private final int parallelBatchGetChunkSize;
+  /**
+   * The value cache of each store-version is disabled when {@link #valueCacheCapacityPerStoreVersion} is not positive.
+   */
+  private final long valueCacheCapacityPerStoreVersion;
+
+  private final boolean singleGetPooledDirectBufferEnabled;
+
+  private final boolean readVirtualThreadEnabled;
+  private final int readVirtualThreadMaxConcurrency;
+
+  private final boolean batchLookupMultiGetEnabled;
 
   private final boolean keyValueProfilingEnabled;
 
@@ -540,6 +587,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean blobTransferManagerEnabled;
   private final int snapshotRetentionTimeInMin;
   private final int maxConcurrentSnapshotUser;
+  private final int blobTransferClientStreamCount;
+  private final boolean blobTransferIncrementalEnabled;
   private final int dvcP2pBlobTransferServerPort;
   private final int dvcP2pBlobTransferClientPort;
   private final boolean daVinciCurrentVersionBootstrappingSpeedupEnabled;
@@ -555,6 +604,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int channelOptionWriteBufferHighBytes;
   private final boolean aaWCWorkloadParallelProcessingEnabled;
   private final int aaWCWorkloadParallelProcessingThreadPoolSize;
+  private final int aaWCKeyLevelLockStripeCount;
   private final boolean isGlobalRtDivEnabled;
   private final boolean nearlineWorkloadProducerThroughputOptimizationEnabled;
   private final int zstdDictCompressionLevel;
@@ -583,6 +633,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     blobTransferManagerEnabled = serverProperties.getBoolean(BLOB_TRANSFER_MANAGER_ENABLED, false);
     snapshotRetentionTimeInMin = serverProperties.getInt(BLOB_TRANSFER_SNAPSHOT_RETENTION_TIME_IN_MIN, 30);
     maxConcurrentSnapshotUser = serverProperties.getInt(BLOB_TRANSFER_MAX_CONCURRENT_SNAPSHOT_USER, 5);
+    blobTransferClientStreamCount = serverProperties.getInt(BLOB_TRANSFER_CLIENT_STREAM_COUNT, 1);
+    blobTransferIncrementalEnabled = serverProperties.getBoolean(BLOB_TRANSFER_INCREMENTAL_ENABLED, false);
     dvcP2pBlobTransferServerPort = serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT, -1);
     dvcP2pBlobTransferClientPort =
         serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_CLIENT_PORT, dvcP2pBlobTransferServerPort);
@@ -609,6 +661,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    storeWriterGroupCommitEnabled = serverProperties.getBoolean(STORE_WRITER_GROUP_COMMIT_ENABLED, false);
+    storeWriterGroupCommitMaxRecordCount = serverProperties.getInt(STORE_WRITER_GROUP_COMMIT_MAX_RECORD_COUNT, 100);
+    storeWriterGroupCommitMaxBytes = serverProperties.getSizeInBytes(STORE_WRITER_GROUP_COMMIT_MAX_BYTES, 1024 * 1024);
+    storeWriterAdaptiveAssignmentEnabled = serverProperties.getBoolean(STORE_WRITER_ADAPTIVE_ASSIGNMENT_ENABLED, false);
+    storeWriterAdaptiveAssignmentIntervalMs =
+        serverProperties.getLong(STORE_WRITER_ADAPTIVE_ASSIGNMENT_INTERVAL_MS, TimeUnit.SECONDS.toMillis(1));
+    storeWriterEnvelopePoolCapacity = serverProperties.getInt(STORE_WRITER_ENVELOPE_POOL_CAPACITY, 0);
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -676,6 +735,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    valueCacheCapacityPerStoreVersion =
+        serverProperties.getSizeInBytes(SERVER_VALUE_CACHE_CAPACITY_PER_STORE_VERSION, 0);
+    singleGetPooledDirectBufferEnabled =
+        serverProperties.getBoolean(SERVER_SINGLE_GET_POOLED_DIRECT_BUFFER_ENABLED, false);
+    readVirtualThreadEnabled = serverProperties.getBoolean(SERVER_READ_VIRTUAL_THREAD_ENABLED, false);
+    readVirtualThreadMaxConcurrency = serverProperties.getInt(SERVER_READ_VIRTUAL_THREAD_MAX_CONCURRENCY, 1024);
+    batchLookupMultiGetEnabled = serverProperties.getBoolean(SERVER_BATCH_LOOKUP_MULTI_GET_ENABLED, false);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -930,6 +996,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_ENABLED, false);
     aaWCWorkloadParallelProcessingThreadPoolSize =
         serverProperties.getInt(SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE, 8);
+    aaWCKeyLevelLockStripeCount = serverProperties.getInt(SERVER_AA_WC_KEY_LEVEL_LOCK_STRIPE_COUNT, 0);
     nearlineWorkloadProducerThroughputOptimizationEnabled =
         serverProperties.getBoolean(SERVER_NEARLINE_WORKLOAD_PRODUCER_THROUGHPUT_OPTIMIZATION_ENABLED, true);
     zstdDictCompressionLevel =
@@ -1057,6 +1124,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return snapshotRetentionTimeInMin;
   }
 
+  public int getBlobTransferClientStreamCount() {
+    return blobTransferClientStreamCount;
+  }
+
+  public boolean isBlobTransferIncrementalEnabled() {
+    return blobTransferIncrementalEnabled;
+  }
+
   /**
    * Get base path of Venice storage data.
    *
@@ -1106,6 +1181,30 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public boolean isStoreWriterGroupCommitEnabled() {
+    return this.storeWriterGroupCommitEnabled;
+  }
+
+  public int getStoreWriterGroupCommitMaxRecordCount() {
+    return this.storeWriterGroupCommitMaxRecordCount;
+  }
+
+  public long getStoreWriterGroupCommitMaxBytes() {
+    return this.storeWriterGroupCommitMaxBytes;
+  }
+
+  public boolean isStoreWriterAdaptiveAssignmentEnabled() {
+    return this.storeWriterAdaptiveAssignmentEnabled;
+  }
+
+  public long getStoreWriterAdaptiveAssignmentIntervalMs() {
+    return this.storeWriterAdaptiveAssignmentIntervalMs;
+  }
+
+  public int getStoreWriterEnvelopePoolCapacity() {
+    return this.storeWriterEnvelopePoolCapacity;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -1238,6 +1337,26 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public long getValueCacheCapacityPerStoreVersion() {
+    return valueCacheCapacityPerStoreVersion;
+  }
+
+  public boolean isSingleGetPooledDirectBufferEnabled() {
+    return singleGetPooledDirectBufferEnabled;
+  }
+
+  public boolean isReadVirtualThreadEnabled() {
+    return readVirtualThreadEnabled;
+  }
+
+  public int getReadVirtualThreadMaxConcurrency() {
+    return readVirtualThreadMaxConcurrency;
+  }
+
+  public boolean isBatchLookupMultiGetEnabled() {
+    return batchLookupMultiGetEnabled;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -1694,6 +1813,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return aaWCWorkloadParallelProcessingThreadPoolSize;
   }
 
+  public int getAAWCKeyLevelLockStripeCount() {
+    return aaWCKeyLevelLockStripeCount;
+  }
+
   public boolean isGlobalRtDivEnabled() {
     return isGlobalRtDivEnabled;
   }
@@ -90,6 +90,8 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   private final MergeConflictResolver mergeConflictResolver;
   private final RmdSerDe rmdSerDe;
   private final Lazy<KeyLevelLocksManager> keyLevelLocksManager;
+  // nullable, see ConfigKeys#SERVER_AA_WC_KEY_LEVEL_LOCK_STRIPE_COUNT
+  private final StripedKeyLevelLocksManager stripedKeyLevelLocksManager;
   private final AggVersionedIngestionStats aggVersionedIngestionStats;
   private final RemoteIngestionRepairService remoteIngestionRepairService;
   private final Lazy<IngestionBatchProcessor> ingestionBatchProcessorLazy;
@@ -139,6 +141,9 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             getVersionTopic().getName(),
             initialPoolSize,
             getKeyLevelLockMaxPoolSizeBasedOnServerConfig(serverConfig, storeVersionPartitionCount)));
+    int keyLevelLockStripeCount = serverConfig.getAAWCKeyLevelLockStripeCount();
+    this.stripedKeyLevelLocksManager =
+        keyLevelLockStripeCount > 0 ? new StripedKeyLevelLocksManager(keyLevelLockStripeCount) : null;
     StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository =
         new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
 
@@ -163,7 +168,9 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       return new IngestionBatchProcessor(
           kafkaVersionTopic,
           parallelProcessingThreadPool,
-          keyLevelLocksManager.get(),
+          // Only the lock manager of the configured mode is created
+          stripedKeyLevelLocksManager == null ? keyLevelLocksManager.get() : null,
+          stripedKeyLevelLocksManager,
           this::processActiveActiveMessage,
           isWriteComputationEnabled,
           isActiveActiveReplicationEnabled(),
@@ -222,6 +229,22 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
        * -> [fabric B thread]update transient record cache -> [fabric B thread]produce to VT -> [fabric A thread]update transient record cache
        * -> [fabric A thread]produce to VT
        */
+      if (stripedKeyLevelLocksManager != null) {
+        ReentrantLock keyLevelLock =
+            stripedKeyLevelLocksManager.getLockByKey(consumerRecordWrapper.getMessage().getKey().getKey());
+        keyLevelLock.lock();
+        try {
+          return super.delegateConsumerRecord(
+              consumerRecordWrapper,
+              partition,
+              kafkaUrl,
+              kafkaClusterId,
+              beforeProcessingPerRecordTimestampNs,
+              beforeProcessingBatchRecordsTimestampMs);
+        } finally {
+          keyLevelLock.unlock();
+        }
+      }
       final ByteArrayKey byteArrayKey = ByteArrayKey.wrap(consumerRecordWrapper.getMessage().getKey().getKey());
       ReentrantLock keyLevelLock = this.keyLevelLocksManager.get().acquireLockByKey(byteArrayKey);
       keyLevelLock.lock();
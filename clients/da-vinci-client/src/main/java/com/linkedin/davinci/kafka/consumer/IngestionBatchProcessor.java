@@ -9,6 +9,7 @@ import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -46,6 +47,7 @@ public class IngestionBatchProcessor {
   private final int version;
   private final ExecutorService batchProcessingThreadPool;
   private final KeyLevelLocksManager lockManager;
+  private final StripedKeyLevelLocksManager stripedLockManager;
   private final boolean isWriteComputationEnabled;
   private final boolean isActiveActiveReplicationEnabled;
   private final ProcessingFunction processingFunction;
@@ -61,9 +63,36 @@ public class IngestionBatchProcessor {
       boolean isActiveActiveReplicationEnabled,
       AggVersionedIngestionStats aggVersionedIngestionStats,
       HostLevelIngestionStats hostLevelIngestionStats) {
+    this(
+        storeVersionName,
+        batchProcessingThreadPool,
+        lockManager,
+        null,
+        processingFunction,
+        isWriteComputationEnabled,
+        isActiveActiveReplicationEnabled,
+        aggVersionedIngestionStats,
+        hostLevelIngestionStats);
+  }
+
+  /**
+   * @param lockManager null if the {@param stripedLockManager} is used
+   * @param stripedLockManager if not null, it's used to lock the keys instead of the {@link KeyLevelLocksManager}
+   */
+  public IngestionBatchProcessor(
+      String storeVersionName,
+      ExecutorService batchProcessingThreadPool,
+      KeyLevelLocksManager lockManager,
+      StripedKeyLevelLocksManager stripedLockManager,
+      ProcessingFunction processingFunction,
+      boolean isWriteComputationEnabled,
+      boolean isActiveActiveReplicationEnabled,
+      AggVersionedIngestionStats aggVersionedIngestionStats,
+      HostLevelIngestionStats hostLevelIngestionStats) {
     this.storeVersionName = storeVersionName;
     this.batchProcessingThreadPool = batchProcessingThreadPool;
     this.lockManager = lockManager;
+    this.stripedLockManager = stripedLockManager;
     this.processingFunction = processingFunction;
     this.isWriteComputationEnabled = isWriteComputationEnabled;
     this.isActiveActiveReplicationEnabled = isActiveActiveReplicationEnabled;
@@ -113,6 +142,29 @@ public class IngestionBatchProcessor {
     }
   }
 
+  /**
+   * Lock all the keys of the batch, and the returned lock unlocks them when closed.
+   * With the {@link #stripedLockManager}, the locks are acquired in the order of the stripes, and the keys of the
+   * Control Messages are locked too, since every record could be locked individually while the batch is being
+   * handled, see {@link ActiveActiveStoreIngestionTask#delegateConsumerRecord}, which must not acquire a stripe out
+   * of order. Otherwise, it's the same as {@link #lockKeys}.
+   * @return the lock of the keys, or null if there is no lock manager
+   */
+  public AutoCloseableLock lockKeysOfBatch(List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records) {
+    if (stripedLockManager != null) {
+      int[] stripeIndexes = new int[records.size()];
+      int count = 0;
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+        stripeIndexes[count++] = stripedLockManager.getStripeIndex(record.getKey().getKey());
+      }
+      return stripedLockManager.lockStripes(stripeIndexes, count);
+    }
+    if (lockManager != null) {
+      return new KeyLockMapLock(records);
+    }
+    return null;
+  }
+
   public static boolean isAllMessagesFromRTTopic(
       Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records) {
     for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
@@ -201,4 +253,17 @@ public class IngestionBatchProcessor {
 
     return resultList;
   }
+
+  private class KeyLockMapLock extends AutoCloseableLock {
+    private final NavigableMap<ByteArrayKey, ReentrantLock> keyLockMap;
+
+    private KeyLockMapLock(List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records) {
+      this.keyLockMap = lockKeys(records);
+    }
+
+    @Override
+    protected void unlock() {
+      unlockKeys(keyLockMap);
+    }
+  }
 }
@@ -86,7 +86,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
+import com.linkedin.venice.utils.pools.BoundedObjectPool;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import com.linkedin.venice.utils.pools.ObjectPool;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
@@ -189,6 +191,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
   private KafkaValueSerializer kafkaValueSerializer;
   private final IngestionThrottler ingestionThrottler;
   private final ExecutorService aaWCWorkLoadProcessingThreadPool;
+  private final PubSubMessageDeserializer pubSubDeserializer;
 
   public KafkaStoreIngestionService(
       StorageService storageService,
@@ -328,6 +331,11 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getStoreWriterBufferMemoryCapacity(),
           serverConfig.getStoreWriterBufferNotifyDelta(),
           serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+          serverConfig.isStoreWriterGroupCommitEnabled() ? serverConfig.getStoreWriterGroupCommitMaxRecordCount() : 1,
+          serverConfig.getStoreWriterGroupCommitMaxBytes(),
+          serverConfig.isStoreWriterAdaptiveAssignmentEnabled()
+              ? serverConfig.getStoreWriterAdaptiveAssignmentIntervalMs()
+              : 0,
           metricsRepository,
           true);
     }
@@ -383,10 +391,10 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         : new OptimizedKafkaValueSerializer();
 
     kafkaMessageEnvelopeSchemaReader.ifPresent(kafkaValueSerializer::setSchemaReader);
-    PubSubMessageDeserializer pubSubDeserializer = new PubSubMessageDeserializer(
+    pubSubDeserializer = new PubSubMessageDeserializer(
         kafkaValueSerializer,
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+        createEnvelopePool(serverConfig.getStoreWriterEnvelopePoolCapacity()),
+        createEnvelopePool(serverConfig.getStoreWriterEnvelopePoolCapacity()));
 
     aggKafkaConsumerService = new AggKafkaConsumerService(
         pubSubClientsFactory.getConsumerAdapterFactory(),
@@ -474,6 +482,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
             serverConfig.getIngestionMemoryLimit() > 0 ? () -> killConsumptionTaskForNonCurrentVersions() : null)
         .setHeartbeatMonitoringService(heartbeatMonitoringService)
         .setAAWCWorkLoadProcessingThreadPool(aaWCWorkLoadProcessingThreadPool)
+        .setPubSubMessageDeserializer(pubSubDeserializer)
         .build();
   }
 
@@ -533,6 +542,12 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         recordTransformerFunction);
   }
 
+  private static ObjectPool<KafkaMessageEnvelope> createEnvelopePool(int capacity) {
+    return capacity > 0
+        ? new BoundedObjectPool<>(KafkaMessageEnvelope::new, capacity)
+        : new LandFillObjectPool<>(KafkaMessageEnvelope::new);
+  }
+
   private static void shutdownExecutorService(ExecutorService executor, String name, boolean force) {
     if (executor == null) {
       return;
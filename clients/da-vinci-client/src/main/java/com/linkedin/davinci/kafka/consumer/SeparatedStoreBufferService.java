@@ -33,6 +33,11 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.isStoreWriterGroupCommitEnabled() ? serverConfig.getStoreWriterGroupCommitMaxRecordCount() : 1,
+            serverConfig.getStoreWriterGroupCommitMaxBytes(),
+            serverConfig.isStoreWriterAdaptiveAssignmentEnabled()
+                ? serverConfig.getStoreWriterAdaptiveAssignmentIntervalMs()
+                : 0,
             metricsRepository,
             true),
         new StoreBufferService(
@@ -40,6 +45,11 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.isStoreWriterGroupCommitEnabled() ? serverConfig.getStoreWriterGroupCommitMaxRecordCount() : 1,
+            serverConfig.getStoreWriterGroupCommitMaxBytes(),
+            serverConfig.isStoreWriterAdaptiveAssignmentEnabled()
+                ? serverConfig.getStoreWriterAdaptiveAssignmentIntervalMs()
+                : 0,
             metricsRepository,
             false));
     LOGGER.info(
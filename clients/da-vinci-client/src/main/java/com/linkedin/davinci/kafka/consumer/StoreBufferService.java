@@ -13,10 +13,12 @@ import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.memory.ClassSizeEstimator;
 import com.linkedin.venice.memory.Measurable;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.collections.MemoryBoundBlockingQueue;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,10 +28,13 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,6 +52,21 @@ import org.apache.logging.log4j.Logger;
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
+ * 6. When group commit is enabled, each {@link StoreBufferDrainer} will take the consecutive follower data records of the
+ * same topic+partition from its queue (bounded by {@link #groupCommitMaxRecordCount} and {@link #groupCommitMaxBytes}),
+ * and apply all of them through a single storage write batch. The persisted futures of those records will only be
+ * completed after the write batch is committed;
+ * 7. When adaptive drainer assignment is enabled, the drainer picked by the static hash is only the initial assignment
+ * of a topic+partition. Whenever all the buffered records of a topic+partition have been processed by its drainer
+ * (a safe point, since none of its records is in flight), and the load of its drainer is much higher than the least
+ * loaded drainer, the following records of this topic+partition will be queued to the least loaded drainer instead.
+ * The load of a drainer is derived from both its buffer usage and the fraction of time it spent on processing records,
+ * and at most one topic+partition will be moved per {@link #drainerReassignmentIntervalNs} to avoid moving too many
+ * topic+partitions to the same drainer based on a stale load. A hot topic+partition rarely reaches a safe point, so
+ * it is mostly the other topic+partitions sharing the same drainer that get moved away;
+ * 8. Once a follower record has been persisted, its envelope is given back through
+ * {@link StoreIngestionTask#recycleConsumerRecord(PubSubMessage)}, so that the following polled records can be
+ * deserialized into it when envelope recycling is enabled;
  *
  * For now, the assumption is that one-consumer-polling-thread should be fast enough to catch up with Kafka MM replication,
  * and data processing is the slowest part. If we find that polling is also slow later on, we may consider to adopt a consumer
@@ -57,7 +77,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
   private final int drainerNum;
   private final ArrayList<MemoryBoundBlockingQueue<QueueNode>> blockingQueueArr;
   private ExecutorService executorService;
-  private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
+  /**
+   * The drainers are added when the service starts, while the list is also read by the metrics and ingestion threads to
+   * sample the drainer utilizations, so it has to be safely published.
+   */
+  private final List<StoreBufferDrainer> drainerList = new CopyOnWriteArrayList<>();
   private final long bufferCapacityPerDrainer;
 
   private final RecordHandler leaderRecordHandler;
@@ -65,6 +89,30 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
   private final boolean isSorted;
 
+  /**
+   * Group commit is disabled when {@link #groupCommitMaxRecordCount} is not larger than 1.
+   */
+  private final int groupCommitMaxRecordCount;
+  private final long groupCommitMaxBytes;
+
+  /**
+   * The min load gap between the current drainer of a topic+partition and the least loaded drainer to move it.
+   */
+  private static final double DRAINER_REASSIGNMENT_LOAD_GAP = 0.5;
+  private static final long DEFAULT_DRAINER_UTILIZATION_SAMPLE_INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * Adaptive drainer assignment is disabled when {@link #drainerReassignmentIntervalNs} is not positive.
+   */
+  private final long drainerReassignmentIntervalNs;
+  private final Map<PubSubTopicPartition, DrainerAssignment> drainerAssignments = new VeniceConcurrentHashMap<>();
+  private final AtomicLong lastDrainerReassignmentTimeNs = new AtomicLong(System.nanoTime());
+
+  private final long drainerUtilizationSampleIntervalNs;
+  private final long[] lastDrainerBusyTimeNs;
+  private long lastDrainerUtilizationSampleTimeNs = System.nanoTime();
+  private volatile double[] drainerUtilizations;
+
   public StoreBufferService(
       int drainerNum,
       long bufferCapacityPerDrainer,
@@ -72,7 +120,39 @@ public class StoreBufferService extends AbstractStoreBufferService {
       boolean queueLeaderWrites,
       MetricsRepository metricsRepository,
       boolean sorted) {
-    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, null, metricsRepository, sorted);
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        1,
+        0,
+        0,
+        metricsRepository,
+        sorted);
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      int groupCommitMaxRecordCount,
+      long groupCommitMaxBytes,
+      long drainerReassignmentIntervalMs,
+      MetricsRepository metricsRepository,
+      boolean sorted) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        groupCommitMaxRecordCount,
+        groupCommitMaxBytes,
+        drainerReassignmentIntervalMs,
+        null,
+        metricsRepository,
+        sorted);
   }
 
   /**
@@ -84,7 +164,32 @@ public class StoreBufferService extends AbstractStoreBufferService {
       long bufferNotifyDelta,
       boolean queueLeaderWrites,
       StoreBufferServiceStats stats) {
-    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, stats, null, true);
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, 1, 0, 0, stats);
+  }
+
+  /**
+   * Package-private constructor for testing
+   */
+  StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      int groupCommitMaxRecordCount,
+      long groupCommitMaxBytes,
+      long drainerReassignmentIntervalMs,
+      StoreBufferServiceStats stats) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        groupCommitMaxRecordCount,
+        groupCommitMaxBytes,
+        drainerReassignmentIntervalMs,
+        stats,
+        null,
+        true);
   }
 
   /**
@@ -99,6 +204,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
       long bufferCapacityPerDrainer,
       long bufferNotifyDelta,
       boolean queueLeaderWrites,
+      int groupCommitMaxRecordCount,
+      long groupCommitMaxBytes,
+      long drainerReassignmentIntervalMs,
       StoreBufferServiceStats stats,
       MetricsRepository metricsRepository,
       boolean sorted) {
@@ -109,6 +217,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
       this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
     }
     this.isSorted = sorted;
+    this.groupCommitMaxRecordCount = groupCommitMaxRecordCount;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    this.drainerReassignmentIntervalNs = TimeUnit.MILLISECONDS.toNanos(drainerReassignmentIntervalMs);
+    this.drainerUtilizationSampleIntervalNs = drainerReassignmentIntervalNs > 0
+        ? drainerReassignmentIntervalNs
+        : DEFAULT_DRAINER_UTILIZATION_SAMPLE_INTERVAL_NS;
+    this.lastDrainerBusyTimeNs = new long[drainerNum];
+    this.drainerUtilizations = new double[drainerNum];
     this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
     this.storeBufferServiceStats = metricsRepository == null
         ? Objects.requireNonNull(stats)
@@ -118,7 +234,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
             this::getTotalMemoryUsage,
             this::getTotalRemainingMemory,
             this::getMaxMemoryUsagePerDrainer,
-            this::getMinMemoryUsagePerDrainer);
+            this::getMinMemoryUsagePerDrainer,
+            drainerNum,
+            this::getDrainerUtilization);
   }
 
   protected MemoryBoundBlockingQueue<QueueNode> getDrainerForConsumerRecord(
@@ -131,6 +249,16 @@ public class StoreBufferService extends AbstractStoreBufferService {
   protected int getDrainerIndexForConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       int partition) {
+    if (isAdaptiveDrainerAssignmentEnabled()) {
+      DrainerAssignment assignment = drainerAssignments.get(getDrainerAssignmentKey(consumerRecord, partition));
+      if (assignment != null) {
+        return assignment.drainerIndex;
+      }
+    }
+    return getStaticDrainerIndex(consumerRecord, partition);
+  }
+
+  private int getStaticDrainerIndex(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord, int partition) {
     /**
      * This will guarantee that 'topicHash' will be a positive integer, whose maximum value is
      * {@link Integer.MAX_VALUE} / 2 + 1, which could make sure 'topicHash + consumerRecord.partition()' should be
@@ -140,6 +268,133 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return Math.abs((topicHash + partition) % this.drainerNum);
   }
 
+  private boolean isAdaptiveDrainerAssignmentEnabled() {
+    return drainerReassignmentIntervalNs > 0;
+  }
+
+  private static PubSubTopicPartition getDrainerAssignmentKey(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      int partition) {
+    PubSubTopicPartition topicPartition = consumerRecord.getTopicPartition();
+    return topicPartition.getPartitionNumber() == partition
+        ? topicPartition
+        : new PubSubTopicPartitionImpl(topicPartition.getPubSubTopic(), partition);
+  }
+
+  private void putQueueNode(QueueNode node, int partition) throws InterruptedException {
+    if (!isAdaptiveDrainerAssignmentEnabled()) {
+      getDrainerForConsumerRecord(node.getConsumerRecord(), partition).put(node);
+      return;
+    }
+    DrainerAssignment assignment = acquireDrainerAssignment(node.getConsumerRecord(), partition);
+    node.setDrainerAssignment(assignment);
+    try {
+      // The drainer index won't change until this node is released by the drainer.
+      blockingQueueArr.get(assignment.drainerIndex).put(node);
+    } catch (InterruptedException e) {
+      assignment.release();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the assignment of the topic+partition, whose in-flight count has been increased for the node to be queued.
+   */
+  private DrainerAssignment acquireDrainerAssignment(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      int partition) {
+    PubSubTopicPartition assignmentKey = getDrainerAssignmentKey(consumerRecord, partition);
+    while (true) {
+      DrainerAssignment assignment = drainerAssignments.get(assignmentKey);
+      if (assignment == null) {
+        assignment = drainerAssignments.computeIfAbsent(
+            assignmentKey,
+            k -> new DrainerAssignment(getStaticDrainerIndex(consumerRecord, partition)));
+      }
+      synchronized (assignment) {
+        if (assignment.retired) {
+          // Removed concurrently, so retry with a fresh assignment.
+          continue;
+        }
+        if (assignment.inFlightCount.get() == 0) {
+          // Safe point: all the previously queued records of this topic+partition have been processed.
+          maybeReassignDrainer(assignmentKey, assignment);
+        }
+        assignment.inFlightCount.incrementAndGet();
+        return assignment;
+      }
+    }
+  }
+
+  /**
+   * This function must be invoked while holding the lock of {@param assignment} and there is no in-flight record.
+   */
+  private void maybeReassignDrainer(PubSubTopicPartition assignmentKey, DrainerAssignment assignment) {
+    long currentTimeNs = System.nanoTime();
+    long lastReassignmentTimeNs = lastDrainerReassignmentTimeNs.get();
+    if (currentTimeNs - lastReassignmentTimeNs < drainerReassignmentIntervalNs) {
+      return;
+    }
+    int currentDrainerIndex = assignment.drainerIndex;
+    double currentDrainerLoad = getDrainerLoad(currentDrainerIndex);
+    int targetDrainerIndex = currentDrainerIndex;
+    double targetDrainerLoad = currentDrainerLoad;
+    for (int i = 0; i < drainerNum; ++i) {
+      double load = getDrainerLoad(i);
+      if (load < targetDrainerLoad) {
+        targetDrainerIndex = i;
+        targetDrainerLoad = load;
+      }
+    }
+    if (currentDrainerLoad - targetDrainerLoad < DRAINER_REASSIGNMENT_LOAD_GAP
+        || !lastDrainerReassignmentTimeNs.compareAndSet(lastReassignmentTimeNs, currentTimeNs)) {
+      return;
+    }
+    assignment.drainerIndex = targetDrainerIndex;
+    storeBufferServiceStats.recordDrainerReassignment();
+    LOGGER.info(
+        "Moved {} from drainer {} with load: {} to drainer {} with load: {}",
+        assignmentKey,
+        currentDrainerIndex,
+        currentDrainerLoad,
+        targetDrainerIndex,
+        targetDrainerLoad);
+  }
+
+  /**
+   * A drainer is considered as loaded if either it is busy processing records or its buffer is filling up.
+   */
+  private double getDrainerLoad(int drainerIndex) {
+    double bufferUsage = (double) blockingQueueArr.get(drainerIndex).getMemoryUsage() / bufferCapacityPerDrainer;
+    return Math.max(getDrainerUtilization(drainerIndex), bufferUsage);
+  }
+
+  /**
+   * @return the fraction of time the specified drainer spent on processing records in the latest sampling interval.
+   */
+  double getDrainerUtilization(int drainerIndex) {
+    sampleDrainerUtilizationsIfNeeded();
+    return drainerUtilizations[drainerIndex];
+  }
+
+  private void sampleDrainerUtilizationsIfNeeded() {
+    synchronized (lastDrainerBusyTimeNs) {
+      long currentTimeNs = System.nanoTime();
+      long elapsedTimeNs = currentTimeNs - lastDrainerUtilizationSampleTimeNs;
+      if (elapsedTimeNs < drainerUtilizationSampleIntervalNs || drainerList.size() < drainerNum) {
+        return;
+      }
+      double[] utilizations = new double[drainerNum];
+      for (int i = 0; i < drainerNum; ++i) {
+        long busyTimeNs = drainerList.get(i).busyTimeNs.get();
+        utilizations[i] = Math.min(1.0, (double) (busyTimeNs - lastDrainerBusyTimeNs[i]) / elapsedTimeNs);
+        lastDrainerBusyTimeNs[i] = busyTimeNs;
+      }
+      drainerUtilizations = utilizations;
+      lastDrainerUtilizationSampleTimeNs = currentTimeNs;
+    }
+  }
+
   @Override
   public void putConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -155,13 +410,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, partition).put(
+      putQueueNode(
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestampNs,
-              recordFuture));
+              recordFuture),
+          partition);
 
       // Setup the last queued record's future
       PartitionConsumptionState partitionConsumptionState =
@@ -197,13 +453,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int partition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, partition).put(
+    putQueueNode(
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
             kafkaUrl,
             beforeProcessingRecordTimestamp,
-            leaderProducedRecordContext));
+            leaderProducedRecordContext),
+        partition);
   }
 
   private static void processRecord(
@@ -273,6 +530,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
             "The blocking queue of store writer thread: {} doesn't contain any record for: {}",
             workerIndex,
             topicPartition);
+        if (isAdaptiveDrainerAssignmentEnabled()) {
+          // The assignment will be re-created with the static drainer index if this topic+partition gets resumed.
+          drainerAssignments
+              .computeIfPresent(topicPartition, (k, assignment) -> assignment.retireIfIdle() ? null : assignment);
+        }
         return;
       }
       Thread.sleep(sleepIntervalInMS);
@@ -291,7 +553,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
     PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> fakeRecord = new FakePubSubMessage(topicPartition);
     CommandQueueNode syncOffsetCmd =
         new CommandQueueNode(CommandQueueNode.CommandType.SYNC_OFFSET, fakeRecord, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncOffsetCmd);
+    putQueueNode(syncOffsetCmd, topicPartition.getPartitionNumber());
     return syncOffsetCmd.getCmdExecutedFuture();
   }
 
@@ -303,7 +565,12 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur, storeBufferServiceStats);
+      StoreBufferDrainer drainer = new StoreBufferDrainer(
+          this.blockingQueueArr.get(cur),
+          cur,
+          storeBufferServiceStats,
+          groupCommitMaxRecordCount,
+          groupCommitMaxBytes);
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
@@ -396,6 +663,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    /**
+     * Only set when the adaptive drainer assignment is enabled.
+     */
+    private DrainerAssignment drainerAssignment;
 
     public QueueNode(
         PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -432,6 +703,19 @@ public class StoreBufferService extends AbstractStoreBufferService {
       return this.beforeProcessingRecordTimestampNs;
     }
 
+    void setDrainerAssignment(DrainerAssignment drainerAssignment) {
+      this.drainerAssignment = drainerAssignment;
+    }
+
+    /**
+     * Invoked by the drainer once this node has been processed.
+     */
+    void releaseDrainerAssignment() {
+      if (drainerAssignment != null) {
+        drainerAssignment.release();
+      }
+    }
+
     /**
      * This function is being used by {@link BlockingQueue#contains(Object)}.
      * The goal is to find out whether the buffered queue still has any records belonging to the specified topic+partition.
@@ -629,6 +913,34 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * The drainer assignment of a topic+partition, which is only used by the adaptive drainer assignment.
+   * {@link #drainerIndex} could only be changed while holding the lock of this object and {@link #inFlightCount} is 0.
+   */
+  static class DrainerAssignment {
+    private volatile int drainerIndex;
+    /**
+     * The number of queued records of this topic+partition, which haven't been processed by the drainer yet.
+     */
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private boolean retired = false;
+
+    DrainerAssignment(int drainerIndex) {
+      this.drainerIndex = drainerIndex;
+    }
+
+    void release() {
+      inFlightCount.decrementAndGet();
+    }
+
+    synchronized boolean retireIfIdle() {
+      if (inFlightCount.get() == 0) {
+        retired = true;
+      }
+      return retired;
+    }
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
@@ -640,11 +952,29 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final int drainerIndex;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
     private final StoreBufferServiceStats stats;
-
-    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex, StoreBufferServiceStats stats) {
+    /**
+     * The accumulated time spent on processing records, which is used to measure the utilization of this drainer.
+     */
+    private final AtomicLong busyTimeNs = new AtomicLong();
+    private final int groupCommitMaxRecordCount;
+    private final long groupCommitMaxBytes;
+    /**
+     * Reused across the group commits to avoid allocating a new list for every group.
+     */
+    private final List<QueueNode> nodeGroup;
+
+    public StoreBufferDrainer(
+        BlockingQueue<QueueNode> blockingQueue,
+        int drainerIndex,
+        StoreBufferServiceStats stats,
+        int groupCommitMaxRecordCount,
+        long groupCommitMaxBytes) {
       this.blockingQueue = blockingQueue;
       this.drainerIndex = drainerIndex;
       this.stats = stats;
+      this.groupCommitMaxRecordCount = groupCommitMaxRecordCount;
+      this.groupCommitMaxBytes = groupCommitMaxBytes;
+      this.nodeGroup = groupCommitMaxRecordCount > 1 ? new ArrayList<>(groupCommitMaxRecordCount) : null;
     }
 
     public void stop() {
@@ -654,100 +984,276 @@ public class StoreBufferService extends AbstractStoreBufferService {
     @Override
     public void run() {
       LOGGER.info("Starting StoreBufferDrainer Thread for drainer: {}....", drainerIndex);
-      QueueNode node = null;
-      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = null;
-      LeaderProducedRecordContext leaderProducedRecordContext = null;
-      StoreIngestionTask ingestionTask = null;
-      CompletableFuture<Void> recordPersistedFuture = null;
+      QueueNode node;
+      boolean keepRunning;
       while (isRunning.get()) {
         try {
           node = blockingQueue.take();
+        } catch (InterruptedException e) {
+          LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+          break;
+        }
+        long processingStartTimeNs = System.nanoTime();
+        if (nodeGroup != null && isGroupCommitCandidate(node)) {
+          keepRunning = processNodeGroup(node);
+          for (QueueNode processedNode: nodeGroup) {
+            processedNode.releaseDrainerAssignment();
+          }
+        } else {
+          keepRunning = processNode(node);
+          node.releaseDrainerAssignment();
+        }
+        busyTimeNs.addAndGet(System.nanoTime() - processingStartTimeNs);
+        if (!keepRunning) {
+          break;
+        }
+      }
+      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
+    }
 
-          consumerRecord = node.getConsumerRecord();
-          int partitionNum = consumerRecord.getTopicPartition().getPartitionNumber();
-          leaderProducedRecordContext = node.getLeaderProducedRecordContext();
-          ingestionTask = node.getIngestionTask();
-          recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+    /**
+     * Only the follower data records are eligible for group commit, since:
+     * 1. Control messages could adjust the underlying storage partition, and the offset will be synced for most of them;
+     * 2. The leader could read back the records persisted by the drainer, and it relies on the persisted future of each
+     *    {@link LeaderProducedRecordContext} being completed only after the record is visible in the storage engine.
+     */
+    private static boolean isGroupCommitCandidate(QueueNode node) {
+      return !(node instanceof CommandQueueNode) && node.getLeaderProducedRecordContext() == null
+          && !node.getConsumerRecord().getKey().isControlMessage();
+    }
 
-          long startTime = System.currentTimeMillis();
+    private static boolean belongsToSameGroup(QueueNode firstNode, QueueNode node) {
+      return isGroupCommitCandidate(node) && node.getIngestionTask() == firstNode.getIngestionTask()
+          && node.getConsumerRecord().getTopicPartition().equals(firstNode.getConsumerRecord().getTopicPartition());
+    }
 
-          if (node instanceof CommandQueueNode) {
-            processCommand(
-                (CommandQueueNode) node,
-                ingestionTask,
-                ingestionTask.getPartitionConsumptionState(partitionNum));
-            continue;
-          }
+    /**
+     * Collect the consecutive records of the same topic+partition from the head of the queue into {@link #nodeGroup}.
+     * This is safe since the drainer is the only consumer of its queue.
+     */
+    private void collectNodeGroup(QueueNode firstNode) {
+      nodeGroup.clear();
+      nodeGroup.add(firstNode);
+      long groupBytes = firstNode.getConsumerRecord().getPayloadSize();
+      QueueNode nextNode;
+      while (nodeGroup.size() < groupCommitMaxRecordCount && groupBytes < groupCommitMaxBytes) {
+        nextNode = blockingQueue.peek();
+        if (nextNode == null || !belongsToSameGroup(firstNode, nextNode)) {
+          break;
+        }
+        blockingQueue.poll();
+        nodeGroup.add(nextNode);
+        groupBytes += nextNode.getConsumerRecord().getPayloadSize();
+      }
+    }
 
+    /**
+     * @return whether the drainer should keep running.
+     */
+    private boolean processNode(QueueNode node) {
+      try {
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = node.getConsumerRecord();
+        StoreIngestionTask ingestionTask = node.getIngestionTask();
+        int partitionNum = consumerRecord.getTopicPartition().getPartitionNumber();
+
+        long startTime = System.currentTimeMillis();
+
+        if (node instanceof CommandQueueNode) {
+          processCommand(
+              (CommandQueueNode) node,
+              ingestionTask,
+              ingestionTask.getPartitionConsumptionState(partitionNum));
+          return true;
+        }
+
+        processRecord(
+            consumerRecord,
+            ingestionTask,
+            node.getLeaderProducedRecordContext(),
+            partitionNum,
+            node.getKafkaUrl(),
+            node.getBeforeProcessingRecordTimestampNs());
+
+        /**
+         * Complete {@link QueueNode#queuedRecordPersistedFuture} since the processing for the current record is done.
+         */
+        CompletableFuture<Void> recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+        if (recordPersistedFuture != null) {
+          recordPersistedFuture.complete(null);
+        }
+        long latencyInMS = System.currentTimeMillis() - startTime;
+        this.stats.recordInternalProcessingLatency(latencyInMS);
+        topicToTimeSpent.compute(consumerRecord.getTopicPartition(), (K, V) -> (V == null ? 0 : V) + latencyInMS);
+        if (node instanceof FollowerQueueNode) {
+          // The records consumed by the leader are still referenced by the callbacks of the leader producer.
+          ingestionTask.recycleConsumerRecord(consumerRecord);
+        }
+        return true;
+      } catch (Throwable e) {
+        return handleProcessingFailure(node, e);
+      }
+    }
+
+    /**
+     * Process all the records grouped with {@param firstNode} through a single storage write batch.
+     *
+     * If any record fails, the writes of the records processed before it will still be committed, since their offsets
+     * have already been advanced in {@link PartitionConsumptionState}, and the remaining records of the group will be
+     * processed one by one, which is the same as the behavior without group commit. If the write batch can't even be
+     * started, all the records of the group will be processed one by one.
+     *
+     * @return whether the drainer should keep running.
+     */
+    private boolean processNodeGroup(QueueNode firstNode) {
+      collectNodeGroup(firstNode);
+      int groupSize = nodeGroup.size();
+      if (groupSize == 1) {
+        return processNode(firstNode);
+      }
+      StoreIngestionTask ingestionTask = firstNode.getIngestionTask();
+      PubSubTopicPartition topicPartition = firstNode.getConsumerRecord().getTopicPartition();
+      int partitionNum = topicPartition.getPartitionNumber();
+      long startTime = System.currentTimeMillis();
+
+      try {
+        ingestionTask.beginWriteBatch(partitionNum);
+      } catch (Throwable e) {
+        LOGGER.warn(
+            "Failed to begin a write batch for {}, will process the {} grouped records one by one",
+            topicPartition,
+            groupSize,
+            e);
+        return processNodesOneByOne(0);
+      }
+
+      int processedCount = 0;
+      Throwable processingFailure = null;
+      try {
+        for (QueueNode node: nodeGroup) {
           processRecord(
-              consumerRecord,
+              node.getConsumerRecord(),
               ingestionTask,
-              leaderProducedRecordContext,
-              consumerRecord.getTopicPartition().getPartitionNumber(),
+              null,
+              partitionNum,
               node.getKafkaUrl(),
               node.getBeforeProcessingRecordTimestampNs());
+          processedCount++;
+        }
+      } catch (Throwable e) {
+        processingFailure = e;
+      }
 
-          /**
-           * Complete {@link QueueNode#queuedRecordPersistedFuture} since the processing for the current record is done.
-           */
-          if (recordPersistedFuture != null) {
-            recordPersistedFuture.complete(null);
-          }
-          long latencyInMS = System.currentTimeMillis() - startTime;
-          this.stats.recordInternalProcessingLatency(latencyInMS);
-          topicToTimeSpent.compute(consumerRecord.getTopicPartition(), (K, V) -> (V == null ? 0 : V) + latencyInMS);
-        } catch (Throwable e) {
-          if (e instanceof InterruptedException) {
-            LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
-            break;
+      try {
+        ingestionTask.commitWriteBatch(partitionNum);
+      } catch (Throwable e) {
+        // None of the records in this group could be treated as persisted.
+        boolean keepRunning = handleProcessingFailure(firstNode, e);
+        if (e instanceof Exception) {
+          for (int i = 1; i < groupSize; i++) {
+            completeFuturesExceptionally(nodeGroup.get(i), (Exception) e);
           }
-          StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
-          if (consumerRecord == null) {
-            logBuilder.append(" received throwable: ");
-          } else {
-            String consumerRecordString = consumerRecord.toString();
-            if (consumerRecordString.length() > 1024) {
-              // Careful not to flood the logs with too much content...
-              consumerRecordString = consumerRecordString.substring(0, 1024);
-              logBuilder
-                  .append(" received throwable while processing consumer record (truncated at 1024 characters): ");
-            } else {
-              logBuilder.append(" received throwable while processing consumer record: ");
-            }
-            logBuilder.append(consumerRecordString);
+        }
+        return keepRunning;
+      }
+
+      for (int i = 0; i < processedCount; i++) {
+        QueueNode node = nodeGroup.get(i);
+        CompletableFuture<Void> recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+        if (recordPersistedFuture != null) {
+          recordPersistedFuture.complete(null);
+        }
+        if (node instanceof FollowerQueueNode) {
+          // Same as in processNode, the records consumed by the leader are still referenced by the leader producer.
+          ingestionTask.recycleConsumerRecord(node.getConsumerRecord());
+        }
+      }
+      long latencyInMS = System.currentTimeMillis() - startTime;
+      this.stats.recordInternalProcessingLatency(latencyInMS);
+      this.stats.recordGroupCommitRecordCount(processedCount);
+      topicToTimeSpent.compute(topicPartition, (K, V) -> (V == null ? 0 : V) + latencyInMS);
+
+      if (processingFailure == null) {
+        return true;
+      }
+      if (!handleProcessingFailure(nodeGroup.get(processedCount), processingFailure)) {
+        return false;
+      }
+      return processNodesOneByOne(processedCount + 1);
+    }
+
+    /**
+     * Process the records of {@link #nodeGroup} starting from {@code fromIndex} without a write batch.
+     *
+     * @return whether the drainer should keep running.
+     */
+    private boolean processNodesOneByOne(int fromIndex) {
+      for (int i = fromIndex; i < nodeGroup.size(); i++) {
+        if (!processNode(nodeGroup.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * @return whether the drainer should keep running.
+     */
+    private boolean handleProcessingFailure(QueueNode node, Throwable e) {
+      if (e instanceof InterruptedException) {
+        LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+        return false;
+      }
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = node.getConsumerRecord();
+      StoreIngestionTask ingestionTask = node.getIngestionTask();
+      StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
+      if (consumerRecord == null) {
+        logBuilder.append(" received throwable: ");
+      } else {
+        String consumerRecordString = consumerRecord.toString();
+        if (consumerRecordString.length() > 1024) {
+          // Careful not to flood the logs with too much content...
+          consumerRecordString = consumerRecordString.substring(0, 1024);
+          logBuilder.append(" received throwable while processing consumer record (truncated at 1024 characters): ");
+        } else {
+          logBuilder.append(" received throwable while processing consumer record: ");
+        }
+        logBuilder.append(consumerRecordString);
+      }
+      LOGGER.error(logBuilder.toString(), e);
+      stats.recordInternalProcessingError();
+
+      /**
+       * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
+       */
+      if (e instanceof Exception) {
+        Exception processConsumerRecordException = (Exception) e;
+        if (ingestionTask != null) {
+          try {
+            ingestionTask.setIngestionException(
+                consumerRecord.getTopicPartition().getPartitionNumber(),
+                processConsumerRecordException);
+          } catch (VeniceException ingestionException) {
+            ingestionTask.setLastStoreIngestionException(ingestionException);
           }
-          LOGGER.error(logBuilder.toString(), e);
-          stats.recordInternalProcessingError();
-
-          /**
-           * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
-           */
-          if (e instanceof Exception) {
-            Exception processConsumerRecordException = (Exception) e;
-            if (ingestionTask != null) {
-              try {
-                ingestionTask.setIngestionException(
-                    consumerRecord.getTopicPartition().getPartitionNumber(),
-                    processConsumerRecordException);
-              } catch (VeniceException ingestionException) {
-                ingestionTask.setLastStoreIngestionException(ingestionException);
-              }
-              if (e instanceof VeniceChecksumException) {
-                ingestionTask.recordChecksumVerificationFailure();
-              }
-            }
-            if (leaderProducedRecordContext != null) {
-              leaderProducedRecordContext.completePersistedToDBFuture(processConsumerRecordException);
-            }
-            if (recordPersistedFuture != null) {
-              recordPersistedFuture.completeExceptionally(processConsumerRecordException);
-            }
-          } else {
-            break;
+          if (e instanceof VeniceChecksumException) {
+            ingestionTask.recordChecksumVerificationFailure();
           }
         }
+        completeFuturesExceptionally(node, processConsumerRecordException);
+        return true;
+      }
+      return false;
+    }
+
+    private static void completeFuturesExceptionally(QueueNode node, Exception e) {
+      LeaderProducedRecordContext leaderProducedRecordContext = node.getLeaderProducedRecordContext();
+      if (leaderProducedRecordContext != null) {
+        leaderProducedRecordContext.completePersistedToDBFuture(e);
+      }
+      CompletableFuture<Void> recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+      if (recordPersistedFuture != null) {
+        recordPersistedFuture.completeExceptionally(e);
       }
-      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
     }
   }
 
@@ -40,7 +40,6 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.record.ValueRecord;
-import com.linkedin.davinci.utils.ByteArrayKey;
 import com.linkedin.davinci.utils.ChunkAssembler;
 import com.linkedin.davinci.validation.KafkaDataIntegrityValidator;
 import com.linkedin.davinci.validation.PartitionTracker;
@@ -85,6 +84,7 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.pubsub.api.exceptions.PubSubUnsubscribedTopicPartitionException;
@@ -114,6 +114,7 @@ import com.linkedin.venice.utils.ValueHolder;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.io.Closeable;
 import java.io.IOException;
@@ -128,7 +129,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
@@ -145,7 +145,6 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -346,6 +345,11 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
   protected final ExecutorService parallelProcessingThreadPool;
 
+  /**
+   * The envelopes of the persisted follower records are given back to it for reuse, when it is set.
+   */
+  private final PubSubMessageDeserializer pubSubMessageDeserializer;
+
   public StoreIngestionTask(
       StorageService storageService,
       StoreIngestionTaskFactory.Builder builder,
@@ -525,6 +529,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
     this.batchReportIncPushStatusEnabled = !isDaVinciClient && serverConfig.getBatchReportEOIPEnabled();
     this.parallelProcessingThreadPool = builder.getAAWCWorkLoadProcessingThreadPool();
+    this.pubSubMessageDeserializer = builder.getPubSubMessageDeserializer();
   }
 
   /** Package-private on purpose, only intended for tests. Do not use for production use cases. */
@@ -1306,8 +1311,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      * Process records batch by batch.
      */
     for (List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> batch: batches) {
-      NavigableMap<ByteArrayKey, ReentrantLock> keyLockMap = ingestionBatchProcessor.lockKeys(batch);
-      try {
+      try (AutoCloseableLock ignored = ingestionBatchProcessor.lockKeysOfBatch(batch)) {
         long beforeProcessingPerRecordTimestampNs = System.nanoTime();
         List<PubSubMessageProcessedResultWrapper<KafkaKey, KafkaMessageEnvelope, Long>> processedResults =
             ingestionBatchProcessor.process(
@@ -1331,8 +1335,6 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
               metricsEnabled,
               elapsedTimeForPuttingIntoQueue);
         }
-      } finally {
-        ingestionBatchProcessor.unlockKeys(keyLockMap);
       }
     }
 
@@ -2460,6 +2462,19 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     return true;
   }
 
+  /**
+   * This function will be invoked in {@link StoreBufferService} once a buffered follower record, which is not
+   * referenced by the consumer thread anymore, has been persisted, so that its envelope can be deserialized into again.
+   *
+   * The records are not recycled along with a {@link DaVinciRecordTransformer}, since the user code could hold on to
+   * the lazy values, which read the payload of the envelope.
+   */
+  public void recycleConsumerRecord(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record) {
+    if (pubSubMessageDeserializer != null && recordTransformer == null) {
+      pubSubMessageDeserializer.recycle(record);
+    }
+  }
+
   /**
    * This function will be invoked in {@link StoreBufferService} to process buffered {@link PubSubMessage}.
    */
@@ -3426,6 +3441,18 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     executeStorageEngineRunnable(partition, () -> storageEngine.delete(partition, keyBytes));
   }
 
+  /**
+   * Group the writes of the following records of the given partition into a single storage write batch, which is
+   * used by {@link StoreBufferService} to group commit the buffered records.
+   */
+  void beginWriteBatch(int partition) {
+    executeStorageEngineRunnable(partition, () -> storageEngine.beginWriteBatch(partition));
+  }
+
+  void commitWriteBatch(int partition) {
+    executeStorageEngineRunnable(partition, () -> storageEngine.commitWriteBatch(partition));
+  }
+
   protected void throwOrLogStorageFailureDependingIfStillSubscribed(int partition, VeniceException e) {
     if (partitionConsumptionStateMap.containsKey(partition)) {
       throw new VeniceException(
@@ -20,6 +20,7 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
 import com.linkedin.venice.pubsub.manager.TopicManagerRepository;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.system.store.MetaStoreWriter;
@@ -121,6 +122,7 @@ public class StoreIngestionTaskFactory {
     private PubSubTopicRepository pubSubTopicRepository;
     private Runnable runnableForKillIngestionTasksForNonCurrentVersions;
     private ExecutorService aaWCWorkLoadProcessingThreadPool;
+    private PubSubMessageDeserializer pubSubMessageDeserializer;
 
     private interface Setter {
       void apply();
@@ -331,5 +333,17 @@ public class StoreIngestionTaskFactory {
     public ExecutorService getAAWCWorkLoadProcessingThreadPool() {
       return this.aaWCWorkLoadProcessingThreadPool;
     }
+
+    public PubSubMessageDeserializer getPubSubMessageDeserializer() {
+      return pubSubMessageDeserializer;
+    }
+
+    /**
+     * @param pubSubMessageDeserializer the deserializer of the consumed records, which the envelopes of the persisted
+     *                                  follower records are given back to.
+     */
+    public Builder setPubSubMessageDeserializer(PubSubMessageDeserializer pubSubMessageDeserializer) {
+      return set(() -> this.pubSubMessageDeserializer = pubSubMessageDeserializer);
+    }
   }
 }
@@ -0,0 +1,93 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.utils.locks.AutoCloseableLock;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * An alternative to {@link KeyLevelLocksManager} with a fixed-size table of locks, and the lock of a key is picked by
+ * the hash of the raw key bytes. Different keys could share the same lock, which only costs some false contention
+ * when the table is large enough, while there is no lock object or map entry created or recycled per key, and no
+ * global synchronization to hand out the locks.
+ *
+ * Since a lock could be shared by several keys, the locks of multiple keys must be acquired in the order of their
+ * stripe indexes, see {@link #lockStripes}, instead of the order of the keys, otherwise deadlock can happen.
+ * A thread holding the locks of a batch could still lock any key of the batch again, since the locks are reentrant.
+ */
+public class StripedKeyLevelLocksManager {
+  private final ReentrantLock[] locks;
+  private final int stripeMask;
+
+  /**
+   * @param stripeCount the number of locks, which is rounded up to the next power of two
+   */
+  public StripedKeyLevelLocksManager(int stripeCount) {
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException("Stripe count must be positive, but got: " + stripeCount);
+    }
+    int roundedStripeCount = Integer.highestOneBit(stripeCount);
+    if (roundedStripeCount < stripeCount) {
+      roundedStripeCount <<= 1;
+    }
+    this.locks = new ReentrantLock[roundedStripeCount];
+    for (int i = 0; i < roundedStripeCount; i++) {
+      this.locks[i] = new ReentrantLock();
+    }
+    this.stripeMask = roundedStripeCount - 1;
+  }
+
+  int getStripeCount() {
+    return locks.length;
+  }
+
+  int getStripeIndex(byte[] key) {
+    int hash = Arrays.hashCode(key);
+    // spread the higher bits, since the index only takes the lower ones
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    return hash & stripeMask;
+  }
+
+  ReentrantLock getLockByKey(byte[] key) {
+    return locks[getStripeIndex(key)];
+  }
+
+  /**
+   * Lock the given stripes in ascending order, the duplicate ones are only locked once.
+   * @param stripeIndexes the stripe indexes, see {@link #getStripeIndex}, which are sorted in place
+   * @param count the number of valid entries at the beginning of the array
+   * @return the lock to unlock all the stripes in the reverse order when closed
+   */
+  AutoCloseableLock lockStripes(int[] stripeIndexes, int count) {
+    Arrays.sort(stripeIndexes, 0, count);
+    int distinctCount = 0;
+    for (int i = 0; i < count; i++) {
+      if (distinctCount == 0 || stripeIndexes[distinctCount - 1] != stripeIndexes[i]) {
+        stripeIndexes[distinctCount++] = stripeIndexes[i];
+      }
+    }
+    return new StripesLock(stripeIndexes, distinctCount);
+  }
+
+  private class StripesLock extends AutoCloseableLock {
+    private final int[] stripeIndexes;
+    private final int count;
+
+    private StripesLock(int[] stripeIndexes, int count) {
+      this.stripeIndexes = stripeIndexes;
+      this.count = count;
+      for (int i = 0; i < count; i++) {
+        locks[stripeIndexes[i]].lock();
+      }
+    }
+
+    @Override
+    protected void unlock() {
+      for (int i = count - 1; i >= 0; i--) {
+        locks[stripeIndexes[i]].unlock();
+      }
+    }
+  }
+}
@@ -38,4 +38,11 @@ public interface ReadResponse {
   ByteBuf getResponseBody();
 
   int getResponseSchemaIdHeader();
+
+  /**
+   * Release the pooled buffers owned by this response, which must be invoked on every path where the response body is
+   * not handed over to Netty to be written out, e.g. once the body has been copied, or when an error response is sent
+   * instead. It is a no-op if the response doesn't own any pooled buffer, and it is safe to be invoked more than once.
+   */
+  void release();
 }
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.stats;
 
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.cache.OffHeapValueCache;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.stats.StatsErrorCode;
@@ -80,6 +81,20 @@ public class AggVersionedStorageEngineStats extends
     public void recordRocksDBOpenFailure() {
       rocksDBOpenFailureCount.incrementAndGet();
     }
+
+    private OffHeapValueCache getValueCache() {
+      return storageEngine == null ? null : storageEngine.getValueCache();
+    }
+
+    public double getValueCacheHitRatio() {
+      OffHeapValueCache valueCache = getValueCache();
+      return valueCache == null ? 0 : valueCache.getStats().hitRate();
+    }
+
+    public long getValueCacheSizeInBytes() {
+      OffHeapValueCache valueCache = getValueCache();
+      return valueCache == null ? 0 : valueCache.getSizeInBytes();
+    }
   }
 
   static class StorageEngineStatsReporter extends AbstractVeniceStatsReporter<StorageEngineStats> {
@@ -113,6 +128,22 @@ public class AggVersionedStorageEngineStats extends
           return stats.rocksDBOpenFailureCount.get();
         }
       }, "rocksdb_open_failure_count"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getValueCacheHitRatio();
+        }
+      }, "value_cache_hit_ratio"));
+      registerSensor(new AsyncGauge((ignored, ignored2) -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getValueCacheSizeInBytes();
+        }
+      }, "value_cache_size_in_bytes"));
     }
   }
 }
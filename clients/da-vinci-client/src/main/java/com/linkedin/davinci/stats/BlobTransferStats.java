@@ -0,0 +1,49 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.davinci.blobtransfer.NettyP2PBlobTransferManager;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Count;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.Min;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Total;
+
+
+/**
+ * BlobTransferStats records the metrics of the partitions fetched from peers via {@link NettyP2PBlobTransferManager}.
+ */
+public class BlobTransferStats extends AbstractVeniceStats {
+  private static final String METRICS_PREFIX = "blob_transfer";
+
+  private final Sensor transferThroughputSensor;
+  private final Sensor transferTimeSensor;
+  private final Sensor transferBytesSensor;
+  private final Sensor transferResumeSensor;
+
+  public BlobTransferStats(MetricsRepository metricsRepository) {
+    super(metricsRepository, METRICS_PREFIX);
+    transferThroughputSensor = registerSensor("throughput_mb_per_sec", new Avg(), new Min(), new Max());
+    transferTimeSensor = registerSensor("transfer_time_in_sec", new Avg(), new Max());
+    transferBytesSensor = registerSensor("transfer_bytes", new Total());
+    transferResumeSensor = registerSensor("transfer_resume", new OccurrenceRate(), new Count());
+  }
+
+  /**
+   * Record a successful transfer of a partition.
+   * @param bytes the total size of the files of the partition
+   * @param timeInMs the time it took to fetch the files, including the resumed attempts
+   */
+  public void recordTransfer(long bytes, long timeInMs) {
+    double timeInSec = Math.max(timeInMs, 1) / 1000d;
+    transferThroughputSensor.record(bytes / 1024d / 1024d / timeInSec);
+    transferTimeSensor.record(timeInSec);
+    transferBytesSensor.record(bytes);
+  }
+
+  public void recordTransferResume() {
+    transferResumeSensor.record();
+  }
+}
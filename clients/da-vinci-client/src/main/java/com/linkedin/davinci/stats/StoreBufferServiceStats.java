@@ -7,6 +7,7 @@ import io.tehuti.metrics.stats.AsyncGauge;
 import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.function.IntToDoubleFunction;
 import java.util.function.LongSupplier;
 
 
@@ -17,6 +18,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   private final Sensor minMemoryUsagePerWriterSensor;
   private final Sensor internalProcessingLatencySensor;
   private final Sensor internalProcessingErrorSensor;
+  private final Sensor groupCommitRecordCountSensor;
+  private final Sensor drainerReassignmentSensor;
 
   public StoreBufferServiceStats(
       MetricsRepository metricsRepository,
@@ -24,7 +27,9 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
       LongSupplier totalMemoryUsageSupplier,
       LongSupplier totalRemainingMemorySupplier,
       LongSupplier maxMemoryUsagePerDrainerSupplier,
-      LongSupplier minMemoryUsagePerDrainerSupplier) {
+      LongSupplier minMemoryUsagePerDrainerSupplier,
+      int drainerNum,
+      IntToDoubleFunction drainerUtilizationSupplier) {
     super(metricsRepository, metricNamePrefix);
     totalMemoryUsageSensor = registerSensor(
         new AsyncGauge((ignored, ignored2) -> totalMemoryUsageSupplier.getAsLong(), "total_memory_usage"));
@@ -41,6 +46,20 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
 
     internalProcessingLatencySensor = registerSensor("internal_processing_latency", new Avg(), new Max());
     internalProcessingErrorSensor = registerSensor("internal_processing_error", new OccurrenceRate());
+    groupCommitRecordCountSensor = registerSensor("group_commit_record_count", new Avg(), new Max());
+    drainerReassignmentSensor = registerSensor("drainer_reassignment", new OccurrenceRate());
+
+    /**
+     * The utilization of a drainer is the fraction of time it spent on processing records in the latest sampling
+     * interval, so a hot drainer could be told apart from an idle one even if both of them have an empty buffer.
+     */
+    for (int i = 0; i < drainerNum; i++) {
+      final int drainerIndex = i;
+      registerSensor(
+          new AsyncGauge(
+              (ignored, ignored2) -> drainerUtilizationSupplier.applyAsDouble(drainerIndex),
+              "drainer_" + drainerIndex + "_utilization"));
+    }
   }
 
   public void recordInternalProcessingError() {
@@ -50,4 +69,12 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   public void recordInternalProcessingLatency(long latency) {
     internalProcessingLatencySensor.record(latency);
   }
+
+  public void recordGroupCommitRecordCount(int recordCount) {
+    groupCommitRecordCountSensor.record(recordCount);
+  }
+
+  public void recordDrainerReassignment() {
+    drainerReassignmentSensor.record();
+  }
 }
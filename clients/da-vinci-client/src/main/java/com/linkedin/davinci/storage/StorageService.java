@@ -12,6 +12,7 @@ import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
+import com.linkedin.davinci.store.cache.OffHeapValueCache;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.venice.ConfigKeys;
@@ -364,6 +365,9 @@ public class StorageService extends AbstractVeniceService {
     engine =
         factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
     engine.updateStoreVersionStateCache(initialStoreVersionStateSupplier.get());
+    if (serverConfig.getValueCacheCapacityPerStoreVersion() > 0) {
+      engine.setValueCache(new OffHeapValueCache(serverConfig.getValueCacheCapacityPerStoreVersion()));
+    }
     storageEngineRepository.addLocalStorageEngine(engine);
     // Setup storage engine stats
     aggVersionedStorageEngineStats.setStorageEngine(topicName, engine);
@@ -16,6 +16,8 @@ import com.linkedin.venice.utils.ByteUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -186,6 +188,40 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Batch counterpart of {@link #get(AbstractStorageEngine, int, byte[], ByteBuffer, Object, BinaryDecoder, boolean,
+   * ReadResponseStats, int, StoreDeserializerCache, VeniceCompressor)} for keys of the same partition.
+   *
+   * The values are handed over to the consumer along with the index of their key, one after the other in the order of
+   * the keys, and could be reused across keys, so the consumer should be done with each value before returning. Null is
+   * handed over for the keys which do not exist.
+   */
+  public void multiGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      boolean isChunked,
+      ReadResponseStats responseStats,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<T> valueConsumer) {
+    ChunkingUtils.multiGetFromStorage(
+        this,
+        store,
+        partition,
+        ChunkingUtils.serializeNonChunkedKeys(keys, isChunked),
+        responseStats,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        valueConsumer);
+  }
+
   public void getByPartialKey(
       AbstractStorageEngine store,
       int userPartition,
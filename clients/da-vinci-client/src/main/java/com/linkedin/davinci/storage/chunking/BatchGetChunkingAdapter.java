@@ -6,6 +6,7 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 
 /**
@@ -68,4 +69,31 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Batch counterpart of {@link #get} for keys of the same partition.
+   *
+   * @return the records in the same order as the keys, with null for the keys which do not exist.
+   */
+  public static MultiGetResponseRecordV1[] multiGet(
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      ReadResponseStats response) {
+    MultiGetResponseRecordV1[] records = new MultiGetResponseRecordV1[keys.size()];
+    ChunkingUtils.multiGetFromStorage(
+        BATCH_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        ChunkingUtils.serializeNonChunkedKeys(keys, isChunked),
+        response,
+        null,
+        null,
+        -1,
+        null,
+        null,
+        (record, keyIndex) -> records[keyIndex] = record);
+    return records;
+  }
 }
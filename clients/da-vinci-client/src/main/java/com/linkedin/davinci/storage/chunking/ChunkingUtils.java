@@ -17,9 +17,16 @@ import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -65,6 +72,10 @@ public class ChunkingUtils {
       new ChunkedValueManifestSerializer(false);
   public static final KeyWithChunkingSuffixSerializer KEY_WITH_CHUNKING_SUFFIX_SERIALIZER =
       new KeyWithChunkingSuffixSerializer();
+  /**
+   * Passed as the lookup start time when the database lookup latency has already been recorded for the whole batch.
+   */
+  private static final long DATABASE_LOOKUP_LATENCY_ALREADY_RECORDED = -1;
 
   interface StorageGetFunction {
     byte[] apply(int partition, ByteBuffer key);
@@ -115,6 +126,34 @@ public class ChunkingUtils {
         manifestContainer);
   }
 
+  /**
+   * Continue a lookup whose top-level value has already been read from the storage engine, e.g. to re-assemble the
+   * chunks referenced by a chunked value manifest.
+   */
+  static <VALUE, CHUNKS_CONTAINER> VALUE getFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      byte[] value,
+      long databaseLookupStartTimeInNS,
+      ReadResponseStats responseStats) {
+    return getFromStorage(
+        value,
+        value.length,
+        databaseLookupStartTimeInNS,
+        adapter,
+        store::get,
+        store.getStoreVersionName(),
+        partition,
+        responseStats,
+        null,
+        null,
+        -1,
+        null,
+        null,
+        null);
+  }
+
   static <VALUE, CHUNKS_CONTAINER> VALUE getFromStorage(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       AbstractStorageEngine store,
@@ -251,6 +290,132 @@ public class ChunkingUtils {
         manifestContainer);
   }
 
+  /**
+   * @return the keys with the {@link ChunkedKeySuffix} of top-level keys appended if the store-version is chunked, or
+   *         the keys themselves otherwise.
+   */
+  static List<byte[]> serializeNonChunkedKeys(List<byte[]> keys, boolean isChunked) {
+    if (!isChunked) {
+      return keys;
+    }
+    List<byte[]> serializedKeys = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      serializedKeys.add(KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key));
+    }
+    return serializedKeys;
+  }
+
+  /**
+   * Batch counterpart of {@link #getFromStorage(ChunkingAdapter, StorageGetFunction, String, int, ByteBuffer,
+   * ReadResponseStats, Object, BinaryDecoder, int, StoreDeserializerCache, VeniceCompressor,
+   * ChunkedValueManifestContainer)} for keys of the same partition, which should be properly formatted already.
+   *
+   * The top-level keys are looked up with a single {@link AbstractStorageEngine#multiGet(int, List)}, and the chunks of
+   * all the chunked values found are then looked up with a second one, instead of one lookup per key and per chunk.
+   *
+   * The values are handed over to the consumer along with the index of their key, one after the other in the order of
+   * the keys, so that the consumer could reuse the value and the decoder across keys. Null is handed over for the keys
+   * which do not exist.
+   */
+  static <VALUE, CHUNKS_CONTAINER> void multiGetFromStorage(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      ReadResponseStats responseStats,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<VALUE> valueConsumer) {
+    long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    byte[][] values = multiGetInKeyOrder(store, partition, keys);
+
+    List<byte[]> chunkKeys = null;
+    for (byte[] value: values) {
+      if (value == null) {
+        continue;
+      }
+      int writerSchemaId = ValueRecord.parseSchemaId(value);
+      if (writerSchemaId == AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        ChunkedValueManifest chunkedValueManifest =
+            CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+        if (chunkKeys == null) {
+          chunkKeys = new ArrayList<>();
+        }
+        for (ByteBuffer chunkKey: chunkedValueManifest.keysWithChunkIdSuffix) {
+          chunkKeys.add(ByteUtils.extractByteArray(chunkKey));
+        }
+      }
+    }
+    StorageGetFunction chunkGetFunction = store::get;
+    if (chunkKeys != null) {
+      byte[][] chunks = multiGetInKeyOrder(store, partition, chunkKeys);
+      Map<ByteBuffer, byte[]> chunkMap = new HashMap<>(chunks.length * 2);
+      for (int i = 0; i < chunks.length; i++) {
+        if (chunks[i] != null) {
+          chunkMap.put(ByteBuffer.wrap(chunkKeys.get(i)), chunks[i]);
+        }
+      }
+      // Missing chunks are looked up again so that the error reporting stays the same as the single lookup path.
+      chunkGetFunction = (chunkPartition, chunkKey) -> {
+        byte[] chunk = chunkMap.get(chunkKey);
+        return chunk != null ? chunk : store.get(chunkPartition, chunkKey);
+      };
+    }
+    responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+
+    for (int i = 0; i < values.length; i++) {
+      byte[] value = values[i];
+      valueConsumer.accept(
+          getFromStorage(
+              value,
+              (value == null ? 0 : value.length),
+              DATABASE_LOOKUP_LATENCY_ALREADY_RECORDED,
+              adapter,
+              chunkGetFunction,
+              store.getStoreVersionName(),
+              partition,
+              responseStats,
+              reusedValue,
+              reusedDecoder,
+              readerSchemaId,
+              storeDeserializerCache,
+              compressor,
+              null),
+          i);
+    }
+  }
+
+  /**
+   * The keys are sorted before the lookup, so that the storage engine visits the data blocks in order, and the values
+   * are returned in the order of the original keys.
+   */
+  private static byte[][] multiGetInKeyOrder(AbstractStorageEngine store, int partition, List<byte[]> keys) {
+    int keyCount = keys.size();
+    Integer[] sortedKeyIndexes = new Integer[keyCount];
+    for (int i = 0; i < keyCount; i++) {
+      sortedKeyIndexes[i] = i;
+    }
+    Arrays.sort(sortedKeyIndexes, (i, j) -> ByteUtils.compare(keys.get(i), keys.get(j)));
+    List<byte[]> sortedKeys = new ArrayList<>(keyCount);
+    for (Integer keyIndex: sortedKeyIndexes) {
+      sortedKeys.add(keys.get(keyIndex));
+    }
+    List<byte[]> sortedValues = store.multiGet(partition, sortedKeys);
+    if (sortedValues.size() != keyCount) {
+      throw new VeniceException(
+          "Got inconsistent number of values: " + sortedValues.size() + " for key count: " + keyCount + " from "
+              + getExceptionMessageDetails(store.getStoreVersionName(), partition, null));
+    }
+    byte[][] values = new byte[keyCount][];
+    for (int i = 0; i < keyCount; i++) {
+      values[sortedKeyIndexes[i]] = sortedValues.get(i);
+    }
+    return values;
+  }
+
   static <VALUE, CHUNKS_CONTAINER> ByteBufferValueRecord<VALUE> getValueAndSchemaIdFromStorage(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       AbstractStorageEngine store,
@@ -322,7 +487,7 @@ public class ChunkingUtils {
     if (writerSchemaId > 0) {
       // User-defined schema, thus not a chunked value. Early termination.
 
-      responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+      addDatabaseLookupLatency(responseStats, databaseLookupStartTimeInNS);
       responseStats.addValueSize(valueLength);
       return adapter.constructValue(
           value,
@@ -378,7 +543,7 @@ public class ChunkingUtils {
               + getExceptionMessageDetails(storeVersionName, partition, null));
     }
 
-    responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+    addDatabaseLookupLatency(responseStats, databaseLookupStartTimeInNS);
     responseStats.addValueSize(actualSize);
     responseStats.incrementMultiChunkLargeValueCount();
 
@@ -393,6 +558,12 @@ public class ChunkingUtils {
         compressor);
   }
 
+  private static void addDatabaseLookupLatency(ReadResponseStats responseStats, long databaseLookupStartTimeInNS) {
+    if (databaseLookupStartTimeInNS != DATABASE_LOOKUP_LATENCY_ALREADY_RECORDED) {
+      responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+    }
+  }
+
   private static String getExceptionMessageDetails(String storeVersionName, int partition, Integer chunkIndex) {
     String message = "store-version: " + storeVersionName + ", partition: " + partition;
     if (chunkIndex != null) {
@@ -4,6 +4,8 @@ import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
@@ -51,6 +53,49 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils.getFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
 
+  /**
+   * Same as {@link #get(AbstractStorageEngine, int, byte[], boolean, ReadResponseStats)}, except that the top-level
+   * value is read into a buffer allocated from {@param allocator}, which is handed over to the returned
+   * {@link ValueRecord} without any copy for non-chunked values. The caller owns {@link ValueRecord#getData()} and is
+   * in charge of releasing it.
+   */
+  public static ValueRecord get(
+      AbstractStorageEngine store,
+      int partition,
+      byte[] key,
+      boolean isChunked,
+      ReadResponseStats response,
+      ByteBufAllocator allocator) {
+    byte[] storageKey = isChunked ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key) : key;
+    long databaseLookupStartTimeInNS = response.getCurrentTimeInNanos();
+    ByteBuf value = store.getAsByteBuf(partition, storageKey, allocator);
+    if (value == null) {
+      return null;
+    }
+    int valueLength = value.readableBytes();
+    int writerSchemaId = value.getInt(value.readerIndex());
+    if (writerSchemaId > 0) {
+      // User-defined schema, thus not a chunked value.
+      response.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+      response.addValueSize(valueLength);
+      return ValueRecord.create(writerSchemaId, value.skipBytes(ValueRecord.SCHEMA_HEADER_LENGTH));
+    }
+    // Chunked value manifest, which is small, so it is fine to copy it on heap to re-assemble the chunks.
+    byte[] valueBytes = new byte[valueLength];
+    try {
+      value.readBytes(valueBytes);
+    } finally {
+      value.release();
+    }
+    return ChunkingUtils.getFromStorage(
+        SINGLE_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        valueBytes,
+        databaseLookupStartTimeInNS,
+        response);
+  }
+
   public static ValueRecord getReplicationMetadata(
       AbstractStorageEngine store,
       int partition,
@@ -5,6 +5,7 @@ import static com.linkedin.davinci.store.AbstractStorageEngine.StoragePartitionA
 import static com.linkedin.davinci.store.AbstractStorageEngine.StoragePartitionAdjustmentTrigger.END_BATCH_PUSH;
 
 import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.cache.OffHeapValueCache;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.PersistenceFailureException;
 import com.linkedin.venice.exceptions.StorageInitializationException;
@@ -16,6 +17,8 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.SparseConcurrentList;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -73,6 +76,17 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
   private boolean suppressLogs = false;
 
+  /**
+   * Only set when the value cache is enabled for the server read path, and all the writes of values through this
+   * storage engine will invalidate the corresponding cached values.
+   */
+  private volatile OffHeapValueCache valueCache = null;
+  /**
+   * The keys written into the pending write batch of each partition, which need to be invalidated again once the write
+   * batch gets committed, since the lookups in between could still read and cache the old values.
+   */
+  private final List<List<byte[]>> keysInWriteBatchList = new SparseConcurrentList<>();
+
   /**
    * This lock is used to guard the re-opening logic in {@link #adjustStoragePartition} since
    * {@link #getPartitionOrThrow} is not synchronized and it could be invoked during the execution
@@ -234,6 +248,11 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
     Partition partition = createStoragePartition(storagePartitionConfig);
     this.partitionList.set(partitionId, partition);
+    /**
+     * The files of the partition could have been replaced while it was not open, e.g. by a blob transfer from a peer,
+     * so the values cached before are not trustworthy anymore.
+     */
+    invalidateAllValueCache();
     if (this.rwLockForStoragePartitionAdjustmentList.get(partitionId) == null) {
       /**
        * It is intentional to keep the read-write lock even the partition gets moved to other places
@@ -297,6 +316,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
 
     AbstractStoragePartition partition = this.partitionList.remove(partitionId);
     partition.drop();
+    invalidateAllValueCache();
 
     if (getNumberOfPartitions() == 0) {
       if (!suppressLogs) {
@@ -367,6 +387,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
         LatencyUtils.getElapsedTimeFromMsToMs(startTime));
     partitionList.clear();
     closeMetadataPartition();
+    invalidateAllValueCache();
   }
 
   public boolean isClosed() {
@@ -423,6 +444,68 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     }
   }
 
+  /**
+   * Group the following writes into the given partition into a single write batch, check
+   * {@link AbstractStoragePartition#beginWriteBatch()}.
+   */
+  public void beginWriteBatch(int partitionId) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.beginWriteBatch();
+    });
+    if (valueCache != null) {
+      keysInWriteBatchList.set(partitionId, new ArrayList<>());
+    }
+  }
+
+  public void commitWriteBatch(int partitionId) {
+    try {
+      executeWithSafeGuard(partitionId, () -> {
+        AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+        partition.commitWriteBatch();
+      });
+    } finally {
+      List<byte[]> keysInWriteBatch = keysInWriteBatchList.remove(partitionId);
+      OffHeapValueCache cache = valueCache;
+      if (keysInWriteBatch != null && cache != null) {
+        keysInWriteBatch.forEach(cache::invalidate);
+      }
+    }
+  }
+
+  public void setValueCache(OffHeapValueCache valueCache) {
+    this.valueCache = valueCache;
+  }
+
+  /**
+   * @return the value cache of this store-version, or null if it is not enabled.
+   */
+  public OffHeapValueCache getValueCache() {
+    return valueCache;
+  }
+
+  /**
+   * This function must be invoked after the value of {@param key} gets updated in the storage partition.
+   */
+  private void invalidateValueCache(int partitionId, byte[] key) {
+    OffHeapValueCache cache = valueCache;
+    if (cache == null) {
+      return;
+    }
+    cache.invalidate(key);
+    List<byte[]> keysInWriteBatch = keysInWriteBatchList.get(partitionId);
+    if (keysInWriteBatch != null) {
+      keysInWriteBatch.add(key);
+    }
+  }
+
+  private void invalidateAllValueCache() {
+    OffHeapValueCache cache = valueCache;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
   /**
    * Create snapshot for the given partition
    * @param storagePartitionConfig
@@ -473,6 +556,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
     });
+    invalidateValueCache(partitionId, key);
   }
 
   public void put(int partitionId, byte[] key, ByteBuffer value) throws VeniceException {
@@ -480,6 +564,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.put(key, value);
     });
+    invalidateValueCache(partitionId, key);
   }
 
   public void putWithReplicationMetadata(int partitionId, byte[] key, ByteBuffer value, byte[] replicationMetadata)
@@ -488,6 +573,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.putWithReplicationMetadata(key, value, replicationMetadata);
     });
+    invalidateValueCache(partitionId, key);
   }
 
   public void putReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata) throws VeniceException {
@@ -518,6 +604,23 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public ByteBuf getAsByteBuf(int partitionId, byte[] key, ByteBufAllocator allocator) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.getAsByteBuf(key, allocator);
+    });
+  }
+
+  /**
+   * @see AbstractStoragePartition#multiGet(List)
+   */
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException {
     return executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -537,6 +640,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.delete(key);
     });
+    invalidateValueCache(partitionId, key);
   }
 
   public void deleteWithReplicationMetadata(int partitionId, byte[] key, byte[] replicationMetadata)
@@ -545,6 +649,7 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
       partition.deleteWithReplicationMetadata(key, replicationMetadata);
     });
+    invalidateValueCache(partitionId, key);
   }
 
   public byte[] getReplicationMetadata(int partitionId, ByteBuffer key) {
@@ -3,7 +3,12 @@ package com.linkedin.davinci.store;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -49,6 +54,34 @@ public abstract class AbstractStoragePartition {
     return ByteBuffer.wrap(get(key));
   }
 
+  /**
+   * Get a value into a {@link ByteBuf} allocated from the given allocator, so that the read path could serve the value
+   * from (pooled) direct memory without materializing it on heap. The caller owns the returned buffer and is in charge
+   * of releasing it.
+   *
+   * @return null if the key does not exist.
+   */
+  public ByteBuf getAsByteBuf(byte[] key, ByteBufAllocator allocator) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    byte[] value = get(key);
+    return value == null ? null : Unpooled.wrappedBuffer(value);
+  }
+
+  /**
+   * Get the values of multiple keys in a single batched lookup, which storage engines supporting it could serve more
+   * efficiently than individual lookups, e.g. by reading each data block only once for all the keys it contains.
+   *
+   * @return the values in the same order as the keys, with null for the keys which do not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Get a Value from the partition database
    * @param <K> the type for Key
@@ -122,6 +155,22 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Start grouping the following puts/deletes issued against this partition into a single write batch, which will be
+   * applied atomically by {@link #commitWriteBatch()}. The writes in an uncommitted batch are not visible to reads,
+   * and {@link #sync()} will apply them before flushing.
+   *
+   * Storage partitions without write batch support will keep applying each write directly.
+   */
+  public void beginWriteBatch() {
+  }
+
+  /**
+   * Apply all the writes grouped since {@link #beginWriteBatch()}.
+   */
+  public void commitWriteBatch() {
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
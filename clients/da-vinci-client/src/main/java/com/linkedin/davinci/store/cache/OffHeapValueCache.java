@@ -0,0 +1,167 @@
+package com.linkedin.davinci.store.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A size-bounded cache of the value bytes of a single store-version, which sits in front of the storage engine on the
+ * server read path, so that the reads of hot keys could skip the storage engine lookup, the block decompression and the
+ * chunk re-assembly.
+ *
+ * 1. The cache is keyed by the top-level storage key, which is the same key used by the ingestion to write the full
+ *    value or the chunked value manifest, so the ingestion write path could invalidate the cached value via
+ *    {@link #invalidate(byte[])};
+ * 2. The value bytes are kept in direct {@link ByteBuffer}s, which are not copied by GC, and only the small entry
+ *    objects are on heap;
+ * 3. The cache is bounded by the total bytes of the cached keys and values, and the eviction is delegated to Caffeine,
+ *    whose size-based eviction policy is W-TinyLFU, which is a good fit for the skewed read traffic;
+ * 4. To avoid caching a stale value read by a lookup which is racing with a write of the same key, the lookup needs to
+ *    acquire a stamp via {@link #getInvalidationStamp(byte[])} before reading from the storage engine, and the value
+ *    will be dropped by {@link #put(byte[], int, ByteBuffer, long)} if the key got invalidated since then;
+ * 5. Most of the keys only missed once are never read again, and Caffeine would only decide whether to admit a value
+ *    after it has been copied off heap, so a key has to miss twice within a window, tracked by a doorkeeper bit set,
+ *    before its value gets copied into a direct buffer. This keeps the one-hit wonders from churning direct memory,
+ *    which is only released once the evicted buffers get garbage collected.
+ */
+public class OffHeapValueCache {
+  private static final int INVALIDATION_STAMP_STRIPE_COUNT = 1024;
+  private static final int DOORKEEPER_BIT_COUNT_LOG2 = 16;
+  private static final int DOORKEEPER_BIT_COUNT = 1 << DOORKEEPER_BIT_COUNT_LOG2;
+
+  private final Cache<ByteArrayKey, CachedValue> cache;
+  private final long capacityInBytes;
+  /**
+   * Each stripe will be bumped when any key belonging to it gets invalidated.
+   */
+  private final AtomicLongArray invalidationStamps = new AtomicLongArray(INVALIDATION_STAMP_STRIPE_COUNT);
+  /**
+   * The keys which missed once since the last reset, see {@link #passDoorkeeper(ByteArrayKey)}.
+   */
+  private final AtomicLongArray doorkeeper = new AtomicLongArray(DOORKEEPER_BIT_COUNT / Long.SIZE);
+  private final AtomicInteger doorkeeperSize = new AtomicInteger();
+
+  public OffHeapValueCache(long capacityInBytes) {
+    this.capacityInBytes = capacityInBytes;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(capacityInBytes)
+        .weigher((ByteArrayKey key, CachedValue value) -> key.getContent().length + value.getDataSize())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * @return the cached value, or null if the key is not cached.
+   */
+  public CachedValue getIfPresent(byte[] key) {
+    return cache.getIfPresent(ByteArrayKey.wrap(key));
+  }
+
+  public long getInvalidationStamp(byte[] key) {
+    return invalidationStamps.get(getStripe(ByteArrayKey.wrap(key)));
+  }
+
+  /**
+   * Cache the value read from the storage engine, unless the key has been invalidated since {@param invalidationStamp}
+   * was acquired, or it's the first miss of the key recently.
+   */
+  public void put(byte[] key, int schemaId, ByteBuffer data, long invalidationStamp) {
+    ByteArrayKey cacheKey = ByteArrayKey.wrap(key);
+    int stripe = getStripe(cacheKey);
+    if (invalidationStamps.get(stripe) != invalidationStamp || !passDoorkeeper(cacheKey)) {
+      return;
+    }
+    ByteBuffer offHeapData = ByteBuffer.allocateDirect(data.remaining());
+    offHeapData.put(data.duplicate());
+    offHeapData.flip();
+    CachedValue value = new CachedValue(schemaId, offHeapData);
+    cache.put(cacheKey, value);
+    /**
+     * A concurrent write could have bumped the stamp and invalidated the key right before the above insertion, so
+     * check again and remove the value inserted by this function if that's the case.
+     */
+    if (invalidationStamps.get(stripe) != invalidationStamp) {
+      cache.asMap().remove(cacheKey, value);
+    }
+  }
+
+  public void invalidate(byte[] key) {
+    ByteArrayKey cacheKey = ByteArrayKey.wrap(key);
+    invalidationStamps.incrementAndGet(getStripe(cacheKey));
+    cache.invalidate(cacheKey);
+  }
+
+  public void invalidateAll() {
+    for (int i = 0; i < INVALIDATION_STAMP_STRIPE_COUNT; i++) {
+      invalidationStamps.incrementAndGet(i);
+    }
+    cache.invalidateAll();
+  }
+
+  public long getCapacityInBytes() {
+    return capacityInBytes;
+  }
+
+  public long getSizeInBytes() {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  private static int getStripe(ByteArrayKey key) {
+    return (key.hashCode() & Integer.MAX_VALUE) % INVALIDATION_STAMP_STRIPE_COUNT;
+  }
+
+  /**
+   * @return true if the key has already missed since the last reset of the doorkeeper, otherwise record the miss.
+   *         The doorkeeper gets reset once half of its bits are set, so that it won't end up admitting everything.
+   */
+  private boolean passDoorkeeper(ByteArrayKey key) {
+    // Spread the hash code, so the bit is independent of the invalidation stripe of the key.
+    int bit = (key.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - DOORKEEPER_BIT_COUNT_LOG2);
+    int index = bit / Long.SIZE;
+    long mask = 1L << (bit % Long.SIZE);
+    if ((doorkeeper.getAndAccumulate(index, mask, (word, m) -> word | m) & mask) != 0) {
+      return true;
+    }
+    if (doorkeeperSize.incrementAndGet() >= DOORKEEPER_BIT_COUNT / 2) {
+      doorkeeperSize.set(0);
+      for (int i = 0; i < doorkeeper.length(); i++) {
+        doorkeeper.set(i, 0);
+      }
+    }
+    return false;
+  }
+
+  public static class CachedValue {
+    private final int schemaId;
+    private final ByteBuffer data;
+
+    CachedValue(int schemaId, ByteBuffer data) {
+      this.schemaId = schemaId;
+      this.data = data;
+    }
+
+    public int getSchemaId() {
+      return schemaId;
+    }
+
+    /**
+     * @return a read-only view of the cached value bytes, which is safe to be consumed concurrently.
+     */
+    public ByteBuffer getData() {
+      return data.asReadOnlyBuffer();
+    }
+
+    public int getDataSize() {
+      return data.capacity();
+    }
+  }
+}
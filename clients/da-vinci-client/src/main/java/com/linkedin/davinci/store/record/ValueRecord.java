@@ -93,8 +93,8 @@ public class ValueRecord {
   // This function normally should only be used in testing,
   // Since it will create a copy every time.
   public byte[] getDataInBytes() {
-    byte[] dataInBytes = new byte[data.capacity()];
-    data.getBytes(0, dataInBytes);
+    byte[] dataInBytes = new byte[data.readableBytes()];
+    data.getBytes(data.readerIndex(), dataInBytes);
 
     return dataInBytes;
   }
@@ -66,7 +66,22 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+    if (concurrentWriteEnabled && pendingWriteBatch == null) {
+      readCloseRWLock.readLock().lock();
+      try {
+        putWithReplicationMetadataInternal(key, value, metadata, null);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        putWithReplicationMetadataInternal(key, value, metadata, pendingWriteBatch);
+      }
+    }
+  }
+
+  private void putWithReplicationMetadataInternal(byte[] key, byte[] value, byte[] metadata, WriteBatch pendingBatch) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -77,6 +92,9 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
       if (deferredWrite) {
         super.put(key, value);
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } else if (pendingBatch != null) {
+        pendingBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
+        pendingBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
       } else {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
@@ -90,7 +108,22 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized void putReplicationMetadata(byte[] key, byte[] metadata) {
+  public void putReplicationMetadata(byte[] key, byte[] metadata) {
+    if (concurrentWriteEnabled && pendingWriteBatch == null) {
+      readCloseRWLock.readLock().lock();
+      try {
+        putReplicationMetadataInternal(key, metadata, null);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        putReplicationMetadataInternal(key, metadata, pendingWriteBatch);
+      }
+    }
+  }
+
+  private void putReplicationMetadataInternal(byte[] key, byte[] metadata, WriteBatch pendingBatch) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -99,6 +132,8 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     try {
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } else if (pendingBatch != null) {
+        pendingBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
       } else {
         rocksDB.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), writeOptions, key, metadata);
       }
@@ -124,7 +159,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * TODO: Rewrite this implementation after we adopt the thread-local direct bytebuffer approach.
    */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
     byte[] valueBytes = ByteUtils.extractByteArray(value);
     putWithReplicationMetadata(key, valueBytes, metadata);
   }
@@ -151,7 +186,22 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
   @Override
-  public synchronized void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+  public void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
+    if (concurrentWriteEnabled && pendingWriteBatch == null) {
+      readCloseRWLock.readLock().lock();
+      try {
+        deleteWithReplicationMetadataInternal(key, replicationMetadata, null);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        deleteWithReplicationMetadataInternal(key, replicationMetadata, pendingWriteBatch);
+      }
+    }
+  }
+
+  private void deleteWithReplicationMetadataInternal(byte[] key, byte[] replicationMetadata, WriteBatch pendingBatch) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -161,6 +211,10 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
       if (deferredWrite) {
         // Just update the RMD for deletion during repush
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
+      } else if (pendingBatch != null) {
+        pendingBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        pendingBatch
+            .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
       } else {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
@@ -221,9 +275,12 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
 
   @Override
   public synchronized void close() {
-    super.close();
-    if (deferredWrite) {
-      rocksDBSstFileWriter.close();
+    try {
+      super.close();
+    } finally {
+      if (deferredWrite) {
+        rocksDBSstFileWriter.close();
+      }
     }
   }
 
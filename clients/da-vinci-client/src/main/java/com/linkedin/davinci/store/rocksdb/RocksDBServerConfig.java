@@ -215,6 +215,13 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_SEPARATE_RMD_CACHE_ENABLED = "rocksdb.separate.rmd.cache.enabled";
   public static final String ROCKSDB_BLOCK_BASE_FORMAT_VERSION = "rocksdb.block.base.format.version";
 
+  /**
+   * When enabled, non-deferred-write puts and deletes into the same partition will no longer be serialized by
+   * the partition monitor, and RocksDB will handle the concurrent writers internally.
+   * Lifecycle operations (close/reopen/drop) will still be exclusive with the writes.
+   */
+  public static final String ROCKSDB_CONCURRENT_WRITE_ENABLED = "rocksdb.concurrent.write.enabled";
+
   public static final String ROCKSDB_MAX_LOG_FILE_NUM = "rocksdb.max.log.file.num";
   public static final String ROCKSDB_MAX_LOG_FILE_SIZE = "rocksdb.max.log.file.size";
   public static final String RECORD_TRANSFORMER_VALUE_SCHEMA = "record.transformer.value.schema";
@@ -282,6 +289,7 @@ public class RocksDBServerConfig {
   private final boolean atomicFlushEnabled;
   private final boolean separateRMDCacheEnabled;
   private int blockBaseFormatVersion;
+  private final boolean concurrentWriteEnabled;
   private final int maxLogFileNum;
   private final long maxLogFileSize;
   private final String transformerValueSchema;
@@ -400,6 +408,7 @@ public class RocksDBServerConfig {
     this.separateRMDCacheEnabled = props.getBoolean(ROCKSDB_SEPARATE_RMD_CACHE_ENABLED, false);
 
     this.blockBaseFormatVersion = props.getInt(ROCKSDB_BLOCK_BASE_FORMAT_VERSION, 2);
+    this.concurrentWriteEnabled = props.getBoolean(ROCKSDB_CONCURRENT_WRITE_ENABLED, false);
 
     /**
      * The following configs are per store partition.
@@ -595,6 +604,10 @@ public class RocksDBServerConfig {
     return blockBaseFormatVersion;
   }
 
+  public boolean isConcurrentWriteEnabled() {
+    return concurrentWriteEnabled;
+  }
+
   // For test only
   public void setBlockBaseFormatVersion(int version) {
     this.blockBaseFormatVersion = version;
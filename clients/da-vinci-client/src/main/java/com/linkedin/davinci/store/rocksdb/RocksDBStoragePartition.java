@@ -13,8 +13,11 @@ import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -52,6 +55,7 @@ import org.rocksdb.SstFileManager;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
 import org.rocksdb.Status;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 
@@ -63,12 +67,18 @@ import org.rocksdb.WriteOptions;
  *
  * If the ingestion is unsorted, this class is using the regular RocksDB interface to support update
  * operations.
+ *
+ * By default, all the update operations are serialized by the partition monitor. When
+ * {@link RocksDBServerConfig#ROCKSDB_CONCURRENT_WRITE_ENABLED} is on and the partition is not in 'deferredWrite'
+ * mode, puts and deletes will be issued to RocksDB concurrently, and they will only be guarded by
+ * {@link #readCloseRWLock} against the lifecycle operations.
  */
 @NotThreadSafe
 public class RocksDBStoragePartition extends AbstractStoragePartition {
   private static final Logger LOGGER = LogManager.getLogger(RocksDBStoragePartition.class);
   private static final String ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA = "Max allowed space was reached";
   protected static final ReadOptions READ_OPTIONS_DEFAULT = new ReadOptions();
+  private static final int MAX_DIRECT_GET_BUFFER_SIZE_HINT = 64 * 1024;
   static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
 
   private static final FlushOptions WAIT_FOR_FLUSH_OPTIONS = new FlushOptions().setWaitForFlush(true);
@@ -97,12 +107,25 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   private boolean isClosed = false;
   /**
-   * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
-   * to guard RocksDB closing behavior.
-   * The following {@link #readCloseRWLock} is only used to guard {@link #get} since we don't want to synchronize get requests.
+   * By default, all the modification functions are synchronized, so we don't need any other synchronization for the
+   * update path to guard RocksDB closing behavior.
+   * The following {@link #readCloseRWLock} is used to guard {@link #get} since we don't want to synchronize get requests,
+   * and it is also used to guard the update path when {@link #concurrentWriteEnabled} is true.
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
+  /**
+   * Initial capacity of the buffers allocated by {@link #getAsByteBuf}, which grows with the values seen so far, up to
+   * {@link #MAX_DIRECT_GET_BUFFER_SIZE_HINT}, so that most lookups only need a single attempt. Racy updates are fine.
+   */
+  private volatile int directGetBufferSizeHint = 1024;
+
+  /**
+   * Whether puts/deletes could bypass the partition monitor. RocksDB supports concurrent writers natively, and
+   * {@link RocksDBSstFileWriter} doesn't, so this will always be false in 'deferredWrite' mode.
+   */
+  protected final boolean concurrentWriteEnabled;
+
   /**
    * The passed in {@link Options} instance.
    * For now, the RocksDB version being used right now doesn't support shared block cache unless
@@ -153,6 +176,16 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   protected final List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
   private RocksDBSstFileWriter rocksDBSstFileWriter = null;
 
+  /**
+   * The write batch opened by {@link #beginWriteBatch()}, and all the puts/deletes will be appended to it until
+   * {@link #commitWriteBatch()}. It is only used in non-deferred-write mode.
+   *
+   * The batch is only accessed while holding the monitor of this partition, so it can't be closed by one thread while
+   * another one is appending to it. The field is volatile so that the concurrent write path, which doesn't take the
+   * monitor, can tell whether it has to.
+   */
+  protected volatile WriteBatch pendingWriteBatch = null;
+
   protected RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
       RocksDBStorageEngineFactory factory,
@@ -191,6 +224,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     } else {
       this.deferredWrite = storagePartitionConfig.isDeferredWrite();
     }
+    this.concurrentWriteEnabled = rocksDBServerConfig.isConcurrentWriteEnabled() && !this.deferredWrite;
     this.readOnly = storagePartitionConfig.isReadOnly();
     this.writeOnly = storagePartitionConfig.isWriteOnlyConfig();
     this.readWriteLeaderForDefaultCF = storagePartitionConfig.isReadWriteLeaderForDefaultCF();
@@ -487,6 +521,49 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
   }
 
+  @Override
+  public synchronized void beginWriteBatch() {
+    makeSureRocksDBIsStillOpen();
+    if (deferredWrite || readOnly) {
+      // The writes will either go through the SST file writer, or be rejected.
+      return;
+    }
+    if (pendingWriteBatch != null) {
+      throw new VeniceException("There is already a pending write batch for replica: " + replicaId);
+    }
+    pendingWriteBatch = new WriteBatch();
+  }
+
+  @Override
+  public synchronized void commitWriteBatch() {
+    if (pendingWriteBatch == null) {
+      return;
+    }
+    try {
+      applyPendingWriteBatch();
+    } finally {
+      pendingWriteBatch.close();
+      pendingWriteBatch = null;
+    }
+  }
+
+  /**
+   * Apply the writes accumulated in {@link #pendingWriteBatch} so far, and keep the batch open for the following writes.
+   */
+  private void applyPendingWriteBatch() {
+    if (pendingWriteBatch == null || pendingWriteBatch.count() == 0) {
+      return;
+    }
+    makeSureRocksDBIsStillOpen();
+    try {
+      rocksDB.write(writeOptions, pendingWriteBatch);
+      pendingWriteBatch.clear();
+    } catch (RocksDBException e) {
+      checkAndThrowMemoryLimitException(e);
+      throw new VeniceException("Failed to apply the write batch to RocksDB: " + replicaId, e);
+    }
+  }
+
   @Override
   public synchronized void createSnapshot() {
     if (blobTransferEnabled) {
@@ -504,12 +581,31 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void put(byte[] key, byte[] value) {
+  public void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
   }
 
   @Override
-  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    if (concurrentWriteEnabled && pendingWriteBatch == null) {
+      readCloseRWLock.readLock().lock();
+      try {
+        putInternal(key, valueBuffer, null);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        putInternal(key, valueBuffer, pendingWriteBatch);
+      }
+    }
+  }
+
+  /**
+   * @param pendingBatch the batch to append the write to, or null to apply the write to RocksDB directly. A non-null
+   *                     batch must be {@link #pendingWriteBatch}, with the monitor of this partition held.
+   */
+  private void putInternal(byte[] key, ByteBuffer valueBuffer, WriteBatch pendingBatch) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -518,6 +614,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     try {
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, valueBuffer);
+      } else if (pendingBatch != null) {
+        pendingBatch.put(key, ByteUtils.extractByteArray(valueBuffer));
       } else {
         rocksDB.put(
             writeOptions,
@@ -578,6 +676,51 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Read the value straight into a direct buffer via the {@link ByteBuffer} flavor of {@link RocksDB#get}, so there is
+   * no intermediate on-heap copy. The value size is unknown upfront, so the buffer is sized by
+   * {@link #directGetBufferSizeHint}, and the lookup is retried with the exact size if the value doesn't fit.
+   */
+  @Override
+  public ByteBuf getAsByteBuf(byte[] key, ByteBufAllocator allocator) {
+    ByteBuf keyBuf = allocator.directBuffer(key.length);
+    ByteBuf valueBuf = null;
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      keyBuf.writeBytes(key);
+      int capacity = directGetBufferSizeHint;
+      while (true) {
+        valueBuf = allocator.directBuffer(capacity);
+        int size = rocksDB.get(
+            READ_OPTIONS_DEFAULT,
+            keyBuf.internalNioBuffer(0, key.length),
+            valueBuf.internalNioBuffer(0, capacity));
+        if (size == RocksDB.NOT_FOUND) {
+          return null;
+        } else if (size <= capacity) {
+          ByteBuf value = valueBuf.writerIndex(size);
+          valueBuf = null;
+          return value;
+        }
+        valueBuf.release();
+        valueBuf = null;
+        capacity = size;
+        if (size > directGetBufferSizeHint && size <= MAX_DIRECT_GET_BUFFER_SIZE_HINT) {
+          directGetBufferSizeHint = size;
+        }
+      }
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to get value from RocksDB: " + replicaId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+      keyBuf.release();
+      if (valueBuf != null) {
+        valueBuf.release();
+      }
+    }
+  }
+
   @Override
   public <K, V> V get(K key) {
     throw new UnsupportedOperationException("Method not implemented!!");
@@ -596,6 +739,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Served by the batched MultiGet of RocksDB, which looks up the keys file by file, so that the keys falling into the
+   * same data block share a single block read, and the per-lookup overhead is amortized across the keys.
+   */
+  @Override
   public List<byte[]> multiGet(List<byte[]> keys) {
     readCloseRWLock.readLock().lock();
     try {
@@ -737,7 +885,22 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void delete(byte[] key) {
+  public void delete(byte[] key) {
+    if (concurrentWriteEnabled && pendingWriteBatch == null) {
+      readCloseRWLock.readLock().lock();
+      try {
+        deleteInternal(key, null);
+      } finally {
+        readCloseRWLock.readLock().unlock();
+      }
+    } else {
+      synchronized (this) {
+        deleteInternal(key, pendingWriteBatch);
+      }
+    }
+  }
+
+  private void deleteInternal(byte[] key, WriteBatch pendingBatch) {
     makeSureRocksDBIsStillOpen();
     if (readOnly) {
       throw new VeniceException(
@@ -746,6 +909,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     try {
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
+      } else if (pendingBatch != null) {
+        pendingBatch.delete(key);
       } else {
         rocksDB.delete(key);
       }
@@ -772,6 +937,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
          */
         LOGGER.debug("Unexpected sync in RocksDB read-only mode");
       } else {
+        // The pending writes need to be persisted before the offset gets checkpointed.
+        applyPendingWriteBatch();
         try {
           // Since Venice RocksDB database disables WAL, flush will be triggered for every 'sync' to
           // avoid data loss during crash recovery
@@ -842,6 +1009,21 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       return;
     }
     long startTimeInMs = System.currentTimeMillis();
+    /**
+     * The offsets of the records in the pending batch may have been advanced already, so the batch has to be committed
+     * rather than discarded. If that fails, the partition still gets closed to free up the resources, but the failure
+     * is rethrown afterwards, since those writes are lost.
+     */
+    VeniceException writeBatchFailure = null;
+    if (pendingWriteBatch != null) {
+      try {
+        commitWriteBatch();
+      } catch (Exception e) {
+        writeBatchFailure = new VeniceException(
+            "Failed to commit the pending write batch before closing RocksDB for replica: " + replicaId,
+            e);
+      }
+    }
     /**
      * The following operations are used to free up memory.
      */
@@ -867,6 +1049,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
         "RocksDB close for replica: {} took {} ms.",
         replicaId,
         LatencyUtils.getElapsedTimeFromMsToMs(startTimeInMs));
+    if (writeBatchFailure != null) {
+      throw writeBatchFailure;
+    }
   }
 
   /**
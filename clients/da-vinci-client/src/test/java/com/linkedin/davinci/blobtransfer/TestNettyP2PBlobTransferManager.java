@@ -7,6 +7,7 @@ import static org.mockito.Mockito.mock;
 
 import com.linkedin.davinci.blobtransfer.client.NettyFileTransferClient;
 import com.linkedin.davinci.blobtransfer.server.P2PBlobTransferService;
+import com.linkedin.davinci.stats.BlobTransferStats;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.venice.blobtransfer.BlobFinder;
@@ -21,6 +22,7 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.TestUtils;
+import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -49,6 +51,7 @@ public class TestNettyP2PBlobTransferManager {
   NettyP2PBlobTransferManager manager;
   StorageMetadataService storageMetadataService;
   BlobSnapshotManager blobSnapshotManager;
+  int port;
   Path tmpSnapshotDir;
   Path tmpPartitionDir;
   String TEST_STORE = "test_store";
@@ -65,7 +68,7 @@ public class TestNettyP2PBlobTransferManager {
 
   @BeforeMethod
   public void setUp() throws Exception {
-    int port = TestUtils.getFreePort();
+    port = TestUtils.getFreePort();
     tmpSnapshotDir = Files.createTempDirectory(TMP_SNAPSHOT_DIR);
     tmpPartitionDir = Files.createTempDirectory(TMP_PARTITION_DIR);
     // intentionally use different directories for snapshot and partition so that we can verify the file transfer
@@ -110,7 +113,7 @@ public class TestNettyP2PBlobTransferManager {
 
   @Test
   public void testFailedConnectPeer() {
-    CompletionStage<InputStream> future = null;
+    CompletionStage<Long> future = null;
     try {
       future = client.get("remotehost123", "test_store", 1, 1);
     } catch (Exception e) {
@@ -317,6 +320,141 @@ public class TestNettyP2PBlobTransferManager {
     Assert.assertEquals(concurrentUser, 0);
   }
 
+  /**
+   * Test the files are fetched over multiple connections, while the metadata is only applied once after all of them
+   * complete, and the transfer stats are recorded.
+   */
+  @Test
+  public void testLocalFileTransferOverMultipleStreams() throws Exception {
+    // Preparation:
+    Mockito.doReturn(false).when(blobSnapshotManager).isStoreHybrid(anyString());
+
+    BlobPeersDiscoveryResponse response = new BlobPeersDiscoveryResponse();
+    response.setDiscoveryResult(Collections.singletonList("localhost"));
+    doReturn(response).when(finder).discoverBlobPeers(anyString(), anyInt(), anyInt());
+
+    StoreVersionState storeVersionState = new StoreVersionState();
+    Mockito.doReturn(storeVersionState).when(storageMetadataService).getStoreVersionState(Mockito.any());
+
+    InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+    OffsetRecord expectOffsetRecord = new OffsetRecord(partitionStateSerializer);
+    expectOffsetRecord.setOffsetLag(1000L);
+    Mockito.doReturn(expectOffsetRecord).when(storageMetadataService).getLastOffset(Mockito.any(), Mockito.anyInt());
+
+    snapshotPreparation();
+
+    int streamCount = 3;
+    MetricsRepository metricsRepository = new MetricsRepository();
+    NettyFileTransferClient multiStreamClient =
+        new NettyFileTransferClient(port, tmpPartitionDir.toString(), storageMetadataService, streamCount, false);
+    NettyP2PBlobTransferManager multiStreamManager = new NettyP2PBlobTransferManager(
+        server,
+        multiStreamClient,
+        finder,
+        tmpPartitionDir.toString(),
+        new BlobTransferStats(metricsRepository));
+
+    // Execution:
+    try {
+      CompletionStage<InputStream> future = multiStreamManager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION);
+      future.toCompletableFuture().get(1, TimeUnit.MINUTES);
+    } finally {
+      multiStreamClient.close();
+    }
+
+    // Verification:
+    Assert.assertTrue(Arrays.equals(Files.readAllBytes(file1), Files.readAllBytes(destFile1)));
+    Assert.assertTrue(Arrays.equals(Files.readAllBytes(file2), Files.readAllBytes(destFile2)));
+    Assert.assertTrue(Arrays.equals(Files.readAllBytes(file3), Files.readAllBytes(destFile3)));
+    // every stream gets the metadata, but it's only applied once
+    Mockito.verify(storageMetadataService, Mockito.times(streamCount))
+        .getLastOffset(TEST_STORE + "_v" + TEST_VERSION, TEST_PARTITION);
+    Mockito.verify(storageMetadataService, Mockito.times(1))
+        .put(TEST_STORE + "_v" + TEST_VERSION, TEST_PARTITION, expectOffsetRecord);
+    Mockito.verify(storageMetadataService, Mockito.times(1))
+        .computeStoreVersionState(Mockito.anyString(), Mockito.any());
+    Assert.assertEquals(blobSnapshotManager.getConcurrentSnapshotUsers(TEST_STORE + "_v" + TEST_VERSION, 0), 0);
+
+    long totalBytes = Files.size(file1) + Files.size(file2) + Files.size(file3);
+    Assert.assertEquals(
+        metricsRepository.getMetric(".blob_transfer--transfer_bytes.Total").value(),
+        (double) totalBytes);
+    Assert.assertTrue(metricsRepository.getMetric(".blob_transfer--throughput_mb_per_sec.Max").value() > 0);
+  }
+
+  /**
+   * Test the incremental transfer only fetches the files missing or changed in the local copy of the partition, and
+   * hard-links the unchanged ones, while the stale local files are removed.
+   */
+  @Test
+  public void testIncrementalFileTransferReusesLocalFiles() throws Exception {
+    // Preparation:
+    Mockito.doReturn(false).when(blobSnapshotManager).isStoreHybrid(anyString());
+
+    BlobPeersDiscoveryResponse response = new BlobPeersDiscoveryResponse();
+    response.setDiscoveryResult(Collections.singletonList("localhost"));
+    doReturn(response).when(finder).discoverBlobPeers(anyString(), anyInt(), anyInt());
+
+    StoreVersionState storeVersionState = new StoreVersionState();
+    Mockito.doReturn(storeVersionState).when(storageMetadataService).getStoreVersionState(Mockito.any());
+
+    InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+    OffsetRecord expectOffsetRecord = new OffsetRecord(partitionStateSerializer);
+    expectOffsetRecord.setOffsetLag(1000L);
+    Mockito.doReturn(expectOffsetRecord).when(storageMetadataService).getLastOffset(Mockito.any(), Mockito.anyInt());
+
+    snapshotPreparation();
+
+    // a stale local copy: file1 and file2 are unchanged, file3 changed, and file4 doesn't exist in the snapshot anymore
+    Files.createDirectories(destFile1.getParent());
+    Files.copy(file1, destFile1);
+    Files.copy(file2, destFile2);
+    Files.write(destFile3, "helloworldonce".getBytes());
+    Path staleFile = destFile1.resolveSibling("file4.txt");
+    Files.write(staleFile, "stale".getBytes());
+    // in whole seconds, which is the precision of the modification time on some file systems
+    long localModifiedTime = TimeUnit.DAYS.toMillis(TimeUnit.MILLISECONDS.toDays(System.currentTimeMillis()) - 1);
+    for (Path localFile: Arrays.asList(destFile1, destFile2, destFile3)) {
+      Assert.assertTrue(localFile.toFile().setLastModified(localModifiedTime));
+    }
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    NettyFileTransferClient incrementalClient =
+        new NettyFileTransferClient(port, tmpPartitionDir.toString(), storageMetadataService, 1, true);
+    NettyP2PBlobTransferManager incrementalManager = new NettyP2PBlobTransferManager(
+        server,
+        incrementalClient,
+        finder,
+        tmpPartitionDir.toString(),
+        new BlobTransferStats(metricsRepository));
+
+    // Execution:
+    try {
+      CompletionStage<InputStream> future = incrementalManager.get(TEST_STORE, TEST_VERSION, TEST_PARTITION);
+      future.toCompletableFuture().get(1, TimeUnit.MINUTES);
+    } finally {
+      incrementalClient.close();
+    }
+
+    // Verification:
+    verifyFileTransferSuccess(expectOffsetRecord);
+    // the unchanged files are the local ones, while the changed one is fetched from the peer
+    Assert.assertEquals(destFile1.toFile().lastModified(), localModifiedTime);
+    Assert.assertEquals(destFile2.toFile().lastModified(), localModifiedTime);
+    Assert.assertNotEquals(destFile3.toFile().lastModified(), localModifiedTime);
+    Assert.assertTrue(Files.notExists(staleFile));
+    // only the bytes actually received count, not the local files reused
+    Assert.assertEquals(
+        metricsRepository.getMetric(".blob_transfer--transfer_bytes.Total").value(),
+        (double) Files.size(file3));
+    Assert.assertTrue(
+        Files.notExists(
+            Paths.get(new BlobTransferPayload(tmpPartitionDir.toString(), TEST_STORE, TEST_VERSION, TEST_PARTITION)
+                .getTransferDir())));
+  }
+
   /**
    * Prepare files in the snapshot directory
    * @throws IOException
@@ -16,6 +16,7 @@ import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -35,6 +36,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -199,6 +201,40 @@ public class TestP2PFileTransferClientHandler {
     Assert.assertEquals(Files.size(file1), 5);
   }
 
+  @Test
+  public void testChunkedFileTransfer()
+      throws ExecutionException, InterruptedException, IOException, TimeoutException {
+    byte[] sourceContent = new byte[3 * 1024 + 123];
+    for (int i = 0; i < sourceContent.length; i++) {
+      sourceContent[i] = (byte) (i % 7);
+    }
+    ByteBuf content = Unpooled.wrappedBuffer(sourceContent);
+
+    DefaultHttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().add("Content-Disposition", "filename=\"test_file.sst\"");
+    response.headers().add("Content-Length", sourceContent.length);
+    response.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.FILE);
+    ch.writeInbound(response);
+    // a chunked response, e.g. over an encrypted connection, ends with an empty last content
+    int chunkSize = 1000;
+    while (content.isReadable()) {
+      int length = Math.min(chunkSize, content.readableBytes());
+      ch.writeInbound(new DefaultHttpContent(content.readRetainedSlice(length)));
+    }
+    content.release();
+    ch.writeInbound(LastHttpContent.EMPTY_LAST_CONTENT);
+
+    DefaultHttpResponse endOfTransfer = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    endOfTransfer.headers().add(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
+    ch.writeInbound(endOfTransfer);
+    inputStreamFuture.toCompletableFuture().get(1, TimeUnit.MINUTES);
+
+    BlobTransferPayload payload = new BlobTransferPayload(baseDir.toString(), TEST_STORE, TEST_VERSION, TEST_PARTITION);
+    Path file = Paths.get(payload.getPartitionDir()).resolve("test_file.sst");
+    Assert.assertTrue(Files.exists(file));
+    Assert.assertTrue(Arrays.equals(Files.readAllBytes(file), sourceContent));
+  }
+
   @Test
   public void testMultipleFilesTransfer()
       throws ExecutionException, InterruptedException, IOException, TimeoutException {
@@ -16,7 +16,9 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.TestUtils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -29,15 +31,21 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.CharsetUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
@@ -53,6 +61,7 @@ public class TestP2PFileTransferServerHandler {
   BlobSnapshotManager blobSnapshotManager;
   ReadOnlyStoreRepository readOnlyStoreRepository;
   StorageEngineRepository storageEngineRepository;
+  ExecutorService checksumExecutor;
 
   @BeforeMethod
   public void setUp() throws IOException {
@@ -63,13 +72,15 @@ public class TestP2PFileTransferServerHandler {
 
     blobSnapshotManager =
         new BlobSnapshotManager(readOnlyStoreRepository, storageEngineRepository, storageMetadataService);
-    serverHandler = new P2PFileTransferServerHandler(baseDir.toString(), blobSnapshotManager);
+    checksumExecutor = Executors.newSingleThreadExecutor();
+    serverHandler = new P2PFileTransferServerHandler(baseDir.toString(), blobSnapshotManager, checksumExecutor);
     ch = new EmbeddedChannel(serverHandler);
   }
 
   @AfterMethod
   public void teardown() throws IOException {
     ch.close();
+    checksumExecutor.shutdownNow();
     Files.walk(baseDir).sorted(Comparator.reverseOrder()).forEach(path -> {
       try {
         Files.delete(path);
@@ -275,6 +286,75 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertEquals(blobSnapshotManager.getConcurrentSnapshotUsers("myStore_v1", 10), 0L);
   }
 
+  /**
+   * Test the files are spread across the parallel streams by size, and the files the client already has with the same
+   * content are skipped, while the metadata carries the checksums of all files.
+   */
+  @Test
+  public void testTransferFilesOverMultipleStreamsAndSkipReceivedFiles() throws IOException {
+    StoreVersionState storeVersionState = new StoreVersionState();
+    Mockito.doReturn(storeVersionState).when(storageMetadataService).getStoreVersionState(Mockito.any());
+    OffsetRecord offsetRecord = new OffsetRecord(AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    Mockito.doReturn(offsetRecord).when(storageMetadataService).getLastOffset(Mockito.any(), Mockito.anyInt());
+
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Files.write(snapshotDir.resolve("000001.sst"), "helloworld".getBytes());
+    Files.write(snapshotDir.resolve("000002.sst"), "hello".getBytes());
+    Files.write(snapshotDir.resolve("000003.sst"), "abc".getBytes());
+    Files.write(snapshotDir.resolve("MANIFEST-000004"), "ab".getBytes());
+    List<BlobTransferFileMetadata> clientFiles = new ArrayList<>();
+    clientFiles.add(BlobTransferUtils.getFileMetadata(snapshotDir.resolve("000002.sst").toFile()));
+    // same name and size, but different content
+    clientFiles.add(new BlobTransferFileMetadata("MANIFEST-000004", 2L, 0L));
+    byte[] requestBody = new ObjectMapper().writeValueAsBytes(clientFiles);
+
+    // 000001.sst goes to the first stream, while 000003.sst and MANIFEST-000004 go to the second one.
+    Assert.assertEquals(
+        requestFilesOfStream(new EmbeddedChannel(serverHandler), 0, requestBody),
+        Collections.singleton("000001.sst"));
+    Set<String> expectedFiles = new HashSet<>();
+    Collections.addAll(expectedFiles, "000003.sst", "MANIFEST-000004");
+    Assert.assertEquals(requestFilesOfStream(new EmbeddedChannel(serverHandler), 1, requestBody), expectedFiles);
+    Assert.assertEquals(blobSnapshotManager.getConcurrentSnapshotUsers("myStore_v1", 10), 0L);
+  }
+
+  private Set<String> requestFilesOfStream(EmbeddedChannel channel, int streamIndex, byte[] requestBody)
+      throws IOException {
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "/myStore/1/10?stream_index=" + streamIndex + "&stream_count=2",
+        Unpooled.wrappedBuffer(requestBody));
+    channel.writeInbound(request);
+    // the checksums are computed by the checksum executor, and the files are sent by the event loop afterwards
+    TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+      channel.runPendingTasks();
+      Assert.assertFalse(channel.outboundMessages().isEmpty());
+    });
+    Set<String> fileNames = new HashSet<>();
+    Object response = channel.readOutbound();
+    while (!(response instanceof FullHttpResponse)) {
+      if (response instanceof DefaultHttpResponse) {
+        String contentDisposition =
+            ((DefaultHttpResponse) response).headers().get(HttpHeaderNames.CONTENT_DISPOSITION);
+        fileNames
+            .add(contentDisposition.substring(contentDisposition.indexOf('"') + 1, contentDisposition.length() - 1));
+      }
+      response = channel.readOutbound();
+    }
+    // the metadata and the end of transfer follow the files
+    FullHttpResponse metadataResponse = (FullHttpResponse) response;
+    Assert.assertEquals(metadataResponse.headers().get(BLOB_TRANSFER_TYPE), BlobTransferType.METADATA.toString());
+    BlobTransferPartitionMetadata metadata = new ObjectMapper()
+        .readValue(metadataResponse.content().toString(CharsetUtil.UTF_8), BlobTransferPartitionMetadata.class);
+    Assert.assertEquals(metadata.getFiles().size(), 4);
+    response = channel.readOutbound();
+    Assert.assertEquals(((DefaultHttpResponse) response).headers().get(BLOB_TRANSFER_STATUS), BLOB_TRANSFER_COMPLETED);
+    channel.close();
+    return fileNames;
+  }
+
   /**
    * Test when fail to get the metadata from storageMetadataService, it should return error to client.
    * @throws IOException
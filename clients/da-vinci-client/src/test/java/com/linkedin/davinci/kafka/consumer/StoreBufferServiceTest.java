@@ -1,6 +1,7 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
@@ -90,7 +91,12 @@ public class StoreBufferServiceTest {
     verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr2, null, partition2, kafkaUrl, 0L);
     verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr3, leaderContext, partition3, kafkaUrl, 0L);
     verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr4, leaderContext, partition4, kafkaUrl, 0L);
+    // Only the follower records are recycled
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).recycleConsumerRecord(cr1);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).recycleConsumerRecord(cr2);
     bufferService.stop();
+    verify(mockTask, never()).recycleConsumerRecord(cr3);
+    verify(mockTask, never()).recycleConsumerRecord(cr4);
     // We have 4 records in total, 2 of them are leader writes and 2 of them are not
     // When queueLeaderWrites is true, for leader writes, it'd be also added to the drainer queue for queueing and
     // processing
@@ -127,8 +133,10 @@ public class StoreBufferServiceTest {
     verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr1, null, partition1, kafkaUrl, 0L);
     verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr2, null, partition2, kafkaUrl, 0L);
     verify(mockTask).setIngestionException(partition1, e);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).recycleConsumerRecord(cr2);
     bufferService.stop();
     verify(mockedStats).recordInternalProcessingError();
+    verify(mockTask, never()).recycleConsumerRecord(cr1);
   }
 
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
@@ -262,6 +270,128 @@ public class StoreBufferServiceTest {
     bufferService.stop();
   }
 
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testGroupCommit(boolean queueLeaderWrites) throws Exception {
+    StoreBufferService bufferService =
+        new StoreBufferService(1, 10000, 1000, queueLeaderWrites, 10, 1024 * 1024, 0, mockedStats);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition1 = 1;
+    int partition2 = 2;
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(topic);
+    PubSubTopicPartition pubSubTopicPartition1 = new PubSubTopicPartitionImpl(pubSubTopic, partition1);
+    PubSubTopicPartition pubSubTopicPartition2 = new PubSubTopicPartitionImpl(pubSubTopic, partition2);
+    String kafkaUrl = "blah";
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr1 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 0, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr2 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 1, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr3 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 2, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr4 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition2, 0, 0, 0);
+
+    // Enqueue before starting the drainer, so the consecutive records of partition1 end up in a single group.
+    bufferService.putConsumerRecord(cr1, mockTask, null, partition1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr2, mockTask, null, partition1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr3, mockTask, null, partition1, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr4, mockTask, null, partition2, kafkaUrl, 0L);
+
+    bufferService.start();
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr1, null, partition1, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr2, null, partition1, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr3, null, partition1, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr4, null, partition2, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).commitWriteBatch(partition1);
+    verify(mockTask, times(1)).beginWriteBatch(partition1);
+    // A single record is processed individually without any write batch.
+    verify(mockTask, never()).beginWriteBatch(partition2);
+    verify(mockTask, never()).commitWriteBatch(partition2);
+    verify(mockedStats, timeout(TIMEOUT_IN_MS)).recordGroupCommitRecordCount(3);
+    // The follower records of the group are recycled once the write batch is committed.
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).recycleConsumerRecord(cr1);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).recycleConsumerRecord(cr2);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).recycleConsumerRecord(cr3);
+    bufferService.stop();
+  }
+
+  @Test
+  public void testGroupCommitFallsBackWhenWriteBatchCanNotBegin() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, false, 10, 1024 * 1024, 0, mockedStats);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition = 1;
+    PubSubTopicPartition pubSubTopicPartition =
+        new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), partition);
+    String kafkaUrl = "blah";
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr1 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, 0, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr2 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, 1, 0, 0);
+    doThrow(new VeniceException("Failed to begin the write batch")).when(mockTask).beginWriteBatch(partition);
+
+    bufferService.putConsumerRecord(cr1, mockTask, null, partition, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr2, mockTask, null, partition, kafkaUrl, 0L);
+
+    bufferService.start();
+    // The records are still processed one by one, and the drainer keeps running.
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr1, null, partition, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr2, null, partition, kafkaUrl, 0L);
+    verify(mockTask, never()).commitWriteBatch(partition);
+    verify(mockTask, never()).setIngestionException(anyInt(), any());
+    bufferService.stop();
+  }
+
+  @Test
+  public void testAdaptiveDrainerAssignment() throws Exception {
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(topic);
+    String kafkaUrl = "blah";
+
+    // Measure the buffered size of a single record.
+    StoreBufferService probeBufferService = new StoreBufferService(1, 10000, 1000, false, mockedStats);
+    probeBufferService.putConsumerRecord(
+        new ImmutablePubSubMessage<>(key, value, new PubSubTopicPartitionImpl(pubSubTopic, 0), 0, 0, 0),
+        mockTask,
+        null,
+        0,
+        kafkaUrl,
+        0L);
+    long recordSize = probeBufferService.getTotalMemoryUsage();
+
+    // A single buffered record will take more than half of the buffer of a drainer.
+    StoreBufferService bufferService =
+        new StoreBufferService(2, recordSize * 3 / 2, recordSize, false, 1, 0, 1, mockedStats);
+    // Find two partitions, which are assigned to the same drainer by the static hash.
+    PubSubTopicPartition pubSubTopicPartition1 = new PubSubTopicPartitionImpl(pubSubTopic, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr1 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition1, 0, 0, 0);
+    int drainerIndex = bufferService.getDrainerIndexForConsumerRecord(cr1, 0);
+    PubSubTopicPartition pubSubTopicPartition2 = new PubSubTopicPartitionImpl(pubSubTopic, 2);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr2 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition2, 0, 0, 0);
+    Assert.assertEquals(bufferService.getDrainerIndexForConsumerRecord(cr2, 2), drainerIndex);
+
+    // The drainers haven't started yet, so the record of partition1 stays in the buffer.
+    Thread.sleep(10);
+    bufferService.putConsumerRecord(cr1, mockTask, null, 0, kafkaUrl, 0L);
+    Assert.assertEquals(bufferService.getDrainerIndexForConsumerRecord(cr1, 0), drainerIndex);
+
+    // Partition2 doesn't have any in-flight record, so it should be moved to the idle drainer.
+    Thread.sleep(10);
+    bufferService.putConsumerRecord(cr2, mockTask, null, 2, kafkaUrl, 0L);
+    Assert.assertNotEquals(bufferService.getDrainerIndexForConsumerRecord(cr2, 2), drainerIndex);
+    verify(mockedStats).recordDrainerReassignment();
+
+    bufferService.start();
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr1, null, 0, kafkaUrl, 0L);
+    verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr2, null, 2, kafkaUrl, 0L);
+    bufferService.drainBufferedRecordsFromTopicPartition(pubSubTopicPartition1);
+    bufferService.drainBufferedRecordsFromTopicPartition(pubSubTopicPartition2);
+    bufferService.stop();
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testPutConsumerRecord(boolean queueLeaderWrites) throws InterruptedException {
     VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
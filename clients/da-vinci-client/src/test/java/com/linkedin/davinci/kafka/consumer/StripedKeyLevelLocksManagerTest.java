@@ -0,0 +1,68 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.utils.locks.AutoCloseableLock;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedKeyLevelLocksManagerTest {
+  @Test
+  public void testSameLockReturnedForSameKeyBytes() {
+    StripedKeyLevelLocksManager locksManager = new StripedKeyLevelLocksManager(16);
+    byte[] rawKeyBytes = { 'a', 'b', 'c' };
+    byte[] sameRawKeyBytes = "abc".getBytes(StandardCharsets.UTF_8);
+    Assert.assertSame(locksManager.getLockByKey(rawKeyBytes), locksManager.getLockByKey(sameRawKeyBytes));
+  }
+
+  @Test
+  public void testStripeCountRoundedUpToPowerOfTwo() {
+    Assert.assertEquals(new StripedKeyLevelLocksManager(1).getStripeCount(), 1);
+    Assert.assertEquals(new StripedKeyLevelLocksManager(64).getStripeCount(), 64);
+    Assert.assertEquals(new StripedKeyLevelLocksManager(100).getStripeCount(), 128);
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StripedKeyLevelLocksManager(0));
+
+    StripedKeyLevelLocksManager locksManager = new StripedKeyLevelLocksManager(100);
+    for (int i = 0; i < 1000; i++) {
+      int stripeIndex = locksManager.getStripeIndex(("key" + i).getBytes(StandardCharsets.UTF_8));
+      Assert.assertTrue(stripeIndex >= 0 && stripeIndex < 128);
+    }
+  }
+
+  @Test
+  public void testLockStripesInOrderAndOnlyOnce() throws Exception {
+    StripedKeyLevelLocksManager locksManager = new StripedKeyLevelLocksManager(8);
+    int[] stripeIndexes = { 5, 1, 5, 3, 1 };
+    try (AutoCloseableLock ignored = locksManager.lockStripes(stripeIndexes, stripeIndexes.length)) {
+      // the distinct stripes are moved to the beginning in ascending order
+      Assert.assertEquals(stripeIndexes[0], 1);
+      Assert.assertEquals(stripeIndexes[1], 3);
+      Assert.assertEquals(stripeIndexes[2], 5);
+      for (int stripeIndex: new int[] { 1, 3, 5 }) {
+        ReentrantLock lock = lockOfStripe(locksManager, stripeIndex);
+        Assert.assertTrue(lock.isHeldByCurrentThread());
+        Assert.assertEquals(lock.getHoldCount(), 1);
+      }
+      // the same thread could lock a key of the batch again, while the other threads have to wait
+      ReentrantLock lock = lockOfStripe(locksManager, 3);
+      Assert.assertTrue(lock.tryLock());
+      lock.unlock();
+      Assert.assertFalse(CompletableFuture.supplyAsync(lock::tryLock).get(10, TimeUnit.SECONDS));
+    }
+    for (int stripeIndex = 0; stripeIndex < locksManager.getStripeCount(); stripeIndex++) {
+      Assert.assertFalse(lockOfStripe(locksManager, stripeIndex).isLocked());
+    }
+  }
+
+  private static ReentrantLock lockOfStripe(StripedKeyLevelLocksManager locksManager, int stripeIndex) {
+    for (int i = 0;; i++) {
+      byte[] key = ("key" + i).getBytes(StandardCharsets.UTF_8);
+      if (locksManager.getStripeIndex(key) == stripeIndex) {
+        return locksManager.getLockByKey(key);
+      }
+    }
+  }
+}
@@ -1,12 +1,21 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.github.luben.zstd.Zstd;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
+import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
@@ -14,6 +23,7 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
@@ -24,7 +34,10 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
@@ -295,4 +308,76 @@ public class ChunkingTest {
       return null;
     }, true);
   }
+
+  @Test
+  public void testBatchGetChunkingAdapterMultiGet() {
+    int partition = 3;
+    byte[] smallValue = new byte[] { 1, 2, 3 };
+    byte[] largeValue = new byte[100];
+    ThreadLocalRandom.current().nextBytes(largeValue);
+    int cutOff = largeValue.length / 2;
+    byte[] chunk1Bytes = new byte[cutOff + ValueRecord.SCHEMA_HEADER_LENGTH];
+    byte[] chunk2Bytes = new byte[largeValue.length - cutOff + ValueRecord.SCHEMA_HEADER_LENGTH];
+    ByteUtils.writeInt(chunk1Bytes, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+    ByteUtils.writeInt(chunk2Bytes, AvroProtocolDefinition.CHUNK.currentProtocolVersion.get(), 0);
+    System.arraycopy(largeValue, 0, chunk1Bytes, ValueRecord.SCHEMA_HEADER_LENGTH, cutOff);
+    System.arraycopy(largeValue, cutOff, chunk2Bytes, ValueRecord.SCHEMA_HEADER_LENGTH, largeValue.length - cutOff);
+
+    ByteBuffer firstChunkKey = ByteBuffer.wrap("chunk_1".getBytes());
+    ByteBuffer secondChunkKey = ByteBuffer.wrap("chunk_2".getBytes());
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = Arrays.asList(firstChunkKey, secondChunkKey);
+    chunkedValueManifest.schemaId = SCHEMA_ID;
+    chunkedValueManifest.size = largeValue.length;
+    byte[] serializedCVM = SerializerDeserializerFactory.getAvroGenericSerializer(ChunkedValueManifest.SCHEMA$)
+        .serialize(chunkedValueManifest);
+
+    // The keys are deliberately not sorted.
+    byte[] smallValueKey = "key_b".getBytes();
+    byte[] largeValueKey = "key_a".getBytes();
+    byte[] missingKey = "key_c".getBytes();
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(smallValueKey)),
+        ValueRecord.create(SCHEMA_ID, smallValue).serialize());
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(largeValueKey)),
+        ValueRecord.create(AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.currentProtocolVersion.get(), serializedCVM)
+            .serialize());
+    storage.put(firstChunkKey, chunk1Bytes);
+    storage.put(secondChunkKey, chunk2Bytes);
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keys.size());
+      for (int i = 0; i < keys.size(); i++) {
+        if (i > 0) {
+          Assert.assertTrue(ByteUtils.compare(keys.get(i - 1), keys.get(i)) < 0, "The keys should be sorted");
+        }
+        values.add(storage.get(ByteBuffer.wrap(keys.get(i))));
+      }
+      return values;
+    }).when(storageEngine).multiGet(eq(partition), anyList());
+    ReadResponseStats responseStats = mock(ReadResponseStats.class);
+
+    MultiGetResponseRecordV1[] records = BatchGetChunkingAdapter.multiGet(
+        storageEngine,
+        partition,
+        Arrays.asList(smallValueKey, largeValueKey, missingKey),
+        true,
+        responseStats);
+
+    Assert.assertEquals(records.length, 3);
+    Assert.assertEquals(records[0].schemaId, SCHEMA_ID);
+    Assert.assertEquals(ByteUtils.extractByteArray(records[0].value), smallValue);
+    Assert.assertEquals(records[1].schemaId, SCHEMA_ID);
+    Assert.assertEquals(ByteUtils.extractByteArray(records[1].value), largeValue);
+    Assert.assertNull(records[2]);
+    // One batched lookup for the top-level keys, and another one for the chunks.
+    verify(storageEngine, times(2)).multiGet(eq(partition), anyList());
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+    // The database lookup latency is recorded once for the whole batch, rather than once more per key.
+    verify(responseStats).addDatabaseLookupLatency(anyLong());
+  }
 }
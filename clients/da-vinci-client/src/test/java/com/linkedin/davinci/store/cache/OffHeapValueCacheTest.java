@@ -0,0 +1,88 @@
+package com.linkedin.davinci.store.cache;
+
+import com.linkedin.venice.utils.TestUtils;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class OffHeapValueCacheTest {
+  @Test
+  public void testPutAndGet() {
+    OffHeapValueCache cache = new OffHeapValueCache(1024 * 1024);
+    byte[] key = "key".getBytes();
+    Assert.assertNull(cache.getIfPresent(key));
+
+    // The first miss of the key is only recorded by the doorkeeper.
+    cache.put(key, 1, ByteBuffer.wrap("value".getBytes()), cache.getInvalidationStamp(key));
+    Assert.assertNull(cache.getIfPresent(key));
+    cache.put(key, 1, ByteBuffer.wrap("value".getBytes()), cache.getInvalidationStamp(key));
+    OffHeapValueCache.CachedValue cachedValue = cache.getIfPresent(key);
+    Assert.assertNotNull(cachedValue);
+    Assert.assertEquals(cachedValue.getSchemaId(), 1);
+    Assert.assertEquals(cachedValue.getDataSize(), 5);
+    ByteBuffer data = cachedValue.getData();
+    Assert.assertTrue(data.isDirect());
+    Assert.assertTrue(data.isReadOnly());
+    byte[] value = new byte[data.remaining()];
+    data.get(value);
+    Assert.assertEquals(value, "value".getBytes());
+    // Reading the view should not affect the following reads.
+    Assert.assertEquals(cache.getIfPresent(key).getData().remaining(), 5);
+  }
+
+  @Test
+  public void testInvalidation() {
+    OffHeapValueCache cache = new OffHeapValueCache(1024 * 1024);
+    byte[] key1 = "key1".getBytes();
+    byte[] key2 = "key2".getBytes();
+    putAfterSecondMiss(cache, key1, "value1".getBytes());
+    putAfterSecondMiss(cache, key2, "value2".getBytes());
+
+    cache.invalidate(key1);
+    Assert.assertNull(cache.getIfPresent(key1));
+    Assert.assertNotNull(cache.getIfPresent(key2));
+
+    cache.invalidateAll();
+    Assert.assertNull(cache.getIfPresent(key2));
+  }
+
+  @Test
+  public void testStaleValueIsNotCached() {
+    OffHeapValueCache cache = new OffHeapValueCache(1024 * 1024);
+    byte[] key = "key".getBytes();
+    // Let the key pass the doorkeeper.
+    cache.put(key, 1, ByteBuffer.wrap("value".getBytes()), cache.getInvalidationStamp(key));
+    long invalidationStamp = cache.getInvalidationStamp(key);
+    // A write of the same key lands between the storage engine lookup and the cache insertion.
+    cache.invalidate(key);
+    cache.put(key, 1, ByteBuffer.wrap("stale_value".getBytes()), invalidationStamp);
+    Assert.assertNull(cache.getIfPresent(key));
+
+    cache.put(key, 1, ByteBuffer.wrap("value".getBytes()), cache.getInvalidationStamp(key));
+    Assert.assertNotNull(cache.getIfPresent(key));
+  }
+
+  @Test
+  public void testCapacity() {
+    int capacity = 10 * 1024;
+    OffHeapValueCache cache = new OffHeapValueCache(capacity);
+    byte[] value = new byte[1024];
+    for (int i = 0; i < 100; i++) {
+      putAfterSecondMiss(cache, ("key_" + i).getBytes(), value);
+    }
+    Assert.assertEquals(cache.getCapacityInBytes(), capacity);
+    // The eviction is asynchronous.
+    TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+      Assert.assertTrue(cache.getSizeInBytes() <= capacity, "Cache size: " + cache.getSizeInBytes());
+      Assert.assertTrue(cache.getSizeInBytes() > 0);
+    });
+  }
+
+  private static void putAfterSecondMiss(OffHeapValueCache cache, byte[] key, byte[] value) {
+    for (int i = 0; i < 2; i++) {
+      cache.put(key, 1, ByteBuffer.wrap(value), cache.getInvalidationStamp(key));
+    }
+  }
+}
@@ -26,8 +26,12 @@ import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -36,6 +40,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -649,6 +658,220 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testConcurrentWrite() throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_CONCURRENT_WRITE_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    int threadCount = 8;
+    int recordCountPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<?>> futures = new ArrayList<>(threadCount);
+      for (int t = 0; t < threadCount; t++) {
+        final int threadId = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < recordCountPerThread; i++) {
+            String key = KEY_PREFIX + threadId + "_" + i;
+            storagePartition.put(key.getBytes(), (VALUE_PREFIX + threadId + "_" + i).getBytes());
+            // Delete every other record to exercise the concurrent delete path as well
+            if (i % 2 == 1) {
+              storagePartition.delete(key.getBytes());
+            }
+          }
+        }));
+      }
+      for (Future<?> future: futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int t = 0; t < threadCount; t++) {
+      for (int i = 0; i < recordCountPerThread; i++) {
+        byte[] value = storagePartition.get((KEY_PREFIX + t + "_" + i).getBytes());
+        if (i % 2 == 1) {
+          Assert.assertNull(value);
+        } else {
+          Assert.assertEquals(new String(value), VALUE_PREFIX + t + "_" + i);
+        }
+      }
+    }
+
+    storagePartition.close();
+    try {
+      storagePartition.put((KEY_PREFIX + "after_close").getBytes(), (VALUE_PREFIX + "after_close").getBytes());
+      Assert.fail("VeniceException is expected when writing to an already closed DB");
+    } catch (VeniceException e) {
+      Assert.assertTrue(e.getMessage().contains("RocksDB has been closed for replica"));
+    }
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testConcurrentWriteWithWriteBatch() throws Exception {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_CONCURRENT_WRITE_ENABLED, "true");
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    int threadCount = 4;
+    int recordCountPerThread = 1000;
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+    try {
+      // Keep opening and committing write batches while the other threads are writing to the partition.
+      Future<?> batchFuture = executor.submit(() -> {
+        int i = 0;
+        while (writing.get()) {
+          storagePartition.beginWriteBatch();
+          storagePartition.put((KEY_PREFIX + "batch_" + i).getBytes(), (VALUE_PREFIX + "batch_" + i).getBytes());
+          storagePartition.commitWriteBatch();
+          i++;
+        }
+      });
+      List<Future<?>> futures = new ArrayList<>(threadCount);
+      for (int t = 0; t < threadCount; t++) {
+        final int threadId = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < recordCountPerThread; i++) {
+            String key = KEY_PREFIX + threadId + "_" + i;
+            storagePartition.put(key.getBytes(), (VALUE_PREFIX + threadId + "_" + i).getBytes());
+            if (i % 2 == 1) {
+              storagePartition.delete(key.getBytes());
+            }
+          }
+        }));
+      }
+      for (Future<?> future: futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+      writing.set(false);
+      batchFuture.get(60, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int t = 0; t < threadCount; t++) {
+      for (int i = 0; i < recordCountPerThread; i++) {
+        byte[] value = storagePartition.get((KEY_PREFIX + t + "_" + i).getBytes());
+        if (i % 2 == 1) {
+          Assert.assertNull(value);
+        } else {
+          Assert.assertEquals(new String(value), VALUE_PREFIX + t + "_" + i);
+        }
+      }
+    }
+
+    // The pending write batch is committed rather than discarded when closing the partition.
+    storagePartition.beginWriteBatch();
+    storagePartition.put((KEY_PREFIX + "before_close").getBytes(), (VALUE_PREFIX + "before_close").getBytes());
+    storagePartition.close();
+    storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+    Assert.assertEquals(
+        new String(storagePartition.get((KEY_PREFIX + "before_close").getBytes())),
+        VALUE_PREFIX + "before_close");
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testGetAsByteBuf() {
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, new Properties());
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(storeName, veniceServerProperties);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig,
+        storeConfig);
+
+    Map<String, String> records = new HashMap<>();
+    records.put(KEY_PREFIX + "small", VALUE_PREFIX + "small");
+    // Bigger than the initial buffer size, so the lookup needs to be retried with a bigger buffer.
+    records.put(KEY_PREFIX + "large", VALUE_PREFIX + RandomStringUtils.random(100 * 1024, true, true));
+    for (Map.Entry<String, String> entry: records.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+
+    ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    Assert.assertNull(storagePartition.getAsByteBuf((KEY_PREFIX + "missing").getBytes(), allocator));
+    // Look up twice to cover the buffer size hint update.
+    for (int i = 0; i < 2; i++) {
+      for (Map.Entry<String, String> entry: records.entrySet()) {
+        ByteBuf valueBuf = storagePartition.getAsByteBuf(entry.getKey().getBytes(), allocator);
+        try {
+          Assert.assertTrue(valueBuf.isDirect());
+          Assert.assertEquals(valueBuf.toString(StandardCharsets.UTF_8), entry.getValue());
+        } finally {
+          valueBuf.release();
+        }
+      }
+    }
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test
   public void testVerifyConfig() {
     String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
@@ -91,6 +91,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    * retry budget for the next minute and so on.
    */
   private final long longTailRetryBudgetEnforcementWindowInMs;
+  /**
+   * When positive, the long tail retry threshold follows this percentile of the recent latency of the requests with
+   * a similar key count, instead of the static thresholds, which are only used until there are enough samples.
+   */
+  private final double longTailRetryAdaptiveThresholdPercentile;
+  /**
+   * The decaying window of the latency used to compute the adaptive long tail retry thresholds.
+   */
+  private final long longTailRetryAdaptiveThresholdWindowInMs;
 
   private boolean projectionFieldValidation;
   private Set<String> harClusters;
@@ -132,6 +141,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       GrpcClientConfig grpcClientConfig,
       boolean projectionFieldValidation,
       long longTailRetryBudgetEnforcementWindowInMs,
+      double longTailRetryAdaptiveThresholdPercentile,
+      long longTailRetryAdaptiveThresholdWindowInMs,
       Set<String> harClusters) {
     if (storeName == null || storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
@@ -262,6 +273,18 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     this.projectionFieldValidation = projectionFieldValidation;
     this.longTailRetryBudgetEnforcementWindowInMs = longTailRetryBudgetEnforcementWindowInMs;
+    if (longTailRetryAdaptiveThresholdPercentile < 0 || longTailRetryAdaptiveThresholdPercentile >= 100) {
+      throw new VeniceClientException(
+          "longTailRetryAdaptiveThresholdPercentile must be in [0, 100), but got: "
+              + longTailRetryAdaptiveThresholdPercentile);
+    }
+    if (longTailRetryAdaptiveThresholdPercentile > 0 && longTailRetryAdaptiveThresholdWindowInMs <= 0) {
+      throw new VeniceClientException(
+          "longTailRetryAdaptiveThresholdWindowInMs must be positive, but got: "
+              + longTailRetryAdaptiveThresholdWindowInMs);
+    }
+    this.longTailRetryAdaptiveThresholdPercentile = longTailRetryAdaptiveThresholdPercentile;
+    this.longTailRetryAdaptiveThresholdWindowInMs = longTailRetryAdaptiveThresholdWindowInMs;
     this.harClusters = harClusters;
   }
 
@@ -406,6 +429,18 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryBudgetEnforcementWindowInMs;
   }
 
+  public boolean isLongTailRetryAdaptiveThresholdEnabled() {
+    return longTailRetryAdaptiveThresholdPercentile > 0;
+  }
+
+  public double getLongTailRetryAdaptiveThresholdPercentile() {
+    return longTailRetryAdaptiveThresholdPercentile;
+  }
+
+  public long getLongTailRetryAdaptiveThresholdWindowInMs() {
+    return longTailRetryAdaptiveThresholdWindowInMs;
+  }
+
   public Set<String> getHarClusters() {
     return Collections.unmodifiableSet(harClusters);
   }
@@ -461,6 +496,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
 
     private long longTailRetryBudgetEnforcementWindowInMs = 60000; // 1 minute
 
+    private double longTailRetryAdaptiveThresholdPercentile = 0; // disabled
+    private long longTailRetryAdaptiveThresholdWindowInMs = 60000; // 1 minute
+
     private Set<String> harClusters = Collections.EMPTY_SET;
 
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
@@ -651,6 +689,18 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setLongTailRetryAdaptiveThresholdPercentile(
+        double longTailRetryAdaptiveThresholdPercentile) {
+      this.longTailRetryAdaptiveThresholdPercentile = longTailRetryAdaptiveThresholdPercentile;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setLongTailRetryAdaptiveThresholdWindowInMs(
+        long longTailRetryAdaptiveThresholdWindowInMs) {
+      this.longTailRetryAdaptiveThresholdWindowInMs = longTailRetryAdaptiveThresholdWindowInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setHARClusters(Set<String> clusters) {
       this.harClusters = clusters;
       return this;
@@ -692,6 +742,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setGrpcClientConfig(grpcClientConfig)
           .setProjectionFieldValidationEnabled(projectionFieldValidation)
           .setLongTailRetryBudgetEnforcementWindowInMs(longTailRetryBudgetEnforcementWindowInMs)
+          .setLongTailRetryAdaptiveThresholdPercentile(longTailRetryAdaptiveThresholdPercentile)
+          .setLongTailRetryAdaptiveThresholdWindowInMs(longTailRetryAdaptiveThresholdWindowInMs)
           .setHARClusters(harClusters);
     }
 
@@ -731,6 +783,8 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           grpcClientConfig,
           projectionFieldValidation,
           longTailRetryBudgetEnforcementWindowInMs,
+          longTailRetryAdaptiveThresholdPercentile,
+          longTailRetryAdaptiveThresholdWindowInMs,
           harClusters);
     }
   }
@@ -23,6 +23,7 @@ import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.fastclient.meta.StoreMetadata;
 import com.linkedin.venice.fastclient.transport.GrpcTransportClient;
+import com.linkedin.venice.fastclient.transport.InternalTransportClient;
 import com.linkedin.venice.fastclient.transport.R2TransportClient;
 import com.linkedin.venice.fastclient.transport.TransportClientResponseForRoute;
 import com.linkedin.venice.read.RequestHeadersProvider;
@@ -132,6 +133,9 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
     BATCH_GET_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "BatchGet Transport Exception for " + storeName;
     COMPUTE_TRANSPORT_EXCEPTION_FILTER_MESSAGE = "Compute Transport Exception for " + storeName;
     this.storeDeserializerCache = new AvroStoreDeserializerCache<>(metadata);
+    if (transportClient instanceof InternalTransportClient) {
+      metadata.setRequestTransportClient((InternalTransportClient) transportClient);
+    }
   }
 
   protected StoreMetadata getStoreMetadata() {
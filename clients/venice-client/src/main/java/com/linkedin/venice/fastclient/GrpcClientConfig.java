@@ -15,12 +15,15 @@ public class GrpcClientConfig {
   private final Map<String, String> nettyServerToGrpcAddress;
   // SSL Factory required if using SSL
   private final SSLFactory sslFactory;
+  // number of gRPC channels, i.e. HTTP/2 connections, to each server
+  private final int channelPoolSizePerHost;
 
   GrpcClientConfig(Builder builder) {
     this.r2Client = builder.r2Client;
     this.port = builder.port;
     this.nettyServerToGrpcAddress = builder.nettyServerToGrpcAddress;
     this.sslFactory = builder.sslFactory;
+    this.channelPoolSizePerHost = builder.channelPoolSizePerHost;
   }
 
   public Client getR2Client() {
@@ -39,12 +42,17 @@ public class GrpcClientConfig {
     return sslFactory;
   }
 
+  public int getChannelPoolSizePerHost() {
+    return channelPoolSizePerHost;
+  }
+
   public static class Builder {
     private Client r2Client = null;
 
     private int port;
     private Map<String, String> nettyServerToGrpcAddress = null;
     private SSLFactory sslFactory = null;
+    private int channelPoolSizePerHost = 1;
 
     public Builder setR2Client(Client r2Client) {
       this.r2Client = r2Client;
@@ -66,10 +74,20 @@ public class GrpcClientConfig {
       return this;
     }
 
+    /**
+     * The concurrent streams of a gRPC channel are capped by the max concurrent streams advertised by the server, so
+     * the requests to a host are spread across a pool of channels when a single connection isn't enough.
+     */
+    public Builder setChannelPoolSizePerHost(int channelPoolSizePerHost) {
+      this.channelPoolSizePerHost = channelPoolSizePerHost;
+      return this;
+    }
+
     public GrpcClientConfig build() {
       Preconditions.checkNotNull(r2Client);
       Preconditions.checkNotNull(nettyServerToGrpcAddress);
       Preconditions.checkState(port != 0 || !nettyServerToGrpcAddress.isEmpty());
+      Preconditions.checkState(channelPoolSizePerHost > 0, "channelPoolSizePerHost must be positive");
       return new GrpcClientConfig(this);
     }
   }
@@ -0,0 +1,156 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Tracks the recent latency of the original requests of one request type, and derives the long tail retry threshold
+ * from a configured percentile of it, instead of a static threshold, which is either too aggressive or too lax as the
+ * traffic and the store change over time.
+ *
+ * The latency is kept in a lock-free log-linear histogram per key count bucket (1, 2-3, 4-7 keys and so on), since
+ * the latency of a batch-get largely depends on its size. The histogram only covers a decaying window: the samples
+ * are recorded into the current window, and the percentile is computed over the current and the previous window,
+ * so a sample lasts between one and two windows.
+ *
+ * The thresholds are recomputed at most once every {@link #REFRESH_INTERVAL_MS} by the request thread that notices
+ * it first, and the other threads simply read the last thresholds. The static threshold is used until a key count
+ * bucket gets {@link #MIN_SAMPLE_COUNT} samples.
+ */
+class LongTailRetryThresholdTracker {
+  static final long REFRESH_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+  static final int MIN_SAMPLE_COUNT = 100;
+  static final int KEY_COUNT_BUCKET_COUNT = 12;
+
+  /**
+   * Each power of two is split into 8 linear sub-buckets, so the reported percentile is at most 12.5% higher than
+   * the real one.
+   */
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int LATENCY_BUCKET_COUNT = (Integer.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final int staticThresholdInMicroSeconds;
+  private final double percentile;
+  private final long windowInMs;
+  private final Time time;
+  private final KeyCountBucket[] keyCountBuckets = new KeyCountBucket[KEY_COUNT_BUCKET_COUNT];
+  private final AtomicLong nextRefreshTimeInMs;
+  private volatile long nextRotationTimeInMs;
+
+  LongTailRetryThresholdTracker(int staticThresholdInMicroSeconds, double percentile, long windowInMs, Time time) {
+    if (percentile <= 0 || percentile >= 100) {
+      throw new IllegalArgumentException("Percentile must be in (0, 100), but got: " + percentile);
+    }
+    if (windowInMs <= 0) {
+      throw new IllegalArgumentException("Window must be positive, but got: " + windowInMs);
+    }
+    this.staticThresholdInMicroSeconds = staticThresholdInMicroSeconds;
+    this.percentile = percentile;
+    this.windowInMs = windowInMs;
+    this.time = time;
+    for (int i = 0; i < KEY_COUNT_BUCKET_COUNT; i++) {
+      keyCountBuckets[i] = new KeyCountBucket(staticThresholdInMicroSeconds);
+    }
+    long now = time.getMilliseconds();
+    this.nextRefreshTimeInMs = new AtomicLong(now + REFRESH_INTERVAL_MS);
+    this.nextRotationTimeInMs = now + windowInMs;
+  }
+
+  /**
+   * @return the long tail retry threshold of a request with the given number of keys
+   */
+  int getThresholdInMicroSeconds(int keyCount) {
+    maybeRefresh();
+    return keyCountBuckets[getKeyCountBucketIndex(keyCount)].thresholdInMicroSeconds;
+  }
+
+  void recordLatency(int keyCount, long latencyInMicroSeconds) {
+    keyCountBuckets[getKeyCountBucketIndex(keyCount)].currentWindow
+        .incrementAndGet(getLatencyBucketIndex(latencyInMicroSeconds));
+  }
+
+  int getStaticThresholdInMicroSeconds() {
+    return staticThresholdInMicroSeconds;
+  }
+
+  private void maybeRefresh() {
+    long now = time.getMilliseconds();
+    long nextRefreshTime = nextRefreshTimeInMs.get();
+    if (now < nextRefreshTime || !nextRefreshTimeInMs.compareAndSet(nextRefreshTime, now + REFRESH_INTERVAL_MS)) {
+      return;
+    }
+    boolean rotate = now >= nextRotationTimeInMs;
+    if (rotate) {
+      nextRotationTimeInMs = now + windowInMs;
+    }
+    for (KeyCountBucket bucket: keyCountBuckets) {
+      bucket.refreshThreshold();
+      if (rotate) {
+        // The samples racing with the rotation land in the previous window, which is fine
+        bucket.previousWindow = bucket.currentWindow;
+        bucket.currentWindow = new AtomicLongArray(LATENCY_BUCKET_COUNT);
+      }
+    }
+  }
+
+  private class KeyCountBucket {
+    private volatile AtomicLongArray currentWindow = new AtomicLongArray(LATENCY_BUCKET_COUNT);
+    private volatile AtomicLongArray previousWindow = new AtomicLongArray(LATENCY_BUCKET_COUNT);
+    private volatile int thresholdInMicroSeconds;
+
+    KeyCountBucket(int thresholdInMicroSeconds) {
+      this.thresholdInMicroSeconds = thresholdInMicroSeconds;
+    }
+
+    void refreshThreshold() {
+      AtomicLongArray current = currentWindow;
+      AtomicLongArray previous = previousWindow;
+      long[] counts = new long[LATENCY_BUCKET_COUNT];
+      long totalCount = 0;
+      for (int i = 0; i < LATENCY_BUCKET_COUNT; i++) {
+        counts[i] = current.get(i) + previous.get(i);
+        totalCount += counts[i];
+      }
+      if (totalCount < MIN_SAMPLE_COUNT) {
+        thresholdInMicroSeconds = staticThresholdInMicroSeconds;
+        return;
+      }
+      long targetCount = (long) Math.ceil(totalCount * percentile / 100);
+      long count = 0;
+      for (int i = 0; i < LATENCY_BUCKET_COUNT; i++) {
+        count += counts[i];
+        if (count >= targetCount) {
+          thresholdInMicroSeconds = Math.max(1, getLatencyBucketUpperBound(i));
+          return;
+        }
+      }
+    }
+  }
+
+  static int getKeyCountBucketIndex(int keyCount) {
+    int index = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(keyCount, 1)) - 1;
+    return Math.min(index, KEY_COUNT_BUCKET_COUNT - 1);
+  }
+
+  static int getLatencyBucketIndex(long latencyInMicroSeconds) {
+    int latency = (int) Math.min(Math.max(latencyInMicroSeconds, 0), Integer.MAX_VALUE);
+    if (latency < SUB_BUCKET_COUNT) {
+      return latency;
+    }
+    int shift = Integer.SIZE - Integer.numberOfLeadingZeros(latency) - 1 - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKET_COUNT + (latency >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  static int getLatencyBucketUpperBound(int bucketIndex) {
+    if (bucketIndex < SUB_BUCKET_COUNT) {
+      return bucketIndex;
+    }
+    int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+    int subBucket = bucketIndex % SUB_BUCKET_COUNT;
+    return (int) Math.min(((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1, Integer.MAX_VALUE);
+  }
+}
@@ -8,8 +8,11 @@ import com.linkedin.venice.client.store.ComputeGenericRecord;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
 import com.linkedin.venice.meta.RetryManager;
+import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Collections;
 import java.util.Optional;
@@ -41,6 +44,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
   private final int longTailRetryThresholdForComputeInMicroSeconds;
+  /**
+   * The trackers of the adaptive long tail retry thresholds, which are null when the static thresholds are used,
+   * see {@link ClientConfig#isLongTailRetryAdaptiveThresholdEnabled()}.
+   */
+  private final LongTailRetryThresholdTracker singleGetThresholdTracker;
+  private final LongTailRetryThresholdTracker batchGetThresholdTracker;
+  private final LongTailRetryThresholdTracker computeThresholdTracker;
+  private final FastClientStats clientStatsForSingleGet;
+  private final FastClientStats clientStatsForBatchGet;
+  private final FastClientStats clientStatsForCompute;
   private final TimeoutProcessor timeoutProcessor;
   private final ScheduledExecutorService retryManagerExecutorService =
       Executors.newScheduledThreadPool(1, new DaemonThreadFactory(FAST_CLIENT_RETRY_MANAGER_THREAD_PREFIX));
@@ -75,6 +88,21 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         clientConfig.getLongTailRetryThresholdForBatchGetInMicroSeconds();
     this.longTailRetryThresholdForComputeInMicroSeconds =
         clientConfig.getLongTailRetryThresholdForComputeInMicroSeconds();
+    this.singleGetThresholdTracker = createThresholdTracker(
+        clientConfig,
+        longTailRetryEnabledForSingleGet,
+        longTailRetryThresholdForSingleGetInMicroSeconds);
+    this.batchGetThresholdTracker = createThresholdTracker(
+        clientConfig,
+        longTailRetryEnabledForBatchGet,
+        longTailRetryThresholdForBatchGetInMicroSeconds);
+    this.computeThresholdTracker = createThresholdTracker(
+        clientConfig,
+        longTailRetryEnabledForCompute,
+        longTailRetryThresholdForComputeInMicroSeconds);
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.clientStatsForBatchGet = clientConfig.getStats(RequestType.MULTI_GET_STREAMING);
+    this.clientStatsForCompute = clientConfig.getStats(RequestType.COMPUTE_STREAMING);
     this.timeoutProcessor = timeoutProcessor;
     if (longTailRetryEnabledForSingleGet) {
       this.singleKeyLongTailRetryManager = new RetryManager(
@@ -94,6 +122,20 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     }
   }
 
+  private static LongTailRetryThresholdTracker createThresholdTracker(
+      ClientConfig clientConfig,
+      boolean longTailRetryEnabled,
+      int staticThresholdInMicroSeconds) {
+    if (!longTailRetryEnabled || !clientConfig.isLongTailRetryAdaptiveThresholdEnabled()) {
+      return null;
+    }
+    return new LongTailRetryThresholdTracker(
+        staticThresholdInMicroSeconds,
+        clientConfig.getLongTailRetryAdaptiveThresholdPercentile(),
+        clientConfig.getLongTailRetryAdaptiveThresholdWindowInMs(),
+        SystemTime.INSTANCE);
+  }
+
   enum RetryType {
     LONG_TAIL_RETRY, ERROR_RETRY
   }
@@ -136,6 +178,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    final long startTimeInNS = System.nanoTime();
     final CompletableFuture<V> originalRequestFuture = super.get(requestContext, key);
     if (!longTailRetryEnabledForSingleGet) {
       // if longTailRetry is not enabled for single get, simply return the original future
@@ -174,11 +217,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
         new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
-        longTailRetryThresholdForSingleGetInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            longTailRetryThresholdForSingleGetInMicroSeconds,
+            singleGetThresholdTracker,
+            clientStatsForSingleGet,
+            1),
         TimeUnit.MICROSECONDS);
 
     originalRequestFuture.whenComplete((value, throwable) -> {
       if (throwable == null) {
+        recordLatency(singleGetThresholdTracker, 1, startTimeInNS);
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
         }
@@ -232,7 +280,12 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
-        longTailRetryThresholdForBatchGetInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            longTailRetryThresholdForBatchGetInMicroSeconds,
+            batchGetThresholdTracker,
+            clientStatsForBatchGet,
+            keys.size()),
+        batchGetThresholdTracker,
         BatchGetRequestContext::new,
         super::streamingBatchGet);
   }
@@ -255,7 +308,12 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         requestContext,
         keys,
         callback,
-        longTailRetryThresholdForComputeInMicroSeconds,
+        getLongTailRetryThresholdInMicroSeconds(
+            longTailRetryThresholdForComputeInMicroSeconds,
+            computeThresholdTracker,
+            clientStatsForCompute,
+            keys.size()),
+        computeThresholdTracker,
         ComputeRequestContext::new,
         (requestContextInternal, internalKeys, internalCallback) -> {
           super.compute(
@@ -279,6 +337,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       Set<K> keys,
       StreamingCallback<K, RESPONSE> callback,
       int longTailRetryThresholdInMicroSeconds,
+      LongTailRetryThresholdTracker thresholdTracker,
       RequestContextConstructor<K, V, R> requestContextConstructor,
       StreamingRequestExecutor<K, V, R, RESPONSE> streamingRequestExecutor) throws VeniceClientException {
     requestContext.retryContext = new MultiKeyRequestContext.RetryContext<K, V>();
@@ -350,15 +409,16 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
      * 2. If no 429 exceptions are caught after longTailRetryThresholdInMicroSeconds when the retry task is running then
      * all incomplete keys whether due to long tail or errors (e.g. mis-routed) are retried.
      */
-    streamingRequestExecutor.trigger(
+    StreamingCallback<K, RESPONSE> originalRequestCallback = getStreamingCallback(
         requestContext,
-        keys,
-        getStreamingCallback(
-            requestContext,
-            finalRequestCompletionFuture,
-            savedException,
-            pendingKeysFuture,
-            scheduledRetryTask));
+        finalRequestCompletionFuture,
+        savedException,
+        pendingKeysFuture,
+        scheduledRetryTask);
+    if (thresholdTracker != null) {
+      originalRequestCallback = getLatencyTrackingCallback(originalRequestCallback, thresholdTracker, keys.size());
+    }
+    streamingRequestExecutor.trigger(requestContext, keys, originalRequestCallback);
     multiKeyLongTailRetryManager.recordRequests(requestContext.numKeysInRequest);
 
     finalRequestCompletionFuture.whenComplete((ignore, finalException) -> {
@@ -444,6 +504,49 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     };
   }
 
+  /**
+   * Only the latency of the successful original requests is tracked, no matter whether the retry wins or not, so the
+   * adaptive threshold reflects the latency distribution without retry.
+   */
+  private <RESPONSE> StreamingCallback<K, RESPONSE> getLatencyTrackingCallback(
+      StreamingCallback<K, RESPONSE> callback,
+      LongTailRetryThresholdTracker thresholdTracker,
+      int keyCount) {
+    final long startTimeInNS = System.nanoTime();
+    return new StreamingCallback<K, RESPONSE>() {
+      @Override
+      public void onRecordReceived(K key, RESPONSE value) {
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        if (!exception.isPresent()) {
+          recordLatency(thresholdTracker, keyCount, startTimeInNS);
+        }
+        callback.onCompletion(exception);
+      }
+    };
+  }
+
+  private static int getLongTailRetryThresholdInMicroSeconds(
+      int staticThresholdInMicroSeconds,
+      LongTailRetryThresholdTracker thresholdTracker,
+      FastClientStats clientStats,
+      int keyCount) {
+    int thresholdInMicroSeconds = thresholdTracker == null
+        ? staticThresholdInMicroSeconds
+        : thresholdTracker.getThresholdInMicroSeconds(keyCount);
+    clientStats.recordLongTailRetryThreshold(thresholdInMicroSeconds);
+    return thresholdInMicroSeconds;
+  }
+
+  private static void recordLatency(LongTailRetryThresholdTracker thresholdTracker, int keyCount, long startTimeInNS) {
+    if (thresholdTracker != null) {
+      thresholdTracker.recordLatency(keyCount, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTimeInNS));
+    }
+  }
+
   private boolean isExceptionCausedByTooManyRequests(Throwable e) {
     if (e instanceof VeniceClientHttpException) {
       VeniceClientHttpException clientHttpException = (VeniceClientHttpException) e;
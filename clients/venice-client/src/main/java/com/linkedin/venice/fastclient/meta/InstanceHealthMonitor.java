@@ -41,11 +41,17 @@ import org.apache.logging.log4j.Logger;
  */
 public class InstanceHealthMonitor implements Closeable {
   private static final Logger LOGGER = LogManager.getLogger(InstanceHealthMonitor.class);
+  private static final long LATENCY_EWMA_DECAY_TIME_IN_NS = TimeUnit.SECONDS.toNanos(10);
   private final ClientConfig clientConfig;
 
   // Map/set of per store replica instances
   private final Map<String, Integer> pendingRequestCounterMap = new VeniceConcurrentHashMap<>();
   private final Set<String> unhealthyInstanceSet = new ConcurrentSkipListSet<>();
+  /**
+   * The peak EWMA of the latency of the good responses and the timed out requests of each instance, see
+   * {@link LatencyAwareClientRoutingStrategy}.
+   */
+  private final Map<String, PeakEwma> latencyEwmaMap = new VeniceConcurrentHashMap<>();
 
   private final TimeoutProcessor timeoutProcessor;
   private final Consumer<String> counterResetConsumer;
@@ -94,6 +100,7 @@ public class InstanceHealthMonitor implements Closeable {
       String instance,
       CompletableFuture<TransportClientResponse> transportFuture) {
     CompletableFuture<Integer> requestFuture = new CompletableFuture<>();
+    final long requestStartTimeInNS = System.nanoTime();
     pendingRequestCounterMap.compute(instance, (k, v) -> {
       // currently tracking the number of requests as 1 for single get
       // and 1 for each route requests in batchGet scatter.
@@ -131,6 +138,7 @@ public class InstanceHealthMonitor implements Closeable {
       switch (httpStatus) {
         case SC_OK:
         case SC_NOT_FOUND:
+          recordLatency(instance, requestStartTimeInNS);
           break;
         case SC_TOO_MANY_REQUESTS:
           /**
@@ -141,6 +149,12 @@ public class InstanceHealthMonitor implements Closeable {
           counterResetDelayMS = clientConfig.getRoutingQuotaExceededRequestCounterResetDelayMS();
           break;
         case SC_GONE:
+          // The request timed out, so the instance is at least this slow, while it would never get a latency sample
+          // from the good responses if it stops responding altogether.
+          recordLatency(instance, requestStartTimeInNS);
+          counterResetDelayMS = clientConfig.getRoutingUnavailableRequestCounterResetDelayMS();
+          unhealthyInstance = true;
+          break;
         case SC_SERVICE_UNAVAILABLE:
           counterResetDelayMS = clientConfig.getRoutingUnavailableRequestCounterResetDelayMS();
           unhealthyInstance = true;
@@ -180,6 +194,12 @@ public class InstanceHealthMonitor implements Closeable {
     return new ChainedCompletableFuture<>(requestFuture, resultFuture);
   }
 
+  private void recordLatency(String instance, long requestStartTimeInNS) {
+    long currentTimeInNS = System.nanoTime();
+    latencyEwmaMap.computeIfAbsent(instance, k -> new PeakEwma(LATENCY_EWMA_DECAY_TIME_IN_NS))
+        .record(currentTimeInNS - requestStartTimeInNS, currentTimeInNS);
+  }
+
   /**
    * If an instance is marked unhealthy, this instances will be retried again continuously to know
    * if that instance comes back up and start serving requests. Note that these instances will
@@ -213,6 +233,15 @@ public class InstanceHealthMonitor implements Closeable {
     return unhealthyInstanceSet.size();
   }
 
+  /**
+   * @return the peak EWMA of the response latency of the given instance in nanoseconds, or 0 if there is no good
+   *         response or timed out request from it yet
+   */
+  public double getLatencyEwmaInNS(String instance) {
+    PeakEwma latencyEwma = latencyEwmaMap.get(instance);
+    return latencyEwma == null ? 0 : latencyEwma.getValue();
+  }
+
   public int getPendingRequestCounter(String instance) {
     Integer pendingRequestCounter = pendingRequestCounterMap.get(instance);
     return pendingRequestCounter == null ? 0 : pendingRequestCounter;
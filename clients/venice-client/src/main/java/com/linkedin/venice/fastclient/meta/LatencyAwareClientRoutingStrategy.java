@@ -0,0 +1,149 @@
+package com.linkedin.venice.fastclient.meta;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * This strategy picks the replicas with the power of two choices: each replica is the better one of two random
+ * candidates, scored by the peak EWMA of the response latency times the number of pending requests, see
+ * {@link InstanceHealthMonitor#getLatencyEwmaInNS} and {@link InstanceHealthMonitor#getPendingRequestCounter}.
+ * Compared to {@link LeastLoadedClientRoutingStrategy}, a replica which is slow without being overloaded, such as
+ * because of GC or compaction, stops receiving most of the traffic, while the random candidates still keep the load
+ * spread instead of herding all the clients to the single best replica.
+ *
+ * 1. This strategy will skip any blocked instance.
+ * 2. A penalized replica only gets a new latency sample when it is picked, so any candidate which hasn't been picked
+ *    for {@link #PROBE_INTERVAL_MS} since it was first seen or last picked wins the comparison, to find out whether it
+ *    has recovered. The replicas not seen for {@link #SELECTION_TIME_EXPIRATION_MS}, e.g. the ones which have left
+ *    the cluster, are forgotten.
+ * 3. When any selected instance is marked as unhealthy, this strategy will back-fill with the same number of healthy
+ *    instances, the same way as {@link LeastLoadedClientRoutingStrategy}.
+ */
+public class LatencyAwareClientRoutingStrategy extends AbstractClientRoutingStrategy {
+  static final long PROBE_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+  static final long SELECTION_TIME_EXPIRATION_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final InstanceHealthMonitor instanceHealthMonitor;
+  private final Time time;
+  // Example: <replica, the time it was last picked, or first seen if it has never been picked>
+  private final Map<String, Long> lastSelectionTimeMap = new VeniceConcurrentHashMap<>();
+  private final AtomicLong lastExpirationTimeMs = new AtomicLong();
+
+  public LatencyAwareClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor) {
+    this(instanceHealthMonitor, SystemTime.INSTANCE);
+  }
+
+  LatencyAwareClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor, Time time) {
+    this.instanceHealthMonitor = instanceHealthMonitor;
+    this.time = time;
+  }
+
+  @Override
+  public List<String> getReplicas(long ignored, List<String> replicas, int requiredReplicaCount) {
+    if (replicas.isEmpty()) {
+      return Collections.emptyList();
+    }
+    long currentTimeMs = time.getMilliseconds();
+    expireSelectionTimes(currentTimeMs);
+    List<String> availReplicas = new ArrayList<>(replicas.size());
+    for (String replica: replicas) {
+      if (!instanceHealthMonitor.isInstanceBlocked(replica)) {
+        availReplicas.add(replica);
+        if (!lastSelectionTimeMap.containsKey(replica)) {
+          lastSelectionTimeMap.putIfAbsent(replica, currentTimeMs);
+        }
+      }
+    }
+    List<String> selectedReplicas = new ArrayList<>(Math.min(requiredReplicaCount, availReplicas.size()));
+    int selectedUnhealthyReplicaCnt = 0;
+    while (selectedReplicas.size() < requiredReplicaCount && !availReplicas.isEmpty()) {
+      String replica = removeBetterOfTwoRandomReplicas(availReplicas, currentTimeMs);
+      selectedReplicas.add(replica);
+      if (!instanceHealthMonitor.isInstanceHealthy(replica)) {
+        ++selectedUnhealthyReplicaCnt;
+      }
+    }
+    while (selectedUnhealthyReplicaCnt > 0 && !availReplicas.isEmpty()) {
+      String replica = removeBetterOfTwoRandomReplicas(availReplicas, currentTimeMs);
+      if (instanceHealthMonitor.isInstanceHealthy(replica)) {
+        selectedReplicas.add(replica);
+        --selectedUnhealthyReplicaCnt;
+      }
+    }
+    return selectedReplicas;
+  }
+
+  private String removeBetterOfTwoRandomReplicas(List<String> replicas, long currentTimeMs) {
+    int replicaCount = replicas.size();
+    int selectedIndex;
+    if (replicaCount == 1) {
+      selectedIndex = 0;
+    } else {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int firstIndex = random.nextInt(replicaCount);
+      int secondIndex = random.nextInt(replicaCount - 1);
+      if (secondIndex >= firstIndex) {
+        ++secondIndex;
+      }
+      selectedIndex = isBetter(replicas.get(firstIndex), replicas.get(secondIndex), currentTimeMs)
+          ? firstIndex
+          : secondIndex;
+    }
+    String selectedReplica = replicas.get(selectedIndex);
+    lastSelectionTimeMap.put(selectedReplica, currentTimeMs);
+    // The order of the remaining candidates doesn't matter
+    replicas.set(selectedIndex, replicas.get(replicaCount - 1));
+    replicas.remove(replicaCount - 1);
+    return selectedReplica;
+  }
+
+  private boolean isBetter(String replica, String otherReplica, long currentTimeMs) {
+    boolean probeDue = isProbeDue(replica, currentTimeMs);
+    if (probeDue != isProbeDue(otherReplica, currentTimeMs)) {
+      return probeDue;
+    }
+    return getScore(replica) <= getScore(otherReplica);
+  }
+
+  private boolean isProbeDue(String replica, long currentTimeMs) {
+    Long lastSelectionTimeMs = lastSelectionTimeMap.get(replica);
+    return lastSelectionTimeMs != null && currentTimeMs - lastSelectionTimeMs >= PROBE_INTERVAL_MS;
+  }
+
+  /**
+   * The replicas still in use are seen again right away, while the map would otherwise keep growing with the replicas
+   * which have been moved or replaced.
+   */
+  private void expireSelectionTimes(long currentTimeMs) {
+    long lastExpiration = lastExpirationTimeMs.get();
+    if (currentTimeMs - lastExpiration < SELECTION_TIME_EXPIRATION_MS
+        || !lastExpirationTimeMs.compareAndSet(lastExpiration, currentTimeMs)) {
+      return;
+    }
+    lastSelectionTimeMap.values()
+        .removeIf(selectionTimeMs -> currentTimeMs - selectionTimeMs >= SELECTION_TIME_EXPIRATION_MS);
+  }
+
+  // For testing only
+  int getTrackedReplicaCount() {
+    return lastSelectionTimeMap.size();
+  }
+
+  /**
+   * Both factors are shifted by one, so an instance without any latency sample or pending request is still ranked
+   * by the other factor.
+   */
+  private double getScore(String replica) {
+    return (instanceHealthMonitor.getLatencyEwmaInNS(replica) + 1)
+        * (instanceHealthMonitor.getPendingRequestCounter(replica) + 1);
+  }
+}
@@ -0,0 +1,31 @@
+package com.linkedin.venice.fastclient.meta;
+
+/**
+ * An exponentially weighted moving average, which jumps to any sample higher than the current average right away and
+ * only decays slowly afterwards, so a replica turning slow is penalized at once, while it takes a while to trust it
+ * again. The weight of the history decays with the time elapsed since the last sample, instead of the sample count,
+ * so the average means the same thing no matter how much traffic an instance gets.
+ */
+class PeakEwma {
+  private final double decayTimeInNS;
+  private double value = 0;
+  private long lastUpdateTimeInNS = -1;
+
+  PeakEwma(long decayTimeInNS) {
+    this.decayTimeInNS = decayTimeInNS;
+  }
+
+  synchronized void record(double sample, long currentTimeInNS) {
+    if (sample > value || lastUpdateTimeInNS < 0) {
+      value = sample;
+    } else {
+      double weight = Math.exp(-Math.max(currentTimeInNS - lastUpdateTimeInNS, 0) / decayTimeInNS);
+      value = value * weight + sample * (1 - weight);
+    }
+    lastUpdateTimeInNS = currentTimeInNS;
+  }
+
+  synchronized double getValue() {
+    return value;
+  }
+}
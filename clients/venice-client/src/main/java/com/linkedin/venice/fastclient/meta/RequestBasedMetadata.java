@@ -21,6 +21,7 @@ import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import com.linkedin.venice.fastclient.ClientConfig;
 import com.linkedin.venice.fastclient.stats.ClusterStats;
 import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.fastclient.transport.InternalTransportClient;
 import com.linkedin.venice.fastclient.transport.R2TransportClient;
 import com.linkedin.venice.meta.QueryAction;
 import com.linkedin.venice.metadata.response.MetadataResponseRecord;
@@ -33,6 +34,7 @@ import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
@@ -96,6 +98,7 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
   private final AtomicReference<SchemaData> schemas = new AtomicReference<>();
   private final Map<String, List<String>> readyToServeInstancesMap = new VeniceConcurrentHashMap<>();
   private Map<String, CompletableFuture> warmUpInstancesFutures = new VeniceConcurrentHashMap<>();
+  private volatile InternalTransportClient requestTransportClient = null;
   private final Map<Integer, VenicePartitioner> versionPartitionerMap = new VeniceConcurrentHashMap<>();
   private final Map<Integer, Integer> versionPartitionCountMap = new VeniceConcurrentHashMap<>();
   private final Map<Integer, ByteBuffer> versionZstdDictionaryMap = new VeniceConcurrentHashMap<>();
@@ -142,6 +145,11 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     this.harClusters = clientConfig.getHarClusters();
   }
 
+  @Override
+  public void setRequestTransportClient(InternalTransportClient requestTransportClient) {
+    this.requestTransportClient = requestTransportClient;
+  }
+
   // For unit tests only
   synchronized void setMetadataResponseSchemaReader(RouterBackedSchemaReader metadataResponseSchemaReader) {
     this.metadataResponseSchemaReader = metadataResponseSchemaReader;
@@ -242,7 +250,11 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
    * Warmup the connection from the client to Instances discovered from the metadata update.
    * To avoid duplicate warmup requests being sent which might delay the warmup process,
    * {@link #warmUpInstancesFutures} is used to track the list of already warmed up instances
-   * and its status.
+   * and its status. Besides the H2 conns of the R2 client, the conns of the request transport which are not shared
+   * with the R2 client, e.g. the gRPC channels, are warmed up via {@link #requestTransportClient}, and released once
+   * the instance is gone from the metadata, together with its connection establishment latency sensor. Only the R2
+   * warmup decides whether the instance is warmed up, since the conns of the request transport are established by the
+   * first requests otherwise.
    * <p>
    * As we are not trying to validate the metadata here but just to warmup conns beforehand,
    * warmup is on best effort basis for now. If we want to improve the long tail and potentially
@@ -274,6 +286,10 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
           future.cancel(true);
         }
         entryIterator.remove();
+        clusterStats.removeConnectionEstablishmentLatency(replica);
+        if (requestTransportClient != null) {
+          requestTransportClient.releaseConnection(replica);
+        }
       } else {
         // Already attempted to warmup in the past warmups.
         if (!future.isDone()) {
@@ -323,12 +339,26 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     newReplicasToBeWarmedUp.forEach((replica) -> {
       String url = replica + "/" + QueryAction.HEALTH.toString().toLowerCase();
       CompletableFuture warmupFuture = CompletableFuture.runAsync(() -> {
+        long startTimeNs = System.nanoTime();
         try {
           r2TransportClient.get(url).get();
-          numberOfWarmUpSuccess.incrementAndGet();
+          clusterStats
+              .recordConnectionEstablishmentLatency(replica, LatencyUtils.getElapsedTimeFromNSToMS(startTimeNs));
         } catch (Exception e) {
+          clusterStats.recordConnectionWarmupFailure();
           warmUpFailedInstances.add(replica);
           throw new RuntimeException(String.format("%s warmup failed for replica: %s", logPrefix, replica), e);
+        } finally {
+          clusterStats.recordConnectionWarmupLatency(LatencyUtils.getElapsedTimeFromNSToMS(startTimeNs));
+        }
+        numberOfWarmUpSuccess.incrementAndGet();
+        InternalTransportClient transportClient = requestTransportClient;
+        if (transportClient != null) {
+          try {
+            transportClient.warmUpConnection(replica).get(connWarmupTimeoutInSeconds, TimeUnit.SECONDS);
+          } catch (Exception e) {
+            LOGGER.warn("{} request transport warmup failed for replica: {}", logPrefix, replica, e);
+          }
         }
       }, h2ConnWarmupExecutorService);
 
@@ -3,6 +3,7 @@ package com.linkedin.venice.fastclient.meta;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.fastclient.transport.InternalTransportClient;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.utils.concurrent.ChainedCompletableFuture;
 import java.nio.ByteBuffer;
@@ -62,6 +63,13 @@ public interface StoreMetadata extends SchemaReader {
 
   void start();
 
+  /**
+   * Sets the transport client sending the requests, so its connections to the instances discovered by the metadata
+   * refresh are warmed up before they start serving requests, and released once they are gone from the metadata.
+   */
+  default void setRequestTransportClient(InternalTransportClient requestTransportClient) {
+  }
+
   default boolean isReady() {
     return true;
   }
@@ -1,6 +1,8 @@
 package com.linkedin.venice.fastclient.stats;
 
 import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.StatsUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.Metric;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
@@ -8,8 +10,11 @@ import io.tehuti.metrics.stats.AsyncGauge;
 import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.OccurrenceRate;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,6 +35,13 @@ public class ClusterStats extends AbstractVeniceStats {
   to switch to the latest version*/
   private final Sensor currentVersionNumberSensor;
   private int currentVersion = -1;
+  private final Sensor connectionWarmupLatencySensor;
+  private final Sensor connectionWarmupFailureSensor;
+  /**
+   * The per-host sensors are removed once the instance is gone from the metadata, see
+   * {@link #removeConnectionEstablishmentLatency}.
+   */
+  private final Map<String, Sensor> connectionEstablishmentLatencySensors = new VeniceConcurrentHashMap<>();
 
   public ClusterStats(MetricsRepository metricsRepository, String storeName) {
     super(metricsRepository, storeName);
@@ -39,6 +51,8 @@ public class ClusterStats extends AbstractVeniceStats {
     this.versionUpdateFailureSensor = registerSensor("version_update_failure", new OccurrenceRate());
     this.currentVersionNumberSensor =
         registerSensor(new AsyncGauge((ignored, ignored2) -> this.currentVersion, "current_version"));
+    this.connectionWarmupLatencySensor = registerSensor("connection_warmup_latency", new Avg(), new Max());
+    this.connectionWarmupFailureSensor = registerSensor("connection_warmup_failure", new OccurrenceRate());
   }
 
   public void recordBlockedInstanceCount(int count) {
@@ -57,6 +71,49 @@ public class ClusterStats extends AbstractVeniceStats {
     versionUpdateFailureSensor.record();
   }
 
+  /**
+   * Records the time of the connection warmup request to an instance discovered by the metadata refresh, which
+   * includes the connection establishment, whether it succeeded or not.
+   */
+  public void recordConnectionWarmupLatency(double latency) {
+    connectionWarmupLatencySensor.record(latency);
+  }
+
+  public void recordConnectionWarmupFailure() {
+    connectionWarmupFailureSensor.record();
+  }
+
+  /**
+   * Records the time of the successful connection warmup of the given instance, which is tracked per host.
+   */
+  public void recordConnectionEstablishmentLatency(String instanceUrl, double latency) {
+    connectionEstablishmentLatencySensors
+        .computeIfAbsent(
+            instanceUrl,
+            ignored -> registerSensor(getConnectionEstablishmentLatencySensorName(instanceUrl), new Avg(), new Max()))
+        .record(latency);
+  }
+
+  /**
+   * Removes the per-host sensor of the given instance once it is gone from the metadata.
+   */
+  public void removeConnectionEstablishmentLatency(String instanceUrl) {
+    if (connectionEstablishmentLatencySensors.remove(instanceUrl) != null) {
+      unregisterSensor(getConnectionEstablishmentLatencySensorName(instanceUrl));
+    }
+  }
+
+  private static String getConnectionEstablishmentLatencySensorName(String instanceUrl) {
+    String instanceName = instanceUrl;
+    try {
+      URL url = new URL(instanceUrl);
+      instanceName = url.getHost() + "_" + url.getPort();
+    } catch (MalformedURLException e) {
+      LOGGER.error("Invalid instance url: {}", instanceUrl);
+    }
+    return StatsUtils.convertHostnameToMetricName(instanceName) + "_connection_establishment_latency";
+  }
+
   public List<Double> getMetricValues(String sensorName, String... stats) {
     String sensorFullName = getSensorFullName(sensorName);
     List<Double> collect = Arrays.stream(stats).map((stat) -> {
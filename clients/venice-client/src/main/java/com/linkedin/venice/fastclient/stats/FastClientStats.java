@@ -31,6 +31,7 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final Sensor longTailRetryRequestSensor;
   private final Sensor errorRetryRequestSensor;
   private final Sensor retryRequestWinSensor;
+  private final Sensor longTailRetryThresholdSensor;
   private final Sensor metadataStalenessSensor;
   private final Sensor fanoutSizeSensor;
   private final Sensor retryFanoutSizeSensor;
@@ -76,6 +77,7 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.longTailRetryRequestSensor = registerSensor("long_tail_retry_request", new OccurrenceRate());
     this.errorRetryRequestSensor = registerSensor("error_retry_request", new OccurrenceRate());
     this.retryRequestWinSensor = registerSensor("retry_request_win", new OccurrenceRate());
+    this.longTailRetryThresholdSensor = registerSensor("long_tail_retry_threshold_us", new Avg(), new Max());
 
     this.metadataStalenessSensor = registerSensor(new AsyncGauge((ignored, ignored2) -> {
       if (this.cacheTimeStampInMs == 0) {
@@ -116,6 +118,10 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     retryRequestWinSensor.record();
   }
 
+  public void recordLongTailRetryThreshold(int longTailRetryThresholdInMicroSeconds) {
+    longTailRetryThresholdSensor.record(longTailRetryThresholdInMicroSeconds);
+  }
+
   public void updateCacheTimestamp(long cacheTimeStampInMs) {
     this.cacheTimeStampInMs = cacheTimeStampInMs;
   }
@@ -20,6 +20,7 @@ import com.linkedin.venice.response.VeniceReadResponseStatus;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.grpc.ChannelCredentials;
+import io.grpc.ConnectivityState;
 import io.grpc.Grpc;
 import io.grpc.InsecureChannelCredentials;
 import io.grpc.ManagedChannel;
@@ -31,6 +32,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -40,7 +42,7 @@ public class GrpcTransportClient extends InternalTransportClient {
   private static final Logger LOGGER = LogManager.getLogger(GrpcTransportClient.class);
   private static final String STORAGE_ACTION = "storage";
   private static final String GRPC_ADDRESS_FORMAT = "%s:%s";
-  private final VeniceConcurrentHashMap<String, ManagedChannel> serverGrpcChannels;
+  private final VeniceConcurrentHashMap<String, ManagedChannel[]> serverGrpcChannels;
   private final Map<String, String> nettyServerToGrpcAddress;
   // we cache stubs to avoid creating a new stub for each request, improves performance
   private final VeniceConcurrentHashMap<ManagedChannel, VeniceReadServiceGrpc.VeniceReadServiceStub> stubCache;
@@ -49,6 +51,8 @@ public class GrpcTransportClient extends InternalTransportClient {
   private final ChannelCredentials channelCredentials;
 
   private final int port;
+  private final int channelPoolSizePerHost;
+  private final AtomicInteger channelIndex = new AtomicInteger();
 
   public GrpcTransportClient(GrpcClientConfig grpcClientConfig) {
     this(
@@ -60,7 +64,8 @@ public class GrpcTransportClient extends InternalTransportClient {
          */
         new HashMap<>(grpcClientConfig.getNettyServerToGrpcAddress()),
         grpcClientConfig.getPort(),
-        grpcClientConfig.getSslFactory());
+        grpcClientConfig.getSslFactory(),
+        grpcClientConfig.getChannelPoolSizePerHost());
   }
 
   @VisibleForTesting
@@ -69,9 +74,20 @@ public class GrpcTransportClient extends InternalTransportClient {
       Map<String, String> nettyServerToGrpcAddress,
       int port,
       SSLFactory sslFactory) {
+    this(transportClient, nettyServerToGrpcAddress, port, sslFactory, 1);
+  }
+
+  @VisibleForTesting
+  GrpcTransportClient(
+      TransportClient transportClient,
+      Map<String, String> nettyServerToGrpcAddress,
+      int port,
+      SSLFactory sslFactory,
+      int channelPoolSizePerHost) {
     this.r2TransportClientForNonStorageOps = transportClient;
     this.nettyServerToGrpcAddress = nettyServerToGrpcAddress;
     this.port = port;
+    this.channelPoolSizePerHost = Math.max(1, channelPoolSizePerHost);
     this.serverGrpcChannels = new VeniceConcurrentHashMap<>();
     this.stubCache = new VeniceConcurrentHashMap<>();
     this.channelCredentials = buildChannelCredentials(sslFactory);
@@ -92,8 +108,10 @@ public class GrpcTransportClient extends InternalTransportClient {
 
   @Override
   public void close() throws IOException {
-    for (Map.Entry<String, ManagedChannel> entry: serverGrpcChannels.entrySet()) {
-      entry.getValue().shutdown();
+    for (Map.Entry<String, ManagedChannel[]> entry: serverGrpcChannels.entrySet()) {
+      for (ManagedChannel channel: entry.getValue()) {
+        channel.shutdown();
+      }
     }
 
     r2TransportClientForNonStorageOps.close();
@@ -135,16 +153,77 @@ public class GrpcTransportClient extends InternalTransportClient {
     return requestBuilder.build();
   }
 
+  /**
+   * Connects all the channels to the given instance, and the returned future fails if any of them fails to connect.
+   */
+  @Override
+  public CompletableFuture<Void> warmUpConnection(String instanceUrl) {
+    ManagedChannel[] channels = getOrCreateChannels(getServerAddressFromInstanceUrl(instanceUrl));
+    CompletableFuture[] connectFutures = new CompletableFuture[channels.length];
+    for (int i = 0; i < channels.length; i++) {
+      connectFutures[i] = new CompletableFuture<Void>();
+      connect(channels[i], connectFutures[i]);
+    }
+    return CompletableFuture.allOf(connectFutures);
+  }
+
+  /**
+   * Shuts down all the channels to the given instance, and the in-flight requests on them are still allowed to finish.
+   */
+  @Override
+  public void releaseConnection(String instanceUrl) {
+    ManagedChannel[] channels = serverGrpcChannels.remove(getServerAddressFromInstanceUrl(instanceUrl));
+    if (channels == null) {
+      return;
+    }
+    for (ManagedChannel channel: channels) {
+      stubCache.remove(channel);
+      channel.shutdown();
+    }
+  }
+
+  private static String getServerAddressFromInstanceUrl(String instanceUrl) {
+    int schemeSeparatorIndex = instanceUrl.indexOf("://");
+    return schemeSeparatorIndex < 0 ? instanceUrl : instanceUrl.substring(schemeSeparatorIndex + 3);
+  }
+
+  private void connect(ManagedChannel channel, CompletableFuture<Void> connectFuture) {
+    ConnectivityState state = channel.getState(true);
+    switch (state) {
+      case READY:
+        connectFuture.complete(null);
+        break;
+      case TRANSIENT_FAILURE:
+      case SHUTDOWN:
+        connectFuture.completeExceptionally(new VeniceClientException("Failed to connect gRPC channel: " + channel));
+        break;
+      default:
+        channel.notifyWhenStateChanged(state, () -> connect(channel, connectFuture));
+    }
+  }
+
   @VisibleForTesting
   VeniceReadServiceGrpc.VeniceReadServiceStub getOrCreateStub(String serverAddress) {
-    String grpcAddress = getGrpcAddressFromServerAddress(serverAddress);
-
-    ManagedChannel channel = serverGrpcChannels
-        .computeIfAbsent(serverAddress, k -> Grpc.newChannelBuilder(grpcAddress, channelCredentials).build());
+    ManagedChannel[] channels = getOrCreateChannels(serverAddress);
+    // The requests are spread across the channels of the host in a round-robin manner
+    ManagedChannel channel = channels.length == 1
+        ? channels[0]
+        : channels[(channelIndex.getAndIncrement() & Integer.MAX_VALUE) % channels.length];
 
     return stubCache.computeIfAbsent(channel, VeniceReadServiceGrpc::newStub);
   }
 
+  private ManagedChannel[] getOrCreateChannels(String serverAddress) {
+    return serverGrpcChannels.computeIfAbsent(serverAddress, k -> {
+      String grpcAddress = getGrpcAddressFromServerAddress(serverAddress);
+      ManagedChannel[] channels = new ManagedChannel[channelPoolSizePerHost];
+      for (int i = 0; i < channelPoolSizePerHost; i++) {
+        channels[i] = Grpc.newChannelBuilder(grpcAddress, channelCredentials).build();
+      }
+      return channels;
+    });
+  }
+
   /**
    * Maps the given server address to GRPC server address. Typically, the mapped server address only differs in the
    * port. Fetch the GRPC server address for a given server address if available in the #nettyServerToGrpcAddress
@@ -165,6 +244,11 @@ public class GrpcTransportClient extends InternalTransportClient {
     return nettyServerToGrpcAddress.get(serverAddress);
   }
 
+  @VisibleForTesting
+  int getChannelPoolCount() {
+    return serverGrpcChannels.size();
+  }
+
   @VisibleForTesting
   Map<String, String> getNettyServerToGrpcAddress() {
     return ImmutableMap.copyOf(nettyServerToGrpcAddress);
@@ -4,6 +4,7 @@ import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -20,4 +21,24 @@ public abstract class InternalTransportClient extends TransportClient {
       int keyCount) {
     throw new VeniceClientException("'streamPost' is not supported.");
   }
+
+  /**
+   * Establishes the connections to the given instance ahead of the requests, so the first requests to a new replica
+   * don't pay for the connection establishment. The connections which are shared with the metadata requests are
+   * warmed up by the metadata requests already, so this is a no-op by default.
+   *
+   * @param instanceUrl the url of the instance, such as "https://fake.host:8888".
+   */
+  public CompletableFuture<Void> warmUpConnection(String instanceUrl) {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Closes the connections to the given instance, which is gone from the metadata. It is a no-op by default for the
+   * same reason as {@link #warmUpConnection}.
+   *
+   * @param instanceUrl the url of the instance, such as "https://fake.host:8888".
+   */
+  public void releaseConnection(String instanceUrl) {
+  }
 }
@@ -0,0 +1,92 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.utils.TestMockTime;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class LongTailRetryThresholdTrackerTest {
+  @Test
+  public void testLatencyBuckets() {
+    for (int latency = 0; latency < 100_000; latency++) {
+      int bucketIndex = LongTailRetryThresholdTracker.getLatencyBucketIndex(latency);
+      int upperBound = LongTailRetryThresholdTracker.getLatencyBucketUpperBound(bucketIndex);
+      Assert.assertTrue(upperBound >= latency, "latency: " + latency);
+      Assert.assertTrue(upperBound <= latency * 1.125 + 1, "latency: " + latency);
+      if (bucketIndex > 0) {
+        Assert.assertTrue(LongTailRetryThresholdTracker.getLatencyBucketUpperBound(bucketIndex - 1) < latency);
+      }
+    }
+    int maxBucketIndex = LongTailRetryThresholdTracker.getLatencyBucketIndex(Long.MAX_VALUE);
+    Assert.assertEquals(LongTailRetryThresholdTracker.getLatencyBucketUpperBound(maxBucketIndex), Integer.MAX_VALUE);
+  }
+
+  @Test
+  public void testKeyCountBuckets() {
+    Assert.assertEquals(LongTailRetryThresholdTracker.getKeyCountBucketIndex(1), 0);
+    Assert.assertEquals(LongTailRetryThresholdTracker.getKeyCountBucketIndex(2), 1);
+    Assert.assertEquals(LongTailRetryThresholdTracker.getKeyCountBucketIndex(3), 1);
+    Assert.assertEquals(LongTailRetryThresholdTracker.getKeyCountBucketIndex(100), 6);
+    Assert.assertEquals(
+        LongTailRetryThresholdTracker.getKeyCountBucketIndex(Integer.MAX_VALUE),
+        LongTailRetryThresholdTracker.KEY_COUNT_BUCKET_COUNT - 1);
+  }
+
+  @Test
+  public void testThresholdFollowsPercentile() {
+    TestMockTime time = new TestMockTime();
+    LongTailRetryThresholdTracker tracker = new LongTailRetryThresholdTracker(1000, 90, 60_000, time);
+    Assert.assertEquals(tracker.getThresholdInMicroSeconds(1), 1000);
+
+    // Not enough samples yet
+    for (int i = 0; i < LongTailRetryThresholdTracker.MIN_SAMPLE_COUNT - 1; i++) {
+      tracker.recordLatency(1, 100);
+    }
+    time.addMilliseconds(LongTailRetryThresholdTracker.REFRESH_INTERVAL_MS);
+    Assert.assertEquals(tracker.getThresholdInMicroSeconds(1), 1000);
+
+    // 90% of the requests take 100us, and the rest take 10ms
+    for (int i = 0; i < 801; i++) {
+      tracker.recordLatency(1, 100);
+    }
+    for (int i = 0; i < 100; i++) {
+      tracker.recordLatency(1, 10_000);
+    }
+    // The threshold is only refreshed periodically
+    Assert.assertEquals(tracker.getThresholdInMicroSeconds(1), 1000);
+    time.addMilliseconds(LongTailRetryThresholdTracker.REFRESH_INTERVAL_MS);
+    int threshold = tracker.getThresholdInMicroSeconds(1);
+    Assert.assertTrue(threshold >= 100 && threshold < 120, "threshold: " + threshold);
+    // Other key count buckets are independent
+    Assert.assertEquals(tracker.getThresholdInMicroSeconds(100), 1000);
+  }
+
+  @Test
+  public void testSamplesDecay() {
+    TestMockTime time = new TestMockTime();
+    LongTailRetryThresholdTracker tracker = new LongTailRetryThresholdTracker(1000, 50, 10_000, time);
+    for (int i = 0; i < 1000; i++) {
+      tracker.recordLatency(10, 5_000);
+    }
+    time.addMilliseconds(10_000);
+    int threshold = tracker.getThresholdInMicroSeconds(10);
+    Assert.assertTrue(threshold >= 5_000 && threshold < 5_700, "threshold: " + threshold);
+
+    // The samples are still used in the next window
+    time.addMilliseconds(10_000);
+    threshold = tracker.getThresholdInMicroSeconds(10);
+    Assert.assertTrue(threshold >= 5_000 && threshold < 5_700, "threshold: " + threshold);
+
+    // And dropped afterwards
+    time.addMilliseconds(10_000);
+    Assert.assertEquals(tracker.getThresholdInMicroSeconds(10), 1000);
+  }
+
+  @Test
+  public void testInvalidConfigs() {
+    TestMockTime time = new TestMockTime();
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LongTailRetryThresholdTracker(1000, 0, 1000, time));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LongTailRetryThresholdTracker(1000, 100, 1000, time));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LongTailRetryThresholdTracker(1000, 95, 0, time));
+  }
+}
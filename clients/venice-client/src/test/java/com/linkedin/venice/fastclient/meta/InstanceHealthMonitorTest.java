@@ -1,5 +1,6 @@
 package com.linkedin.venice.fastclient.meta;
 
+import static org.apache.hc.core5.http.HttpStatus.SC_GONE;
 import static org.apache.hc.core5.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import static org.apache.hc.core5.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.hc.core5.http.HttpStatus.SC_OK;
@@ -100,6 +101,23 @@ public class InstanceHealthMonitorTest {
         () -> assertEquals(healthMonitor.getPendingRequestCounter(instance), 1));
   }
 
+  @Test
+  public void testLatencyOfTimedOutRequest() throws InterruptedException {
+    ClientConfig clientConfig = mock(ClientConfig.class);
+    doReturn(100l).when(clientConfig).getRoutingLeakedRequestCleanupThresholdMS();
+    doReturn(100l).when(clientConfig).getRoutingUnavailableRequestCounterResetDelayMS();
+    InstanceHealthMonitor healthMonitor = new InstanceHealthMonitor(clientConfig);
+    ChainedCompletableFuture<Integer, Integer> chainedRequestFuture =
+        healthMonitor.trackHealthBasedOnRequestToInstance(instance, new CompletableFuture<>());
+    assertEquals(healthMonitor.getLatencyEwmaInNS(instance), 0.0);
+    // The request times out without any response
+    chainedRequestFuture.getOriginalFuture()
+        .completeExceptionally(new VeniceClientHttpException("Request timed out", SC_GONE));
+    waitQuietly(chainedRequestFuture.getResultFuture());
+    assertTrue(healthMonitor.getLatencyEwmaInNS(instance) > 0);
+    assertFalse(healthMonitor.isInstanceHealthy(instance));
+  }
+
   @Test
   public void testPendingRequestCounterWithErrorRequest() throws InterruptedException {
     ClientConfig clientConfig = mock(ClientConfig.class);
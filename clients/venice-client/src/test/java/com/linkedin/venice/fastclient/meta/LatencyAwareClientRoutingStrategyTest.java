@@ -0,0 +1,151 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class LatencyAwareClientRoutingStrategyTest {
+  private final static String instance1 = "https://instance1:1234";
+  private final static String instance2 = "https://instance2:1234";
+  private final static String instance3 = "https://instance3:1234";
+  private final static String instance4 = "https://instance4:1234";
+
+  private InstanceHealthMonitor mockInstanceHealthyMonitor(
+      String[] instances,
+      boolean[] blocked,
+      boolean[] healthy,
+      int[] counter,
+      long[] latencyInMs) {
+    InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    for (int i = 0; i < instances.length; ++i) {
+      String instance = instances[i];
+      doReturn(blocked[i]).when(instanceHealthMonitor).isInstanceBlocked(instance);
+      doReturn(healthy[i]).when(instanceHealthMonitor).isInstanceHealthy(instance);
+      doReturn(counter[i]).when(instanceHealthMonitor).getPendingRequestCounter(instance);
+      doReturn((double) TimeUnit.MILLISECONDS.toNanos(latencyInMs[i])).when(instanceHealthMonitor)
+          .getLatencyEwmaInNS(instance);
+    }
+    return instanceHealthMonitor;
+  }
+
+  @Test
+  public void testGetReplicasSkipsBlockedReplicas() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, true, false },
+        new boolean[] { true, true, true },
+        new int[] { 0, 50, 0 },
+        new long[] { 1, 1, 1 });
+    LatencyAwareClientRoutingStrategy strategy = new LatencyAwareClientRoutingStrategy(instanceHealthMonitor);
+    List<String> replicas = Arrays.asList(instances);
+
+    List<String> selectedReplicas = strategy.getReplicas(0, replicas, 3);
+    assertEquals(new HashSet<>(selectedReplicas), new HashSet<>(Arrays.asList(instance1, instance3)));
+    // The given replica list is untouched
+    assertEquals(replicas, Arrays.asList(instances));
+    assertTrue(strategy.getReplicas(0, new ArrayList<>(), 1).isEmpty());
+  }
+
+  @Test
+  public void testGetReplicasAvoidsSlowReplica() {
+    String[] instances = new String[] { instance1, instance2 };
+    InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, false },
+        new boolean[] { true, true },
+        new int[] { 1, 1 },
+        new long[] { 1, 20 });
+    TestMockTime time = new TestMockTime();
+    LatencyAwareClientRoutingStrategy strategy = new LatencyAwareClientRoutingStrategy(instanceHealthMonitor, time);
+    List<String> replicas = Arrays.asList(instances);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(strategy.getReplicas(i, replicas, 1), Arrays.asList(instance1));
+    }
+
+    // The slow replica gets probed once in a while
+    time.addMilliseconds(LatencyAwareClientRoutingStrategy.PROBE_INTERVAL_MS);
+    assertEquals(strategy.getReplicas(100, replicas, 1), Arrays.asList(instance1));
+    assertEquals(strategy.getReplicas(101, replicas, 1), Arrays.asList(instance2));
+    assertEquals(strategy.getReplicas(102, replicas, 1), Arrays.asList(instance1));
+  }
+
+  @Test
+  public void testGetReplicasConsidersPendingRequests() {
+    String[] instances = new String[] { instance1, instance2 };
+    // Twice as fast, but with 4 times the pending requests
+    InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, false },
+        new boolean[] { true, true },
+        new int[] { 7, 1 },
+        new long[] { 1, 2 });
+    LatencyAwareClientRoutingStrategy strategy =
+        new LatencyAwareClientRoutingStrategy(instanceHealthMonitor, new TestMockTime());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(strategy.getReplicas(i, Arrays.asList(instances), 1), Arrays.asList(instance2));
+    }
+  }
+
+  @Test
+  public void testGetReplicasBackfillsHealthyReplicas() {
+    String[] instances = new String[] { instance1, instance2, instance3, instance4 };
+    InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, false, false, false },
+        new boolean[] { false, true, true, true },
+        new int[] { 0, 0, 0, 0 },
+        new long[] { 1, 1, 1, 1 });
+    LatencyAwareClientRoutingStrategy strategy = new LatencyAwareClientRoutingStrategy(instanceHealthMonitor);
+    for (int i = 0; i < 100; i++) {
+      List<String> selectedReplicas = strategy.getReplicas(i, Arrays.asList(instances), 2);
+      assertEquals(new HashSet<>(selectedReplicas).size(), selectedReplicas.size());
+      long healthyReplicaCount = selectedReplicas.stream().filter(r -> !r.equals(instance1)).count();
+      assertEquals(healthyReplicaCount, 2, "selected replicas: " + selectedReplicas);
+    }
+  }
+
+  @Test
+  public void testGetReplicasForgetsDepartedReplicas() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    InstanceHealthMonitor instanceHealthMonitor = mockInstanceHealthyMonitor(
+        instances,
+        new boolean[] { false, false, false },
+        new boolean[] { true, true, true },
+        new int[] { 0, 0, 0 },
+        new long[] { 1, 1, 1 });
+    TestMockTime time = new TestMockTime();
+    LatencyAwareClientRoutingStrategy strategy = new LatencyAwareClientRoutingStrategy(instanceHealthMonitor, time);
+    strategy.getReplicas(0, Arrays.asList(instances), 1);
+    assertEquals(strategy.getTrackedReplicaCount(), 3);
+
+    // instance3 has left, and the others are still in use
+    time.addMilliseconds(LatencyAwareClientRoutingStrategy.SELECTION_TIME_EXPIRATION_MS);
+    strategy.getReplicas(1, Arrays.asList(instance1, instance2), 1);
+    assertEquals(strategy.getTrackedReplicaCount(), 2);
+  }
+
+  @Test
+  public void testPeakEwma() {
+    PeakEwma ewma = new PeakEwma(TimeUnit.SECONDS.toNanos(10));
+    assertEquals(ewma.getValue(), 0.0);
+    ewma.record(100, 0);
+    assertEquals(ewma.getValue(), 100.0);
+    // Higher samples are taken right away
+    ewma.record(1000, 1);
+    assertEquals(ewma.getValue(), 1000.0);
+    // Lower samples decay by the elapsed time
+    ewma.record(0, 1 + TimeUnit.SECONDS.toNanos(10));
+    assertEquals(ewma.getValue(), 1000 * Math.exp(-1), 0.001);
+  }
+}
@@ -34,6 +34,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.ConfigurationException;
 import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.fastclient.stats.ClusterStats;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Time;
@@ -171,6 +172,7 @@ public class RequestBasedMetadataTest {
 
     ClientConfig clientConfig =
         RequestBasedMetadataTestUtils.getMockClientConfig(storeName, false, isMetadataConnWarmupEnabled);
+    ClusterStats clusterStats = clientConfig.getClusterStats();
     RequestBasedMetadata requestBasedMetadata = null;
     try {
       requestBasedMetadata = getMockMetaData(clientConfig, storeName, isMetadataChange);
@@ -190,8 +192,11 @@ public class RequestBasedMetadataTest {
         assertTrue(warmUpInstancesFutures.containsKey(REPLICA2_NAME));
         assertFalse(warmUpInstancesFutures.get(REPLICA2_NAME).isCompletedExceptionally());
         assertTrue(warmUpInstancesFutures.get(REPLICA2_NAME).isDone());
+        assertFalse(getConnectionEstablishmentLatency(clusterStats, REPLICA1_NAME).isNaN());
+        assertFalse(getConnectionEstablishmentLatency(clusterStats, REPLICA2_NAME).isNaN());
       } else {
         assertEquals(warmUpInstancesFutures.size(), 0);
+        assertTrue(getConnectionEstablishmentLatency(clusterStats, REPLICA1_NAME).isNaN());
       }
 
       // after update runs for the 2nd time as per its scheduled run: warmUpInstancesFutures
@@ -203,6 +208,9 @@ public class RequestBasedMetadataTest {
             assertTrue(warmUpInstancesFutures.containsKey(NEW_REPLICA_NAME));
             assertFalse(warmUpInstancesFutures.get(NEW_REPLICA_NAME).isCompletedExceptionally());
             assertTrue(warmUpInstancesFutures.get(NEW_REPLICA_NAME).isDone());
+            // The per-host sensor of the instance gone from the metadata is removed
+            assertFalse(getConnectionEstablishmentLatency(clusterStats, NEW_REPLICA_NAME).isNaN());
+            assertTrue(getConnectionEstablishmentLatency(clusterStats, REPLICA1_NAME).isNaN());
           } else {
             assertTrue(warmUpInstancesFutures.containsKey(REPLICA1_NAME));
             assertFalse(warmUpInstancesFutures.get(REPLICA1_NAME).isCompletedExceptionally());
@@ -220,6 +228,10 @@ public class RequestBasedMetadataTest {
     }
   }
 
+  private static Double getConnectionEstablishmentLatency(ClusterStats clusterStats, String instanceName) {
+    return clusterStats.getMetricValues(instanceName + "_connection_establishment_latency", "Avg").get(0);
+  }
+
   /**
    * This is to test warmUpInstancesFutures in case if there is an incomplete warmup from the previous run
    *
@@ -15,9 +15,16 @@ import com.linkedin.venice.protocols.VeniceReadServiceGrpc;
 import com.linkedin.venice.protocols.VeniceServerResponse;
 import com.linkedin.venice.security.SSLFactory;
 import io.grpc.ChannelCredentials;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeTest;
@@ -197,6 +204,45 @@ public class GrpcTransportClientTest {
     verify(mockTransportClient).post(eq(URI), eq(headers), eq(body));
   }
 
+  @Test
+  public void testChannelPoolPerHost() throws IOException {
+    GrpcTransportClient transportClient =
+        new GrpcTransportClient(mock(TransportClient.class), new HashMap<>(), 23900, null, 2);
+    try {
+      VeniceReadServiceGrpc.VeniceReadServiceStub stub1 = transportClient.getOrCreateStub(URI);
+      VeniceReadServiceGrpc.VeniceReadServiceStub stub2 = transportClient.getOrCreateStub(URI);
+      // The requests to the same host are spread across the channels of the pool
+      assertNotSame(stub1, stub2);
+      assertSame(transportClient.getOrCreateStub(URI), stub1);
+      assertSame(transportClient.getOrCreateStub(URI), stub2);
+    } finally {
+      transportClient.close();
+    }
+  }
+
+  @Test
+  public void testWarmUpAndReleaseConnection() throws Exception {
+    Server server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create()).build().start();
+    GrpcTransportClient transportClient =
+        new GrpcTransportClient(mock(TransportClient.class), new HashMap<>(), server.getPort(), null, 2);
+    try {
+      transportClient.warmUpConnection(PROTOCOL + "://" + URI).get(30, TimeUnit.SECONDS);
+      assertEquals(transportClient.getChannelPoolCount(), 1);
+
+      // The channels to the instance gone from the metadata are closed
+      transportClient.releaseConnection(PROTOCOL + "://" + URI);
+      assertEquals(transportClient.getChannelPoolCount(), 0);
+
+      // The warmup fails if the channels can't connect
+      server.shutdownNow().awaitTermination(30, TimeUnit.SECONDS);
+      CompletableFuture<Void> warmupFuture = transportClient.warmUpConnection(PROTOCOL + "://" + URI);
+      expectThrows(ExecutionException.class, () -> warmupFuture.get(30, TimeUnit.SECONDS));
+    } finally {
+      transportClient.close();
+      server.shutdownNow();
+    }
+  }
+
   @Test(dataProvider = "error-code-error-message")
   public void testHandleResponseError(int errorCode, String errorMessage) {
     CompletableFuture<TransportClientResponse> responseFuture = new CompletableFuture<>();
@@ -1,5 +1,10 @@
 package com.linkedin.venice.producer;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCHING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_LINGER_MS;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_MAX_SIZE;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_WORKER_MAX_PENDING_WRITES;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_WORKER_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_OVER_SSL;
@@ -24,6 +29,7 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
@@ -34,6 +40,8 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -65,9 +73,14 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
 
   private SchemaReader schemaReader;
   private ThreadPoolExecutor producerExecutor;
+  private WriteBatcher writeBatcher;
+  private final Map<Schema, Integer> valueSchemaIds = new VeniceConcurrentHashMap<>();
   private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
 
-  private RecordSerializer<Object> keySerializer;
+  private Schema keySchema;
+  // Serializes the writes sent by the threads of the producer executor, when batching is disabled
+  private final ThreadLocal<WriteSerializer> threadLocalWriteSerializer =
+      ThreadLocal.withInitial(() -> new WriteSerializer(this::getSerializer));
   private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
   private static final Schema INT_SCHEMA = Schema.create(Schema.Type.INT);
   private static final Schema LONG_SCHEMA = Schema.create(Schema.Type.LONG);
@@ -102,7 +115,18 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     if (metricsRepository != null) {
       new ThreadPoolStats(metricsRepository, producerExecutor, "client_producer_thread_pool");
     }
-    this.keySerializer = getSerializer(schemaReader.getKeySchema());
+    if (producerConfigs.getBoolean(CLIENT_PRODUCER_BATCHING_ENABLED, false)) {
+      // The producer executor only completes the futures of the batches in this mode
+      this.writeBatcher = new WriteBatcher(
+          producerConfigs.getInt(CLIENT_PRODUCER_BATCH_WORKER_THREAD_NUM, 2),
+          producerConfigs.getInt(CLIENT_PRODUCER_BATCH_MAX_SIZE, 1000),
+          producerConfigs.getLong(CLIENT_PRODUCER_BATCH_LINGER_MS, 0),
+          producerConfigs.getInt(CLIENT_PRODUCER_BATCH_WORKER_MAX_PENDING_WRITES, 10000),
+          () -> new WriteSerializer(this::getSerializer),
+          producerExecutor,
+          producerMetrics);
+    }
+    this.keySchema = schemaReader.getKeySchema();
 
     VersionCreationResponse versionCreationResponse = requestTopic();
     this.veniceWriter = getVeniceWriter(versionCreationResponse);
@@ -195,42 +219,32 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordPutRequest();
+    return submitWrite(
+        key,
+        new PutWrite(logicalTime, key, value),
+        "Failed to write the requested data to the PubSub system");
+  }
+
+  /**
+   * Sends the write either through {@link #writeBatcher} if batching is enabled, or by a thread of
+   * {@link #producerExecutor} which waits until the write is durable.
+   */
+  private CompletableFuture<DurableWrite> submitWrite(K key, WriteBatcher.Write write, String errorMessage) {
+    if (writeBatcher != null) {
+      return writeBatcher.submit(
+          getRoutingHash(key),
+          write,
+          (enqueueTime, completableFuture) -> getPubSubProducerCallback(enqueueTime, completableFuture, errorMessage));
+    }
+
     return CompletableFuture.supplyAsync(() -> {
-      Schema valueSchema;
-      try {
-        valueSchema = getSchemaFromObject(value);
-      } catch (Exception e) {
-        producerMetrics.recordFailedRequest();
-        throw e;
-      }
-      // Might block
-      int valueSchemaId;
-      Exception schemaReadException = null;
-      try {
-        valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
-      } catch (Exception e) {
-        valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
-        schemaReadException = e;
-      }
-      if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Could not find a registered schema id for schema: " + valueSchema
-                + ". This might be transient if the schema has been registered recently.",
-            schemaReadException);
-      }
       final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
       final Instant sendStartTime = Instant.now();
-      final PubSubProducerCallback callback = getPubSubProducerCallback(
-          sendStartTime,
-          completableFuture,
-          "Failed to write the requested data to the PubSub system");
-
-      byte[] keyBytes = keySerializer.serialize(key);
-      byte[] valueBytes = getSerializer(valueSchema).serialize(value);
-
+      final PubSubProducerCallback callback = getPubSubProducerCallback(sendStartTime, completableFuture, errorMessage);
       try {
-        veniceWriter.put(keyBytes, valueBytes, valueSchemaId, logicalTime, callback);
+        // Might block
+        write.lookUpSchemas();
+        write.send(threadLocalWriteSerializer.get(), callback);
       } catch (Exception e) {
         callback.onCompletion(null, e);
         throw e;
@@ -246,6 +260,16 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }, producerExecutor);
   }
 
+  /**
+   * The writes of the equal keys must go to the same batch worker to be sent in order.
+   */
+  private static int getRoutingHash(Object key) {
+    if (key instanceof byte[]) {
+      return Arrays.hashCode((byte[]) key);
+    }
+    return key == null ? 0 : key.hashCode();
+  }
+
   private PubSubProducerCallback getPubSubProducerCallback(
       Instant sendStartTime,
       CompletableFuture<Void> completableFuture,
@@ -292,31 +316,10 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordDeleteRequest();
-    return CompletableFuture.supplyAsync(() -> {
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final PubSubProducerCallback callback = getPubSubProducerCallback(
-          sendStartTime,
-          completableFuture,
-          "Failed to write the delete operation to the PubSub system");
-
-      byte[] keyBytes = keySerializer.serialize(key);
-
-      try {
-        veniceWriter.delete(keyBytes, logicalTime, callback);
-      } catch (Exception e) {
-        callback.onCompletion(null, e);
-        throw e;
-      }
-
-      try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
-      }
-
-      return DURABLE_WRITE;
-    }, producerExecutor);
+    return submitWrite(
+        key,
+        new DeleteWrite(logicalTime, key),
+        "Failed to write the delete operation to the PubSub system");
   }
 
   @Override
@@ -343,65 +346,158 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordUpdateRequest();
-    return CompletableFuture.supplyAsync(() -> {
+    return submitWrite(
+        key,
+        new UpdateWrite(logicalTime, key, updateFunction),
+        "Failed to write the partial update record to the PubSub system");
+  }
+
+  /**
+   * The value schema id is cached once it is looked up, so the batch workers don't need the schema reader, which might
+   * block on a remote fetch, to send the following puts of the same value schema.
+   */
+  private class PutWrite implements WriteBatcher.Write {
+    private final long logicalTime;
+    private final K key;
+    private final V value;
+    private Schema valueSchema;
+    private int valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
+
+    private PutWrite(long logicalTime, K key, V value) {
+      this.logicalTime = logicalTime;
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public boolean requiresSchemaLookup() {
+      try {
+        valueSchema = getSchemaFromObject(value);
+      } catch (Exception e) {
+        // The lookup fails the write with the same exception
+        return true;
+      }
+      Integer cachedValueSchemaId = valueSchemaIds.get(valueSchema);
+      if (cachedValueSchemaId == null) {
+        return true;
+      }
+      valueSchemaId = cachedValueSchemaId;
+      return false;
+    }
+
+    @Override
+    public void lookUpSchemas() {
+      valueSchema = getSchemaFromObject(value);
+      int schemaId;
+      Exception schemaReadException = null;
+      try {
+        schemaId = schemaReader.getValueSchemaId(valueSchema);
+      } catch (Exception e) {
+        schemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
+        schemaReadException = e;
+      }
+      if (schemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+        throw new VeniceException(
+            "Could not find a registered schema id for schema: " + valueSchema
+                + ". This might be transient if the schema has been registered recently.",
+            schemaReadException);
+      }
+      valueSchemaIds.put(valueSchema, schemaId);
+      valueSchemaId = schemaId;
+    }
+
+    @Override
+    public void send(WriteSerializer serializer, PubSubProducerCallback callback) {
+      byte[] keyBytes = serializer.serialize(keySchema, key);
+      byte[] valueBytes = serializer.serialize(valueSchema, value);
+      veniceWriter.put(keyBytes, valueBytes, valueSchemaId, logicalTime, callback);
+    }
+  }
+
+  private class DeleteWrite implements WriteBatcher.Write {
+    private final long logicalTime;
+    private final K key;
+
+    private DeleteWrite(long logicalTime, K key) {
+      this.logicalTime = logicalTime;
+      this.key = key;
+    }
+
+    @Override
+    public boolean requiresSchemaLookup() {
+      return false;
+    }
+
+    @Override
+    public void lookUpSchemas() {
+    }
+
+    @Override
+    public void send(WriteSerializer serializer, PubSubProducerCallback callback) {
+      byte[] keyBytes = serializer.serialize(keySchema, key);
+      veniceWriter.delete(keyBytes, logicalTime, callback);
+    }
+  }
+
+  /**
+   * The latest update schema might be refreshed with a remote fetch at any time, so it is always looked up before the
+   * update is sent.
+   */
+  private class UpdateWrite implements WriteBatcher.Write {
+    private final long logicalTime;
+    private final K key;
+    private final Consumer<UpdateBuilder> updateFunction;
+    private DerivedSchemaEntry updateSchemaEntry;
+
+    private UpdateWrite(long logicalTime, K key, Consumer<UpdateBuilder> updateFunction) {
+      this.logicalTime = logicalTime;
+      this.key = key;
+      this.updateFunction = updateFunction;
+    }
+
+    @Override
+    public boolean requiresSchemaLookup() {
+      return true;
+    }
+
+    @Override
+    public void lookUpSchemas() {
       // Caching to avoid race conditions during processing of the function
-      DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
+      DerivedSchemaEntry latestUpdateSchemaEntry = schemaReader.getLatestUpdateSchema();
 
-      if (updateSchemaEntry == null) {
-        producerMetrics.recordFailedRequest();
+      if (latestUpdateSchemaEntry == null) {
         throw new VeniceException(
             "Update schema not found. Check if partial update is enabled for the store. This error"
                 + " might also be transient if partial update has been enabled recently.");
       }
 
-      Schema updateSchema = updateSchemaEntry.getSchema();
-
-      if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
-          || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
+      if (latestUpdateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
+          || latestUpdateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
         throw new VeniceException(
-            "Could not find a registered schema id for schema: " + updateSchema
+            "Could not find a registered schema id for schema: " + latestUpdateSchemaEntry.getSchema()
                 + ". This might be transient if the schema has been registered recently.");
       }
+      updateSchemaEntry = latestUpdateSchemaEntry;
+    }
 
+    @Override
+    public void send(WriteSerializer serializer, PubSubProducerCallback callback) {
+      Schema updateSchema = updateSchemaEntry.getSchema();
       UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchema);
       updateFunction.accept(updateBuilder);
       GenericRecord updateRecord = updateBuilder.build();
 
-      final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-      final Instant sendStartTime = Instant.now();
-      final AtomicBoolean callbackTriggered = new AtomicBoolean();
-      final PubSubProducerCallback callback = getPubSubProducerCallback(
-          sendStartTime,
-          completableFuture,
-          "Failed to write the partial update record to the PubSub system");
-
-      byte[] keyBytes = keySerializer.serialize(key);
-      byte[] updateBytes = getSerializer(updateSchema).serialize(updateRecord);
+      byte[] keyBytes = serializer.serialize(keySchema, key);
+      byte[] updateBytes = serializer.serialize(updateSchema, updateRecord);
 
-      try {
-        veniceWriter.update(
-            keyBytes,
-            updateBytes,
-            updateSchemaEntry.getValueSchemaID(),
-            updateSchemaEntry.getId(),
-            callback,
-            logicalTime);
-      } catch (Exception e) {
-        if (!callbackTriggered.get()) {
-          callback.onCompletion(null, e);
-        }
-        throw e;
-      }
-
-      try {
-        completableFuture.get();
-      } catch (InterruptedException | ExecutionException e) {
-        throw new VeniceException(e);
-      }
-
-      return DURABLE_WRITE;
-    }, producerExecutor);
+      veniceWriter.update(
+          keyBytes,
+          updateBytes,
+          updateSchemaEntry.getValueSchemaID(),
+          updateSchemaEntry.getId(),
+          callback,
+          logicalTime);
+    }
   }
 
   /**
@@ -431,6 +527,9 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
   @Override
   public void close() throws IOException {
     closed = true;
+    if (writeBatcher != null) {
+      writeBatcher.close();
+    }
     if (producerExecutor != null) {
       producerExecutor.shutdownNow();
       try {
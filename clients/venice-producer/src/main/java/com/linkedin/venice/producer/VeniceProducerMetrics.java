@@ -4,9 +4,11 @@ import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.TehutiUtils;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Rate;
 import java.util.concurrent.atomic.AtomicInteger;
 
 
@@ -20,6 +22,10 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
   private Sensor failedOperationSensor = null;
   private Sensor produceLatencySensor = null;
   private Sensor pendingOperationSensor = null;
+  private Sensor writeBatchSizeSensor = null;
+  private Sensor writeBatchThroughputSensor = null;
+  private Sensor writeBatchLatencySensor = null;
+  private Sensor writeBatchLingerTimeSensor = null;
 
   private final AtomicInteger pendingOperationCounter = new AtomicInteger(0);
 
@@ -41,6 +47,10 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
           TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + produceLatencySensorName));
 
       pendingOperationSensor = registerSensor("pending_write_operation", new Min(), new Max());
+      writeBatchSizeSensor = registerSensor("write_batch_size", new OccurrenceRate(), new Avg(), new Max());
+      writeBatchThroughputSensor = registerSensor("write_batch_throughput", new Rate());
+      writeBatchLatencySensor = registerSensor("write_batch_latency", new Avg(), new Max());
+      writeBatchLingerTimeSensor = registerSensor("write_batch_linger_time", new Avg(), new Max());
     } else {
       enableMetrics = false;
     }
@@ -82,6 +92,32 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
     }
   }
 
+  public void recordWriteBatch(int batchSize) {
+    if (enableMetrics) {
+      writeBatchSizeSensor.record(batchSize);
+      // The rate of the writes sent in batches per second
+      writeBatchThroughputSensor.record(batchSize);
+    }
+  }
+
+  /**
+   * @param latencyMs the time from sending the first write of a batch until all the writes of it are durable.
+   */
+  public void recordWriteBatchLatency(double latencyMs) {
+    if (enableMetrics) {
+      writeBatchLatencySensor.record(latencyMs);
+    }
+  }
+
+  /**
+   * @param lingerTimeMs the time the first write of a batch waits for more writes to join the batch.
+   */
+  public void recordWriteBatchLingerTime(double lingerTimeMs) {
+    if (enableMetrics) {
+      writeBatchLingerTimeSensor.record(lingerTimeMs);
+    }
+  }
+
   public void recordFailedRequest() {
     if (enableMetrics) {
       failedOperationSensor.record();
@@ -0,0 +1,379 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.io.Closeable;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Groups the writes of {@link AbstractVeniceProducer} into batches, instead of handing off every write to the producer
+ * executor and blocking a thread of it until the write is durable.
+ *
+ * Each worker thread owns a queue, and the writes are routed to the queues by the hash of their key, so the writes of
+ * the same key are sent in order. A worker takes all the writes queued so far, up to the max batch size, and waits for
+ * up to the linger time, if any, after the first write for more writes to join the batch. It then serializes the
+ * writes with its own {@link WriteSerializer}, and hands them over to the
+ * {@link com.linkedin.venice.writer.VeniceWriter} right away without waiting for the writes to be durable, and the
+ * PubSub producer groups them per partition on its own. Once all the writes of a batch are
+ * acknowledged, the futures of the batch are completed by a single task on the producer executor, which keeps the
+ * callbacks of the callers off the PubSub producer threads.
+ *
+ * The schema lookups which might block on a remote fetch run on the producer executor as well, so they never stall a
+ * worker: the write waiting for its lookup is parked together with the later writes of the same key, while the other
+ * writes of the worker keep going.
+ */
+class WriteBatcher implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(WriteBatcher.class);
+
+  /**
+   * A write to send to the writer, which calls back once the write is durable.
+   */
+  interface Write {
+    /**
+     * Returns whether the write has to call {@link #lookUpSchemas()} before it is sent, e.g. when its schemas are not
+     * cached yet. It must not block nor throw.
+     */
+    boolean requiresSchemaLookup();
+
+    /**
+     * Looks up the schemas of the write, which might block on a remote fetch.
+     */
+    void lookUpSchemas();
+
+    /**
+     * Serializes the write with the given serializer, which is owned by the calling thread, and sends it to the writer.
+     */
+    void send(WriteSerializer serializer, PubSubProducerCallback callback);
+  }
+
+  /**
+   * Creates the callback completing the given future once the write is durable.
+   */
+  interface CallbackFactory {
+    PubSubProducerCallback create(Instant enqueueTime, CompletableFuture<Void> completableFuture);
+  }
+
+  private static class PendingWrite {
+    private final int routingHash;
+    private final Write write;
+    private final CallbackFactory callbackFactory;
+    private final Instant enqueueTime = Instant.now();
+    private final CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+    private volatile Throwable lookupFailure;
+    private Throwable failure;
+
+    private PendingWrite(int routingHash, Write write, CallbackFactory callbackFactory) {
+      this.routingHash = routingHash;
+      this.write = write;
+      this.callbackFactory = callbackFactory;
+    }
+  }
+
+  private static final DurableWrite DURABLE_WRITE = new DurableWrite();
+  // Wakes up a worker waiting for its queue once a schema lookup is done
+  private static final PendingWrite WAKE_UP = new PendingWrite(0, null, null);
+
+  private final List<Worker> workers;
+  private final ExecutorService workerExecutor;
+  private final int maxBatchSize;
+  private final long lingerNs;
+  private final int maxPendingWritesPerWorker;
+  private final Supplier<WriteSerializer> writeSerializerSupplier;
+  private final Executor producerExecutor;
+  private final VeniceProducerMetrics producerMetrics;
+  private volatile boolean closed = false;
+
+  /**
+   * @param lingerMs the max time the first write of a batch waits for more writes, or 0 to send the batch right away.
+   * @param maxPendingWritesPerWorker the max number of writes routed to a worker but not sent yet, beyond which the
+   *                                  writes fail right away.
+   * @param writeSerializerSupplier which creates the serializer of each worker.
+   * @param producerExecutor the executor to look up the schemas and to complete the futures of the batches.
+   */
+  WriteBatcher(
+      int workerCount,
+      int maxBatchSize,
+      long lingerMs,
+      int maxPendingWritesPerWorker,
+      Supplier<WriteSerializer> writeSerializerSupplier,
+      Executor producerExecutor,
+      VeniceProducerMetrics producerMetrics) {
+    if (workerCount <= 0 || maxBatchSize <= 0 || lingerMs < 0 || maxPendingWritesPerWorker <= 0) {
+      throw new VeniceException(
+          "Invalid write batching configs, workerCount: " + workerCount + ", maxBatchSize: " + maxBatchSize
+              + ", lingerMs: " + lingerMs + ", maxPendingWritesPerWorker: " + maxPendingWritesPerWorker);
+    }
+    this.maxBatchSize = maxBatchSize;
+    this.lingerNs = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+    this.maxPendingWritesPerWorker = maxPendingWritesPerWorker;
+    this.writeSerializerSupplier = writeSerializerSupplier;
+    this.producerExecutor = producerExecutor;
+    this.producerMetrics = producerMetrics;
+    this.workers = new ArrayList<>(workerCount);
+    this.workerExecutor =
+        Executors.newFixedThreadPool(workerCount, new DaemonThreadFactory("ClientProducerBatchWorker"));
+    for (int i = 0; i < workerCount; i++) {
+      Worker worker = new Worker();
+      workers.add(worker);
+      workerExecutor.execute(worker);
+    }
+  }
+
+  /**
+   * @param routingHash the hash of the key, which decides the worker, and hence the order, of the write.
+   */
+  CompletableFuture<DurableWrite> submit(int routingHash, Write write, CallbackFactory callbackFactory) {
+    PendingWrite pendingWrite = new PendingWrite(routingHash, write, callbackFactory);
+    if (closed) {
+      failPendingWrites(Collections.singletonList(pendingWrite), "Producer is already closed.");
+      return pendingWrite.future;
+    }
+    Worker worker = workers.get(Math.floorMod(routingHash, workers.size()));
+    if (worker.pendingWriteCount.incrementAndGet() > maxPendingWritesPerWorker) {
+      worker.pendingWriteCount.decrementAndGet();
+      failPendingWrites(
+          Collections.singletonList(pendingWrite),
+          "Too many pending writes, the max number of pending writes per batch worker is: "
+              + maxPendingWritesPerWorker);
+      return pendingWrite.future;
+    }
+    worker.queue.add(pendingWrite);
+    // The worker might have drained its queue for the last time before the write is added
+    if (closed && worker.queue.remove(pendingWrite)) {
+      failPendingWrites(Collections.singletonList(pendingWrite), "Producer is closed before the write is sent.");
+    }
+    return pendingWrite.future;
+  }
+
+  private class Worker implements Runnable {
+    // Bounded by the pending write count, besides the wake-ups
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    // The writes routed to this worker but not sent yet, which are either queued or parked
+    private final AtomicInteger pendingWriteCount = new AtomicInteger();
+    // The writes waiting for their schema lookups, each followed by the later writes of the same routing hash
+    private final Map<Integer, Deque<PendingWrite>> parkedWrites = new HashMap<>();
+    private final Queue<PendingWrite> lookedUpWrites = new ConcurrentLinkedQueue<>();
+    private final WriteSerializer serializer = writeSerializerSupplier.get();
+
+    @Override
+    public void run() {
+      List<PendingWrite> writes = new ArrayList<>(maxBatchSize);
+      try {
+        while (!closed) {
+          PendingWrite firstWrite = queue.poll(100, TimeUnit.MILLISECONDS);
+          if (firstWrite == null) {
+            // Every looked-up write is followed by a wake-up, so there is nothing to resume either
+            continue;
+          }
+          takeWrites(firstWrite, writes);
+          List<PendingWrite> batch = new ArrayList<>(writes.size());
+          resumeLookedUpWrites(batch);
+          for (PendingWrite write: writes) {
+            if (write != WAKE_UP) {
+              route(write, batch);
+            }
+          }
+          writes.clear();
+          if (!batch.isEmpty()) {
+            pendingWriteCount.addAndGet(-batch.size());
+            sendBatch(batch, serializer);
+          }
+        }
+      } catch (InterruptedException e) {
+        LOGGER.info("Write batch worker is interrupted");
+      }
+      // Including the writes taken while lingering
+      List<PendingWrite> remainingWrites = new ArrayList<>(writes);
+      queue.drainTo(remainingWrites);
+      for (Deque<PendingWrite> parked: parkedWrites.values()) {
+        remainingWrites.addAll(parked);
+      }
+      parkedWrites.clear();
+      remainingWrites.removeIf(write -> write == WAKE_UP);
+      failPendingWrites(remainingWrites, "Producer is closed before the write is sent.");
+    }
+
+    /**
+     * Takes the writes queued so far up to the max batch size, and waits for up to the linger time after the first
+     * write for more writes to fill the batch.
+     */
+    private void takeWrites(PendingWrite firstWrite, List<PendingWrite> writes) throws InterruptedException {
+      writes.add(firstWrite);
+      queue.drainTo(writes, maxBatchSize - 1);
+      if (lingerNs == 0 || writes.size() >= maxBatchSize) {
+        return;
+      }
+      long lingerStartNs = System.nanoTime();
+      long lingerDeadlineNs = lingerStartNs + lingerNs;
+      while (writes.size() < maxBatchSize) {
+        long remainingNs = lingerDeadlineNs - System.nanoTime();
+        if (remainingNs <= 0) {
+          break;
+        }
+        PendingWrite write = queue.poll(remainingNs, TimeUnit.NANOSECONDS);
+        if (write == null) {
+          break;
+        }
+        writes.add(write);
+        queue.drainTo(writes, maxBatchSize - writes.size());
+      }
+      producerMetrics.recordWriteBatchLingerTime(LatencyUtils.getElapsedTimeFromNSToMS(lingerStartNs));
+    }
+
+    private void route(PendingWrite write, List<PendingWrite> batch) {
+      Deque<PendingWrite> parked = parkedWrites.get(write.routingHash);
+      if (parked != null) {
+        // Keeps the order of the writes of the same key
+        parked.add(write);
+      } else if (write.write.requiresSchemaLookup()) {
+        parked = new ArrayDeque<>();
+        parked.add(write);
+        parkedWrites.put(write.routingHash, parked);
+        lookUpSchemas(write);
+      } else {
+        batch.add(write);
+      }
+    }
+
+    private void lookUpSchemas(PendingWrite write) {
+      Runnable onLookedUp = () -> {
+        lookedUpWrites.add(write);
+        queue.offer(WAKE_UP);
+      };
+      try {
+        CompletableFuture.runAsync(write.write::lookUpSchemas, producerExecutor).whenComplete((ignored, throwable) -> {
+          write.lookupFailure = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+          onLookedUp.run();
+        });
+      } catch (RejectedExecutionException e) {
+        write.lookupFailure = e;
+        onLookedUp.run();
+      }
+    }
+
+    /**
+     * Adds the writes whose schema lookups are done to the batch, followed by the writes parked behind them up to the
+     * next one which has to look up its schemas.
+     */
+    private void resumeLookedUpWrites(List<PendingWrite> batch) {
+      PendingWrite lookedUpWrite;
+      while ((lookedUpWrite = lookedUpWrites.poll()) != null) {
+        Deque<PendingWrite> parked = parkedWrites.get(lookedUpWrite.routingHash);
+        batch.add(parked.poll());
+        while (!parked.isEmpty()) {
+          PendingWrite nextWrite = parked.peek();
+          if (nextWrite.write.requiresSchemaLookup()) {
+            lookUpSchemas(nextWrite);
+            break;
+          }
+          batch.add(parked.poll());
+        }
+        if (parked.isEmpty()) {
+          parkedWrites.remove(lookedUpWrite.routingHash);
+        }
+      }
+    }
+  }
+
+  private void sendBatch(List<PendingWrite> batch, WriteSerializer serializer) {
+    producerMetrics.recordWriteBatch(batch.size());
+    long sendStartNs = System.nanoTime();
+    AtomicInteger pendingWriteCount = new AtomicInteger(batch.size());
+    for (PendingWrite pendingWrite: batch) {
+      CompletableFuture<Void> durableFuture = new CompletableFuture<>();
+      durableFuture.whenComplete((ignored, throwable) -> {
+        pendingWrite.failure = throwable;
+        if (pendingWriteCount.decrementAndGet() == 0) {
+          producerMetrics.recordWriteBatchLatency(LatencyUtils.getElapsedTimeFromNSToMS(sendStartNs));
+          completeBatch(batch);
+        }
+      });
+      PubSubProducerCallback callback = pendingWrite.callbackFactory.create(pendingWrite.enqueueTime, durableFuture);
+      Throwable lookupFailure = pendingWrite.lookupFailure;
+      if (lookupFailure != null) {
+        // e.g. the schema is not found
+        callback.onCompletion(
+            null,
+            lookupFailure instanceof Exception ? (Exception) lookupFailure : new VeniceException(lookupFailure));
+        continue;
+      }
+      try {
+        pendingWrite.write.send(serializer, callback);
+      } catch (Exception e) {
+        // The write might fail before it is sent, e.g. when it fails to be serialized
+        callback.onCompletion(null, e);
+      }
+    }
+  }
+
+  /**
+   * Completes the futures of all the writes of the batch with a single task. The decrement of the pending write count
+   * happens after the failure of each write is set, so the completion task sees the failures of all the writes.
+   */
+  private void completeBatch(List<PendingWrite> batch) {
+    Runnable completion = () -> {
+      for (PendingWrite pendingWrite: batch) {
+        if (pendingWrite.failure == null) {
+          pendingWrite.future.complete(DURABLE_WRITE);
+        } else {
+          pendingWrite.future.completeExceptionally(pendingWrite.failure);
+        }
+      }
+    };
+    try {
+      producerExecutor.execute(completion);
+    } catch (RejectedExecutionException e) {
+      completion.run();
+    }
+  }
+
+  /**
+   * Fails the writes which are never sent, and records them as failed requests, so they don't stay pending.
+   */
+  private void failPendingWrites(List<PendingWrite> writes, String errorMessage) {
+    for (PendingWrite write: writes) {
+      if (write.future.completeExceptionally(new VeniceException(errorMessage))) {
+        producerMetrics.recordFailedRequest();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    workerExecutor.shutdown();
+    try {
+      if (!workerExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+        workerExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      LOGGER.warn("Caught InterruptedException while closing the write batch workers", e);
+      workerExecutor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+
+
+/**
+ * Serializes the keys and the values of the writes sent by a single thread, e.g. a batch worker of
+ * {@link WriteBatcher}, with the encoder and the output buffer owned by the thread, and with the serializers of the
+ * schemas the thread has seen so far, so a write doesn't look up the serializer of its schema in the shared cache.
+ *
+ * It's not thread-safe.
+ */
+class WriteSerializer {
+  private final Function<Schema, RecordSerializer<Object>> serializerFactory;
+  private final Map<Schema, RecordSerializer<Object>> serializers = new HashMap<>();
+  private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+  private BinaryEncoder encoder = newEncoder();
+
+  WriteSerializer(Function<Schema, RecordSerializer<Object>> serializerFactory) {
+    this.serializerFactory = serializerFactory;
+  }
+
+  byte[] serialize(Schema schema, Object object) {
+    RecordSerializer<Object> serializer = serializers.computeIfAbsent(schema, serializerFactory);
+    if (!(serializer instanceof AvroSerializer)) {
+      return serializer.serialize(object);
+    }
+    try {
+      return ((AvroSerializer<Object>) serializer).serialize(object, encoder, outputStream);
+    } catch (RuntimeException e) {
+      // The encoder might be left in an unclean state
+      encoder = newEncoder();
+      throw e;
+    }
+  }
+
+  private BinaryEncoder newEncoder() {
+    return AvroCompatibilityHelper.newBinaryEncoder(outputStream, true, null);
+  }
+}
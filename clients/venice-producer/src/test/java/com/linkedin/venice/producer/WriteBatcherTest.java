@@ -0,0 +1,192 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class WriteBatcherTest {
+  private static final WriteBatcher.CallbackFactory CALLBACK_FACTORY =
+      (enqueueTime, completableFuture) -> (produceResult, exception) -> {
+        if (exception == null) {
+          completableFuture.complete(null);
+        } else {
+          completableFuture.completeExceptionally(exception);
+        }
+      };
+
+  private ExecutorService producerExecutor;
+  private MetricsRepository metricsRepository;
+  private VeniceProducerMetrics producerMetrics;
+  private List<String> sentWrites;
+
+  @BeforeMethod
+  public void setUp() {
+    producerExecutor = Executors.newCachedThreadPool();
+    metricsRepository = new MetricsRepository();
+    producerMetrics = new VeniceProducerMetrics(metricsRepository, "test_store");
+    sentWrites = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    producerExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testBlockingSchemaLookupDoesNotStallWorker() throws Exception {
+    CountDownLatch lookupLatch = new CountDownLatch(1);
+    WriteBatcher writeBatcher = createWriteBatcher(10, 0, 100);
+    try {
+      CompletableFuture<DurableWrite> blockedFuture = submit(writeBatcher, 1, "blocked", lookupLatch);
+      CompletableFuture<DurableWrite> sameKeyFuture = submit(writeBatcher, 1, "same_key", null);
+      CompletableFuture<DurableWrite> otherKeyFuture = submit(writeBatcher, 2, "other_key", null);
+
+      // The write of another key is sent while the lookup is blocked, but the later write of the same key waits
+      otherKeyFuture.get(10, TimeUnit.SECONDS);
+      Assert.assertFalse(blockedFuture.isDone());
+      Assert.assertFalse(sameKeyFuture.isDone());
+
+      lookupLatch.countDown();
+      blockedFuture.get(10, TimeUnit.SECONDS);
+      sameKeyFuture.get(10, TimeUnit.SECONDS);
+      Assert.assertEquals(sentWrites, Arrays.asList("other_key", "blocked", "same_key"));
+    } finally {
+      lookupLatch.countDown();
+      writeBatcher.close();
+    }
+  }
+
+  @Test
+  public void testMaxPendingWritesPerWorker() throws Exception {
+    CountDownLatch lookupLatch = new CountDownLatch(1);
+    WriteBatcher writeBatcher = createWriteBatcher(10, 0, 1);
+    try {
+      CompletableFuture<DurableWrite> blockedFuture = submit(writeBatcher, 1, "blocked", lookupLatch);
+      CompletableFuture<DurableWrite> rejectedFuture = submit(writeBatcher, 2, "rejected", null);
+      ExecutionException e =
+          Assert.expectThrows(ExecutionException.class, () -> rejectedFuture.get(10, TimeUnit.SECONDS));
+      Assert.assertTrue(e.getCause() instanceof VeniceException);
+
+      lookupLatch.countDown();
+      blockedFuture.get(10, TimeUnit.SECONDS);
+      // The worker takes new writes once the pending ones are sent
+      submit(writeBatcher, 2, "accepted", null).get(10, TimeUnit.SECONDS);
+      Assert.assertEquals(sentWrites, Arrays.asList("blocked", "accepted"));
+    } finally {
+      lookupLatch.countDown();
+      writeBatcher.close();
+    }
+  }
+
+  @Test
+  public void testCloseFailsPendingWrites() {
+    CountDownLatch lookupLatch = new CountDownLatch(1);
+    WriteBatcher writeBatcher = createWriteBatcher(10, 0, 100);
+    CompletableFuture<DurableWrite> blockedFuture;
+    CompletableFuture<DurableWrite> sameKeyFuture;
+    try {
+      blockedFuture = submit(writeBatcher, 1, "blocked", lookupLatch);
+      sameKeyFuture = submit(writeBatcher, 1, "same_key", null);
+    } finally {
+      writeBatcher.close();
+      lookupLatch.countDown();
+    }
+
+    Assert.assertTrue(blockedFuture.isCompletedExceptionally());
+    Assert.assertTrue(sameKeyFuture.isCompletedExceptionally());
+    Assert.assertTrue(submit(writeBatcher, 2, "closed", null).isCompletedExceptionally());
+    Assert.assertTrue(sentWrites.isEmpty());
+    // The writes failed by the close are not pending anymore
+    Assert.assertEquals(metricsRepository.getMetric(".test_store--pending_write_operation.Max").value(), 2.0);
+    Assert.assertEquals(metricsRepository.getMetric(".test_store--pending_write_operation.Min").value(), 0.0);
+  }
+
+  @Test
+  public void testLinger() throws Exception {
+    WriteBatcher writeBatcher = createWriteBatcher(3, TimeUnit.SECONDS.toMillis(60), 100);
+    try {
+      CompletableFuture<DurableWrite> future1 = submit(writeBatcher, 1, "write1", null);
+      // The first write waits for more writes to join its batch
+      Thread.sleep(100);
+      Assert.assertFalse(future1.isDone());
+      Assert.assertTrue(sentWrites.isEmpty());
+
+      // The batch is sent once it is full, without waiting for the rest of the linger time
+      CompletableFuture<DurableWrite> future2 = submit(writeBatcher, 2, "write2", null);
+      CompletableFuture<DurableWrite> future3 = submit(writeBatcher, 3, "write3", null);
+      CompletableFuture.allOf(future1, future2, future3).get(10, TimeUnit.SECONDS);
+      Assert.assertEquals(sentWrites, Arrays.asList("write1", "write2", "write3"));
+      Assert.assertEquals(metricsRepository.getMetric(".test_store--write_batch_size.Max").value(), 3.0);
+      Assert.assertTrue(metricsRepository.getMetric(".test_store--write_batch_linger_time.Max").value() >= 100.0);
+      Assert.assertTrue(metricsRepository.getMetric(".test_store--write_batch_throughput.Rate").value() > 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(".test_store--write_batch_latency.Max").value() >= 0.0);
+    } finally {
+      writeBatcher.close();
+    }
+  }
+
+  private WriteBatcher createWriteBatcher(int maxBatchSize, long lingerMs, int maxPendingWritesPerWorker) {
+    // The test writes are not serialized
+    return new WriteBatcher(
+        1,
+        maxBatchSize,
+        lingerMs,
+        maxPendingWritesPerWorker,
+        () -> null,
+        producerExecutor,
+        producerMetrics);
+  }
+
+  private CompletableFuture<DurableWrite> submit(
+      WriteBatcher writeBatcher,
+      int routingHash,
+      String name,
+      CountDownLatch lookupLatch) {
+    producerMetrics.recordPutRequest();
+    return writeBatcher.submit(routingHash, new TestWrite(name, lookupLatch), CALLBACK_FACTORY);
+  }
+
+  private class TestWrite implements WriteBatcher.Write {
+    private final String name;
+    private final CountDownLatch lookupLatch;
+
+    private TestWrite(String name, CountDownLatch lookupLatch) {
+      this.name = name;
+      this.lookupLatch = lookupLatch;
+    }
+
+    @Override
+    public boolean requiresSchemaLookup() {
+      return lookupLatch != null;
+    }
+
+    @Override
+    public void lookUpSchemas() {
+      try {
+        lookupLatch.await();
+      } catch (InterruptedException e) {
+        throw new VeniceException(e);
+      }
+    }
+
+    @Override
+    public void send(WriteSerializer serializer, PubSubProducerCallback callback) {
+      sentWrites.add(name);
+      callback.onCompletion(null, null);
+    }
+  }
+}
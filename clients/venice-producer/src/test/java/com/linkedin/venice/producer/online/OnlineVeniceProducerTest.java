@@ -1,5 +1,7 @@
 package com.linkedin.venice.producer.online;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCHING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BATCH_WORKER_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_SCHEMA_REFRESH_INTERVAL_SECONDS;
 import static com.linkedin.venice.serialization.avro.AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE;
 import static com.linkedin.venice.utils.TestWriteUtils.loadFileAsStringQuietlyWithErrorLogged;
@@ -80,6 +82,7 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.testng.Assert;
@@ -349,6 +352,47 @@ public class OnlineVeniceProducerTest {
     }
   }
 
+  @Test
+  public void testWritesWithBatching() throws IOException, ExecutionException, InterruptedException {
+    ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_BATCHING_ENABLED, true);
+    backendConfigs.put(CLIENT_PRODUCER_BATCH_WORKER_THREAD_NUM, 1);
+    try (TestOnlineVeniceProducer producer =
+        new TestOnlineVeniceProducer(storeClientConfig, new VeniceProperties(backendConfigs), metricsRepository)) {
+      CompletableFuture<DurableWrite> putFuture1 = producer.asyncPut("KEY1", mockValue1);
+      CompletableFuture<DurableWrite> putFuture2 = producer.asyncPut("KEY2", mockValue2);
+      CompletableFuture<DurableWrite> invalidPutFuture = producer.asyncPut("KEY3", 10);
+      CompletableFuture<DurableWrite> deleteFuture = producer.asyncDelete("KEY1");
+      putFuture1.get();
+      putFuture2.get();
+      deleteFuture.get();
+      // The failure of a write doesn't fail the other writes of the same batch
+      assertThrowsExceptionFromFuture(VeniceException.class, invalidPutFuture::get);
+
+      // The writes of the same key are sent in order
+      InOrder inOrder = Mockito.inOrder(producer.mockVeniceWriter);
+      inOrder.verify(producer.mockVeniceWriter)
+          .put(
+              eq(keySerializer.serialize("KEY1")),
+              eq(value1Serializer.serialize(mockValue1)),
+              eq(1),
+              eq(APP_DEFAULT_LOGICAL_TS),
+              any());
+      inOrder.verify(producer.mockVeniceWriter)
+          .delete(eq(keySerializer.serialize("KEY1")), eq(APP_DEFAULT_LOGICAL_TS), any());
+      verify(producer.mockVeniceWriter, times(2)).put(any(), any(), anyInt(), anyLong(), any());
+
+      Assert.assertTrue(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(".test_store--write_batch_size.Max").value() >= 1.0);
+      Assert.assertTrue(metricsRepository.getMetric(".test_store--write_batch_throughput.Rate").value() > 0.0);
+      Assert.assertTrue(metricsRepository.getMetric(".test_store--write_batch_latency.Max").value() >= 0.0);
+    }
+  }
+
   @Test
   public void testDelete() throws IOException, ExecutionException, InterruptedException {
     ClientConfig storeClientConfig = configureMocksAndGetStoreConfig(storeName);
@@ -5,12 +5,14 @@ import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperatio
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COUNT;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.DOT_PRODUCT;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.HADAMARD_PRODUCT;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.TOP_K;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.schema.SchemaAndToString;
 import com.linkedin.venice.client.stats.ClientStats;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.client.store.streaming.TopKStreamingCallback;
 import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
 import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
@@ -20,6 +22,7 @@ import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.schema.SchemaData;
 import com.linkedin.venice.schema.SchemaReader;
@@ -78,6 +81,7 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
   private List<DotProduct> dotProducts = new LinkedList<>();
   private List<CosineSimilarity> cosineSimilarities = new LinkedList<>();
   private List<HadamardProduct> hadamardProducts = new LinkedList<>();
+  private TopK topK = null;
 
   public AbstractAvroComputeRequestBuilder(AvroGenericReadComputeStoreClient storeClient, SchemaReader schemaReader) {
     this.latestValueSchemaId = schemaReader.getLatestValueSchemaId();
@@ -382,6 +386,10 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     SchemaAndToString resultSchema = getResultSchema();
     // Generate ComputeRequest object
     ComputeRequestWrapper computeRequestWrapper = generateComputeRequest(resultSchema, originallyStreaming);
+    if (topK != null) {
+      // Merge the local top K records returned by each storage node
+      callback = new TopKStreamingCallback<>(callback, topK.field.toString(), topK.k);
+    }
     storeClient.compute(computeRequestWrapper, keys, resultSchema.getSchema(), callback, preRequestTimeInNS);
   }
 
@@ -493,13 +501,44 @@ public abstract class AbstractAvroComputeRequestBuilder<K> implements ComputeReq
     return this;
   }
 
+  @Override
+  public ComputeRequestBuilder<K> topK(String rankingFieldName, int k) throws VeniceClientException {
+    if (topK != null) {
+      throw new VeniceClientException(TOP_K + " has been specified more than once");
+    }
+    if (k <= 0) {
+      throw new VeniceClientException(TOP_K + " k must be positive, but got: " + k);
+    }
+    topK = (TopK) TOP_K.getNewInstance();
+    topK.field = rankingFieldName;
+    topK.k = k;
+
+    return this;
+  }
+
+  protected boolean isTopKSpecified() {
+    return topK != null;
+  }
+
   protected ComputeRequestWrapper generateComputeRequest(SchemaAndToString resultSchema, boolean originallyStreaming) {
+    List<ComputeOperation> operations = getComputeRequestOperations();
+    if (topK != null) {
+      // The ranking field can be any numeric field of the result schema, which doesn't get cached by the compute spec
+      Schema.Field rankingField = resultSchema.getSchema().getField(topK.field.toString());
+      if (rankingField == null || !ComputeUtils.isNumericSchema(rankingField.schema())) {
+        throw new VeniceClientException(TOP_K + " field: " + topK.field + " isn't a numeric field of the result");
+      }
+      ComputeOperation computeOperation = new ComputeOperation();
+      computeOperation.operationType = TOP_K.getValue();
+      computeOperation.operation = topK;
+      operations.add(computeOperation);
+    }
     return new ComputeRequestWrapper(
         latestValueSchemaId,
         latestValueSchema,
         resultSchema.getSchema(),
         resultSchema.getToString(),
-        getComputeRequestOperations(),
+        operations,
         originallyStreaming);
   }
 }
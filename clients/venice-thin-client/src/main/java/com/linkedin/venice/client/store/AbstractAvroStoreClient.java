@@ -17,6 +17,7 @@ import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.ComputeUtils;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -33,6 +34,7 @@ import com.linkedin.venice.serializer.VeniceSerializationException;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.EncodingUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -61,6 +63,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   private static final Logger LOGGER = LogManager.getLogger(AbstractAvroStoreClient.class);
   public static final String TYPE_STORAGE = "storage";
   public static final String TYPE_COMPUTE = "compute";
+  public static final String TYPE_DICTIONARY = "dictionary";
   public static final String B64_FORMAT = "?f=b64";
 
   private final ClientConfig clientConfig;
@@ -79,6 +82,12 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   private final String storageRequestPath;
   private final String computeRequestPath;
   private final AtomicBoolean remoteComputationAllowed = new AtomicBoolean(true);
+  /**
+   * The compressors of {@link CompressionStrategy#ZSTD_WITH_DICT} being created by the store version, so the dictionary
+   * of a version is only fetched once from the router no matter how many responses are waiting for it.
+   */
+  private final Map<Integer, CompletableFuture<VeniceCompressor>> versionSpecificCompressorFutures =
+      new VeniceConcurrentHashMap<>();
 
   private volatile boolean isServiceDiscovered;
 
@@ -106,6 +115,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
 
   private Thread asyncStoreInitThread;
   private static final long ASYNC_STORE_INIT_SLEEP_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1); // 1ms
+  private static final long DICTIONARY_FETCH_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
   private long asyncStoreInitSleepIntervalMs = ASYNC_STORE_INIT_SLEEP_INTERVAL_MS;
 
   public static synchronized Executor getDefaultDeserializationExecutor() {
@@ -752,6 +762,56 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     }
   }
 
+  private ByteBuffer decompressRecord(CompressionStrategy compressionStrategy, int storeVersion, ByteBuffer data) {
+    if (compressionStrategy != CompressionStrategy.ZSTD_WITH_DICT) {
+      return decompressRecord(compressionStrategy, data);
+    }
+    try {
+      return getVersionSpecificCompressor(storeVersion).decompress(data);
+    } catch (IOException e) {
+      throw new VeniceClientException(
+          String.format("Unable to decompress the record, compressionStrategy=%d", compressionStrategy.getValue()),
+          e);
+    }
+  }
+
+  /**
+   * This function is only invoked by the deserialization threads, so it is fine to wait for the dictionary here.
+   */
+  private VeniceCompressor getVersionSpecificCompressor(int storeVersion) {
+    String resourceName = getStoreName() + "_v" + storeVersion;
+    VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(resourceName);
+    if (compressor != null) {
+      return compressor;
+    }
+    if (storeVersion <= 0) {
+      throw new VeniceClientException("Store version is missing in the response compressed with dictionary");
+    }
+    CompletableFuture<VeniceCompressor> compressorFuture =
+        versionSpecificCompressorFutures.computeIfAbsent(storeVersion, version -> {
+          String requestPath = TYPE_DICTIONARY + "/" + getStoreName() + "/" + version;
+          return getRaw(requestPath).thenApply(dictionary -> {
+            if (dictionary == null) {
+              throw new VeniceClientException("Compression dictionary is not available, request path: " + requestPath);
+            }
+            return compressorFactory.createVersionSpecificCompressorIfNotExist(
+                CompressionStrategy.ZSTD_WITH_DICT,
+                resourceName,
+                dictionary);
+          });
+        });
+    try {
+      return compressorFuture.get(DICTIONARY_FETCH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      // Let the following responses fetch it again
+      versionSpecificCompressorFutures.remove(storeVersion, compressorFuture);
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      throw new VeniceClientException("Failed to fetch the compression dictionary of version: " + storeVersion, e);
+    }
+  }
+
   @Override
   public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
     if (handleCallbackForEmptyKeySet(keys, callback)) {
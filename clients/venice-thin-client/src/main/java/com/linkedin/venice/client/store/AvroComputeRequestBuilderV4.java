@@ -33,6 +33,9 @@ public class AvroComputeRequestBuilderV4<K> extends AvroComputeRequestBuilderV3<
   public void executeWithFilter(
       Predicate requiredPrefixFields,
       StreamingCallback<GenericRecord, GenericRecord> callback) {
+    if (isTopKSpecified()) {
+      throw new VeniceClientException("Top-K operation is not supported by executeWithFilter");
+    }
     byte[] prefixBytes = extractKeyPrefixBytesFromPredicate(requiredPrefixFields, storeClient.getKeySchema());
     SchemaAndToString resultSchema = getResultSchema();
     ComputeRequestWrapper computeRequestWrapper = generateComputeRequest(resultSchema, true);
@@ -69,6 +69,19 @@ public interface ComputeRequestBuilder<K> {
       List<Float> hadamardProductParam,
       String resultFieldName);
 
+  /**
+   * Setup top-K operation, which only returns the k records with the highest values of the given numeric field of the
+   * compute result, such as the result field of a dot-product or cosine-similarity operation. Each storage node only
+   * returns its local top k records, and the client merges them, so the other keys are returned as non-existing keys.
+   * The records with a null value of the ranking field are never among the top k records.
+   * @param rankingFieldName : numeric field in the response record to rank the records by
+   * @param k : max number of records to return
+   * @return
+   */
+  default ComputeRequestBuilder<K> topK(String rankingFieldName, int k) {
+    throw new VeniceClientException("Top-K operation is not supported by " + getClass().getSimpleName());
+  }
+
   /**
    * Send compute request to Venice, and this should be the last step of the compute specification.
    * @param keys : keys for the candidate records
@@ -2,7 +2,6 @@ package com.linkedin.venice.client.store.streaming;
 
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
-import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import java.nio.ByteBuffer;
@@ -11,7 +10,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Executor;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -38,7 +36,7 @@ public class ClientComputeRecordStreamDecoder<K, V> implements RecordStreamDecod
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterRecordDeserializer,
       Supplier<RecordDeserializer<V>> computeDeserializerProvider,
       Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
-      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor) {
+      ValueDecompressor decompressor) {
     this.decoderProvider = responseHeaders -> {
       if (responseHeaders.containsKey(HttpConstants.VENICE_CLIENT_COMPUTE)) {
         /*
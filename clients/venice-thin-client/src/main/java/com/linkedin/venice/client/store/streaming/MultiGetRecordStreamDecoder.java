@@ -1,5 +1,6 @@
 package com.linkedin.venice.client.store.streaming;
 
+import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
@@ -11,7 +12,6 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 
 
@@ -19,7 +19,8 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
   private final Map<Integer, RecordDeserializer<V>> deserializerCache = new VeniceConcurrentHashMap<>();
   private final RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer;
   private final Function<Integer, RecordDeserializer<V>> valueDeserializerProvider;
-  private final BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor;
+  private final ValueDecompressor decompressor;
+  private int storeVersion = -1;
 
   public MultiGetRecordStreamDecoder(
       List<K> keyList,
@@ -27,13 +28,22 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
       Executor deserializationExecutor,
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
       Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
-      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor) {
+      ValueDecompressor decompressor) {
     super(keyList, callback, deserializationExecutor);
     this.streamingFooterDeserializer = streamingFooterDeserializer;
     this.valueDeserializerProvider = valueDeserializerProvider;
     this.decompressor = decompressor;
   }
 
+  @Override
+  public void onHeaderReceived(Map<String, String> headers) {
+    super.onHeaderReceived(headers);
+    String storeVersionHeader = headers.get(HttpConstants.VENICE_STORE_VERSION);
+    if (storeVersionHeader != null) {
+      storeVersion = Integer.parseInt(storeVersionHeader);
+    }
+  }
+
   @Override
   protected ReadEnvelopeChunkedDeserializer<MultiGetResponseRecordV1> getEnvelopeDeserializer(int schemaId) {
     int protocolVersion = ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
@@ -56,7 +66,7 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
     }
     RecordDeserializer<V> deserializer =
         deserializerCache.computeIfAbsent(envelope.schemaId, valueDeserializerProvider);
-    ByteBuffer decompressedValue = decompressor.apply(compression, envelope.value);
+    ByteBuffer decompressedValue = decompressor.decompress(compression, storeVersion, envelope.value);
     return deserializer.deserialize(decompressedValue);
   }
 
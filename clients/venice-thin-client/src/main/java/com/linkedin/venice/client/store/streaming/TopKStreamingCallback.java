@@ -0,0 +1,57 @@
+package com.linkedin.venice.client.store.streaming;
+
+import com.linkedin.venice.client.store.ComputeGenericRecord;
+import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.TopKSelector;
+import com.linkedin.venice.utils.Pair;
+import java.util.Optional;
+import org.apache.avro.Schema;
+
+
+/**
+ * This callback merges the partial top-K results of all the storage nodes for a top-K compute request, see
+ * {@link com.linkedin.venice.compute.TopKOperator}. The records are held back until the completion, when the top K
+ * records are passed to the inner callback, while every other key is passed as a non-existing key as soon as it is
+ * ranked out, so the inner callback still receives every key exactly once.
+ */
+public class TopKStreamingCallback<K> extends DelegatingTrackingCallback<K, ComputeGenericRecord> {
+  private final String rankingFieldName;
+  private final TopKSelector<Pair<K, ComputeGenericRecord>> topKSelector;
+
+  public TopKStreamingCallback(StreamingCallback<K, ComputeGenericRecord> inner, String rankingFieldName, int k) {
+    super(inner);
+    this.rankingFieldName = rankingFieldName;
+    this.topKSelector = new TopKSelector<>(k);
+  }
+
+  @Override
+  public void onRecordReceived(K key, ComputeGenericRecord value) {
+    Double score = null;
+    if (value != null) {
+      Schema.Field rankingField = value.getSchema().getField(rankingFieldName);
+      score = rankingField == null ? null : ComputeUtils.getScore(value, rankingField);
+    }
+    Pair<K, ComputeGenericRecord> rankedOutRecord;
+    if (score == null) {
+      rankedOutRecord = new Pair<>(key, value);
+    } else {
+      synchronized (topKSelector) {
+        rankedOutRecord = topKSelector.offer(new Pair<>(key, value), score);
+      }
+    }
+    if (rankedOutRecord != null) {
+      super.onRecordReceived(rankedOutRecord.getFirst(), null);
+    }
+  }
+
+  @Override
+  public void onCompletion(Optional<Exception> exception) {
+    // The top K records received so far are passed on even if the request failed, like the other streaming responses
+    synchronized (topKSelector) {
+      for (Pair<K, ComputeGenericRecord> record: topKSelector.getSelectedElements()) {
+        super.onRecordReceived(record.getFirst(), record.getSecond());
+      }
+    }
+    super.onCompletion(exception);
+  }
+}
@@ -0,0 +1,14 @@
+package com.linkedin.venice.client.store.streaming;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Decompresses the values of the streaming multi-get responses. The store version of the response is needed to look up
+ * the dictionary of {@link CompressionStrategy#ZSTD_WITH_DICT}.
+ */
+@FunctionalInterface
+public interface ValueDecompressor {
+  ByteBuffer decompress(CompressionStrategy compressionStrategy, int storeVersion, ByteBuffer data);
+}
@@ -14,6 +14,9 @@ import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -44,6 +47,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -518,4 +522,93 @@ public class AbstractAvroStoreClientTest {
     Assert.assertEquals(result.get("key1"), result1);
     Assert.assertEquals(result.get("key2"), result2);
   }
+
+  /**
+   * The records compressed with dictionary are passed through by the router, and the client fetches the dictionary of
+   * the version once to decompress them.
+   */
+  @Test
+  public void testMultiGetWithDictionaryCompression() throws Exception {
+    byte[] dictionary = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
+    GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+    value.put("int_field", 1);
+    value.put("float_field", 1.1f);
+    GenericRecord recordFieldValue = new GenericData.Record(VALUE_SCHEMA.getField("record_field").schema());
+    recordFieldValue.put("nested_field1", 5.1d);
+    value.put("record_field", recordFieldValue);
+    value.put("float_array_field1", Arrays.asList(0.1f, 0.2f));
+    value.put("float_array_field2", Arrays.asList(1.1f, 1.2f));
+    value.put("int_array_field2", Arrays.asList(10, 12));
+
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = 0;
+    record.schemaId = 1;
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory
+          .createVersionSpecificCompressorIfNotExist(CompressionStrategy.ZSTD_WITH_DICT, "test_store_v1", dictionary);
+      record.value = ByteBuffer.wrap(compressor.compress(valueSerializer.serialize(value)));
+    }
+    RecordSerializer<MultiGetResponseRecordV1> responseSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
+    byte[] serializedResponse = responseSerializer.serializeObjects(Collections.singletonList(record));
+
+    AtomicInteger dictionaryFetchCount = new AtomicInteger();
+    Map<String, String> responseHeaders = new HashMap<>();
+    responseHeaders.put(
+        HttpConstants.VENICE_SCHEMA_ID,
+        Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion()));
+    responseHeaders.put(
+        HttpConstants.VENICE_COMPRESSION_STRATEGY,
+        Integer.toString(CompressionStrategy.ZSTD_WITH_DICT.getValue()));
+    responseHeaders.put(HttpConstants.VENICE_STORE_VERSION, "1");
+    TransportClient mockTransportClient = new TransportClient() {
+      @Override
+      public CompletableFuture<TransportClientResponse> get(String requestPath, Map<String, String> headers) {
+        Assert.assertEquals(requestPath, "dictionary/test_store/1");
+        dictionaryFetchCount.incrementAndGet();
+        return CompletableFuture
+            .completedFuture(new TransportClientResponse(-1, CompressionStrategy.NO_OP, dictionary));
+      }
+
+      @Override
+      public CompletableFuture<TransportClientResponse> post(
+          String requestPath,
+          Map<String, String> headers,
+          byte[] requestBody) {
+        return null;
+      }
+
+      @Override
+      public void streamPost(
+          String requestPath,
+          Map<String, String> headers,
+          byte[] requestBody,
+          TransportClientStreamingCallback callback,
+          int keyCount) {
+        Assert.assertTrue(headers.containsKey(HttpConstants.VENICE_CLIENT_DICTIONARY_SUPPORTED));
+        callback.onHeaderReceived(new HashMap<>(responseHeaders));
+        callback.onDataReceived(ByteBuffer.wrap(serializedResponse));
+        callback.onCompletion(Optional.empty());
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    SimpleStoreClient<String, GenericRecord> storeClient = new SimpleStoreClient<>(
+        mockTransportClient,
+        "test_store",
+        true,
+        AbstractAvroStoreClient.getDefaultDeserializationExecutor());
+
+    for (int i = 0; i < 2; i++) {
+      Map<String, GenericRecord> result = storeClient.batchGet(Collections.singleton("key1")).get();
+      Assert.assertEquals(result.get("key1"), value);
+    }
+    Assert.assertEquals(dictionaryFetchCount.get(), 1);
+
+    // The dictionary can't be looked up without the store version of the response
+    responseHeaders.remove(HttpConstants.VENICE_STORE_VERSION);
+    Assert.expectThrows(ExecutionException.class, () -> storeClient.batchGet(Collections.singleton("key1")).get());
+  }
 }
@@ -6,6 +6,7 @@ import static com.linkedin.venice.client.store.predicate.PredicateBuilder.equalT
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.COSINE_SIMILARITY;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.DOT_PRODUCT;
 import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.HADAMARD_PRODUCT;
+import static com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType.TOP_K;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -18,6 +19,7 @@ import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.schema.SchemaReader;
@@ -29,8 +31,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -384,6 +388,64 @@ public class AvroComputeRequestBuilderTest {
     computeRequestBuilder.execute(keys);
   }
 
+  @Test
+  public void testTopK() throws Exception {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    ArgumentCaptor<ComputeRequestWrapper> computeRequestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    ArgumentCaptor<Schema> resultSchemaCaptor = ArgumentCaptor.forClass(Schema.class);
+    ArgumentCaptor<StreamingCallback> callbackCaptor = ArgumentCaptor.forClass(StreamingCallback.class);
+    AvroComputeRequestBuilderV3<String> computeRequestBuilder =
+        new AvroComputeRequestBuilderV3<>(mockClient, mockClient.getSchemaReader());
+
+    Set<String> topKKeys = new HashSet<>(Arrays.asList("key1", "key2", "key3", "key4", "key5"));
+    CompletableFuture<Map<String, ComputeGenericRecord>> resultFuture =
+        computeRequestBuilder.dotProduct("float_array_field1", dotProductParam, "score")
+            .topK("score", 2)
+            .execute(topKKeys);
+    verify(mockClient).compute(
+        computeRequestCaptor.capture(),
+        Mockito.eq(topKKeys),
+        resultSchemaCaptor.capture(),
+        callbackCaptor.capture(),
+        Mockito.anyLong());
+    List<ComputeOperation> operations = computeRequestCaptor.getValue().getOperations();
+    Assert.assertEquals(operations.size(), 2);
+    Assert.assertEquals(operations.get(1).operationType, TOP_K.getValue());
+    TopK topK = (TopK) operations.get(1).operation;
+    Assert.assertEquals(topK.field.toString(), "score");
+    Assert.assertEquals(topK.k, 2);
+
+    // The partial top-K results of two storage nodes, plus a missing key and a key without score
+    StreamingCallback<String, ComputeGenericRecord> callback = callbackCaptor.getValue();
+    Schema resultSchema = resultSchemaCaptor.getValue();
+    callback.onRecordReceived("key1", createComputeResult(resultSchema, 1.0f));
+    callback.onRecordReceived("key2", createComputeResult(resultSchema, 3.0f));
+    callback.onRecordReceived("key3", createComputeResult(resultSchema, 2.0f));
+    callback.onRecordReceived("key4", createComputeResult(resultSchema, null));
+    callback.onRecordReceived("key5", null);
+    Assert.assertFalse(resultFuture.isDone());
+    callback.onCompletion(Optional.empty());
+
+    Map<String, ComputeGenericRecord> result = resultFuture.get();
+    Assert.assertEquals(result.keySet(), new HashSet<>(Arrays.asList("key2", "key3")));
+    Assert.assertEquals(result.get("key2").get("score"), 3.0f);
+  }
+
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "TOP_K field: int_field isn't a numeric field of the result")
+  public void testTopKAgainstFieldNotInResult() {
+    AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
+    AvroComputeRequestBuilderV3<String> computeRequestBuilder =
+        new AvroComputeRequestBuilderV3(mockClient, mockClient.getSchemaReader());
+    computeRequestBuilder.dotProduct("float_array_field1", dotProductParam, "score").topK("int_field", 2);
+    computeRequestBuilder.execute(keys);
+  }
+
+  private ComputeGenericRecord createComputeResult(Schema resultSchema, Float score) {
+    GenericRecord result = new GenericData.Record(resultSchema);
+    result.put("score", score);
+    return new ComputeGenericRecord(result, VALID_RECORD_SCHEMA);
+  }
+
   @Test
   public void testFilterExtractPrefixBytes() {
     AbstractAvroStoreClient mockClient = getMockClient(VALID_RECORD_SCHEMA);
@@ -24,6 +24,7 @@ public class HttpConstants {
 
   public static final String VENICE_COMPRESSION_STRATEGY = "X-VENICE-COMPRESSION-STRATEGY";
   public static final String VENICE_SUPPORTED_COMPRESSION_STRATEGY = "X-VENICE-SUPPORTED-COMPRESSION-STRATEGY";
+  public static final String VENICE_CLIENT_DICTIONARY_SUPPORTED = "X-VENICE-CLIENT-DICTIONARY-SUPPORTED";
 
   public static final String VENICE_STREAMING = "X-VENICE-STREAMING";
   public static final String VENICE_STREAMING_RESPONSE = "X-VENICE-STREAMING-RESPONSE";
@@ -159,6 +159,10 @@ public class ZstdWithDictCompressor extends VeniceCompressor {
     return (int) expectedSize;
   }
 
+  public byte[] getDictionary() {
+    return dictionary;
+  }
+
   private void validateActualDecompressedSize(int actual, int expected) {
     if (actual != expected) {
       throw new IllegalStateException(
@@ -11,6 +11,7 @@ import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.Count;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.serializer.RecordDeserializer;
@@ -21,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,11 +44,20 @@ import org.apache.logging.log4j.Logger;
 public class ComputeUtils {
   private static final Logger LOGGER = LogManager.getLogger(ComputeUtils.class);
   public static final String CACHED_SQUARED_L2_NORM_KEY = "CACHED_SQUARED_L2_NORM_KEY";
+  public static final String CACHED_FLOAT_ARRAY_KEY = "CACHED_FLOAT_ARRAY_KEY";
   public static final Pattern VALID_AVRO_NAME_PATTERN = Pattern.compile("\\A[A-Za-z_][A-Za-z0-9_]*\\z");
   public static final String ILLEGAL_AVRO_CHARACTER = "[^A-Za-z0-9_]";
   public static final String ILLEGAL_AVRO_CHARACTER_REPLACEMENT = "_";
   private static final RedundantExceptionFilter REDUNDANT_EXCEPTION_FILTER =
       RedundantExceptionFilter.getRedundantExceptionFilter();
+  /**
+   * Set this system property to true to use the Vector API when it is available. It is off by default, since the float
+   * lists have to be copied into arrays for the Vector API, see {@link #toFloatArray}.
+   */
+  public static final String VECTOR_API_ENABLED_PROPERTY = "venice.compute.vector.api.enabled";
+  private static final String VECTOR_API_OPERATIONS_CLASS =
+      "com.linkedin.venice.compute.VectorApiFloatVectorOperations";
+  private static final FloatVectorOperations VECTOR_API_OPERATIONS = loadVectorApiOperations();
 
   /**
    * N.B.: This deserializer performs an evolution from the schema of {@link ComputeRequestV3} to that of
@@ -106,6 +117,18 @@ public class ComputeUtils {
           }
           operationResultFields.add(new Pair<>(count.resultFieldName.toString(), Schema.Type.UNION));
           break;
+        case TOP_K:
+          // Top-K doesn't add any result field, but ranks the records by an existing one
+          TopK topK = (TopK) operation.operation;
+          if (topK.k <= 0) {
+            throw new VeniceException("K of top-K must be positive, but got: " + topK.k);
+          }
+          Schema.Field rankingField = resultSchema.getField(topK.field.toString());
+          if (rankingField == null || !isNumericSchema(rankingField.schema())) {
+            throw new VeniceException(
+                "The field " + topK.field.toString() + " being ranked on is not a numeric field in result schema");
+          }
+          break;
         default:
           throw new VeniceException("Compute operation type " + operation.operationType + " not supported");
       }
@@ -169,6 +192,33 @@ public class ComputeUtils {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
+    if (VECTOR_API_OPERATIONS != null) {
+      return dotProduct(list1, list2, VECTOR_API_OPERATIONS);
+    }
+    return scalarDotProduct(list1, list2);
+  }
+
+  /**
+   * Same as {@link #dotProduct(List, List)}, but the compute param, which is the same for all the records of a request,
+   * is only copied into a float array for the Vector API once per request, and that array is cached in the context.
+   */
+  public static float dotProduct(List<Float> param, List<Float> value, Map<String, Object> context) {
+    if (param.size() != value.size()) {
+      throw new VeniceException("Two lists are with different dimensions: " + param.size() + ", and " + value.size());
+    }
+    if (VECTOR_API_OPERATIONS != null) {
+      return VECTOR_API_OPERATIONS.dotProduct(getCachedFloatArray(param, context), toFloatArray(value), param.size());
+    }
+    return scalarDotProduct(param, value);
+  }
+
+  static float dotProduct(List<Float> list1, List<Float> list2, FloatVectorOperations operations) {
+    float[] array1 = toFloatArray(list1);
+    float[] array2 = list1 == list2 ? array1 : toFloatArray(list2);
+    return operations.dotProduct(array1, array2, list1.size());
+  }
+
+  static float scalarDotProduct(List<Float> list1, List<Float> list2) {
     if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
       PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
@@ -182,6 +232,39 @@ public class ComputeUtils {
     if (list1.size() != list2.size()) {
       throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
     }
+    if (VECTOR_API_OPERATIONS != null) {
+      return hadamardProduct(list1, list2, VECTOR_API_OPERATIONS);
+    }
+    return scalarHadamardProduct(list1, list2);
+  }
+
+  /**
+   * Same as {@link #hadamardProduct(List, List)}, but the float array of the compute param is cached in the context,
+   * see {@link #dotProduct(List, List, Map)}.
+   */
+  public static List<Float> hadamardProduct(List<Float> param, List<Float> value, Map<String, Object> context) {
+    if (param.size() != value.size()) {
+      throw new VeniceException("Two lists are with different dimensions: " + param.size() + ", and " + value.size());
+    }
+    if (VECTOR_API_OPERATIONS != null) {
+      return hadamardProduct(getCachedFloatArray(param, context), toFloatArray(value), VECTOR_API_OPERATIONS);
+    }
+    return scalarHadamardProduct(param, value);
+  }
+
+  static List<Float> hadamardProduct(List<Float> list1, List<Float> list2, FloatVectorOperations operations) {
+    float[] array1 = toFloatArray(list1);
+    float[] array2 = list1 == list2 ? array1 : toFloatArray(list2);
+    return hadamardProduct(array1, array2, operations);
+  }
+
+  private static List<Float> hadamardProduct(float[] array1, float[] array2, FloatVectorOperations operations) {
+    float[] result = new float[array1.length];
+    operations.hadamardProduct(array1, array2, result, result.length);
+    return CollectionUtils.asUnmodifiableList(result);
+  }
+
+  static List<Float> scalarHadamardProduct(List<Float> list1, List<Float> list2) {
     if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
       PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
@@ -191,6 +274,50 @@ public class ComputeUtils {
     }
   }
 
+  /**
+   * @return the top-K operation of the compute request, or null if the request doesn't rank the results.
+   */
+  public static TopK getTopK(List<ComputeOperation> operations) {
+    TopK topK = null;
+    for (ComputeOperation operation: operations) {
+      if (ComputeOperationType.valueOf(operation) == ComputeOperationType.TOP_K) {
+        if (topK != null) {
+          throw new VeniceException("Only one top-K operation is allowed in a compute request");
+        }
+        topK = (TopK) operation.operation;
+      }
+    }
+    return topK;
+  }
+
+  /**
+   * @return the value of the numeric field of the compute result record as the score to rank the record by, or null if
+   *         the value is null, in which case the record is not ranked at all.
+   */
+  public static Double getScore(GenericRecord resultRecord, Schema.Field rankingField) {
+    Object value = resultRecord.get(rankingField.pos());
+    return value instanceof Number ? ((Number) value).doubleValue() : null;
+  }
+
+  public static boolean isNumericSchema(Schema schema) {
+    switch (schema.getType()) {
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return true;
+      case UNION:
+        for (Schema type: schema.getTypes()) {
+          if (type.getType() != Schema.Type.NULL && !isNumericSchema(type)) {
+            return false;
+          }
+        }
+        return true;
+      default:
+        return false;
+    }
+  }
+
   public static List<Schema.Field> getOperationResultFields(List<ComputeOperation> operations, Schema resultSchema) {
     List<Schema.Field> operationResultFields = new ArrayList<>(operations.size());
     ComputeOperation computeOperation;
@@ -203,6 +330,73 @@ public class ComputeUtils {
     return operationResultFields;
   }
 
+  /**
+   * @return the Vector API implementation of the float-vector operations, or null if it is disabled or not available,
+   *         e.g. with JDK 16 or below, or when the JVM is not started with {@code --add-modules jdk.incubator.vector}
+   */
+  static FloatVectorOperations getVectorApiOperations() {
+    return VECTOR_API_OPERATIONS;
+  }
+
+  private static FloatVectorOperations loadVectorApiOperations() {
+    if (!Boolean.getBoolean(VECTOR_API_ENABLED_PROPERTY)) {
+      LOGGER.info("Vector API is not enabled for read compute by system property: {}", VECTOR_API_ENABLED_PROPERTY);
+      return null;
+    }
+    return createVectorApiOperations();
+  }
+
+  /**
+   * @return the Vector API implementation regardless of {@link #VECTOR_API_ENABLED_PROPERTY}, or null if it is not
+   *         available
+   */
+  static FloatVectorOperations createVectorApiOperations() {
+    try {
+      FloatVectorOperations operations = (FloatVectorOperations) Class.forName(VECTOR_API_OPERATIONS_CLASS)
+          .getDeclaredConstructor()
+          .newInstance();
+      LOGGER.info("Vector API is enabled for read compute");
+      return operations;
+    } catch (ReflectiveOperationException | LinkageError e) {
+      LOGGER.info("Vector API is not available for read compute, will use the scalar implementation: {}", e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * The Vector API kernels work on float arrays, so the float lists are copied, since the arrays of
+   * {@link PrimitiveFloatList} are not exposed. The copies are short-lived, and they are not kept per thread, so the
+   * largest vector ever computed by a thread is not retained.
+   */
+  private static float[] toFloatArray(List<Float> list) {
+    int size = list.size();
+    float[] array = new float[size];
+    if (list instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      for (int i = 0; i < size; i++) {
+        array[i] = primitiveFloatList.getPrimitive(i);
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        array[i] = list.get(i);
+      }
+    }
+    return array;
+  }
+
+  /**
+   * The caching is assuming the compute params are immutable, which is the case for compute.
+   */
+  private static float[] getCachedFloatArray(List<Float> param, Map<String, Object> context) {
+    IdentityHashMap<List<Float>, float[]> cachedFloatArrays =
+        (IdentityHashMap<List<Float>, float[]>) context.get(CACHED_FLOAT_ARRAY_KEY);
+    if (cachedFloatArrays == null) {
+      cachedFloatArrays = new IdentityHashMap<>();
+      context.put(CACHED_FLOAT_ARRAY_KEY, cachedFloatArrays);
+    }
+    return cachedFloatArrays.computeIfAbsent(param, ComputeUtils::toFloatArray);
+  }
+
   private interface FloatSupplierByIndex {
     float get(int index);
   }
@@ -258,6 +452,9 @@ public class ComputeUtils {
     return CollectionUtils.asUnmodifiableList(floats);
   }
 
+  /**
+   * The Vector API is not used here, since copying the list into an array costs about as much as the scalar loop.
+   */
   public static float squaredL2Norm(List<Float> list) {
     if (list instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
@@ -349,12 +546,18 @@ public class ComputeUtils {
 
     Map<String, String> errorMap = new HashMap<>();
     ComputeOperation computeOperation;
+    ComputeOperationType operationType;
     ReadComputeOperator operator;
     String operatorFieldName, errorMessage;
     Schema.Field operatorField, resultField;
     for (int i = 0; i < operations.size(); i++) {
       computeOperation = operations.get(i);
-      operator = ComputeOperationType.valueOf(computeOperation).getOperator();
+      operationType = ComputeOperationType.valueOf(computeOperation);
+      if (operationType == ComputeOperationType.TOP_K) {
+        // Top-K ranks the results across records, see TopKOperator
+        continue;
+      }
+      operator = operationType.getOperator();
       operatorFieldName = operator.getOperatorFieldName(computeOperation);
       operatorField = inputRecord.getSchema().getField(operatorFieldName);
       resultField = operationResultFields.get(i);
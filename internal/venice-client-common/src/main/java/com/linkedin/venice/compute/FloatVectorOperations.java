@@ -0,0 +1,17 @@
+package com.linkedin.venice.compute;
+
+/**
+ * The float-vector kernels of the read compute operators over plain float arrays, which could be implemented with
+ * the SIMD instructions of the JVM, see {@link ComputeUtils#getVectorApiOperations()}.
+ */
+interface FloatVectorOperations {
+  /**
+   * @return the dot product of the first {@code size} elements of the two arrays
+   */
+  float dotProduct(float[] array1, float[] array2, int size);
+
+  /**
+   * Writes the element-wise product of the first {@code size} elements of the two arrays into {@code result}.
+   */
+  void hadamardProduct(float[] array1, float[] array2, float[] result, int size);
+}
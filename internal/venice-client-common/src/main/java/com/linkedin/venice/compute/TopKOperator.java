@@ -0,0 +1,51 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.compute.protocol.request.ComputeOperation;
+import com.linkedin.venice.compute.protocol.request.TopK;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * The top-K operator doesn't compute anything per record, but ranks the compute results of all the records by the
+ * numeric field {@link TopK#field} of the result record, and only keeps the {@link TopK#k} records with the highest
+ * values, see {@link TopKSelector}. Hence, {@link ComputeUtils#computeResult} skips it, and both the operator field
+ * and the result field of this operator are the ranking field of the result record.
+ */
+public class TopKOperator implements ReadComputeOperator {
+  @Override
+  public void compute(
+      ComputeOperation op,
+      Schema.Field operatorInputField,
+      Schema.Field resultField,
+      GenericRecord inputValueRecord,
+      GenericRecord resultRecord,
+      Map<String, String> computationErrorMap,
+      Map<String, Object> context) {
+    throw new VeniceException(this + " ranks the compute results across records, and can't be applied on one record");
+  }
+
+  @Override
+  public String getOperatorFieldName(ComputeOperation op) {
+    TopK operation = (TopK) op.operation;
+    return operation.field.toString();
+  }
+
+  @Override
+  public String getResultFieldName(ComputeOperation op) {
+    TopK operation = (TopK) op.operation;
+    return operation.field.toString();
+  }
+
+  @Override
+  public boolean allowFieldValueToBeNull() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "read-compute top-k operator";
+  }
+}
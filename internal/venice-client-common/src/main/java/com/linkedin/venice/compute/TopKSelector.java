@@ -0,0 +1,81 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * Keeps the K elements with the highest scores out of the offered ones with a bounded min-heap, so the memory is
+ * bounded by K no matter how many elements are offered. It is used to rank the compute results of a top-K compute
+ * request, by the storage node for its local results and by the client to merge the partial results of all the
+ * storage nodes, see {@link TopKOperator}.
+ *
+ * When the scores are equal, the element offered first is kept. This class is not thread-safe.
+ */
+public class TopKSelector<T> {
+  private static final int MAX_INITIAL_CAPACITY = 1024;
+
+  private final int k;
+  private final PriorityQueue<ScoredElement<T>> minHeap;
+
+  public TopKSelector(int k) {
+    if (k <= 0) {
+      throw new VeniceException("K of top-K must be positive, but got: " + k);
+    }
+    this.k = k;
+    this.minHeap = new PriorityQueue<>(Math.min(k, MAX_INITIAL_CAPACITY), this::compare);
+  }
+
+  /**
+   * @return whether an element with the given score would be kept if it were offered now, which allows skipping the
+   *         work to build an element which would be dropped right away.
+   */
+  public boolean isCandidate(double score) {
+    return minHeap.size() < k || score > minHeap.peek().score;
+  }
+
+  /**
+   * @return the element which is not among the top K anymore, which is either the given element or the one it
+   *         replaces, or null if no element is dropped.
+   */
+  public T offer(T element, double score) {
+    if (!isCandidate(score)) {
+      return element;
+    }
+    minHeap.add(new ScoredElement<>(element, score));
+    return minHeap.size() > k ? minHeap.poll().element : null;
+  }
+
+  public int size() {
+    return minHeap.size();
+  }
+
+  /**
+   * @return the kept elements, ordered by descending score.
+   */
+  public List<T> getSelectedElements() {
+    List<ScoredElement<T>> scoredElements = new ArrayList<>(minHeap);
+    scoredElements.sort((e1, e2) -> compare(e2, e1));
+    List<T> elements = new ArrayList<>(scoredElements.size());
+    for (ScoredElement<T> scoredElement: scoredElements) {
+      elements.add(scoredElement.element);
+    }
+    return elements;
+  }
+
+  private int compare(ScoredElement<T> e1, ScoredElement<T> e2) {
+    return Double.compare(e1.score, e2.score);
+  }
+
+  private static class ScoredElement<T> {
+    private final T element;
+    private final double score;
+
+    ScoredElement(T element, double score) {
+      this.element = element;
+      this.score = score;
+    }
+  }
+}
@@ -5,11 +5,13 @@ import com.linkedin.venice.compute.CountOperator;
 import com.linkedin.venice.compute.DotProductOperator;
 import com.linkedin.venice.compute.HadamardProductOperator;
 import com.linkedin.venice.compute.ReadComputeOperator;
+import com.linkedin.venice.compute.TopKOperator;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.CosineSimilarity;
 import com.linkedin.venice.compute.protocol.request.Count;
 import com.linkedin.venice.compute.protocol.request.DotProduct;
 import com.linkedin.venice.compute.protocol.request.HadamardProduct;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.EnumUtils;
 import com.linkedin.venice.utils.VeniceEnumValue;
@@ -18,7 +20,7 @@ import java.util.List;
 
 public enum ComputeOperationType implements VeniceEnumValue {
   DOT_PRODUCT(0, new DotProductOperator()), COSINE_SIMILARITY(1, new CosineSimilarityOperator()),
-  HADAMARD_PRODUCT(2, new HadamardProductOperator()), COUNT(3, new CountOperator());
+  HADAMARD_PRODUCT(2, new HadamardProductOperator()), COUNT(3, new CountOperator()), TOP_K(4, new TopKOperator());
 
   private final ReadComputeOperator operator;
   private final int value;
@@ -39,6 +41,8 @@ public enum ComputeOperationType implements VeniceEnumValue {
         return new HadamardProduct();
       case COUNT:
         return new Count();
+      case TOP_K:
+        return new TopK();
       default:
         throw new VeniceException("Unsupported " + getClass().getSimpleName() + " value: " + value);
     }
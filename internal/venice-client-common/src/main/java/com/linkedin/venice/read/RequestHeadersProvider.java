@@ -57,12 +57,19 @@ public class RequestHeadersProvider {
     return new HashMap<>(GET_HEADER_MAP);
   }
 
+  /**
+   * The thin-client fetches the dictionaries from the router by itself, so the router could pass through the records
+   * of any compression strategy, instead of decompressing and serializing them again. This is advertised by a separate
+   * header, which the routers unaware of it ignore, so they keep decompressing the records other than GZIP ones, and
+   * never pass through a record compressed with dictionary without the store version of the response.
+   */
   public static Map<String, String> getThinClientStreamingBatchGetHeaders(int keyCount) {
     Map<String, String> headers = getStreamingBatchGetHeaders(keyCount);
     headers.put(HttpConstants.VENICE_STREAMING, "1");
     headers.put(
         HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY,
         Integer.toString(CompressionStrategy.GZIP.getValue()));
+    headers.put(HttpConstants.VENICE_CLIENT_DICTIONARY_SUPPORTED, "1");
     return headers;
   }
 
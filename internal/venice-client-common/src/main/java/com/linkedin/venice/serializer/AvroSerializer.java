@@ -7,6 +7,7 @@ import com.linkedin.venice.utils.AvroSchemaUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.DeterministicMapOrderGenericDatumWriter;
 import org.apache.avro.io.BinaryEncoder;
@@ -87,6 +88,17 @@ public class AvroSerializer<K> implements RecordSerializer<K> {
     return reusableObjects.outputStream.toByteArray();
   }
 
+  /**
+   * Serializes the object with the encoder and the output stream of the caller instead of the thread-local ones, e.g.
+   * when the caller owns a thread serializing many objects of different schemas. The encoder should be discarded if
+   * this throws.
+   */
+  public byte[] serialize(K object, BinaryEncoder reusedEncoder, ByteArrayOutputStream reusedOutputStream)
+      throws VeniceException {
+    reusedOutputStream.reset();
+    return serializeObjects(Collections.singletonList(object), reusedEncoder, reusedOutputStream);
+  }
+
   @Override
   public byte[] serializeObjects(Iterable<K> objects) throws VeniceException {
     ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
@@ -169,6 +169,17 @@ public class AbstractVeniceStats {
     sensors.clear();
   }
 
+  /**
+   * Removes the sensor and its metrics, e.g. the per-host sensor of a host which is gone, so the metrics don't keep
+   * growing as the hosts come and go.
+   */
+  protected void unregisterSensor(String sensorName) {
+    Sensor sensor = sensors.remove(getSensorFullName(getName(), sensorName));
+    if (sensor != null) {
+      metricsRepository.removeSensor(sensor.name());
+    }
+  }
+
   protected Sensor registerSensorWithAggregate(String sensorName, Supplier<MeasurableStat[]> stats) {
     return registerSensorWithAggregate(sensorName, null, stats);
   }
@@ -0,0 +1,92 @@
+package com.linkedin.venice.utils;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A thread factory that creates virtual threads, which are only available since Java 21. Since the code base still
+ * targets Java 8, the virtual thread API is accessed reflectively, and {@link #isSupported()} tells whether the
+ * current JVM could create virtual threads at all.
+ */
+public class VirtualThreadFactory implements ThreadFactory {
+  private static final Logger LOGGER = LogManager.getLogger(VirtualThreadFactory.class);
+
+  /** {@code Thread.ofVirtual()} */
+  private static final MethodHandle OF_VIRTUAL;
+  /** {@code Thread.Builder#name(String, long)} */
+  private static final MethodHandle BUILDER_NAME;
+  /** {@code Thread.Builder#factory()} */
+  private static final MethodHandle BUILDER_FACTORY;
+  /** {@code Thread#isVirtual()} */
+  private static final MethodHandle IS_VIRTUAL;
+  private static final boolean SUPPORTED;
+
+  static {
+    MethodHandle ofVirtual = null;
+    MethodHandle builderName = null;
+    MethodHandle builderFactory = null;
+    MethodHandle isVirtual = null;
+    boolean supported = false;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+      builderName =
+          lookup.findVirtual(builderClass, "name", MethodType.methodType(builderClass, String.class, long.class));
+      builderFactory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+      isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+      // Virtual threads are a preview feature in Java 19 and 20, which would throw if the preview is not enabled.
+      ofVirtual.invoke();
+      supported = true;
+    } catch (Throwable e) {
+      LOGGER.debug("Virtual threads are not supported by the current JVM", e);
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = builderName;
+    BUILDER_FACTORY = builderFactory;
+    IS_VIRTUAL = isVirtual;
+    SUPPORTED = supported;
+  }
+
+  private final ThreadFactory virtualThreadFactory;
+
+  public VirtualThreadFactory(String threadNamePrefix) {
+    if (!SUPPORTED) {
+      throw new VeniceException(
+          "Virtual threads are not supported by the current JVM, java version: " + System.getProperty("java.version"));
+    }
+    try {
+      Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(), threadNamePrefix + "-vt", 0L);
+      this.virtualThreadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+    } catch (Throwable e) {
+      throw new VeniceException("Failed to create virtual thread factory with prefix: " + threadNamePrefix, e);
+    }
+  }
+
+  @Override
+  public Thread newThread(Runnable r) {
+    return virtualThreadFactory.newThread(r);
+  }
+
+  public static boolean isSupported() {
+    return SUPPORTED;
+  }
+
+  public static boolean isVirtual(Thread thread) {
+    if (!SUPPORTED) {
+      return false;
+    }
+    try {
+      return (boolean) IS_VIRTUAL.invoke(thread);
+    } catch (Throwable e) {
+      throw new VeniceException("Failed to check whether thread: " + thread.getName() + " is virtual", e);
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static com.linkedin.venice.utils.concurrent.BlockingQueueType.ARRAY_BLOCK
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.VirtualThreadFactory;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -12,6 +13,8 @@ import java.util.concurrent.TimeUnit;
 
 
 public final class ThreadPoolFactory {
+  private static final long VIRTUAL_THREAD_KEEP_ALIVE_MS = 1000;
+
   private ThreadPoolFactory() {
   }
 
@@ -37,6 +40,32 @@ public final class ThreadPoolFactory {
     return executor;
   }
 
+  /**
+   * Create an executor which runs the tasks in virtual threads, so that much more tasks could be running concurrently
+   * than with the platform threads of {@link #createThreadPool}, which it is interchangeable with. The concurrency is
+   * still bounded by {@param maxConcurrency}, beyond which the tasks are queued up to {@param capacity}, and executed
+   * in the caller thread once the queue is full, same as {@link #createThreadPool}. Virtual threads are cheap to
+   * create, so the idle ones are not kept around.
+   *
+   * @throws VeniceException if virtual threads are not supported by the current JVM.
+   */
+  public static ThreadPoolExecutor createVirtualThreadPool(
+      int maxConcurrency,
+      String threadNamePrefix,
+      int capacity,
+      BlockingQueueType blockingQueueType) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        maxConcurrency,
+        maxConcurrency,
+        VIRTUAL_THREAD_KEEP_ALIVE_MS,
+        TimeUnit.MILLISECONDS,
+        getExecutionQueue(capacity, blockingQueueType),
+        new VirtualThreadFactory(threadNamePrefix));
+    executor.allowCoreThreadTimeOut(true);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    return executor;
+  }
+
   private static BlockingQueue<Runnable> getExecutionQueue(int capacity, BlockingQueueType blockingQueueType) {
     switch (blockingQueueType) {
       case LINKED_BLOCKING_QUEUE:
@@ -17,11 +17,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 
@@ -159,6 +161,20 @@ public class ComputeUtilsTest {
     Assert.assertEquals(result, expectedOutput);
   }
 
+  @Test
+  public void testProductsWithCachedParam() {
+    PrimitiveFloatList param = createPrimitiveFloatList(1.0f, 2.0f, 3.0f);
+    Map<String, Object> context = new HashMap<>();
+    Assert.assertEquals(ComputeUtils.dotProduct(param, createPrimitiveFloatList(4.0f, 5.0f, 6.0f), context), 32.0f);
+    Assert.assertEquals(ComputeUtils.dotProduct(param, Arrays.asList(1.0f, 1.0f, 1.0f), context), 6.0f);
+    Assert.assertEquals(
+        ComputeUtils.hadamardProduct(param, createPrimitiveFloatList(4.0f, 5.0f, 6.0f), context),
+        Arrays.asList(4.0f, 10.0f, 18.0f));
+    if (ComputeUtils.getVectorApiOperations() != null) {
+      Assert.assertTrue(context.containsKey(ComputeUtils.CACHED_FLOAT_ARRAY_KEY));
+    }
+  }
+
   private static GenericRecord createGetNullableFieldValueAsListRecord() {
     Schema schema = SchemaBuilder.record("SampleSchema")
         .fields()
@@ -173,6 +189,68 @@ public class ComputeUtilsTest {
     return new GenericData.Record(schema);
   }
 
+  @Test
+  public void testFloatVectorOperationsOnLists() {
+    FloatVectorOperations plainLoopOperations = new FloatVectorOperations() {
+      @Override
+      public float dotProduct(float[] array1, float[] array2, int size) {
+        float result = 0;
+        for (int i = 0; i < size; i++) {
+          result += array1[i] * array2[i];
+        }
+        return result;
+      }
+
+      @Override
+      public void hadamardProduct(float[] array1, float[] array2, float[] result, int size) {
+        for (int i = 0; i < size; i++) {
+          result[i] = array1[i] * array2[i];
+        }
+      }
+    };
+    verifyFloatVectorOperations(plainLoopOperations);
+  }
+
+  @Test
+  public void testVectorApiOperations() {
+    FloatVectorOperations vectorApiOperations = ComputeUtils.createVectorApiOperations();
+    if (vectorApiOperations == null) {
+      // Covered by the 'testVectorApi' task of the build with '-PvectorApi', which runs this test on JDK 17
+      throw new SkipException("Vector API is only available with JDK 17+ and '--add-modules jdk.incubator.vector'");
+    }
+    verifyFloatVectorOperations(vectorApiOperations);
+  }
+
+  private void verifyFloatVectorOperations(FloatVectorOperations operations) {
+    Random random = new Random(1);
+    // Cover the remaining elements after the vectorized or unrolled loops as well
+    for (int size: new int[] { 1, 3, 4, 17, 256, 1023 }) {
+      float[] values1 = new float[size];
+      float[] values2 = new float[size];
+      for (int i = 0; i < size; i++) {
+        values1[i] = random.nextFloat() - 0.5f;
+        values2[i] = random.nextFloat() - 0.5f;
+      }
+      List<Float> list1 = createPrimitiveFloatList(values1);
+      List<Float> list2 = new ArrayList<>(createPrimitiveFloatList(values2));
+
+      // The summing order differs, so the results could differ slightly
+      float expectedDotProduct = ComputeUtils.scalarDotProduct(list1, list2);
+      assertEquals(
+          ComputeUtils.dotProduct(list1, list2, operations),
+          expectedDotProduct,
+          1e-4f * (1 + Math.abs(expectedDotProduct)));
+      float expectedSquaredL2Norm = ComputeUtils.scalarDotProduct(list1, list1);
+      assertEquals(
+          ComputeUtils.dotProduct(list1, list1, operations),
+          expectedSquaredL2Norm,
+          1e-4f * (1 + expectedSquaredL2Norm));
+      assertEquals(
+          ComputeUtils.hadamardProduct(list1, list2, operations),
+          ComputeUtils.scalarHadamardProduct(list1, list2));
+    }
+  }
+
   private static PrimitiveFloatList createPrimitiveFloatList(float... values) {
     PrimitiveFloatList list = new PrimitiveFloatArrayList(values.length);
     for (float value: values) {
@@ -0,0 +1,60 @@
+package com.linkedin.venice.compute;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TopKSelectorTest {
+  @Test
+  public void testOffer() {
+    TopKSelector<String> selector = new TopKSelector<>(2);
+    assertNull(selector.offer("a", 1.0));
+    assertNull(selector.offer("b", 3.0));
+    assertEquals(selector.size(), 2);
+    // Not better than the current top 2
+    assertFalse(selector.isCandidate(1.0));
+    assertEquals(selector.offer("c", 0.5), "c");
+    // Replaces the lowest one
+    assertTrue(selector.isCandidate(2.0));
+    assertEquals(selector.offer("d", 2.0), "a");
+    assertEquals(selector.getSelectedElements(), Arrays.asList("b", "d"));
+  }
+
+  @Test
+  public void testMergePartialResults() {
+    Random random = new Random(1);
+    List<Integer> scores = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      scores.add(random.nextInt(10000));
+    }
+    // Merging the top 10 of each part is the same as the top 10 of all
+    TopKSelector<Integer> mergedSelector = new TopKSelector<>(10);
+    for (int part = 0; part < 5; part++) {
+      TopKSelector<Integer> partSelector = new TopKSelector<>(10);
+      for (int score: scores.subList(part * 100, (part + 1) * 100)) {
+        partSelector.offer(score, score);
+      }
+      for (int score: partSelector.getSelectedElements()) {
+        mergedSelector.offer(score, score);
+      }
+    }
+    scores.sort(Collections.reverseOrder());
+    assertEquals(mergedSelector.getSelectedElements(), scores.subList(0, 10));
+  }
+
+  @Test
+  public void testInvalidK() {
+    Assert.assertThrows(VeniceException.class, () -> new TopKSelector<>(0));
+  }
+}
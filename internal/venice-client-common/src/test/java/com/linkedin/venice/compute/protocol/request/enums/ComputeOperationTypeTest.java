@@ -17,6 +17,7 @@ public class ComputeOperationTypeTest extends VeniceEnumValueTest<ComputeOperati
         .put(1, ComputeOperationType.COSINE_SIMILARITY)
         .put(2, ComputeOperationType.HADAMARD_PRODUCT)
         .put(3, ComputeOperationType.COUNT)
+        .put(4, ComputeOperationType.TOP_K)
         .build();
   }
 }
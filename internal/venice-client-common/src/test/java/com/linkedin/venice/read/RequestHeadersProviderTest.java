@@ -2,11 +2,13 @@ package com.linkedin.venice.read;
 
 import static com.linkedin.venice.HttpConstants.VENICE_API_VERSION;
 import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_COMPUTE;
+import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_DICTIONARY_SUPPORTED;
 import static com.linkedin.venice.HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID;
 import static com.linkedin.venice.HttpConstants.VENICE_KEY_COUNT;
 import static com.linkedin.venice.HttpConstants.VENICE_STREAMING;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 
+import com.linkedin.venice.compression.CompressionStrategy;
 import java.util.Map;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -25,9 +27,13 @@ public class RequestHeadersProviderTest {
   public void testThinClientStreamingBatchGetHeaders() {
     int keyCount = 100;
     Map<String, String> headers = RequestHeadersProvider.getThinClientStreamingBatchGetHeaders(keyCount);
-    Assert.assertEquals(headers.size(), 4);
+    Assert.assertEquals(headers.size(), 5);
     Assert.assertTrue(headers.containsKey(VENICE_STREAMING));
-    Assert.assertTrue(headers.containsKey(VENICE_SUPPORTED_COMPRESSION_STRATEGY));
+    // the routers unaware of the dictionary support should keep decompressing the records other than GZIP ones
+    Assert.assertEquals(
+        headers.get(VENICE_SUPPORTED_COMPRESSION_STRATEGY),
+        Integer.toString(CompressionStrategy.GZIP.getValue()));
+    Assert.assertTrue(headers.containsKey(VENICE_CLIENT_DICTIONARY_SUPPORTED));
     Assert.assertTrue(headers.containsKey(VENICE_API_VERSION));
     Assert.assertEquals(headers.get(VENICE_KEY_COUNT), Integer.toString(keyCount));
   }
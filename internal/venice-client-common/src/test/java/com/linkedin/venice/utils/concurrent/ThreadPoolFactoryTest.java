@@ -3,9 +3,14 @@ package com.linkedin.venice.utils.concurrent;
 import static com.linkedin.venice.utils.concurrent.BlockingQueueType.ARRAY_BLOCKING_QUEUE;
 import static com.linkedin.venice.utils.concurrent.BlockingQueueType.LINKED_BLOCKING_QUEUE;
 
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.VirtualThreadFactory;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -24,4 +29,37 @@ public class ThreadPoolFactoryTest {
     Assert.assertTrue(executor.getQueue() instanceof ArrayBlockingQueue);
     executor.shutdownNow();
   }
+
+  @Test
+  public void testVirtualThreadPool() throws Exception {
+    if (!VirtualThreadFactory.isSupported()) {
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> ThreadPoolFactory.createVirtualThreadPool(1, "Test", 1, BlockingQueueType.LINKED_BLOCKING_QUEUE));
+      return;
+    }
+    ThreadPoolExecutor executor =
+        ThreadPoolFactory.createVirtualThreadPool(1, "Test", 1, BlockingQueueType.LINKED_BLOCKING_QUEUE);
+    try {
+      Future<Boolean> future = executor.submit(() -> VirtualThreadFactory.isVirtual(Thread.currentThread()));
+      Assert.assertTrue(future.get(10, TimeUnit.SECONDS));
+
+      // The concurrency and the queue are bounded, and the tasks beyond them are executed in the caller thread.
+      CountDownLatch startedLatch = new CountDownLatch(1);
+      CountDownLatch latch = new CountDownLatch(1);
+      executor.submit(() -> {
+        startedLatch.countDown();
+        latch.await();
+        return null;
+      });
+      Assert.assertTrue(startedLatch.await(10, TimeUnit.SECONDS));
+      executor.submit(() -> {});
+      Future<Thread> rejectedTaskThread = executor.submit(Thread::currentThread);
+      Assert.assertEquals(rejectedTaskThread.get(), Thread.currentThread());
+      Assert.assertEquals(executor.getQueue().size(), 1);
+      latch.countDown();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
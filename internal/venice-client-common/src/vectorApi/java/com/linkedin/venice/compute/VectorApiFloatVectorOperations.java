@@ -0,0 +1,52 @@
+package com.linkedin.venice.compute;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * The {@link FloatVectorOperations} with the JDK Vector API, which processes as many floats per instruction as the
+ * widest SIMD registers of the CPU hold, e.g. 8 with AVX2 and 16 with AVX-512.
+ *
+ * This class is compiled separately for JDK 17+, and it can only be loaded when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}, otherwise {@link ComputeUtils} falls back to the scalar loops.
+ */
+class VectorApiFloatVectorOperations implements FloatVectorOperations {
+  private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+  @Override
+  public float dotProduct(float[] array1, float[] array2, int size) {
+    FloatVector sum = FloatVector.zero(SPECIES);
+    int i = 0;
+    int limit = SPECIES.loopBound(size);
+    for (; i < limit; i += SPECIES.length()) {
+      FloatVector vector1 = FloatVector.fromArray(SPECIES, array1, i);
+      FloatVector vector2 = FloatVector.fromArray(SPECIES, array2, i);
+      sum = vector1.fma(vector2, sum);
+    }
+    float dotProductResult = sum.reduceLanes(VectorOperators.ADD);
+
+    // Multiply the remaining elements
+    for (; i < size; i++) {
+      dotProductResult += array1[i] * array2[i];
+    }
+    return dotProductResult;
+  }
+
+  @Override
+  public void hadamardProduct(float[] array1, float[] array2, float[] result, int size) {
+    int i = 0;
+    int limit = SPECIES.loopBound(size);
+    for (; i < limit; i += SPECIES.length()) {
+      FloatVector vector1 = FloatVector.fromArray(SPECIES, array1, i);
+      FloatVector vector2 = FloatVector.fromArray(SPECIES, array2, i);
+      vector1.mul(vector2).intoArray(result, i);
+    }
+
+    // Multiply the remaining elements
+    for (; i < size; i++) {
+      result[i] = array1[i] * array2[i];
+    }
+  }
+}
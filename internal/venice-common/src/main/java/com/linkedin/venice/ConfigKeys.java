@@ -455,6 +455,42 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+
+  /**
+   * Whether the store writers (drainers) should group the consecutive buffered records of the same partition and
+   * apply them through a single storage write batch.
+   */
+  public static final String STORE_WRITER_GROUP_COMMIT_ENABLED = "store.writer.group.commit.enabled";
+
+  /**
+   * The max number of records, which could be grouped into a single write batch by a store writer.
+   */
+  public static final String STORE_WRITER_GROUP_COMMIT_MAX_RECORD_COUNT = "store.writer.group.commit.max.record.count";
+
+  /**
+   * The max total size of the records, which could be grouped into a single write batch by a store writer.
+   */
+  public static final String STORE_WRITER_GROUP_COMMIT_MAX_BYTES = "store.writer.group.commit.max.bytes";
+
+  /**
+   * Whether the store buffer service should move a topic-partition from an overloaded store writer (drainer) to a
+   * less-loaded one, once all the buffered records of this topic-partition have been persisted.
+   */
+  public static final String STORE_WRITER_ADAPTIVE_ASSIGNMENT_ENABLED = "store.writer.adaptive.assignment.enabled";
+
+  /**
+   * The interval to re-evaluate the store writer (drainer) utilization, and also the min interval between two
+   * topic-partition reassignments.
+   */
+  public static final String STORE_WRITER_ADAPTIVE_ASSIGNMENT_INTERVAL_MS =
+      "store.writer.adaptive.assignment.interval.ms";
+
+  /**
+   * The max number of deserialized {@link com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope}s of each message
+   * type kept for reuse, once the store writers (drainers) have persisted the follower records holding them. Envelope
+   * recycling is disabled when it is 0.
+   */
+  public static final String STORE_WRITER_ENVELOPE_POOL_CAPACITY = "store.writer.envelope.pool.capacity";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -658,6 +694,40 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * The capacity of the off-heap value cache of each store-version for the single-get and batch-get lookups,
+   * and the value cache is disabled when it is not positive.
+   */
+  public static final String SERVER_VALUE_CACHE_CAPACITY_PER_STORE_VERSION =
+      "server.value.cache.capacity.per.store.version";
+
+  /**
+   * Whether single-get lookups should read the value into a pooled direct buffer, which is written out to the
+   * response without any intermediate on-heap copy.
+   */
+  public static final String SERVER_SINGLE_GET_POOLED_DIRECT_BUFFER_ENABLED =
+      "server.single.get.pooled.direct.buffer.enabled";
+
+  /**
+   * Whether the storage node should look up the keys of batch-get and compute requests with one batched lookup per
+   * partition, with the keys sorted, instead of one lookup per key. The chunks of large values are then fetched with
+   * another batched lookup.
+   */
+  public static final String SERVER_BATCH_LOOKUP_MULTI_GET_ENABLED = "server.batch.lookup.multi.get.enabled";
+
+  /**
+   * Whether the storage node should handle the reads (HTTP and gRPC) in a new virtual thread per task instead of
+   * the fixed size thread pools. Only effective on Java 21+, otherwise the fixed size thread pools are used.
+   */
+  public static final String SERVER_READ_VIRTUAL_THREAD_ENABLED = "server.read.virtual.thread.enabled";
+
+  /**
+   * The max number of the read tasks running concurrently in virtual threads per executor when
+   * {@link #SERVER_READ_VIRTUAL_THREAD_ENABLED} is true, beyond which the tasks are queued up to the queue capacity of
+   * the corresponding executor, e.g. {@link #SERVER_DATABASE_LOOKUP_QUEUE_CAPACITY}.
+   */
+  public static final String SERVER_READ_VIRTUAL_THREAD_MAX_CONCURRENCY = "server.read.virtual.thread.max.concurrency";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -1641,6 +1711,42 @@ public class ConfigKeys {
    */
   public static final String ROUTER_DICTIONARY_PROCESSING_THREADS = "router.dictionary.processing.threads";
 
+  /**
+   * Number of threads that the Router will use to decompress the multi-get responses for the clients which don't
+   * support the compression of the store, so the decompression doesn't occupy the event loop threads. When it is 0,
+   * the responses are decompressed in the thread receiving the response from the storage node.
+   */
+  public static final String ROUTER_MULTI_GET_DECOMPRESSION_THREADS = "router.multi.get.decompression.threads";
+
+  /**
+   * Comma-separated list of the stores for which the Router coalesces the concurrent single-get requests for the same
+   * key of the same version, so that a burst of requests for a hot key only sends one request to the storage node.
+   */
+  public static final String ROUTER_SINGLE_GET_COALESCING_STORES = "router.single.get.coalescing.stores";
+
+  /**
+   * Whether the Router enforces the per-store read quota with striped token buckets, which let the event loop threads
+   * consume the quota without contending on a shared counter, instead of the event throttlers.
+   */
+  public static final String ROUTER_READ_QUOTA_STRIPED_TOKEN_BUCKET_ENABLED =
+      "router.read.quota.striped.token.bucket.enabled";
+
+  /**
+   * The max size in bytes of the response content that the Router aggregates for a non-streaming multi-get or compute
+   * request. Once the sub-responses of a request exceed it, their content is released right away and the request fails
+   * as a request entity too large error. A non-positive value disables the limit.
+   */
+  public static final String ROUTER_MULTI_KEY_RESPONSE_MAX_SIZE_BYTES = "router.multi.key.response.max.size.bytes";
+
+  /**
+   * Whether the Router cancels the in-flight request to a storage node once the long-tail retry request of the same
+   * part has won, or the other way around, so the storage node can skip the work for the response nobody is waiting
+   * for. The HTTP/2 storage node client cancels the request by resetting its stream, while the HTTP/1.1 clients close
+   * the connection, so the Router refuses to start when it is enabled with any other
+   * {@link #ROUTER_STORAGE_NODE_CLIENT_TYPE}.
+   */
+  public static final String ROUTER_HEDGED_REQUEST_CANCELLATION_ENABLED = "router.hedged.request.cancellation.enabled";
+
   /**
    * The class name to use for the {@link PubSubAdminAdapter}.
    */
@@ -1775,6 +1881,18 @@ public class ConfigKeys {
   public static final String BLOB_TRANSFER_SNAPSHOT_RETENTION_TIME_IN_MIN =
       "blob.transfer.snapshot.retention.time.in.min";
   public static final String BLOB_TRANSFER_MAX_CONCURRENT_SNAPSHOT_USER = "blob.transfer.max.concurrent.snapshot.user";
+  /**
+   * Number of parallel connections used by the blob transfer client to fetch the files of a partition from a peer.
+   * The files are spread across the connections by size, and every connection counts as a concurrent user of the
+   * snapshot on the peer, see {@link #BLOB_TRANSFER_MAX_CONCURRENT_SNAPSHOT_USER}.
+   */
+  public static final String BLOB_TRANSFER_CLIENT_STREAM_COUNT = "blob.transfer.client.stream.count";
+  /**
+   * Whether the blob transfer client only fetches the files that are missing or changed in the local copy of the
+   * partition, based on the name, size and checksum of the files, and hard-links the unchanged ones. It speeds up the
+   * bootstrap of a restarted replica with a stale copy of the same version, at the cost of computing the checksums.
+   */
+  public static final String BLOB_TRANSFER_INCREMENTAL_ENABLED = "blob.transfer.incremental.enabled";
 
   // Port used by peer-to-peer transfer service. It should be used by both server and client
   public static final String DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT = "davinci.p2p.blob.transfer.server.port";
@@ -2053,6 +2171,35 @@ public class ConfigKeys {
    */
   public static final String CLIENT_PRODUCER_THREAD_NUM = "client.producer.thread.num";
 
+  /**
+   * Whether online Venice producer groups the writes into batches, which are serialized and sent by a few worker
+   * threads, instead of handing off every write to a thread of {@link #CLIENT_PRODUCER_THREAD_NUM}.
+   */
+  public static final String CLIENT_PRODUCER_BATCHING_ENABLED = "client.producer.batching.enabled";
+
+  /**
+   * The max time the first write of a batch waits for more writes to join the batch, when
+   * {@link #CLIENT_PRODUCER_BATCHING_ENABLED} is on. 0, the default, sends the writes queued so far right away.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_LINGER_MS = "client.producer.batch.linger.ms";
+
+  /**
+   * The max number of writes queued to a batch worker but not sent yet, beyond which the new writes routed to the
+   * worker fail right away, when {@link #CLIENT_PRODUCER_BATCHING_ENABLED} is on.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_WORKER_MAX_PENDING_WRITES =
+      "client.producer.batch.worker.max.pending.writes";
+
+  /**
+   * The max number of writes in a batch, when {@link #CLIENT_PRODUCER_BATCHING_ENABLED} is on.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_MAX_SIZE = "client.producer.batch.max.size";
+
+  /**
+   * Number of threads serializing and sending the batches, when {@link #CLIENT_PRODUCER_BATCHING_ENABLED} is on.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_WORKER_THREAD_NUM = "client.producer.batch.worker.thread.num";
+
   /**
    * The refresh interval for online producer to refresh value schemas and update schemas that rely on periodic polling.
    */
@@ -2315,6 +2462,13 @@ public class ConfigKeys {
 
   public static final String SERVER_AA_WC_WORKLOAD_PARALLEL_PROCESSING_THREAD_POOL_SIZE =
       "server.aa.wc.workload.parallel.processing.thread.pool.size";
+
+  /**
+   * The number of locks in the striped lock table of each store version to lock the keys during the Active/Active and
+   * Write Compute processing, where the lock of a key is picked by the hash of the key bytes. If it's not positive,
+   * the locks are handed out per key from a pool instead, which churns lock objects with high-cardinality batches.
+   */
+  public static final String SERVER_AA_WC_KEY_LEVEL_LOCK_STRIPE_COUNT = "server.aa.wc.key.level.lock.stripe.count";
   public static final String SERVER_GLOBAL_RT_DIV_ENABLED = "server.global.rt.div.enabled";
 
   /**
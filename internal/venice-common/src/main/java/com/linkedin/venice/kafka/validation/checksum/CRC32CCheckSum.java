@@ -0,0 +1,126 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.util.zip.Checksum;
+import org.apache.kafka.common.utils.Crc32C;
+
+
+/**
+ * Running checksum implementation based on CRC32C, which is computed by {@link java.util.zip.CRC32C} on Java 9+, where
+ * it is intrinsified with the CRC32 instructions of x86 and ARM, and by a pure Java implementation on Java 8.
+ *
+ * The running state of CRC32C can't be restored into a new generator, so the checksum of the content before the last
+ * checkpoint is kept aside and combined with the checksum of the content after it, the same way as zlib's
+ * crc32_combine, which makes the checksum support checkpointing with a 4-byte encoded state.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  /** The reversed polynomial of CRC32C (Castagnoli) */
+  private static final int CRC32C_POLYNOMIAL = 0x82F63B78;
+  private static final int GF2_DIM = 32;
+
+  private final Checksum checkSumGenerator;
+  /** The checksum of the content before the checkpoint the checksum was restored from */
+  private int checkpointedCheckSum;
+  /** The length of the content added since the checkpoint */
+  private long lengthSinceCheckpoint;
+
+  public CRC32CCheckSum() {
+    checkSumGenerator = Crc32C.create();
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    this();
+    checkpointedCheckSum = ByteUtils.readInt(encodedState, 0);
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    byte[] returnedCheckSum = new byte[ByteUtils.SIZE_OF_LONG];
+    ByteUtils.writeLong(returnedCheckSum, Integer.toUnsignedLong(getRunningCheckSum()), 0);
+    return returnedCheckSum;
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+    lengthSinceCheckpoint += length;
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator.reset();
+    checkpointedCheckSum = 0;
+    lengthSinceCheckpoint = 0;
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    byte[] encodedState = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(encodedState, getRunningCheckSum(), 0);
+    return encodedState;
+  }
+
+  private int getRunningCheckSum() {
+    return combine(checkpointedCheckSum, (int) checkSumGenerator.getValue(), lengthSinceCheckpoint);
+  }
+
+  /**
+   * @return the checksum of the concatenation of two contents, given their checksums and the length of the second.
+   */
+  static int combine(int checkSum1, int checkSum2, long length2) {
+    if (length2 <= 0) {
+      return checkSum1;
+    }
+    int[] even = new int[GF2_DIM]; // operator for an even power of two zero bits
+    int[] odd = new int[GF2_DIM]; // operator for an odd power of two zero bits
+
+    // Put the operator for one zero bit in odd
+    odd[0] = CRC32C_POLYNOMIAL;
+    int row = 1;
+    for (int n = 1; n < GF2_DIM; n++) {
+      odd[n] = row;
+      row <<= 1;
+    }
+    gf2MatrixSquare(even, odd); // the operator for two zero bits
+    gf2MatrixSquare(odd, even); // the operator for four zero bits
+
+    // Apply length2 zero bytes to checkSum1, where the first squaring puts the operator for one zero byte in even
+    do {
+      gf2MatrixSquare(even, odd);
+      if ((length2 & 1) != 0) {
+        checkSum1 = gf2MatrixTimes(even, checkSum1);
+      }
+      length2 >>>= 1;
+      if (length2 == 0) {
+        break;
+      }
+      gf2MatrixSquare(odd, even);
+      if ((length2 & 1) != 0) {
+        checkSum1 = gf2MatrixTimes(odd, checkSum1);
+      }
+      length2 >>>= 1;
+    } while (length2 != 0);
+    return checkSum1 ^ checkSum2;
+  }
+
+  private static int gf2MatrixTimes(int[] matrix, int vector) {
+    int sum = 0;
+    for (int i = 0; vector != 0; i++, vector >>>= 1) {
+      if ((vector & 1) != 0) {
+        sum ^= matrix[i];
+      }
+    }
+    return sum;
+  }
+
+  private static void gf2MatrixSquare(int[] square, int[] matrix) {
+    for (int n = 0; n < GF2_DIM; n++) {
+      square[n] = gf2MatrixTimes(matrix, matrix[n]);
+    }
+  }
+}
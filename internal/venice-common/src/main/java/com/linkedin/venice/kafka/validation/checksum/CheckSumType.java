@@ -7,11 +7,16 @@ import java.util.Map;
 
 /**
  * Types of checksum algorithms supported by Venice's Data Ingest Validation.
+ *
+ * The type of a segment is carried by its {@link com.linkedin.venice.kafka.protocol.StartOfSegment}, so the consumers
+ * which don't know a newer type, e.g. {@link #CRC32C}, fail to initialize the segment in {@link #valueOf(int)}
+ * instead of validating the segment with a wrong checksum. The producers must only use a newer type once all the
+ * consumers of the topic support it.
  */
 public enum CheckSumType {
   NONE(0, true), MD5(1, true), @Deprecated
   ADLER32(2, false), @Deprecated
-  CRC32(3, false), ADHASH(4, true);
+  CRC32(3, false), ADHASH(4, true), CRC32C(5, true);
 
   /** The value is the byte used on the wire format */
   private final int value;
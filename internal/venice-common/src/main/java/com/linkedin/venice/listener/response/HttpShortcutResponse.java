@@ -11,6 +11,7 @@ public class HttpShortcutResponse {
   private final HttpResponseStatus status;
 
   private boolean misroutedStoreVersion = false;
+  private boolean requestCancelled = false;
 
   public HttpShortcutResponse(String message, HttpResponseStatus status) {
     this.message = message;
@@ -36,4 +37,12 @@ public class HttpShortcutResponse {
   public void setMisroutedStoreVersion(boolean misroutedStoreVersion) {
     this.misroutedStoreVersion = misroutedStoreVersion;
   }
+
+  public boolean isRequestCancelled() {
+    return requestCancelled;
+  }
+
+  public void setRequestCancelled(boolean requestCancelled) {
+    this.requestCancelled = requestCancelled;
+  }
 }
@@ -104,6 +104,32 @@ public class PubSubMessageDeserializer {
     }
   }
 
+  /**
+   * Give back the envelope of a message, which will no longer be used, to its pool, so that it can be deserialized into
+   * again. The nested records which could outlive the message, e.g. the producer GUID kept as a key of the DIV state,
+   * are detached, so only the envelope and its payload are reused.
+   */
+  public void recycle(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message) {
+    KafkaMessageEnvelope value = message.getValue();
+    switch (message.getKey().getKeyHeaderByte()) {
+      case MessageType.Constants.PUT_KEY_HEADER_BYTE:
+        detachNestedRecords(value);
+        putEnvelopePool.dispose(value);
+        break;
+      case MessageType.Constants.UPDATE_KEY_HEADER_BYTE:
+        detachNestedRecords(value);
+        updateEnvelopePool.dispose(value);
+        break;
+      default:
+        // Control messages are not pooled
+    }
+  }
+
+  private static void detachNestedRecords(KafkaMessageEnvelope value) {
+    value.producerMetadata = null;
+    value.leaderMetadataFooter = null;
+  }
+
   public void close() {
     if (valueSerializer != null) {
       valueSerializer.close();
@@ -3,11 +3,15 @@ package com.linkedin.venice.serialization;
 import com.linkedin.venice.serialization.avro.ChunkedKeySuffixSerializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import java.nio.ByteBuffer;
+import org.apache.avro.io.BinaryData;
 
 
 public class KeyWithChunkingSuffixSerializer {
   public static final String IGNORED_TOPIC_NAME = "ignored";
   public static final ChunkedKeySuffix NON_CHUNK_KEY_SUFFIX = createNoChunkKeySuffix();
+  private static final int MAX_ENCODED_INT_LENGTH = 5;
+  private static final int IS_CHUNK_LENGTH = 1;
+  private static final byte ENCODED_IS_CHUNK = 1;
   private final ChunkedKeySuffixSerializer chunkedKeySuffixSerializer = new ChunkedKeySuffixSerializer();
   private final byte[] serializedNonChunkKeySuffix;
 
@@ -30,6 +34,28 @@ public class KeyWithChunkingSuffixSerializer {
     return serialize(key, encodedChunkedKeySuffix);
   }
 
+  /**
+   * The keys of all the chunks of a value only differ by the chunk index, which is encoded as a variable-length int
+   * right before the single byte of {@link ChunkedKeySuffix#isChunk} at the end of the suffix, so the key of a chunk is
+   * copied from the key of another chunk of the same value, instead of serializing the suffix again.
+   *
+   * @param chunkedKey the key of another chunk of the same value, which is not modified.
+   * @param chunkIndexOfChunkedKey the chunk index in the suffix of {@param chunkedKey}.
+   * @return an exactly-sized {@link ByteBuffer} containing the key appended by the suffix with the given chunk index
+   */
+  public ByteBuffer serializeChunkedKey(ByteBuffer chunkedKey, int chunkIndexOfChunkedKey, int chunkIndex) {
+    byte[] encodedChunkIndex = new byte[MAX_ENCODED_INT_LENGTH];
+    int prefixLength =
+        chunkedKey.remaining() - BinaryData.encodeInt(chunkIndexOfChunkedKey, encodedChunkIndex, 0) - IS_CHUNK_LENGTH;
+    int encodedChunkIndexLength = BinaryData.encodeInt(chunkIndex, encodedChunkIndex, 0);
+    ByteBuffer target = ByteBuffer.allocate(prefixLength + encodedChunkIndexLength + IS_CHUNK_LENGTH);
+    target.put(chunkedKey.array(), chunkedKey.arrayOffset() + chunkedKey.position(), prefixLength);
+    target.put(encodedChunkIndex, 0, encodedChunkIndexLength);
+    target.put(ENCODED_IS_CHUNK);
+    target.position(0);
+    return target;
+  }
+
   /**
    * @return an exactly-sized {@link ByteBuffer} containing the key appended by the standard suffix for non-chunked keys
    */
@@ -0,0 +1,259 @@
+package com.linkedin.venice.throttle;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A token bucket whose tokens are split into stripes, so that the concurrent threads, e.g. the event loop threads of
+ * the router, mostly consume the tokens of their own stripe instead of contending on the single counter of
+ * {@link TokenBucket}. Each thread sticks to one stripe, and a thread whose stripe runs out of tokens borrows them from
+ * the other stripes before rejecting the request, so the whole quota stays available to every thread. Once borrowing
+ * fails, the tokens it could gather are kept as a hint until the next refill, so the larger requests are rejected
+ * right away instead of scanning all the stripes again while the bucket is drained.
+ *
+ * The tokens are refilled once per refill interval, by the first thread noticing that the interval has elapsed, which
+ * also rebalances the tokens across the stripes in proportion to the tokens requested from each stripe during the last
+ * interval. The rebalancing only moves the surplus of the stripes above their share, so it never empties a stripe
+ * which is being consumed. Tokens which are borrowed concurrently with the rebalancing might be counted in both, so the
+ * total can briefly exceed the capacity by the tokens of the in-flight requests.
+ */
+public class StripedTokenBucket implements VeniceRateLimiter {
+  /**
+   * Each stripe takes a whole cache line of 64 bytes, to avoid false sharing between the threads of different stripes.
+   */
+  private static final int STRIPE_PADDING = 8;
+
+  /**
+   * The threads get consecutive numbers on their first use of any bucket, so the threads consuming a bucket spread
+   * evenly across its stripes, which the thread ids don't guarantee.
+   */
+  private static final AtomicInteger NEXT_THREAD_NUMBER = new AtomicInteger();
+  private static final ThreadLocal<Integer> THREAD_NUMBER =
+      ThreadLocal.withInitial(NEXT_THREAD_NUMBER::getAndIncrement);
+
+  private final long capacity;
+  private final long refillAmount;
+  private final long refillIntervalMs;
+  private final int stripeCount;
+  private final Clock clock;
+  private final AtomicLongArray tokens;
+  private final AtomicLongArray tokensRequestedSinceLastRefill;
+  private final AtomicLong nextRefillTime;
+
+  /**
+   * The tokens which the last failed borrowing could gather from all the stripes, which is reset by every refill. The
+   * tokens held by a concurrent borrowing are missed, so the hint could be low until the next refill.
+   */
+  private volatile long borrowableTokensHint = Long.MAX_VALUE;
+
+  // Only used in helper methods
+  private volatile long quota;
+
+  public StripedTokenBucket(long capacity, long refillAmount, long refillIntervalMs, int stripeCount, Clock clock) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket capacity " + capacity + " is not valid.  Must not be negative");
+    }
+    if (refillAmount < 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket refillAmount " + refillAmount + " is not valid.  Must not be negative");
+    }
+    if (refillIntervalMs <= 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket refillIntervalMs " + refillIntervalMs + " is not valid.  Must be greater than 0");
+    }
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket stripeCount " + stripeCount + " is not valid.  Must be greater than 0");
+    }
+    this.capacity = capacity;
+    this.refillAmount = refillAmount;
+    this.refillIntervalMs = refillIntervalMs;
+    this.stripeCount = stripeCount;
+    this.clock = clock;
+    this.tokens = new AtomicLongArray(stripeCount * STRIPE_PADDING);
+    this.tokensRequestedSinceLastRefill = new AtomicLongArray(stripeCount * STRIPE_PADDING);
+    this.nextRefillTime = new AtomicLong(clock.millis() + refillIntervalMs);
+
+    // The bucket starts full, with the capacity evenly split across the stripes
+    for (int stripe = 0; stripe < stripeCount; stripe++) {
+      tokens.set(index(stripe), capacity / stripeCount + (stripe < capacity % stripeCount ? 1 : 0));
+    }
+  }
+
+  /**
+   * @param rcuPerSecond number of units per second to allow
+   * @param refillIntervalMs how often the tokens are refilled and rebalanced across the stripes
+   * @param capacityMultiple the capacity of the bucket is the refill amount times this multiple
+   */
+  public static StripedTokenBucket fromRcuPerSecond(
+      long rcuPerSecond,
+      long refillIntervalMs,
+      int capacityMultiple,
+      int stripeCount,
+      Clock clock) {
+    long refillAmount = (long) Math.ceil(rcuPerSecond / 1000.0 * refillIntervalMs);
+    return new StripedTokenBucket(refillAmount * capacityMultiple, refillAmount, refillIntervalMs, stripeCount, clock);
+  }
+
+  @Override
+  public boolean tryAcquirePermit(int units) {
+    maybeRefill();
+    int stripe = getStripe();
+    tokensRequestedSinceLastRefill.getAndAdd(index(stripe), units);
+    if (tryConsume(stripe, units)) {
+      return true;
+    }
+    if (units > borrowableTokensHint) {
+      return false;
+    }
+    // Borrow from the other stripes, possibly gathering the tokens of several stripes for a large request
+    long borrowedTokens = 0;
+    for (int i = 0; i < stripeCount && borrowedTokens < units; i++) {
+      borrowedTokens += takeTokens((stripe + i) % stripeCount, units - borrowedTokens);
+    }
+    if (borrowedTokens == units) {
+      return true;
+    }
+    tokens.getAndAdd(index(stripe), borrowedTokens);
+    borrowableTokensHint = borrowedTokens;
+    return false;
+  }
+
+  /**
+   * @return number of tokens remaining in all the stripes as of the last refill or consumption.
+   */
+  public long getStaleTokenCount() {
+    long tokenCount = 0;
+    for (int stripe = 0; stripe < stripeCount; stripe++) {
+      tokenCount += tokens.get(index(stripe));
+    }
+    return tokenCount;
+  }
+
+  private void maybeRefill() {
+    long refillTime = nextRefillTime.get();
+    long timeNow = clock.millis();
+    if (timeNow < refillTime) {
+      return;
+    }
+    long refillCount = (timeNow - refillTime) / refillIntervalMs + 1;
+    // Only the thread which moves the next refill time forward refills the bucket
+    if (nextRefillTime.compareAndSet(refillTime, refillTime + refillCount * refillIntervalMs)) {
+      refill(refillCount * refillAmount);
+      borrowableTokensHint = Long.MAX_VALUE;
+    }
+  }
+
+  private void refill(long refillTokens) {
+    long[] stripeTokens = new long[stripeCount];
+    long[] stripeDemands = new long[stripeCount];
+    long totalTokens = 0;
+    long totalDemand = 0;
+    int busiestStripe = 0;
+    for (int stripe = 0; stripe < stripeCount; stripe++) {
+      stripeTokens[stripe] = tokens.get(index(stripe));
+      // Every stripe keeps a small share even when it was idle during the last interval
+      stripeDemands[stripe] = tokensRequestedSinceLastRefill.getAndSet(index(stripe), 0) + 1;
+      totalTokens += stripeTokens[stripe];
+      totalDemand += stripeDemands[stripe];
+      if (stripeDemands[stripe] > stripeDemands[busiestStripe]) {
+        busiestStripe = stripe;
+      }
+    }
+
+    long newTotalTokens = Math.min(capacity, totalTokens + refillTokens);
+    long[] stripeTargets = new long[stripeCount];
+    long tokensToGive = Math.max(0, newTotalTokens - totalTokens);
+    for (int stripe = 0; stripe < stripeCount; stripe++) {
+      stripeTargets[stripe] = (long) ((double) newTotalTokens * stripeDemands[stripe] / totalDemand);
+      if (stripeTokens[stripe] > stripeTargets[stripe]) {
+        tokensToGive += takeTokens(stripe, stripeTokens[stripe] - stripeTargets[stripe]);
+      }
+    }
+    for (int stripe = 0; stripe < stripeCount && tokensToGive > 0; stripe++) {
+      if (stripeTokens[stripe] < stripeTargets[stripe]) {
+        long tokensForStripe = Math.min(tokensToGive, stripeTargets[stripe] - stripeTokens[stripe]);
+        tokens.getAndAdd(index(stripe), tokensForStripe);
+        tokensToGive -= tokensForStripe;
+      }
+    }
+    // The rounding leftover goes to the stripe with the most demand
+    if (tokensToGive > 0) {
+      tokens.getAndAdd(index(busiestStripe), tokensToGive);
+    }
+  }
+
+  private boolean tryConsume(int stripe, long tokensToConsume) {
+    int index = index(stripe);
+    while (true) {
+      long availableTokens = tokens.get(index);
+      if (availableTokens < tokensToConsume) {
+        return false;
+      }
+      if (tokens.compareAndSet(index, availableTokens, availableTokens - tokensToConsume)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @return the number of tokens taken from the stripe, which is at most the given max.
+   */
+  private long takeTokens(int stripe, long maxTokens) {
+    int index = index(stripe);
+    while (true) {
+      long availableTokens = tokens.get(index);
+      long tokensToTake = Math.min(availableTokens, maxTokens);
+      if (tokensToTake <= 0) {
+        return 0;
+      }
+      if (tokens.compareAndSet(index, availableTokens, availableTokens - tokensToTake)) {
+        return tokensToTake;
+      }
+    }
+  }
+
+  /**
+   * The threads consuming the tokens, e.g. the event loop threads, are long-lived, so each of them sticks to a stripe.
+   */
+  private int getStripe() {
+    return Math.floorMod(THREAD_NUMBER.get(), stripeCount);
+  }
+
+  private static int index(int stripe) {
+    return stripe * STRIPE_PADDING;
+  }
+
+  @Override
+  public void setQuota(long quota) {
+    this.quota = quota;
+  }
+
+  @Override
+  public long getQuota() {
+    return quota;
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public long getRefillAmount() {
+    return refillAmount;
+  }
+
+  public int getStripeCount() {
+    return stripeCount;
+  }
+
+  @Override
+  public String toString() {
+    return "StripedTokenBucket{" + "capacity=" + capacity + ", refillAmount=" + refillAmount + ", refillIntervalMs="
+        + refillIntervalMs + ", stripeCount=" + stripeCount + ", tokens=" + getStaleTokenCount() + ", nextRefillTime="
+        + nextRefillTime + '}';
+  }
+}
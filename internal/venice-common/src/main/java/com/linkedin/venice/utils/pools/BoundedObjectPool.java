@@ -0,0 +1,36 @@
+package com.linkedin.venice.utils.pools;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+
+/**
+ * A thread-safe implementation which keeps up to a fixed number of disposed objects for reuse, and lets the garbage
+ * collector dispose of the objects given back while the pool is full. A new object is allocated whenever the pool is
+ * empty, so {@link #get()} never blocks.
+ */
+public class BoundedObjectPool<O> extends AbstractObjectPool<O> {
+  private final BlockingQueue<O> pooledObjects;
+
+  public BoundedObjectPool(Supplier<O> objectSupplier, int capacity) {
+    super(objectSupplier);
+    this.pooledObjects = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  public O get() {
+    O object = pooledObjects.poll();
+    return object == null ? super.get() : object;
+  }
+
+  @Override
+  public void dispose(O object) {
+    pooledObjects.offer(object);
+  }
+
+  /** Used for testing */
+  int size() {
+    return pooledObjects.size();
+  }
+}
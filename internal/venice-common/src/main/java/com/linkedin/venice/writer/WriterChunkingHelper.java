@@ -6,6 +6,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.storage.protocol.ChunkId;
@@ -24,10 +25,39 @@ import java.util.function.Supplier;
 public class WriterChunkingHelper {
   public static final ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.allocate(0);
 
+  public static ChunkedPayloadAndManifest chunkPayloadAndSend(
+      byte[] serializedKey,
+      byte[] payload,
+      boolean isValuePayload,
+      int schemaId,
+      int chunkedKeySuffixStartingIndex,
+      boolean isChunkAwareCallback,
+      Supplier<String> sizeReport,
+      int maxSizeForUserPayloadPerMessageInBytes,
+      KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer,
+      BiConsumer<VeniceWriter.KeyProvider, Put> sendMessageFunction) {
+    return chunkPayloadAndSend(
+        serializedKey,
+        ByteBuffer.wrap(payload),
+        isValuePayload,
+        schemaId,
+        chunkedKeySuffixStartingIndex,
+        isChunkAwareCallback,
+        sizeReport,
+        maxSizeForUserPayloadPerMessageInBytes,
+        keyWithChunkingSuffixSerializer,
+        sendMessageFunction);
+  }
+
   /**
    * This method chunks payload and send each chunk out.
+   *
+   * Unless the chunks are handed over to a {@link ChunkAwareCallback}, each chunk is a view of the payload instead of a
+   * copy, since it is only read when the chunk is serialized by the {@link PubSubProducerAdapter}, so the payload must
+   * not be modified until all the chunks are sent, the same as the value of a non-chunked put.
+   *
    * @param serializedKey serialized key input
-   * @param payload serialized payload could be value bytes or RMD bytes.
+   * @param payload serialized payload could be value bytes or RMD bytes, from its position to its limit.
    * @param schemaId value schema ID
    * @param isChunkAwareCallback boolean flag indicating whether to create chunk
    * @param sizeReport supplier function for size report.
@@ -38,7 +68,7 @@ public class WriterChunkingHelper {
    */
   public static ChunkedPayloadAndManifest chunkPayloadAndSend(
       byte[] serializedKey,
-      byte[] payload,
+      ByteBuffer payload,
       boolean isValuePayload,
       int schemaId,
       int chunkedKeySuffixStartingIndex,
@@ -49,11 +79,12 @@ public class WriterChunkingHelper {
       BiConsumer<VeniceWriter.KeyProvider, Put> sendMessageFunction) {
     int sizeAvailablePerMessage = maxSizeForUserPayloadPerMessageInBytes - serializedKey.length;
     validateAvailableSizePerMessage(maxSizeForUserPayloadPerMessageInBytes, sizeAvailablePerMessage, sizeReport);
-    int numberOfChunks = (int) Math.ceil((double) payload.length / (double) sizeAvailablePerMessage);
+    int payloadLength = payload.remaining();
+    int numberOfChunks = (int) Math.ceil((double) payloadLength / (double) sizeAvailablePerMessage);
     final ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
     chunkedValueManifest.schemaId = schemaId;
     chunkedValueManifest.keysWithChunkIdSuffix = new ArrayList<>(numberOfChunks);
-    chunkedValueManifest.size = payload.length;
+    chunkedValueManifest.size = payloadLength;
 
     VeniceWriter.KeyProvider keyProvider, firstKeyProvider, subsequentKeyProvider;
     ByteBuffer[] chunks = null;
@@ -72,30 +103,48 @@ public class WriterChunkingHelper {
     chunkedKeySuffix.isChunk = true;
     chunkedKeySuffix.chunkId = new ChunkId();
 
-    subsequentKeyProvider = producerMetadata -> {
-      ByteBuffer keyWithSuffix = keyWithChunkingSuffixSerializer.serializeChunkedKey(serializedKey, chunkedKeySuffix);
-      chunkedValueManifest.keysWithChunkIdSuffix.add(keyWithSuffix);
-      return new KafkaKey(MessageType.PUT, keyWithSuffix.array());
-    };
     firstKeyProvider = producerMetadata -> {
       chunkedKeySuffix.chunkId.producerGUID = producerMetadata.producerGUID;
       chunkedKeySuffix.chunkId.segmentNumber = producerMetadata.segmentNumber;
       chunkedKeySuffix.chunkId.messageSequenceNumber = producerMetadata.messageSequenceNumber;
-      return subsequentKeyProvider.getKey(producerMetadata);
+      ByteBuffer keyWithSuffix = keyWithChunkingSuffixSerializer.serializeChunkedKey(serializedKey, chunkedKeySuffix);
+      chunkedValueManifest.keysWithChunkIdSuffix.add(keyWithSuffix);
+      return new KafkaKey(MessageType.PUT, keyWithSuffix.array());
+    };
+    // The keys of the subsequent chunks are copied from the key of the first chunk, which only differs by chunk index
+    subsequentKeyProvider = producerMetadata -> {
+      ByteBuffer keyWithSuffix = keyWithChunkingSuffixSerializer.serializeChunkedKey(
+          chunkedValueManifest.keysWithChunkIdSuffix.get(0),
+          chunkedKeySuffixStartingIndex,
+          chunkedKeySuffix.chunkId.chunkIndex);
+      chunkedValueManifest.keysWithChunkIdSuffix.add(keyWithSuffix);
+      return new KafkaKey(MessageType.PUT, keyWithSuffix.array());
     };
     for (int chunkIndex = 0; chunkIndex < numberOfChunks; chunkIndex++) {
       int chunkStartByteIndex = chunkIndex * sizeAvailablePerMessage;
-      int chunkEndByteIndex = Math.min((chunkIndex + 1) * sizeAvailablePerMessage, payload.length);
-
-      /**
-       * We leave 4 bytes of headroom at the beginning of the ByteBuffer so that the Venice Storage Node
-       * can use this room to write the value header, without allocating a new byte array nor copying.
-       */
+      int chunkEndByteIndex = Math.min((chunkIndex + 1) * sizeAvailablePerMessage, payloadLength);
       final int chunkLength = chunkEndByteIndex - chunkStartByteIndex;
-      byte[] chunkValue = new byte[chunkLength + ByteUtils.SIZE_OF_INT];
-      System.arraycopy(payload, chunkStartByteIndex, chunkValue, ByteUtils.SIZE_OF_INT, chunkLength);
-      ByteBuffer chunk = ByteBuffer.wrap(chunkValue);
-      chunk.position(ByteUtils.SIZE_OF_INT);
+
+      ByteBuffer chunk;
+      if (chunks == null && payload.hasArray()) {
+        /**
+         * The view is not a {@link ByteBuffer#slice()}, since the checksum of the segment reads the put value from its
+         * position in the backing array, regardless of the array offset.
+         */
+        chunk = ByteBuffer
+            .wrap(payload.array(), payload.arrayOffset() + payload.position() + chunkStartByteIndex, chunkLength);
+      } else {
+        /**
+         * We leave 4 bytes of headroom at the beginning of the ByteBuffer so that the Venice Storage Node
+         * can use this room to write the value header, without allocating a new byte array nor copying.
+         */
+        byte[] chunkValue = new byte[chunkLength + ByteUtils.SIZE_OF_INT];
+        ByteBuffer payloadOfChunk = payload.duplicate();
+        payloadOfChunk.position(payload.position() + chunkStartByteIndex);
+        payloadOfChunk.get(chunkValue, ByteUtils.SIZE_OF_INT, chunkLength);
+        chunk = ByteBuffer.wrap(chunkValue);
+        chunk.position(ByteUtils.SIZE_OF_INT);
+      }
 
       if (chunks != null) {
         chunks[chunkIndex] = chunk;
@@ -1,8 +1,11 @@
 package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -28,4 +31,29 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test(dataProvider = "CheckpointingSupported-CheckSum-Types", dataProviderClass = DataProviderUtils.class)
+  public void testCheckSumRestoredFromEncodedState(CheckSumType checkSumType) {
+    byte[] content = new byte[10000];
+    new Random(1).nextBytes(content);
+    CheckSum checkSum = CheckSum.getInstance(checkSumType);
+    CheckSum restoredCheckSum = CheckSum.getInstance(checkSumType);
+    int startIndex = 0;
+    for (int length: new int[] { 1, 100, 4000, 5899 }) {
+      checkSum.update(content, startIndex, length);
+      restoredCheckSum.update(content, startIndex, length);
+      startIndex += length;
+      // Checkpoint the checksum and restore it from the encoded state
+      restoredCheckSum = CheckSum.getInstance(checkSumType, restoredCheckSum.getEncodedState());
+    }
+    Assert.assertEquals(restoredCheckSum.getCheckSum(), checkSum.getCheckSum());
+  }
+
+  @Test
+  public void testCRC32CCheckSum() {
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C);
+    checkSum.update("123456789".getBytes(StandardCharsets.US_ASCII));
+    // The check value of CRC32C
+    Assert.assertEquals(ByteUtils.readLong(checkSum.getCheckSum(), 0), 0xE3069283L);
+  }
 }
@@ -2,6 +2,8 @@ package com.linkedin.venice.pubsub.api;
 
 import static com.linkedin.venice.pubsub.api.PubSubMessageHeaders.VENICE_TRANSPORT_PROTOCOL_HEADER;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
 import com.linkedin.venice.exceptions.VeniceMessageException;
 import com.linkedin.venice.kafka.protocol.GUID;
@@ -15,6 +17,7 @@ import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.serialization.KafkaKeySerializer;
 import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
 import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
+import com.linkedin.venice.utils.pools.BoundedObjectPool;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import java.nio.ByteBuffer;
 import org.testng.annotations.AfterMethod;
@@ -129,6 +132,31 @@ public class PubSubMessageDeserializerTest {
     assertEquals((long) message.getOffset(), 11);
   }
 
+  @Test
+  public void testRecycledEnvelopeIsReused() {
+    PubSubMessageDeserializer recyclingDeserializer = new PubSubMessageDeserializer(
+        new OptimizedKafkaValueSerializer(),
+        new BoundedObjectPool<>(KafkaMessageEnvelope::new, 1),
+        new BoundedObjectPool<>(KafkaMessageEnvelope::new, 1));
+    byte[] keyBytes = keySerializer.serialize("test", new KafkaKey(MessageType.PUT, "key".getBytes()));
+    KafkaMessageEnvelope value = getDummyValue();
+    byte[] valueBytes = valueSerializer.serialize("test", value);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message =
+        recyclingDeserializer.deserialize(topicPartition, keyBytes, valueBytes, new PubSubMessageHeaders(), 11L, 12L);
+    KafkaMessageEnvelope envelope = message.getValue();
+    ProducerMetadata producerMetadata = envelope.producerMetadata;
+    recyclingDeserializer.recycle(message);
+
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> nextMessage =
+        recyclingDeserializer.deserialize(topicPartition, keyBytes, valueBytes, new PubSubMessageHeaders(), 13L, 14L);
+    assertSame(nextMessage.getValue(), envelope);
+    assertEquals(nextMessage.getValue(), value);
+    // The producer metadata could be kept by the DIV state, so it is not reused
+    assertNotSame(nextMessage.getValue().producerMetadata, producerMetadata);
+    assertEquals(producerMetadata, value.producerMetadata);
+    recyclingDeserializer.close();
+  }
+
   private KafkaMessageEnvelope getDummyValue() {
     KafkaMessageEnvelope value = new KafkaMessageEnvelope();
     value.producerMetadata = new ProducerMetadata();
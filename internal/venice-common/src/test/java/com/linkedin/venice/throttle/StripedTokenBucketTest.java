@@ -0,0 +1,104 @@
+package com.linkedin.venice.throttle;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedTokenBucketTest {
+  @Test
+  public void testConsume() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    StripedTokenBucket tokenBucket = new StripedTokenBucket(100, 10, 1000, 4, mockClock);
+    assertEquals(tokenBucket.getStaleTokenCount(), 100, "StripedTokenBucket must start with full capacity");
+    // More than the tokens of one stripe, so the tokens of the other stripes are borrowed
+    assertTrue(tokenBucket.tryAcquirePermit(80), "StripedTokenBucket must allow consuming available tokens");
+    assertEquals(tokenBucket.getStaleTokenCount(), 20);
+    assertFalse(tokenBucket.tryAcquirePermit(40), "StripedTokenBucket must not allow consuming unavailable tokens");
+    assertEquals(
+        tokenBucket.getStaleTokenCount(),
+        20,
+        "After failing to consume tokens, the remaining tokens in the bucket must be unchanged");
+
+    doReturn(start + 3500).when(mockClock).millis(); // 3 refills of 10 each puts bucket at 50.
+    assertTrue(tokenBucket.tryAcquirePermit(40), "After refill, bucket must support consumption");
+    assertEquals(tokenBucket.getStaleTokenCount(), 10);
+
+    // The refill never goes beyond the capacity
+    doReturn(start + 100000).when(mockClock).millis();
+    assertTrue(tokenBucket.tryAcquirePermit(1));
+    assertEquals(tokenBucket.getStaleTokenCount(), 99);
+  }
+
+  @Test
+  public void testConsumeAfterFailedBorrowing() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    StripedTokenBucket tokenBucket = new StripedTokenBucket(40, 40, 1000, 4, mockClock);
+    assertTrue(tokenBucket.tryAcquirePermit(30));
+    assertFalse(tokenBucket.tryAcquirePermit(20));
+    assertFalse(tokenBucket.tryAcquirePermit(11));
+    // The requests which fit in the remaining tokens are still allowed, even from other stripes
+    assertTrue(tokenBucket.tryAcquirePermit(10));
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+
+    doReturn(start + 1000).when(mockClock).millis();
+    assertTrue(tokenBucket.tryAcquirePermit(20), "After refill, the larger requests must be allowed again");
+  }
+
+  @Test
+  public void testConcurrentConsume() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    doReturn(System.currentTimeMillis()).when(mockClock).millis();
+    StripedTokenBucket tokenBucket = new StripedTokenBucket(1000, 10, 1000, 3, mockClock);
+
+    AtomicLong approved = new AtomicLong();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread thread = new Thread(() -> {
+        for (int j = 0; j < 500; j++) {
+          if (tokenBucket.tryAcquirePermit(1)) {
+            approved.incrementAndGet();
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread: threads) {
+      thread.join();
+    }
+    // Without any refill, exactly the capacity is approved no matter which stripes the threads use
+    assertEquals(approved.get(), 1000);
+    assertEquals(tokenBucket.getStaleTokenCount(), 0);
+  }
+
+  @Test
+  public void testFromRcuPerSecond() {
+    StripedTokenBucket tokenBucket = StripedTokenBucket.fromRcuPerSecond(1000, 500, 10, 4, Clock.systemUTC());
+    assertEquals(tokenBucket.getRefillAmount(), 500);
+    assertEquals(tokenBucket.getCapacity(), 5000);
+    assertEquals(tokenBucket.getStripeCount(), 4);
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(-1, 1, 1, 1, Clock.systemUTC()));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(1, 1, 0, 1, Clock.systemUTC()));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new StripedTokenBucket(1, 1, 1, 0, Clock.systemUTC()));
+  }
+}
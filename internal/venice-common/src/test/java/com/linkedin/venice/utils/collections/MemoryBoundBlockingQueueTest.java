@@ -119,4 +119,27 @@ public class MemoryBoundBlockingQueueTest {
       TestUtils.shutdownThread(t);
     }
   }
+
+  @Test
+  public void testPeekAndPoll() throws InterruptedException {
+    int memoryCap = 5000;
+    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(memoryCap, 1000);
+    Assert.assertNull(queue.peek());
+    Assert.assertNull(queue.poll());
+
+    MeasurableObject first = new MeasurableObject();
+    MeasurableObject second = new MeasurableObject();
+    queue.put(first);
+    queue.put(second);
+    long memoryUsage = queue.getMemoryUsage();
+    Assert.assertTrue(memoryUsage > 0);
+
+    Assert.assertSame(queue.peek(), first);
+    Assert.assertEquals(queue.size(), 2);
+    Assert.assertSame(queue.poll(), first);
+    Assert.assertSame(queue.peek(), second);
+    Assert.assertSame(queue.poll(), second);
+    Assert.assertNull(queue.poll());
+    Assert.assertEquals(queue.size(), 0);
+  }
 }
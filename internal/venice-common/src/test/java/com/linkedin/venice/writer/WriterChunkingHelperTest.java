@@ -1,6 +1,15 @@
 package com.linkedin.venice.writer;
 
+import com.linkedin.venice.guid.GuidUtils;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.storage.protocol.ChunkId;
+import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -24,4 +33,87 @@ public class WriterChunkingHelperTest {
         (x, y) -> {});
     Assert.assertEquals(result.getPayloadChunks().length, 5);
   }
+
+  @Test
+  public void testChunkPayloadWithoutCopy() {
+    byte[] keyBytes = new byte[10];
+    byte[] payloadBytes = new byte[1000];
+    for (int i = 0; i < payloadBytes.length; i++) {
+      payloadBytes[i] = (byte) i;
+    }
+    // The payload starts after some bytes which don't belong to it
+    ByteBuffer payload = ByteBuffer.wrap(payloadBytes, 10, 990).slice();
+    KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+    ProducerMetadata producerMetadata = new ProducerMetadata();
+    producerMetadata.producerGUID = GuidUtils.getGUID(VeniceProperties.empty());
+    producerMetadata.segmentNumber = 1;
+    producerMetadata.messageSequenceNumber = 1000;
+    List<byte[]> keys = new ArrayList<>();
+    List<ByteBuffer> chunks = new ArrayList<>();
+    // The chunk indexes cross the boundary of the variable-length encoding of the chunk index in the key
+    int chunkedKeySuffixStartingIndex = 60;
+    ChunkedPayloadAndManifest result = WriterChunkingHelper.chunkPayloadAndSend(
+        keyBytes,
+        payload,
+        true,
+        1,
+        chunkedKeySuffixStartingIndex,
+        false,
+        () -> "",
+        30,
+        keyWithChunkingSuffixSerializer,
+        (keyProvider, put) -> {
+          keys.add(keyProvider.getKey(producerMetadata).getKey());
+          chunks.add(put.putValue);
+        });
+    Assert.assertNull(result.getPayloadChunks());
+    Assert.assertEquals(chunks.size(), 50);
+    Assert.assertEquals(result.getChunkedValueManifest().size, 990);
+
+    ChunkedKeySuffix chunkedKeySuffix = new ChunkedKeySuffix();
+    chunkedKeySuffix.isChunk = true;
+    chunkedKeySuffix.chunkId = new ChunkId();
+    chunkedKeySuffix.chunkId.producerGUID = producerMetadata.producerGUID;
+    chunkedKeySuffix.chunkId.segmentNumber = producerMetadata.segmentNumber;
+    chunkedKeySuffix.chunkId.messageSequenceNumber = producerMetadata.messageSequenceNumber;
+    for (int i = 0; i < chunks.size(); i++) {
+      ByteBuffer chunk = chunks.get(i);
+      // The chunk is a view of the payload, which is readable from its position in the backing array
+      Assert.assertSame(chunk.array(), payloadBytes);
+      Assert.assertEquals(chunk.arrayOffset(), 0);
+      Assert.assertEquals(chunk.position(), 10 + i * 20);
+      Assert.assertEquals(chunk.remaining(), Math.min(20, 990 - i * 20));
+
+      chunkedKeySuffix.chunkId.chunkIndex = chunkedKeySuffixStartingIndex + i;
+      ByteBuffer expectedKey = keyWithChunkingSuffixSerializer.serializeChunkedKey(keyBytes, chunkedKeySuffix);
+      Assert.assertEquals(keys.get(i), expectedKey.array());
+      Assert.assertEquals(result.getChunkedValueManifest().keysWithChunkIdSuffix.get(i), expectedKey);
+    }
+  }
+
+  @Test
+  public void testChunkPayloadWithChunkAwareCallback() {
+    byte[] payloadBytes = new byte[100];
+    List<Put> puts = new ArrayList<>();
+    ChunkedPayloadAndManifest result = WriterChunkingHelper.chunkPayloadAndSend(
+        new byte[10],
+        ByteBuffer.wrap(payloadBytes),
+        false,
+        1,
+        0,
+        true,
+        () -> "",
+        30,
+        new KeyWithChunkingSuffixSerializer(),
+        (keyProvider, put) -> puts.add(put));
+    Assert.assertEquals(result.getPayloadChunks().length, 5);
+    for (int i = 0; i < puts.size(); i++) {
+      // The chunks handed over to the callback are copies with the headroom for the value header
+      ByteBuffer chunk = puts.get(i).replicationMetadataPayload;
+      Assert.assertSame(chunk, result.getPayloadChunks()[i]);
+      Assert.assertNotSame(chunk.array(), payloadBytes);
+      Assert.assertEquals(chunk.position(), 4);
+      Assert.assertEquals(chunk.remaining(), 20);
+    }
+  }
 }
@@ -0,0 +1,145 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.utils.locks.AutoCloseableLock;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the key level locks taken by the Active/Active and Write Compute batch processing: the pooled lock per key
+ * of {@link KeyLevelLocksManager} vs. the fixed lock table of {@link StripedKeyLevelLocksManager}, see
+ * {@link com.linkedin.venice.ConfigKeys#SERVER_AA_WC_KEY_LEVEL_LOCK_STRIPE_COUNT}.
+ *
+ * Each benchmark invocation locks the keys of a batch the same way as {@link IngestionBatchProcessor}, does a bit of
+ * CPU work while holding the locks, like the processing of the batch, and then unlocks them.
+ *
+ * It lives in the same package as the lock managers, since their APIs are package-private.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyLevelLocksBenchmark {
+  private static final int MAX_THREAD_COUNT = 32;
+  private static final int KEY_SPACE_SIZE = 1_000_000;
+  private static final int STRIPE_COUNT = 4096;
+
+  @Param({ "POOLED", "STRIPED" })
+  private String lockManagerType;
+
+  @Param({ "1", "100" })
+  private int batchSize;
+
+  private byte[][] keys;
+  private KeyLevelLocksManager keyLevelLocksManager;
+  private StripedKeyLevelLocksManager stripedKeyLevelLocksManager;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    keys = new byte[KEY_SPACE_SIZE][];
+    for (int i = 0; i < KEY_SPACE_SIZE; i++) {
+      keys[i] = ("key_" + i).getBytes(StandardCharsets.UTF_8);
+    }
+    if (lockManagerType.equals("STRIPED")) {
+      stripedKeyLevelLocksManager = new StripedKeyLevelLocksManager(STRIPE_COUNT);
+    } else {
+      // Same sizing as the ingestion task, where every thread could hold the locks of a whole batch
+      keyLevelLocksManager = new KeyLevelLocksManager("benchmark_v1", 2, MAX_THREAD_COUNT * batchSize + 1);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadContext {
+    byte[][] batch;
+    int[] stripeIndexes;
+
+    @Setup(Level.Trial)
+    public void setUp(KeyLevelLocksBenchmark benchmark) {
+      batch = new byte[benchmark.batchSize][];
+      stripeIndexes = new int[benchmark.batchSize];
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void lockBatchWithOneThread(ThreadContext context, Blackhole blackhole) {
+    lockBatch(context, blackhole);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void lockBatchWithEightThreads(ThreadContext context, Blackhole blackhole) {
+    lockBatch(context, blackhole);
+  }
+
+  @Benchmark
+  @Threads(MAX_THREAD_COUNT)
+  public void lockBatchWithThirtyTwoThreads(ThreadContext context, Blackhole blackhole) {
+    lockBatch(context, blackhole);
+  }
+
+  private void lockBatch(ThreadContext context, Blackhole blackhole) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < batchSize; i++) {
+      context.batch[i] = keys[random.nextInt(KEY_SPACE_SIZE)];
+    }
+    if (stripedKeyLevelLocksManager != null) {
+      for (int i = 0; i < batchSize; i++) {
+        context.stripeIndexes[i] = stripedKeyLevelLocksManager.getStripeIndex(context.batch[i]);
+      }
+      try (AutoCloseableLock ignored = stripedKeyLevelLocksManager.lockStripes(context.stripeIndexes, batchSize)) {
+        process(context, blackhole);
+      }
+    } else {
+      NavigableMap<ByteArrayKey, ReentrantLock> keyToLockMap = new TreeMap<>();
+      for (int i = 0; i < batchSize; i++) {
+        ByteArrayKey key = ByteArrayKey.wrap(context.batch[i]);
+        keyToLockMap.computeIfAbsent(key, k -> keyLevelLocksManager.acquireLockByKey(k));
+      }
+      keyToLockMap.forEach((k, v) -> v.lock());
+      try {
+        process(context, blackhole);
+      } finally {
+        for (Map.Entry<ByteArrayKey, ReentrantLock> entry: keyToLockMap.descendingMap().entrySet()) {
+          entry.getValue().unlock();
+          keyLevelLocksManager.releaseLock(entry.getKey());
+        }
+      }
+    }
+  }
+
+  private void process(ThreadContext context, Blackhole blackhole) {
+    Blackhole.consumeCPU(100L * batchSize);
+    blackhole.consume(context.batch);
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(KeyLevelLocksBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
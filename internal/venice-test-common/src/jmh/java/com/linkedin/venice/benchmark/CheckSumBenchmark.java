@@ -0,0 +1,75 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the cost of the checksum types of Data Ingest Validation per record, which is paid by both the producers
+ * and the consumers of every record of a segment.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckSumBenchmark {
+  private static final int NUMBER_OF_RECORDS = 100;
+
+  @Param({ "MD5", "ADLER32", "CRC32", "ADHASH", "CRC32C" })
+  private String checkSumType;
+
+  /**
+   * Typical sizes of the key and the value of a record, up to the size of a chunk of a large value
+   */
+  @Param({ "16", "1024", "102400", "950000" })
+  private int recordSize;
+
+  private CheckSum checkSum;
+  private byte[][] records;
+
+  @Setup
+  public void setUp() {
+    checkSum = CheckSum.getInstance(CheckSumType.valueOf(checkSumType));
+    records = new byte[NUMBER_OF_RECORDS][];
+    Random random = new Random();
+    for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+      records[i] = new byte[recordSize];
+      random.nextBytes(records[i]);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NUMBER_OF_RECORDS)
+  public void measureCheckSum(Blackhole bh) {
+    checkSum.reset();
+    for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+      checkSum.update(records[i]);
+    }
+    bh.consume(checkSum.getCheckSum());
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CheckSumBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,188 @@
+package com.linkedin.venice.benchmark;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
+import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.fastclient.meta.AbstractClientRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
+import com.linkedin.venice.fastclient.meta.LatencyAwareClientRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.LeastLoadedClientRoutingStrategy;
+import com.linkedin.venice.fastclient.transport.InternalTransportClient;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Simulates the fast-client single-get routing against a partition with a few replicas, to compare the latency
+ * percentiles (p99 in the {@link Mode#SampleTime} results) of the client routing strategies, see
+ * {@link com.linkedin.venice.fastclient.meta.ClientRoutingStrategyType}.
+ *
+ * The replicas are served by a mock {@link InternalTransportClient}, whose latency grows with the number of in-flight
+ * requests of each replica, plus two bad replicas which are not overloaded at all:
+ * 1. One replica pauses {@link #GC_PAUSE_MS} out of every second, like a stop-the-world GC.
+ * 2. One replica is {@link #COMPACTION_SLOWDOWN} times slower all the time, like a replica busy with compaction.
+ *
+ * Each invocation picks a replica with the strategy, tracks the request with {@link InstanceHealthMonitor} the same
+ * way as the fast-client, and waits for the response.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientRoutingStrategyBenchmark {
+  private static final int REPLICA_COUNT = 6;
+  private static final long BASE_LATENCY_US = 500;
+  private static final int REPLICA_CAPACITY = 8;
+  private static final long GC_PAUSE_MS = 150;
+  private static final int COMPACTION_SLOWDOWN = 5;
+
+  @Param({ "LEAST_LOADED", "LATENCY_AWARE" })
+  private String routingStrategyType;
+
+  private final List<String> replicas = new ArrayList<>();
+  private final AtomicLong requestId = new AtomicLong();
+  private ScheduledExecutorService responseScheduler;
+  private InstanceHealthMonitor instanceHealthMonitor;
+  private AbstractClientRoutingStrategy routingStrategy;
+  private SimulatedTransportClient transportClient;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    for (int i = 0; i < REPLICA_COUNT; i++) {
+      replicas.add("https://host" + i + ":1234");
+    }
+    ClientConfig clientConfig = mock(ClientConfig.class);
+    doReturn(50).when(clientConfig).getRoutingPendingRequestCounterInstanceBlockThreshold();
+    instanceHealthMonitor = new InstanceHealthMonitor(clientConfig);
+    if (routingStrategyType.equals("LATENCY_AWARE")) {
+      routingStrategy = new LatencyAwareClientRoutingStrategy(instanceHealthMonitor);
+    } else {
+      routingStrategy = new LeastLoadedClientRoutingStrategy(instanceHealthMonitor);
+    }
+    responseScheduler = Executors.newScheduledThreadPool(4);
+    transportClient = new SimulatedTransportClient();
+  }
+
+  @TearDown
+  public void cleanUp() throws Exception {
+    responseScheduler.shutdownNow();
+    instanceHealthMonitor.close();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void singleGetWithEightThreads(Blackhole blackhole) {
+    blackhole.consume(sendRequest());
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void singleGetWithThirtyTwoThreads(Blackhole blackhole) {
+    blackhole.consume(sendRequest());
+  }
+
+  private TransportClientResponse sendRequest() {
+    // Some strategies shuffle the given replica list
+    List<String> selectedReplicas =
+        routingStrategy.getReplicas(requestId.incrementAndGet(), new ArrayList<>(replicas), 1);
+    String replica = selectedReplicas.isEmpty()
+        ? replicas.get(ThreadLocalRandom.current().nextInt(REPLICA_COUNT))
+        : selectedReplicas.get(0);
+    CompletableFuture<Integer> routeRequestFuture =
+        instanceHealthMonitor.trackHealthBasedOnRequestToInstance(replica).getOriginalFuture();
+    return transportClient.get(replica + "/storage/test_store_v1/0/key", null)
+        .whenComplete(
+            (response, throwable) -> routeRequestFuture.complete(
+                throwable == null ? HttpResponseStatus.OK.code() : HttpResponseStatus.SERVICE_UNAVAILABLE.code()))
+        .join();
+  }
+
+  private class SimulatedTransportClient extends InternalTransportClient {
+    private final Map<String, AtomicInteger> inFlightRequestCounts = new VeniceConcurrentHashMap<>();
+    private final TransportClientResponse response = new TransportClientResponse(1, null, new byte[100]);
+
+    @Override
+    public CompletableFuture<TransportClientResponse> get(String requestPath, Map<String, String> headers) {
+      String replica = requestPath.substring(0, requestPath.indexOf("/storage"));
+      AtomicInteger inFlightRequestCount = inFlightRequestCounts.computeIfAbsent(replica, k -> new AtomicInteger());
+      double loadFactor = 1 + (double) inFlightRequestCount.incrementAndGet() / REPLICA_CAPACITY;
+      // Exponentially distributed around the loaded latency
+      long latencyUs =
+          (long) (BASE_LATENCY_US * loadFactor * -Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+      if (replica.equals(replicas.get(0))) {
+        long timeInSecondMs = System.currentTimeMillis() % 1000;
+        if (timeInSecondMs < GC_PAUSE_MS) {
+          latencyUs += TimeUnit.MILLISECONDS.toMicros(GC_PAUSE_MS - timeInSecondMs);
+        }
+      } else if (replica.equals(replicas.get(1))) {
+        latencyUs *= COMPACTION_SLOWDOWN;
+      }
+      CompletableFuture<TransportClientResponse> responseFuture = new CompletableFuture<>();
+      responseScheduler.schedule(() -> {
+        inFlightRequestCount.decrementAndGet();
+        responseFuture.complete(response);
+      }, latencyUs, TimeUnit.MICROSECONDS);
+      return responseFuture;
+    }
+
+    @Override
+    public CompletableFuture<TransportClientResponse> post(
+        String requestPath,
+        Map<String, String> headers,
+        byte[] requestBody) {
+      throw new UnsupportedOperationException("post");
+    }
+
+    @Override
+    public void streamPost(
+        String requestPath,
+        Map<String, String> headers,
+        byte[] requestBody,
+        TransportClientStreamingCallback callback,
+        int keyCount) {
+      throw new UnsupportedOperationException("streamPost");
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ClientRoutingStrategyBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,44 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_ENVELOPE_POOL_CAPACITY;
+
+import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.davinci.client.DaVinciConfig;
+import com.linkedin.venice.integration.utils.DaVinciTestContext;
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.utils.VeniceProperties;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the ingestion of {@link IngestionBenchmarkInSingleProcess} with and without recycling the envelopes of the
+ * persisted follower records. Each operation ingests {@link #NUM_RECORDS} records, so the allocation per record is the
+ * gc.alloc.rate.norm of the {@link GCProfiler} divided by {@link #NUM_RECORDS}.
+ */
+public class EnvelopeRecyclingIngestionBenchmark extends IngestionBenchmarkInSingleProcess {
+  @Param({ "0", "1024" })
+  protected int envelopePoolCapacity;
+
+  @Override
+  protected DaVinciClient<Long, GenericRecord> getDaVinciClient(String dataBasePath) {
+    VeniceProperties backendConfig = DaVinciTestContext.getDaVinciPropertyBuilder(cluster.getZk().getAddress())
+        .put(DATA_BASE_PATH, dataBasePath)
+        .put(STORE_WRITER_ENVELOPE_POOL_CAPACITY, envelopePoolCapacity)
+        .build();
+    return ServiceFactory.getGenericAvroDaVinciClient(storeName, cluster, new DaVinciConfig(), backendConfig);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder().include(EnvelopeRecyclingIngestionBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -44,13 +44,13 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 @Warmup(iterations = 1)
 @Measurement(iterations = 10)
 public class IngestionBenchmarkInSingleProcess {
-  private static final int NUM_RECORDS = 100_000;
+  protected static final int NUM_RECORDS = 100_000;
   private static final String FLOAT_VECTOR_VALUE_SCHEMA = "{" + "  \"namespace\" : \"example.avro\",  "
       + "  \"type\": \"record\",   " + "  \"name\": \"FloatVector\",     " + "  \"fields\": [           "
       + "       { \"name\": \"value\", \"type\": {\"type\": \"array\", \"items\": \"float\"} }  " + "  ] " + " } ";
 
-  private VeniceClusterWrapper cluster;
-  private String storeName;
+  protected VeniceClusterWrapper cluster;
+  protected String storeName;
 
   @Param({ "100" })
   protected String valueLength;
@@ -84,8 +84,7 @@ public class IngestionBenchmarkInSingleProcess {
     try {
       // Delete and recreate data base folder.
       FileUtils.deleteDirectory(dataBasePath);
-      DaVinciClient<Long, GenericRecord> client =
-          getGenericAvroDaVinciClient(storeName, cluster, dataBasePath.toString());
+      DaVinciClient<Long, GenericRecord> client = getDaVinciClient(dataBasePath.toString());
       // Ingest data to local folder.
       client.subscribeAll().get(60, TimeUnit.SECONDS);
       client.close();
@@ -94,6 +93,10 @@ public class IngestionBenchmarkInSingleProcess {
     }
   }
 
+  protected DaVinciClient<Long, GenericRecord> getDaVinciClient(String dataBasePath) {
+    return getGenericAvroDaVinciClient(storeName, cluster, dataBasePath);
+  }
+
   public static void main(String[] args) throws RunnerException {
     org.openjdk.jmh.runner.options.Options opt =
         new OptionsBuilder().include(IngestionBenchmarkInSingleProcess.class.getSimpleName())
@@ -0,0 +1,118 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.utils.concurrent.BlockingQueueType;
+import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the throughput and the latency percentiles (p99 in the {@link Mode#SampleTime} results) of the storage node
+ * read executors: the fixed size thread pool vs. the virtual thread pool, see
+ * {@link com.linkedin.venice.ConfigKeys#SERVER_READ_VIRTUAL_THREAD_ENABLED}.
+ *
+ * Each benchmark invocation mimics a batch-get handled in parallel: the keys are split into sub-tasks submitted to the
+ * executor, and each sub-task does a bit of CPU work and blocks for a while, like a lookup missing the block cache.
+ * The callers are the Netty worker threads, and there are more of them than the pool threads to simulate bursts.
+ *
+ * The virtual thread executor requires Java 21+.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReadExecutorBenchmark {
+  private static final int POOL_THREAD_COUNT = 16;
+  private static final int POOL_QUEUE_CAPACITY = 1_000_000;
+  /** Same as the default of {@link com.linkedin.venice.ConfigKeys#SERVER_READ_VIRTUAL_THREAD_MAX_CONCURRENCY}. */
+  private static final int VIRTUAL_THREAD_MAX_CONCURRENCY = 1024;
+  private static final int SUB_TASK_COUNT = 10;
+
+  @Param({ "PLATFORM", "VIRTUAL" })
+  private String executorType;
+
+  /** Blocking time of each sub-task, to simulate the disk reads. */
+  @Param({ "0", "100" })
+  private int blockingTimeUs;
+
+  private ThreadPoolExecutor executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (executorType.equals("VIRTUAL")) {
+      executor = ThreadPoolFactory.createVirtualThreadPool(
+          VIRTUAL_THREAD_MAX_CONCURRENCY,
+          "StorageExecutionThread",
+          POOL_QUEUE_CAPACITY,
+          BlockingQueueType.LINKED_BLOCKING_QUEUE);
+    } else {
+      executor = ThreadPoolFactory.createThreadPool(
+          POOL_THREAD_COUNT,
+          "StorageExecutionThread",
+          POOL_QUEUE_CAPACITY,
+          BlockingQueueType.LINKED_BLOCKING_QUEUE);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void batchGetWithSixtyFourCallers(Blackhole blackhole) {
+    batchGet(blackhole);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void batchGetWithEightCallers(Blackhole blackhole) {
+    batchGet(blackhole);
+  }
+
+  private void batchGet(Blackhole blackhole) {
+    CompletableFuture[] futures = new CompletableFuture[SUB_TASK_COUNT];
+    for (int i = 0; i < SUB_TASK_COUNT; i++) {
+      futures[i] = CompletableFuture.runAsync(() -> lookup(blackhole), executor);
+    }
+    CompletableFuture.allOf(futures).join();
+  }
+
+  private void lookup(Blackhole blackhole) {
+    Blackhole.consumeCPU(1000);
+    if (blockingTimeUs > 0) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(blockingTimeUs));
+    }
+    blackhole.consume(ThreadLocalRandom.current().nextLong());
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ReadExecutorBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,151 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_CONCURRENT_WRITE_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition;
+import com.linkedin.davinci.store.rocksdb.RocksDBThrottler;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+
+
+/**
+ * Measures the put/delete throughput of multiple drainer-like threads writing into a single hot
+ * {@link RocksDBStoragePartition}, with and without {@link RocksDBServerConfig#ROCKSDB_CONCURRENT_WRITE_ENABLED}.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RocksDBConcurrentWriteBenchmark {
+  private static final int KEY_SPACE = 1_000_000;
+  private static final String KEY_PREFIX = "key_";
+
+  @Param({ "false", "true" })
+  private boolean concurrentWriteEnabled;
+
+  @Param({ "100", "1000" })
+  private int valueSize;
+
+  private String dataBaseDir;
+  private RocksDBStoragePartition storagePartition;
+  private byte[] value;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RocksDB.loadLibrary();
+    dataBaseDir = Utils.getUniqueTempPath();
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    VeniceProperties serverProperties = new PropertyBuilder().put(CLUSTER_NAME, "test_cluster")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, dataBaseDir)
+        .put(ROCKSDB_CONCURRENT_WRITE_ENABLED, concurrentWriteEnabled)
+        .build();
+    VeniceStoreVersionConfig storeConfig = new VeniceConfigLoader(serverProperties).getStoreConfig(storeName);
+    storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        new RocksDBStorageEngineFactory(new VeniceServerConfig(serverProperties)),
+        dataBaseDir,
+        null,
+        new RocksDBThrottler(3),
+        new RocksDBServerConfig(serverProperties),
+        storeConfig);
+    value = new byte[valueSize];
+    ThreadLocalRandom.current().nextBytes(value);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    storagePartition.drop();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void putWithOneThread() {
+    put();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void putWithEightThreads() {
+    put();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void putWithThirtyTwoThreads() {
+    put();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void putAndDeleteWithEightThreads() {
+    putAndDelete();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void putAndDeleteWithThirtyTwoThreads() {
+    putAndDelete();
+  }
+
+  private void put() {
+    storagePartition.put(randomKey(), value);
+  }
+
+  private void putAndDelete() {
+    byte[] key = randomKey();
+    storagePartition.put(key, value);
+    storagePartition.delete(key);
+  }
+
+  private static byte[] randomKey() {
+    return (KEY_PREFIX + ThreadLocalRandom.current().nextInt(KEY_SPACE)).getBytes();
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(RocksDBConcurrentWriteBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+}
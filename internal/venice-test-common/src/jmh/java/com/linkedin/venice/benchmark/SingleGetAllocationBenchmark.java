@@ -0,0 +1,142 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
+import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.RocksDB;
+
+
+/**
+ * Compares the allocation rate (gc.alloc.rate.norm) of the storage node single-get path reading the value on heap
+ * against reading it into a pooled direct buffer, see {@link SingleGetChunkingAdapter}.
+ *
+ * Both benchmarks end with what Netty does to write the value out to the socket: the on-heap value has to be copied
+ * into a direct buffer first, while the direct buffer could be written out as is, and then released.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SingleGetAllocationBenchmark {
+  private static final int KEY_COUNT = 10_000;
+  private static final int PARTITION_ID = 0;
+  private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+  @Param({ "100", "10000" })
+  private int valueSize;
+
+  private String dataBaseDir;
+  private RocksDBStorageEngineFactory storageEngineFactory;
+  private AbstractStorageEngine storageEngine;
+  private byte[][] keys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    RocksDB.loadLibrary();
+    dataBaseDir = Utils.getUniqueTempPath();
+    String storeName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    VeniceProperties serverProperties = new PropertyBuilder().put(CLUSTER_NAME, "test_cluster")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, dataBaseDir)
+        .build();
+    VeniceStoreVersionConfig storeConfig = new VeniceConfigLoader(serverProperties).getStoreConfig(storeName);
+    storageEngineFactory = new RocksDBStorageEngineFactory(new VeniceServerConfig(serverProperties));
+    storageEngine = storageEngineFactory.getStorageEngine(storeConfig);
+    storageEngine.addStoragePartition(PARTITION_ID);
+
+    keys = new byte[KEY_COUNT][];
+    byte[] value = new byte[valueSize];
+    for (int i = 0; i < KEY_COUNT; i++) {
+      keys[i] = ("key_" + i).getBytes();
+      ThreadLocalRandom.current().nextBytes(value);
+      storageEngine.put(PARTITION_ID, keys[i], ValueRecord.create(1, value).serialize());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    storageEngineFactory.removeStorageEngine(storageEngine);
+    storageEngineFactory.close();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void heapSingleGet(Blackhole blackhole) {
+    ValueRecord valueRecord =
+        SingleGetChunkingAdapter.get(storageEngine, PARTITION_ID, randomKey(), false, NoOpReadResponseStats.SINGLETON);
+    ByteBuf data = valueRecord.getData();
+    ByteBuf directData = ALLOCATOR.directBuffer(data.readableBytes());
+    directData.writeBytes(data, data.readerIndex(), data.readableBytes());
+    blackhole.consume(directData.readableBytes());
+    directData.release();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void pooledDirectSingleGet(Blackhole blackhole) {
+    ValueRecord valueRecord = SingleGetChunkingAdapter
+        .get(storageEngine, PARTITION_ID, randomKey(), false, NoOpReadResponseStats.SINGLETON, ALLOCATOR);
+    ByteBuf data = valueRecord.getData();
+    blackhole.consume(data.readableBytes());
+    data.release();
+  }
+
+  private byte[] randomKey() {
+    return keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(SingleGetAllocationBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -2,7 +2,9 @@ package com.linkedin.venice.benchmark;
 
 import static java.util.concurrent.TimeUnit.*;
 
+import com.linkedin.venice.throttle.StripedTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
+import com.linkedin.venice.throttle.VeniceRateLimiter;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.time.Clock;
@@ -55,7 +57,13 @@ public class TokenBucketBenchmark {
   @Param({ "1", "100" })
   protected long tokensToConsume;
 
-  TokenBucket tokenBucket;
+  /**
+   * Testing the single counter {@link TokenBucket} against the {@link StripedTokenBucket} used by the router
+   */
+  @Param({ "TOKEN_BUCKET", "STRIPED_TOKEN_BUCKET" })
+  protected String bucketType;
+
+  VeniceRateLimiter tokenBucket;
 
   AtomicLong approvedTotal = new AtomicLong(0);
   AtomicLong deniedTotal = new AtomicLong(0);
@@ -93,7 +101,16 @@ public class TokenBucketBenchmark {
 
   @Setup
   public void setUp() {
-    this.tokenBucket = tokenBucketFromRcuPerSecond(rcuPerSecond, 1);
+    if (bucketType.equals("STRIPED_TOKEN_BUCKET")) {
+      this.tokenBucket = StripedTokenBucket.fromRcuPerSecond(
+          rcuPerSecond,
+          SECONDS.toMillis(enforcementIntervalSeconds),
+          enforcementCapacityMultiple,
+          Runtime.getRuntime().availableProcessors(),
+          Clock.systemUTC());
+    } else {
+      this.tokenBucket = tokenBucketFromRcuPerSecond(rcuPerSecond, 1);
+    }
   }
 
   @TearDown
@@ -106,8 +123,8 @@ public class TokenBucketBenchmark {
 
     System.out.println();
     System.out.println(
-        "RCU/sec: " + rcuPerSecond + "; Tokens to consume: " + tokensToConsume + "; Approved: " + approved
-            + "; Denied: " + denied + "; Approval ratio: " + approvalRatioStr);
+        "Bucket: " + bucketType + "; RCU/sec: " + rcuPerSecond + "; Tokens to consume: " + tokensToConsume
+            + "; Approved: " + approved + "; Denied: " + denied + "; Approval ratio: " + approvalRatioStr);
   }
 
   public static void main(String[] args) throws RunnerException {
@@ -161,7 +178,7 @@ public class TokenBucketBenchmark {
   }
 
   private void test(ThreadContext threadContext, Blackhole bh) {
-    if (this.tokenBucket.tryConsume(tokensToConsume)) {
+    if (this.tokenBucket.tryAcquirePermit((int) tokensToConsume)) {
       bh.consume(threadContext.approved++);
     } else {
       bh.consume(threadContext.denied++);
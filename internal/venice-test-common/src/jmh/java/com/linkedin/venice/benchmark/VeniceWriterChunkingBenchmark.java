@@ -0,0 +1,163 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.pubsub.adapter.SimplePubSubProduceResultImpl;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.ChunkAwareCallback;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the throughput and the allocation rate (gc.alloc.rate.norm) of {@link VeniceWriter} producing large values,
+ * which are chunked into views of the value, unless the callback is a {@link ChunkAwareCallback} like the one of the
+ * leader replicas, which needs a copy of each chunk with the headroom for the value header.
+ *
+ * The producer adapter serializes the messages the same way as the Kafka producer does, without sending them.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VeniceWriterChunkingBenchmark {
+  private static final String TOPIC = "test_store_v1";
+
+  @Param({ "5242880" })
+  private int valueSize;
+
+  @Param({ "false", "true" })
+  private boolean chunkAwareCallback;
+
+  private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+  private byte[] key;
+  private byte[] value;
+  private PubSubProducerCallback callback;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    VeniceWriterOptions writerOptions =
+        new VeniceWriterOptions.Builder(TOPIC).setPartitioner(new DefaultVenicePartitioner())
+            .setTime(SystemTime.INSTANCE)
+            .setChunkingEnabled(true)
+            .setPartitionCount(1)
+            .build();
+    veniceWriter = new VeniceWriter<>(writerOptions, VeniceProperties.empty(), new SerializingProducerAdapter());
+    key = "test_key".getBytes();
+    value = new byte[valueSize];
+    ThreadLocalRandom.current().nextBytes(value);
+    callback = chunkAwareCallback ? new NoOpChunkAwareCallback() : (produceResult, exception) -> {};
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    veniceWriter.close();
+  }
+
+  @Benchmark
+  public void putLargeValue() throws Exception {
+    veniceWriter.put(key, value, 1, callback).get();
+  }
+
+  private static class NoOpChunkAwareCallback implements ChunkAwareCallback {
+    @Override
+    public void setChunkingInfo(
+        byte[] key,
+        ByteBuffer[] valueChunks,
+        ChunkedValueManifest chunkedValueManifest,
+        ByteBuffer[] rmdChunks,
+        ChunkedValueManifest chunkedRmdManifest,
+        ChunkedValueManifest oldValueManifest,
+        ChunkedValueManifest oldRmdManifest) {
+    }
+
+    @Override
+    public void onCompletion(PubSubProduceResult produceResult, Exception exception) {
+    }
+  }
+
+  private static class SerializingProducerAdapter implements PubSubProducerAdapter {
+    private final KafkaValueSerializer valueSerializer = new KafkaValueSerializer();
+    private long offset = 0;
+
+    @Override
+    public int getNumberOfPartitions(String topic) {
+      return 1;
+    }
+
+    @Override
+    public CompletableFuture<PubSubProduceResult> sendMessage(
+        String topic,
+        Integer partition,
+        KafkaKey key,
+        KafkaMessageEnvelope value,
+        PubSubMessageHeaders pubSubMessageHeaders,
+        PubSubProducerCallback pubSubProducerCallback) {
+      byte[] serializedValue = valueSerializer.serialize(topic, value);
+      PubSubProduceResult produceResult =
+          new SimplePubSubProduceResultImpl(topic, partition, offset++, key.getKeyLength() + serializedValue.length);
+      if (pubSubProducerCallback != null) {
+        pubSubProducerCallback.onCompletion(produceResult, null);
+      }
+      return CompletableFuture.completedFuture(produceResult);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close(long closeTimeOutMs) {
+    }
+
+    @Override
+    public Object2DoubleMap<String> getMeasurableProducerMetrics() {
+      return Object2DoubleMaps.emptyMap();
+    }
+
+    @Override
+    public String getBrokerAddress() {
+      return "localhost:9092";
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(VeniceWriterChunkingBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
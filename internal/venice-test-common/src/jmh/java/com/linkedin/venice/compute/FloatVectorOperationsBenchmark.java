@@ -0,0 +1,114 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.avro.api.PrimitiveFloatList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the unrolled scalar loops of {@link ComputeUtils} against the Vector API implementation of the read compute
+ * float-vector operations, on the {@link PrimitiveFloatList} produced by the fast-avro deserializer, like the embedding
+ * fields of the compute requests.
+ *
+ * The Vector API implementation is only built with {@code -PvectorApi}, and it requires JDK 17+ and the incubator
+ * module, see {@link #main}, or append {@code --add-modules=jdk.incubator.vector} to the JVM args of the fork when
+ * running it with the JMH jar. Its results decide whether {@link ComputeUtils#VECTOR_API_ENABLED_PROPERTY} could be
+ * turned on by default.
+ *
+ * It lives in the same package as {@link ComputeUtils}, since the implementations are package-private.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FloatVectorOperationsBenchmark {
+  @Param({ "SCALAR", "VECTOR_API" })
+  private String implementation;
+
+  @Param({ "256", "1024" })
+  private int dimension;
+
+  private FloatVectorOperations vectorApiOperations;
+  private List<Float> valueVector;
+  private List<Float> paramVector;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    if (implementation.equals("VECTOR_API")) {
+      vectorApiOperations = ComputeUtils.createVectorApiOperations();
+      if (vectorApiOperations == null) {
+        throw new IllegalStateException("Vector API is not available, check the JVM version and args");
+      }
+    }
+    Random random = new Random(1);
+    valueVector = createPrimitiveFloatList(random, dimension);
+    paramVector = createPrimitiveFloatList(random, dimension);
+  }
+
+  @Benchmark
+  public void dotProduct(Blackhole blackhole) {
+    if (vectorApiOperations == null) {
+      blackhole.consume(ComputeUtils.scalarDotProduct(paramVector, valueVector));
+    } else {
+      blackhole.consume(ComputeUtils.dotProduct(paramVector, valueVector, vectorApiOperations));
+    }
+  }
+
+  /**
+   * The part of the cosine similarity which is computed per value, see {@link CosineSimilarityOperator}.
+   */
+  @Benchmark
+  public void cosineSimilarity(Blackhole blackhole) {
+    if (vectorApiOperations == null) {
+      blackhole.consume(ComputeUtils.scalarDotProduct(paramVector, valueVector));
+      blackhole.consume(ComputeUtils.scalarDotProduct(valueVector, valueVector));
+    } else {
+      blackhole.consume(ComputeUtils.dotProduct(paramVector, valueVector, vectorApiOperations));
+      blackhole.consume(ComputeUtils.dotProduct(valueVector, valueVector, vectorApiOperations));
+    }
+  }
+
+  @Benchmark
+  public void hadamardProduct(Blackhole blackhole) {
+    if (vectorApiOperations == null) {
+      blackhole.consume(ComputeUtils.scalarHadamardProduct(paramVector, valueVector));
+    } else {
+      blackhole.consume(ComputeUtils.hadamardProduct(paramVector, valueVector, vectorApiOperations));
+    }
+  }
+
+  private static List<Float> createPrimitiveFloatList(Random random, int size) {
+    PrimitiveFloatList list = new PrimitiveFloatArrayList(size);
+    for (int i = 0; i < size; i++) {
+      list.add(random.nextFloat());
+    }
+    return list;
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(FloatVectorOperationsBenchmark.class.getSimpleName())
+        .jvmArgsAppend("--add-modules=jdk.incubator.vector")
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -66,7 +66,7 @@ public class DataProviderUtils {
 
   @DataProvider(name = "CheckpointingSupported-CheckSum-Types")
   public static Object[][] checkpointingSupportedCheckSumTypes() {
-    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH } };
+    return new Object[][] { { CheckSumType.MD5 }, { CheckSumType.ADHASH }, { CheckSumType.CRC32C } };
   }
 
   @DataProvider(name = "dv-client-config-provider")
@@ -11,6 +11,7 @@ import static com.linkedin.venice.controllerapi.ControllerApiConstants.STORE_VER
 import static com.linkedin.venice.meta.DataReplicationPolicy.NON_AGGREGATE;
 import static com.linkedin.venice.router.api.RouterResourceType.TYPE_ALL_VALUE_SCHEMA_IDS;
 import static com.linkedin.venice.router.api.RouterResourceType.TYPE_CURRENT_VERSION;
+import static com.linkedin.venice.router.api.RouterResourceType.TYPE_DICTIONARY;
 import static com.linkedin.venice.router.api.RouterResourceType.TYPE_GET_UPDATE_SCHEMA;
 import static com.linkedin.venice.router.api.RouterResourceType.TYPE_LATEST_VALUE_SCHEMA;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_CLUSTER_DISCOVERY;
@@ -30,6 +31,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.venice.blobtransfer.BlobPeersDiscoveryResponse;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
 import com.linkedin.venice.controllerapi.CurrentVersionResponse;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.controllerapi.LeaderControllerResponse;
@@ -58,6 +62,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.pushmonitor.HybridStoreQuotaStatus;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import com.linkedin.venice.router.api.DictionaryRetrievalService;
 import com.linkedin.venice.router.api.RouterResourceType;
 import com.linkedin.venice.router.api.VenicePathParserHelper;
 import com.linkedin.venice.router.api.VeniceVersionFinder;
@@ -154,6 +159,7 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
   static final String REQUEST_BLOB_DISCOVERY_ERROR_PUSH_STORE =
       "Blob Discovery: failed to get the live node hostNames for store:%s version:%s partition:%s";
   private final VeniceVersionFinder veniceVersionFinder;
+  private final CompressorFactory compressorFactory;
 
   public MetaDataHandler(
       HelixCustomizedViewOfflinePushRepository routingDataRepository,
@@ -168,7 +174,8 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
       String kafkaBootstrapServers,
       boolean isSslToKafka,
       VeniceVersionFinder versionFinder,
-      PushStatusStoreReader pushStatusStoreReader) {
+      PushStatusStoreReader pushStatusStoreReader,
+      CompressorFactory compressorFactory) {
     super();
     this.routingDataRepository = routingDataRepository;
     this.schemaRepo = schemaRepo;
@@ -183,6 +190,7 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
     this.isSslToKafka = isSslToKafka;
     this.veniceVersionFinder = versionFinder;
     this.pushStatusStoreReader = pushStatusStoreReader;
+    this.compressorFactory = compressorFactory;
   }
 
   @Override
@@ -254,6 +262,10 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
         case TYPE_BLOB_DISCOVERY:
           handleBlobDiscovery(ctx, helper, req);
           break;
+        case TYPE_DICTIONARY:
+          // URI: /dictionary/${storeName}/${version}
+          handleDictionaryLookup(ctx, helper);
+          break;
         default:
           // SimpleChannelInboundHandler automatically releases the request after channelRead0 is done.
           // since we're passing it on to the next handler, we need to retain an extra reference.
@@ -522,6 +534,33 @@ public class MetaDataHandler extends SimpleChannelInboundHandler<HttpRequest> {
     setupResponseAndFlush(OK, OBJECT_MAPPER.writeValueAsBytes(response), true, ctx);
   }
 
+  /**
+   * Returns the compression dictionary of the store version downloaded by {@link DictionaryRetrievalService}, so the
+   * clients could decompress the {@link CompressionStrategy#ZSTD_WITH_DICT} responses passed through by the router.
+   */
+  private void handleDictionaryLookup(ChannelHandlerContext ctx, VenicePathParserHelper helper) throws IOException {
+    String storeName = helper.getResourceName();
+    String versionString = helper.getKey();
+    checkResourceName(storeName, "/" + TYPE_DICTIONARY + "/${storeName}/${version}");
+    int version;
+    try {
+      version = Integer.parseInt(versionString);
+    } catch (NumberFormatException e) {
+      byte[] errBody = ("Invalid version: " + versionString + " of store: " + storeName).getBytes();
+      setupResponseAndFlush(BAD_REQUEST, errBody, false, ctx);
+      return;
+    }
+    VeniceCompressor compressor =
+        compressorFactory.getVersionSpecificCompressor(Version.composeKafkaTopic(storeName, version));
+    if (!(compressor instanceof ZstdWithDictCompressor)) {
+      byte[] errBody = ("Cannot find the compression dictionary of store: " + storeName + " version: " + version)
+          .getBytes();
+      setupResponseAndFlush(NOT_FOUND, errBody, false, ctx);
+      return;
+    }
+    setupResponseAndFlush(OK, ((ZstdWithDictCompressor) compressor).getDictionary(), false, ctx);
+  }
+
   /**
    * Handles the discovery of blob transfer nodes based on store settings.
    * Retrieves host names for live DVC nodes ready to transfer blobs.
@@ -35,6 +35,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_EARLY_THROTTLE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ENABLE_READ_THROTTLING;
 import static com.linkedin.venice.ConfigKeys.ROUTER_FULL_PENDING_QUEUE_SERVER_OOR_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HEART_BEAT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_HEDGED_REQUEST_CANCELLATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_ASSISTED_ROUTING_GROUP_SELECTION_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HELIX_VIRTUAL_GROUP_FIELD_IN_DOMAIN;
 import static com.linkedin.venice.ConfigKeys.ROUTER_HTTP2_HEADER_TABLE_SIZE;
@@ -72,7 +73,9 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_PENDING_REQUEST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_META_STORE_SHADOW_READ_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_GET_DECOMPRESSION_THREADS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
+import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_RESPONSE_MAX_SIZE_BYTES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
@@ -80,10 +83,12 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER;
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
+import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_STRIPED_TOKEN_BUCKET_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_BEFORE_SSL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_COALESCING_STORES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
@@ -112,8 +117,10 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -181,6 +188,11 @@ public class VeniceRouterConfig {
   private long httpasyncclientConnectionWarmingSleepIntervalMs;
   private int dictionaryRetrievalTimeMs;
   private int routerDictionaryProcessingThreads;
+  private int multiGetDecompressionThreads;
+  private Set<String> singleGetCoalescingStores;
+  private boolean readQuotaStripedTokenBucketEnabled;
+  private long multiKeyResponseMaxSizeBytes;
+  private boolean hedgedRequestCancellationEnabled;
   private int httpasyncclientConnectionWarmingLowWaterMark;
   private int httpasyncclientConnectionWarmingExecutorThreadNum;
   private long httpasyncclientConnectionWarmingNewInstanceDelayJoinMs;
@@ -318,6 +330,18 @@ public class VeniceRouterConfig {
         props.getLong(ROUTER_HTTPASYNCCLIENT_CONNECTION_WARMING_SLEEP_INTERVAL_MS, 100); // 100ms
     dictionaryRetrievalTimeMs = (int) props.getLong(ROUTER_DICTIONARY_RETRIEVAL_TIME_MS, TimeUnit.SECONDS.toMillis(30));
     routerDictionaryProcessingThreads = props.getInt(ROUTER_DICTIONARY_PROCESSING_THREADS, 3);
+    multiGetDecompressionThreads = props.getInt(ROUTER_MULTI_GET_DECOMPRESSION_THREADS, 0);
+    singleGetCoalescingStores =
+        new HashSet<>(props.getList(ROUTER_SINGLE_GET_COALESCING_STORES, Collections.emptyList()));
+    readQuotaStripedTokenBucketEnabled = props.getBoolean(ROUTER_READ_QUOTA_STRIPED_TOKEN_BUCKET_ENABLED, false);
+    multiKeyResponseMaxSizeBytes = props.getSizeInBytes(ROUTER_MULTI_KEY_RESPONSE_MAX_SIZE_BYTES, -1);
+    hedgedRequestCancellationEnabled = props.getBoolean(ROUTER_HEDGED_REQUEST_CANCELLATION_ENABLED, false);
+    if (hedgedRequestCancellationEnabled && storageNodeClientType != StorageNodeClientType.HTTP_CLIENT_5_CLIENT) {
+      throw new VeniceException(
+          ROUTER_HEDGED_REQUEST_CANCELLATION_ENABLED + " requires " + ROUTER_STORAGE_NODE_CLIENT_TYPE + ": "
+              + StorageNodeClientType.HTTP_CLIENT_5_CLIENT + ", since cancelling an HTTP/1.1 request closes its "
+              + "connection, but got: " + storageNodeClientType);
+    }
     httpasyncclientConnectionWarmingLowWaterMark =
         props.getInt(ROUTER_HTTPASYNCCLIENT_CONNECTION_WARMING_LOW_WATER_MARK, 60);
     httpasyncclientConnectionWarmingExecutorThreadNum =
@@ -639,6 +663,26 @@ public class VeniceRouterConfig {
     return routerDictionaryProcessingThreads;
   }
 
+  public int getMultiGetDecompressionThreads() {
+    return multiGetDecompressionThreads;
+  }
+
+  public Set<String> getSingleGetCoalescingStores() {
+    return singleGetCoalescingStores;
+  }
+
+  public boolean isReadQuotaStripedTokenBucketEnabled() {
+    return readQuotaStripedTokenBucketEnabled;
+  }
+
+  public long getMultiKeyResponseMaxSizeBytes() {
+    return multiKeyResponseMaxSizeBytes;
+  }
+
+  public boolean isHedgedRequestCancellationEnabled() {
+    return hedgedRequestCancellationEnabled;
+  }
+
   public int getHttpasyncclientConnectionWarmingLowWaterMark() {
     return httpasyncclientConnectionWarmingLowWaterMark;
   }
@@ -0,0 +1,173 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.RequestType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+
+
+/**
+ * The response content of a non-streaming multi-get or compute request, which the sub-responses are written into as
+ * soon as they arrive from the storage nodes, so {@link VeniceResponseAggregator} only needs to validate the headers of
+ * the sub-responses once all of them are gathered, instead of concatenating their content.
+ *
+ * The content of the sub-responses is added as components of a single {@link CompositeByteBuf} without any limit on
+ * the number of components, so the content is never consolidated into a copy, no matter how many storage nodes the
+ * request fans out to. Once the size of the content exceeds the max size, the content received so far is released
+ * right away and the content of the following sub-responses is released on arrival, which caps the memory held for
+ * the request while the other sub-responses are in flight.
+ *
+ * The original request and the long-tail retry request of the same keys can both succeed. The keys of a partition are
+ * always sent in the same sub-request, so the sub-responses are deduplicated by partition: the content of a
+ * sub-response is skipped when all its partitions have been received already. A long-tail retry could group the
+ * partitions differently than the original request, and when a sub-response only partially overlaps the received
+ * partitions, its records of the received partitions are dropped, see {@link #skipRecordsOfReceivedPartitions}.
+ */
+public class MultiKeyResponseContent {
+  private final long maxSizeBytes;
+  private final boolean isCompute;
+  private final CompositeByteBuf content = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+  private final BitSet receivedPartitions = new BitSet();
+  private boolean sizeLimitExceeded = false;
+  private boolean released = false;
+
+  /**
+   * @param maxSizeBytes the max size of the content, or a non-positive value for no limit.
+   * @param requestType either {@link RequestType#MULTI_GET} or {@link RequestType#COMPUTE}, which decides the records
+   *                    of the sub-responses.
+   */
+  public MultiKeyResponseContent(long maxSizeBytes, RequestType requestType) {
+    this.maxSizeBytes = maxSizeBytes;
+    this.isCompute = requestType == RequestType.COMPUTE;
+  }
+
+  /**
+   * Adds the content of a sub-response, and takes the ownership of it.
+   *
+   * @param keys the keys of the sub-request.
+   * @param keyIndexGetter which returns the index of a key in the request, which the records refer to.
+   * @param subResponseContent the content of the sub-response.
+   */
+  public synchronized void add(
+      Collection<RouterKey> keys,
+      ToIntFunction<RouterKey> keyIndexGetter,
+      ByteBuf subResponseContent) {
+    if (released || sizeLimitExceeded) {
+      subResponseContent.release();
+      return;
+    }
+    Set<Integer> receivedKeyIndexes = null;
+    boolean hasNewPartition = false;
+    for (RouterKey key: keys) {
+      if (receivedPartitions.get(key.getPartitionId())) {
+        if (receivedKeyIndexes == null) {
+          receivedKeyIndexes = new HashSet<>();
+        }
+        receivedKeyIndexes.add(keyIndexGetter.applyAsInt(key));
+      } else {
+        hasNewPartition = true;
+      }
+    }
+    if (!hasNewPartition) {
+      subResponseContent.release();
+      return;
+    }
+    if (receivedKeyIndexes != null) {
+      subResponseContent = skipRecordsOfReceivedPartitions(subResponseContent, receivedKeyIndexes);
+    }
+    for (RouterKey key: keys) {
+      receivedPartitions.set(key.getPartitionId());
+    }
+    content.addComponent(true, subResponseContent);
+    if (maxSizeBytes > 0 && content.readableBytes() > maxSizeBytes) {
+      sizeLimitExceeded = true;
+      content.release();
+    }
+  }
+
+  /**
+   * The records are copied except the ones of the given keys, the same way as
+   * {@link VeniceResponseDecompressor#decompressMultiGetContent}. This only happens to the long-tail retries which
+   * regroup the partitions, so the other sub-responses are still added without being decoded.
+   *
+   * @return the content without the records of the given keys, and the given content is released.
+   */
+  private ByteBuf skipRecordsOfReceivedPartitions(ByteBuf subResponseContent, Set<Integer> receivedKeyIndexes) {
+    byte[] bytes = ByteBufUtil.getBytes(subResponseContent);
+    subResponseContent.release();
+    BinaryDecoder decoder =
+        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(bytes, 0, bytes.length);
+    ByteBuf output = ByteBufAllocator.DEFAULT.heapBuffer(bytes.length);
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(new ByteBufOutputStream(output), true, null);
+    try {
+      while (!decoder.isEnd()) {
+        // Same field order as the schemas of MultiGetResponseRecordV1 and ComputeResponseRecordV1
+        int keyIndex = decoder.readInt();
+        ByteBuffer value = decoder.readBytes(null);
+        int schemaId = isCompute ? 0 : decoder.readInt();
+        if (receivedKeyIndexes.contains(keyIndex)) {
+          continue;
+        }
+        encoder.writeInt(keyIndex);
+        encoder.writeBytes(value);
+        if (!isCompute) {
+          encoder.writeInt(schemaId);
+        }
+      }
+      encoder.flush();
+    } catch (IOException e) {
+      output.release();
+      throw new VeniceException("Failed to skip the records of the received partitions", e);
+    } catch (RuntimeException e) {
+      output.release();
+      throw e;
+    }
+    return output;
+  }
+
+  public synchronized boolean isSizeLimitExceeded() {
+    return sizeLimitExceeded;
+  }
+
+  public long getMaxSizeBytes() {
+    return maxSizeBytes;
+  }
+
+  /**
+   * Hands over the ownership of the content to the caller, and the content of the sub-responses which arrive later is
+   * released on arrival.
+   */
+  public synchronized ByteBuf retrieve() {
+    if (released || sizeLimitExceeded) {
+      throw new VeniceException("The response content has been released");
+    }
+    released = true;
+    return content;
+  }
+
+  /**
+   * Releases the content when the request fails, times out or is cancelled, and the content of the sub-responses which
+   * arrive later is released on arrival.
+   */
+  public synchronized void release() {
+    if (!released && !sizeLimitExceeded) {
+      content.release();
+    }
+    released = true;
+  }
+}
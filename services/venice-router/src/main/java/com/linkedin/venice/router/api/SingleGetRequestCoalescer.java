@@ -0,0 +1,233 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.Pair;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Coalesces the concurrent single-get requests for the same key of the same store version, which are common under
+ * hot-key bursts, so that they share one storage node request. The first request of a key sends the request to the
+ * storage node, and the identical requests arriving while it is in flight wait for its response instead of sending
+ * their own. Every request gets its own retained slice of the response content, so the responses built from it are
+ * released independently. A coalesced request is served by the storage node of the request it shares, which is then
+ * reported as the storage node of the coalesced request, see {@link ResponseFuture#getStorageNode()}.
+ *
+ * Only the stores configured by {@link com.linkedin.venice.ConfigKeys#ROUTER_SINGLE_GET_COALESCING_STORES} are
+ * coalesced, and retry requests are never coalesced since they are meant to reach another replica.
+ */
+public class SingleGetRequestCoalescer {
+  private final Set<String> coalescingStores;
+  private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  private final VeniceConcurrentHashMap<Pair<String, RouterKey>, InFlightRequest> inFlightRequests =
+      new VeniceConcurrentHashMap<>();
+
+  public SingleGetRequestCoalescer(Set<String> coalescingStores, RouterStats<AggRouterHttpRequestStats> routerStats) {
+    this.coalescingStores = coalescingStores;
+    this.routerStats = routerStats;
+  }
+
+  public boolean isCoalescingEnabled(VenicePath path) {
+    return path.getRequestType() == RequestType.SINGLE_GET && !path.isRetryRequest()
+        && coalescingStores.contains(path.getStoreName());
+  }
+
+  /**
+   * Sends the request to the given storage node with the given sender, unless an identical request is in flight, in
+   * which case the returned future completes with the response of the in-flight request.
+   */
+  public ResponseFuture send(VenicePath path, Instance storageNode, RequestSender sender) throws RouterException {
+    Pair<String, RouterKey> requestKey = new Pair<>(path.getResourceName(), path.getPartitionKey());
+    InFlightRequest newRequest = new InFlightRequest(storageNode);
+    InFlightRequest inFlightRequest = inFlightRequests.putIfAbsent(requestKey, newRequest);
+    if (inFlightRequest != null) {
+      ResponseFuture coalescedResponseFuture = inFlightRequest.follow();
+      if (coalescedResponseFuture != null) {
+        routerStats.getStatsByType(RequestType.SINGLE_GET).recordCoalescedRequest(path.getStoreName());
+        return coalescedResponseFuture;
+      }
+      // The in-flight request has just completed, so there is nothing to share anymore
+      ResponseFuture responseFuture = new ResponseFuture(storageNode);
+      sender.send().whenComplete(responseFuture::completeWith);
+      return responseFuture;
+    }
+
+    CompletableFuture<PortableHttpResponse> responseFuture;
+    try {
+      responseFuture = sender.send();
+    } catch (Throwable e) {
+      inFlightRequests.remove(requestKey, newRequest);
+      newRequest.fail(e);
+      throw e;
+    }
+    ResponseFuture leaderResponseFuture = new ResponseFuture(storageNode);
+    responseFuture.whenComplete((response, throwable) -> {
+      inFlightRequests.remove(requestKey, newRequest);
+      if (throwable != null) {
+        newRequest.fail(throwable);
+        leaderResponseFuture.completeExceptionally(throwable);
+        return;
+      }
+      try {
+        PortableHttpResponse leaderResponse = newRequest.complete(response);
+        if (!leaderResponseFuture.complete(leaderResponse) && leaderResponse != response) {
+          leaderResponse.getContentInByteBuf().release();
+        }
+      } catch (Throwable e) {
+        leaderResponseFuture.completeExceptionally(e);
+      }
+    });
+    return leaderResponseFuture;
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  int getInFlightRequestCount() {
+    return inFlightRequests.size();
+  }
+
+  public interface RequestSender {
+    CompletableFuture<PortableHttpResponse> send() throws RouterException;
+  }
+
+  public static class ResponseFuture extends CompletableFuture<PortableHttpResponse> {
+    private final Instance storageNode;
+
+    ResponseFuture(Instance storageNode) {
+      this.storageNode = storageNode;
+    }
+
+    /**
+     * @return the storage node which the request was sent to, which is the storage node of the in-flight request for
+     *         a coalesced request.
+     */
+    public Instance getStorageNode() {
+      return storageNode;
+    }
+
+    void completeWith(PortableHttpResponse response, Throwable throwable) {
+      if (throwable != null) {
+        completeExceptionally(throwable);
+      } else {
+        complete(response);
+      }
+    }
+  }
+
+  private static class InFlightRequest {
+    private final Instance storageNode;
+    private final List<ResponseFuture> followers = new ArrayList<>();
+    private boolean completed = false;
+
+    InFlightRequest(Instance storageNode) {
+      this.storageNode = storageNode;
+    }
+
+    /**
+     * @return the future of the response for an identical request, or null if this request has completed already.
+     */
+    synchronized ResponseFuture follow() {
+      if (completed) {
+        return null;
+      }
+      ResponseFuture responseFuture = new ResponseFuture(storageNode);
+      followers.add(responseFuture);
+      return responseFuture;
+    }
+
+    void fail(Throwable throwable) {
+      for (ResponseFuture follower: markCompleted()) {
+        follower.completeExceptionally(throwable);
+      }
+    }
+
+    /**
+     * Completes the followers with their own retained slices of the response content, which are all taken before any
+     * follower is completed, so no response built from the content can release it while the others still need it. The
+     * slice of a follower which has completed already, e.g. cancelled, is released right away.
+     *
+     * @return the response for the request which was sent to the storage node.
+     */
+    PortableHttpResponse complete(PortableHttpResponse response) throws IOException {
+      List<ResponseFuture> completedFollowers = markCompleted();
+      if (completedFollowers.isEmpty()) {
+        return response;
+      }
+      ByteBuf content;
+      try {
+        content = response.getContentInByteBuf();
+      } catch (IOException e) {
+        for (ResponseFuture follower: completedFollowers) {
+          follower.completeExceptionally(e);
+        }
+        throw e;
+      }
+      List<PortableHttpResponse> followerResponses = new ArrayList<>(completedFollowers.size());
+      for (int i = 0; i < completedFollowers.size(); i++) {
+        followerResponses.add(new CoalescedHttpResponse(response, content.retainedSlice()));
+      }
+      for (int i = 0; i < completedFollowers.size(); i++) {
+        PortableHttpResponse followerResponse = followerResponses.get(i);
+        if (!completedFollowers.get(i).complete(followerResponse)) {
+          followerResponse.getContentInByteBuf().release();
+        }
+      }
+      return new CoalescedHttpResponse(response, content);
+    }
+
+    /**
+     * @return the followers, which can't change anymore once this request is marked as completed.
+     */
+    private synchronized List<ResponseFuture> markCompleted() {
+      completed = true;
+      return followers;
+    }
+  }
+
+  /**
+   * The response of a coalesced request, which shares the status and the headers of the storage node response, and
+   * owns one reference of the response content.
+   */
+  private static class CoalescedHttpResponse implements PortableHttpResponse {
+    private final PortableHttpResponse response;
+    private final ByteBuf content;
+
+    CoalescedHttpResponse(PortableHttpResponse response, ByteBuf content) {
+      this.response = response;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.containsHeader(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.getFirstHeader(headerName);
+    }
+  }
+}
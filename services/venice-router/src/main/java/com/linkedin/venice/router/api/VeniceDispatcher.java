@@ -30,6 +30,8 @@ import com.linkedin.venice.router.stats.RouteHttpStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.router.throttle.PendingRequestThrottler;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.Utils;
@@ -46,8 +48,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
@@ -71,6 +80,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
   private static final Set<Integer> PASS_THROUGH_ERROR_CODES = Utils.setOf(TOO_MANY_REQUESTS.code());
   private static final Set<Integer> RETRIABLE_ERROR_CODES =
       Utils.setOf(INTERNAL_SERVER_ERROR.code(), SERVICE_UNAVAILABLE.code());
+  private static final int MULTI_GET_DECOMPRESSION_QUEUE_CAPACITY_PER_THREAD = 100;
 
   private final VeniceRouterConfig routerConfig;
   private final ReadOnlyStoreRepository storeRepository;
@@ -91,6 +101,17 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  /**
+   * Decompressing a multi-get response means deserializing, decompressing and serializing every record of it, so it is
+   * offloaded from the threads receiving the responses of the storage nodes when configured, see
+   * {@link VeniceRouterConfig#getMultiGetDecompressionThreads()}; null means it is done in place. The queue is bounded,
+   * and the responses beyond it are decompressed in place as well.
+   */
+  private final ExecutorService multiGetDecompressionExecutor;
+
+  private final SingleGetRequestCoalescer singleGetRequestCoalescer;
+  private final boolean isHedgedRequestCancellationEnabled;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -114,6 +135,18 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    int multiGetDecompressionThreads = config.getMultiGetDecompressionThreads();
+    this.multiGetDecompressionExecutor = multiGetDecompressionThreads > 0
+        ? new ThreadPoolExecutor(
+            multiGetDecompressionThreads,
+            multiGetDecompressionThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(multiGetDecompressionThreads * MULTI_GET_DECOMPRESSION_QUEUE_CAPACITY_PER_THREAD),
+            new DaemonThreadFactory("RouterMultiGetDecompressionThread"))
+        : null;
+    this.singleGetRequestCoalescer = new SingleGetRequestCoalescer(config.getSingleGetCoalescingStores(), routerStats);
+    this.isHedgedRequestCancellationEnabled = config.isHedgedRequestCancellationEnabled();
   }
 
   @Override
@@ -140,11 +173,59 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     }
 
     Instance storageNode = part.getHosts().get(0);
-    hostSelected.setSuccess(storageNode);
+
+    MultiKeyResponseContent multiKeyResponseContent = path.getMultiKeyResponseContent();
+    if (multiKeyResponseContent != null && !path.isRetryRequest()) {
+      // The whole request fails once any part fails, times out or is cancelled, so the content is not needed anymore
+      responseFuture.addListener(future -> {
+        if (!future.isSuccess()) {
+          multiKeyResponseContent.release();
+        }
+      });
+    }
+
+    if (isHedgedRequestCancellationEnabled && !path.isRetryRequest()) {
+      /**
+       * The long-tail retry requests of the part share the completion of the part response with the original request,
+       * see {@link #cancelOnPartResponseCompletion}.
+       */
+      CompletableFuture<Void> partResponseCompletionFuture = new CompletableFuture<>();
+      responseFuture.addListener(ignored -> partResponseCompletionFuture.complete(null));
+      path.setPartResponseCompletionFuture(partResponseCompletionFuture);
+    }
 
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
+    CompletableFuture<PortableHttpResponse> serverResponseFuture;
+    Instance respondingStorageNode;
+    if (singleGetRequestCoalescer.isCoalescingEnabled(path)) {
+      SingleGetRequestCoalescer.ResponseFuture coalescedResponseFuture;
       try {
+        coalescedResponseFuture =
+            singleGetRequestCoalescer.send(path, storageNode, () -> sendRequest(storageNode, path, retryFuture));
+      } catch (Throwable e) {
+        hostSelected.setSuccess(storageNode);
+        throw e;
+      }
+      /**
+       * A coalesced request is served by the storage node of the in-flight request it shares, so that storage node is
+       * the one to avoid on retry and to mark as fast, rather than the selected one, which is never contacted.
+       */
+      serverResponseFuture = coalescedResponseFuture;
+      respondingStorageNode = coalescedResponseFuture.getStorageNode();
+      hostSelected.setSuccess(respondingStorageNode);
+    } else {
+      hostSelected.setSuccess(storageNode);
+      serverResponseFuture = sendRequest(storageNode, path, retryFuture);
+      respondingStorageNode = storageNode;
+    }
+    serverResponseFuture.whenComplete((response, throwable) -> {
+      try {
+        if (throwable != null && ExceptionUtils.recursiveClassEquals(throwable, CancellationException.class)
+            && path.getPartResponseCompletionFuture() != null && path.getPartResponseCompletionFuture().isDone()) {
+          // The request has lost to another request of the same part, so there is nothing to retry
+          responseFuture.setFailure(throwable);
+          return;
+        }
         int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
         if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
           retryFuture.setSuccess(HttpResponseStatus.valueOf(statusCode));
@@ -159,9 +240,17 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
         // Do not mark storage node fast for 429 status code
         if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR && statusCode != HttpStatus.SC_TOO_MANY_REQUESTS) {
-          path.markStorageNodeAsFast(storageNode.getNodeId());
+          path.markStorageNodeAsFast(respondingStorageNode.getNodeId());
         }
 
+        if (multiGetDecompressionExecutor != null && isMultiGetDecompressionRequired(path, response)) {
+          try {
+            multiGetDecompressionExecutor.execute(new MultiGetDecompressionTask(path, response, responseFuture));
+            return;
+          } catch (RejectedExecutionException e) {
+            // The queue is full, or the router is shutting down
+          }
+        }
         responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
@@ -169,6 +258,17 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     });
   }
 
+  private boolean isMultiGetDecompressionRequired(VenicePath path, PortableHttpResponse serverResponse) {
+    RequestType requestType = path.getRequestType();
+    if (serverResponse.getStatusCode() != HttpStatus.SC_OK
+        || (requestType != RequestType.MULTI_GET && requestType != RequestType.MULTI_GET_STREAMING)) {
+      return false;
+    }
+    CompressionStrategy contentCompression =
+        VeniceResponseDecompressor.getCompressionStrategy(serverResponse.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
+    return !path.getResponseDecompressor().canPassThroughResponse(contentCompression);
+  }
+
   protected CompletableFuture<PortableHttpResponse> sendRequest(
       Instance storageNode,
       VenicePath path,
@@ -232,12 +332,13 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
          * to decide whether a storage node is suitable for retry request.
          */
         path.requestStorageNode(storageNode.getNodeId());
-        storageNodeClient.query(
+        Future<?> requestFuture = storageNodeClient.query(
             storageNode,
             path,
             responseFuture::complete,
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false));
+        cancelOnPartResponseCompletion(path, responseFuture, requestFuture);
       } catch (Throwable throwable) {
         responseFuture.completeExceptionally(throwable);
       }
@@ -257,6 +358,29 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     }
   }
 
+  /**
+   * The original request and the long-tail retry request of a part race like hedged requests, and once the response
+   * of the part is set by either of them, the other one still in flight is cancelled, so the storage node can skip the
+   * work for it. The request shared by the coalesced single-get requests is never cancelled.
+   */
+  private void cancelOnPartResponseCompletion(
+      VenicePath path,
+      CompletableFuture<PortableHttpResponse> responseFuture,
+      Future<?> requestFuture) {
+    CompletableFuture<Void> partResponseCompletionFuture = path.getPartResponseCompletionFuture();
+    if (partResponseCompletionFuture == null || requestFuture == null
+        || singleGetRequestCoalescer.isCoalescingEnabled(path)) {
+      return;
+    }
+    partResponseCompletionFuture.thenRun(() -> {
+      // Only cancels the request which hasn't completed yet
+      if (responseFuture.cancel(false)) {
+        requestFuture.cancel(true);
+        routerStats.getStatsByType(path.getRequestType()).recordCancelledHedgedRequest(path.getStoreName());
+      }
+    });
+  }
+
   protected VeniceFullHttpResponse buildResponse(VenicePath path, PortableHttpResponse serverResponse)
       throws IOException {
     int statusCode = serverResponse.getStatusCode();
@@ -316,6 +440,14 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       contentCompression = CompressionStrategy.NO_OP;
     }
 
+    int contentLength = content.readableBytes();
+    MultiKeyResponseContent multiKeyResponseContent = path.getMultiKeyResponseContent();
+    if (statusCode == HttpStatus.SC_OK && multiKeyResponseContent != null) {
+      // Same as streaming, the content is aggregated right away instead of being held until all sub-responses arrive
+      multiKeyResponseContent.add(path.getPartitionKeys(), path::getKeyIndex, content);
+      content = Unpooled.EMPTY_BUFFER;
+    }
+
     VeniceFullHttpResponse response = new VeniceFullHttpResponse(
         HttpVersion.HTTP_1_1,
         HttpResponseStatus.valueOf(statusCode),
@@ -323,7 +455,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         decompressionTimeInNs);
     response.headers()
         .set(HttpHeaderNames.CONTENT_TYPE, serverResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE))
-        .set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes())
+        .set(HttpHeaderNames.CONTENT_LENGTH, contentLength)
         .set(HttpConstants.VENICE_SCHEMA_ID, serverResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID))
         .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, contentCompression.getValue())
         .set(
@@ -356,6 +488,39 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   public void stop() {
     this.leakedCompletableFutureCleanupService.interrupt();
+    if (multiGetDecompressionExecutor != null) {
+      for (Runnable droppedTask: multiGetDecompressionExecutor.shutdownNow()) {
+        ((MultiGetDecompressionTask) droppedTask).responseFuture
+            .setFailure(new VeniceException("The router is shutting down"));
+      }
+    }
+  }
+
+  /**
+   * Builds the response of a multi-get part which needs to be decompressed, on {@link #multiGetDecompressionExecutor}.
+   */
+  private class MultiGetDecompressionTask implements Runnable {
+    private final VenicePath path;
+    private final PortableHttpResponse serverResponse;
+    private final AsyncPromise<List<FullHttpResponse>> responseFuture;
+
+    MultiGetDecompressionTask(
+        VenicePath path,
+        PortableHttpResponse serverResponse,
+        AsyncPromise<List<FullHttpResponse>> responseFuture) {
+      this.path = path;
+      this.serverResponse = serverResponse;
+      this.responseFuture = responseFuture;
+    }
+
+    @Override
+    public void run() {
+      try {
+        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, serverResponse)));
+      } catch (Throwable e) {
+        responseFuture.setFailure(e);
+      }
+    }
   }
 
   /**
@@ -300,6 +300,11 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
           requestType = path.getRequestType();
         }
       }
+      if (requestType.equals(RequestType.MULTI_GET) || requestType.equals(RequestType.COMPUTE)) {
+        // The non-streaming sub-responses are aggregated as they arrive
+        path.setMultiKeyResponseContent(
+            new MultiKeyResponseContent(routerConfig.getMultiKeyResponseMaxSizeBytes(), requestType));
+      }
 
       boolean decompressOnClient = routerConfig.isDecompressOnClient();
       if (decompressOnClient) {
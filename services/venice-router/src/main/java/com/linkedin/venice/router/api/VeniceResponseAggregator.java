@@ -12,6 +12,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import static io.netty.handler.codec.http.HttpResponseStatus.MOVED_PERMANENTLY;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
 import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
 
 import com.linkedin.alpini.base.misc.HeaderNames;
@@ -33,6 +34,7 @@ import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.SuccessfulStreamingResponse;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -40,6 +42,7 @@ import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -200,22 +203,33 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       finalResponse = buildStreamingResponse(gatheredResponses, storeName, versionNumber);
     } else {
       Optional<Map<CharSequence, String>> optionalHeaders = venicePath.getResponseHeaders();
-      switch (requestType) {
-        case SINGLE_GET:
-          finalResponse = gatheredResponses.get(0);
-          break;
-        case MULTI_GET:
-          finalResponse = processMultiGetResponses(gatheredResponses, storeName, versionNumber, optionalHeaders);
-          break;
-        case COMPUTE:
-          finalResponse = processComputeResponses(gatheredResponses, storeName, optionalHeaders);
-          break;
-        default:
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.empty(),
-              Optional.empty(),
-              INTERNAL_SERVER_ERROR,
-              "Unknown request type: " + requestType);
+      MultiKeyResponseContent multiKeyResponseContent = venicePath.getMultiKeyResponseContent();
+      try {
+        switch (requestType) {
+          case SINGLE_GET:
+            finalResponse = gatheredResponses.get(0);
+            break;
+          case MULTI_GET:
+            finalResponse = processMultiGetResponses(gatheredResponses, storeName, versionNumber, optionalHeaders);
+            break;
+          case COMPUTE:
+            finalResponse = processComputeResponses(gatheredResponses, storeName, optionalHeaders);
+            break;
+          default:
+            throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+                Optional.empty(),
+                Optional.empty(),
+                INTERNAL_SERVER_ERROR,
+                "Unknown request type: " + requestType);
+        }
+      } catch (RuntimeException e) {
+        if (multiKeyResponseContent != null) {
+          multiKeyResponseContent.release();
+        }
+        throw e;
+      }
+      if (multiKeyResponseContent != null) {
+        finalResponse = withMultiKeyResponseContent(venicePath, multiKeyResponseContent, finalResponse);
       }
     }
     stats.recordFanoutRequestCount(storeName, gatheredResponses.size());
@@ -284,6 +298,35 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return finalResponse;
   }
 
+  /**
+   * Replaces the content of the aggregated response with the content that the sub-responses were written into as they
+   * arrived, see {@link MultiKeyResponseContent}.
+   */
+  private FullHttpResponse withMultiKeyResponseContent(
+      VenicePath venicePath,
+      MultiKeyResponseContent multiKeyResponseContent,
+      FullHttpResponse response) {
+    if (!response.status().equals(OK)) {
+      multiKeyResponseContent.release();
+      return response;
+    }
+    if (multiKeyResponseContent.isSizeLimitExceeded()) {
+      response.release();
+      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+          Optional.of(venicePath.getStoreName()),
+          Optional.of(venicePath.getRequestType()),
+          REQUEST_ENTITY_TOO_LARGE,
+          "Response size exceeds the limit of " + multiKeyResponseContent.getMaxSizeBytes()
+              + " bytes, please reduce the number of keys in the request");
+    }
+    ByteBuf content = multiKeyResponseContent.retrieve();
+    // The content of the sub-responses has been moved to the aggregated content already
+    response.release();
+    FullHttpResponse aggregatedResponse = response.replace(content);
+    aggregatedResponse.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
+    return aggregatedResponse;
+  }
+
   private FullHttpResponse buildStreamingResponse(
       List<FullHttpResponse> gatheredResponses,
       String storeName,
@@ -366,7 +409,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
      * 1. {@link HttpHeaderNames.CONTENT_TYPE}
      * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
      */
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = Unpooled.compositeBuffer(responses.size());
     int totalRequestRcu = 0;
     for (FullHttpResponse response: responses) {
       if (response.status() != OK) {
@@ -426,7 +469,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     long decompressedSize = 0;
     long decompressionTimeInNs = 0;
     int totalRequestRcu = 0;
-    CompositeByteBuf content = Unpooled.compositeBuffer();
+    CompositeByteBuf content = Unpooled.compositeBuffer(responses.size());
     CompressionStrategy compressionStrategy = null;
 
     for (FullHttpResponse response: responses) {
@@ -464,7 +507,8 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
 
       totalRequestRcu += getRCU(response);
 
-      decompressedSize += response.content().readableBytes();
+      // The content might have been moved to the aggregated content, but the header keeps its size
+      decompressedSize += HttpUtil.getContentLength(response, response.content().readableBytes());
       if (response instanceof VeniceFullHttpResponse) {
         decompressionTimeInNs += ((VeniceFullHttpResponse) response).getDecompressionTimeInNs();
       }
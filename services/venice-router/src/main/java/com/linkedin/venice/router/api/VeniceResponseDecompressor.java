@@ -1,5 +1,7 @@
 package com.linkedin.venice.router.api;
 
+import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_DICTIONARY_SUPPORTED;
+import static com.linkedin.venice.HttpConstants.VENICE_STREAMING;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static com.linkedin.venice.read.RequestType.MULTI_GET;
 import static com.linkedin.venice.read.RequestType.MULTI_GET_STREAMING;
@@ -7,6 +9,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
@@ -17,16 +20,19 @@ import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
@@ -35,13 +41,12 @@ import org.apache.avro.io.OptimizedBinaryDecoderFactory;
  * {@link VeniceResponseAggregator} for regular requests and {@link VeniceDispatcher} for streaming requests.
  */
 public class VeniceResponseDecompressor {
-  private static final RecordSerializer<MultiGetResponseRecordV1> recordSerializer =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
   private static final RecordDeserializer<MultiGetResponseRecordV1> recordDeserializer =
       FastSerializerDeserializerFactory
           .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
 
   private final CompressionStrategy clientCompression;
+  private final boolean isClientDictionarySupported;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
   private final String storeName;
   private final int version;
@@ -57,6 +62,9 @@ public class VeniceResponseDecompressor {
       CompressorFactory compressorFactory) {
     this.routerStats = routerStats;
     this.clientCompression = decompressOnClient ? getClientSupportedCompression(request) : CompressionStrategy.NO_OP;
+    // only the streaming responses carry the store version, which is needed to look up the dictionary
+    this.isClientDictionarySupported = decompressOnClient && request.headers().contains(VENICE_STREAMING)
+        && request.headers().contains(VENICE_CLIENT_DICTIONARY_SUPPORTED);
     this.storeName = storeName;
     this.version = version;
     this.kafkaTopic = Version.composeKafkaTopic(storeName, version);
@@ -74,8 +82,14 @@ public class VeniceResponseDecompressor {
     return CompressionStrategy.valueOf(Integer.parseInt(compressionHeader));
   }
 
+  /**
+   * The clients sending {@link com.linkedin.venice.HttpConstants#VENICE_CLIENT_DICTIONARY_SUPPORTED} fetch the
+   * dictionaries from the router by themselves, see {@link com.linkedin.venice.router.MetaDataHandler}, and they are
+   * able to decompress the streaming multi-get responses of any compression strategy, which carry the store version.
+   */
   public boolean canPassThroughResponse(CompressionStrategy responseCompression) {
-    return responseCompression == clientCompression || responseCompression == CompressionStrategy.NO_OP;
+    return responseCompression == clientCompression || responseCompression == CompressionStrategy.NO_OP
+        || isClientDictionarySupported;
   }
 
   public ContentDecompressResult decompressSingleGetContent(CompressionStrategy compressionStrategy, ByteBuf content) {
@@ -168,24 +182,27 @@ public class VeniceResponseDecompressor {
     return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
   }
 
+  private VeniceCompressor getCompressor(CompressionStrategy compressionStrategy, RequestType requestType) {
+    if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      VeniceCompressor compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
+      if (compressor == null) {
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            SERVICE_UNAVAILABLE,
+            "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
+      }
+      return compressor;
+    }
+    return compressorFactory.getCompressor(compressionStrategy);
+  }
+
   private ByteBuffer decompressRecord(
       CompressionStrategy compressionStrategy,
       ByteBuffer compressedData,
       RequestType requestType) {
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
+      VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
       ByteBuffer decompressed = compressor.decompress(compressedData);
       return decompressed;
     } catch (IOException e) {
@@ -196,39 +213,42 @@ public class VeniceResponseDecompressor {
     }
   }
 
+  /**
+   * The records are decompressed one by one and written into a pooled buffer right away, so neither the list of the
+   * records nor the intermediate byte arrays of the serialization are created.
+   */
   private ByteBuf decompressMultiGetRecords(
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
+    VeniceCompressor compressor = getCompressor(compressionStrategy, requestType);
     ByteBuf copy = data.isReadOnly() ? data.copy() : data;
-    Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
-
+    BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
+        .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes());
+    // The decompressed records are usually larger than the compressed ones
+    ByteBuf output = ByteBufAllocator.DEFAULT.heapBuffer(copy.readableBytes() * 2);
+    BinaryEncoder encoder = AvroCompatibilityHelper.newBinaryEncoder(new ByteBufOutputStream(output), true, null);
+    MultiGetResponseRecordV1 record = null;
     try {
-      VeniceCompressor compressor;
-      if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
-        compressor = compressorFactory.getVersionSpecificCompressor(kafkaTopic);
-        if (compressor == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(requestType),
-              SERVICE_UNAVAILABLE,
-              "Compressor not available for resource " + kafkaTopic + ". Dictionary not downloaded.");
-        }
-      } else {
-        compressor = compressorFactory.getCompressor(compressionStrategy);
-      }
-      for (MultiGetResponseRecordV1 record: records) {
-        record.value = compressor.decompress(record.value);
+      while (!decoder.isEnd()) {
+        record = recordDeserializer.deserialize(record, decoder);
+        ByteBuffer decompressedValue = compressor.decompress(record.value);
+        // Same field order as the schema of MultiGetResponseRecordV1
+        encoder.writeInt(record.keyIndex);
+        encoder.writeBytes(decompressedValue);
+        encoder.writeInt(record.schemaId);
       }
+      encoder.flush();
     } catch (IOException e) {
+      output.release();
       String errorMsg = String
           .format("Failed to decompress data. Store: %s; Version: %d, error: %s", storeName, version, e.getMessage());
       throw RouterExceptionAndTrackingUtils
           .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
+    } catch (RuntimeException e) {
+      output.release();
+      throw e;
     }
-
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records));
+    return output;
   }
 }
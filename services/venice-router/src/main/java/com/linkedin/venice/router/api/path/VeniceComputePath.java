@@ -249,6 +249,11 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
     return routerRequestKey;
   }
 
+  @Override
+  protected int getKeyIndexOfRouterRequestKey(ComputeRouterRequestKeyV1 routerRequestKey) {
+    return routerRequestKey.keyIndex;
+  }
+
   @Override
   protected byte[] serializeRouterRequest() {
     return COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER
@@ -153,6 +153,11 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
     return routerRequestKey;
   }
 
+  @Override
+  protected int getKeyIndexOfRouterRequestKey(MultiGetRouterRequestKeyV1 routerRequestKey) {
+    return routerRequestKey.keyIndex;
+  }
+
   @Override
   protected byte[] serializeRouterRequest() {
     return MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER.serializeObjects(routerKeyMap.values());
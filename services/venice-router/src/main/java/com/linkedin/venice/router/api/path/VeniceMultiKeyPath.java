@@ -211,6 +211,11 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     return fixRetryRequestForSubPath(newRouterKeyMap);
   }
 
+  @Override
+  public int getKeyIndex(RouterKey key) {
+    return getKeyIndexOfRouterRequestKey(routerKeyMap.get(key));
+  }
+
   @Override
   public HttpUriRequest composeRouterRequestInternal(String storageNodeUri) {
     HttpPost routerRequest = new HttpPost(storageNodeUri + getLocation());
@@ -273,6 +278,11 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
    */
   protected abstract K createRouterRequestKey(ByteBuffer key, int keyIdx, int partitionId);
 
+  /**
+   * @return the key index carried by the given router request key
+   */
+  protected abstract int getKeyIndexOfRouterRequestKey(K routerRequestKey);
+
   /**
    * @param routerKeyMap
    * @return a sub-path with a new set of keys
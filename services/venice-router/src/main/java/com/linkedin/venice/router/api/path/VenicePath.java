@@ -5,6 +5,7 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.MultiKeyResponseContent;
 import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VeniceResponseDecompressor;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
@@ -17,9 +18,11 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
@@ -57,6 +60,13 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
   // Whether the request supports streaming or not
   private VeniceChunkedResponse chunkedResponse = null;
   private VeniceResponseDecompressor responseDecompressor = null;
+  // The content aggregated from the sub-responses of a non-streaming multi-key request
+  private MultiKeyResponseContent multiKeyResponseContent = null;
+  /**
+   * Completes once the response of the scattered part is set, either by the original request or by its long-tail retry
+   * request, so the other one still in flight can be cancelled.
+   */
+  private CompletableFuture<Void> partResponseCompletionFuture = null;
   private Optional<Map<CharSequence, String>> responseHeaders = Optional.empty();
 
   private long requestId = -1;
@@ -129,6 +139,13 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     return this.partitionKeys;
   }
 
+  /**
+   * @return the index of the given key in the original request, which the storage node echoes back in each record.
+   */
+  public int getKeyIndex(RouterKey key) {
+    throw new UnsupportedOperationException("getKeyIndex is not supported by " + getClass().getSimpleName());
+  }
+
   public int getRequestSize() {
     // The final single-element array is being used in closure since closure can only operate final variables.
     final int[] size = { 0 };
@@ -181,6 +198,8 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
 
     this.chunkedResponse = originalPath.chunkedResponse;
     this.responseDecompressor = originalPath.responseDecompressor;
+    this.multiKeyResponseContent = originalPath.multiKeyResponseContent;
+    this.partResponseCompletionFuture = originalPath.partResponseCompletionFuture;
 
     this.requestId = originalPath.getRequestId();
     this.helixGroupId = originalPath.getHelixGroupId();
@@ -291,13 +310,24 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
       // Defensive code
       throw new IllegalStateException("VeniceChunkedWriteHandler has already been setup");
     }
+    Optional<Map<CharSequence, String>> chunkedResponseHeaders = getResponseHeaders();
+    if (getStreamingRequestType() == RequestType.MULTI_GET_STREAMING) {
+      /**
+       * The clients need the version to look up the dictionary of the records passed through with
+       * {@link com.linkedin.venice.compression.CompressionStrategy#ZSTD_WITH_DICT}.
+       */
+      Map<CharSequence, String> headers = new HashMap<>();
+      chunkedResponseHeaders.ifPresent(headers::putAll);
+      headers.put(HttpConstants.VENICE_STORE_VERSION, Integer.toString(getVersionNumber()));
+      chunkedResponseHeaders = Optional.of(headers);
+    }
     this.chunkedResponse = new VeniceChunkedResponse(
         storeName,
         getStreamingRequestType(),
         ctx,
         chunkedWriteHandler,
         routerStats,
-        getResponseHeaders());
+        chunkedResponseHeaders);
   }
 
   public void setResponseHeaders(Map<CharSequence, String> responseHeaders) {
@@ -339,6 +369,25 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
     return getChunkedResponse() != null;
   }
 
+  public void setMultiKeyResponseContent(MultiKeyResponseContent multiKeyResponseContent) {
+    this.multiKeyResponseContent = multiKeyResponseContent;
+  }
+
+  /**
+   * @return the content aggregated from the sub-responses, or null if the sub-responses carry their own content.
+   */
+  public MultiKeyResponseContent getMultiKeyResponseContent() {
+    return this.multiKeyResponseContent;
+  }
+
+  public void setPartResponseCompletionFuture(CompletableFuture<Void> partResponseCompletionFuture) {
+    this.partResponseCompletionFuture = partResponseCompletionFuture;
+  }
+
+  public CompletableFuture<Void> getPartResponseCompletionFuture() {
+    return this.partResponseCompletionFuture;
+  }
+
   public boolean isLongTailRetryAllowedForNewRequest() {
     return true;
   }
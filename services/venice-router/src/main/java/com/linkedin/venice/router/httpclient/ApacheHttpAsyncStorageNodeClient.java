@@ -567,7 +567,7 @@ public class ApacheHttpAsyncStorageNodeClient implements StorageNodeClient {
   }
 
   @Override
-  public void query(
+  public Future<HttpResponse> query(
       Instance host,
       VenicePath path,
       Consumer<PortableHttpResponse> completedCallBack,
@@ -593,7 +593,7 @@ public class ApacheHttpAsyncStorageNodeClient implements StorageNodeClient {
       selectedClient = clientPool.get(selectedClientId);
     }
 
-    selectedClient.execute(
+    return selectedClient.execute(
         routerRequest,
         new HttpAsyncClientFutureCallBack(completedCallBack, failedCallBack, cancelledCallBack));
   }
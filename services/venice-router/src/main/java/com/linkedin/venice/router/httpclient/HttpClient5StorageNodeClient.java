@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -77,7 +78,7 @@ public class HttpClient5StorageNodeClient implements StorageNodeClient {
   }
 
   @Override
-  public void query(
+  public Future<SimpleHttpResponse> query(
       Instance host,
       VenicePath path,
       Consumer<PortableHttpResponse> completedCallBack,
@@ -94,7 +95,7 @@ public class HttpClient5StorageNodeClient implements StorageNodeClient {
       simpleRequestBuilder.setBody(body, ContentType.DEFAULT_BINARY);
     }
 
-    getRandomClient().execute(simpleRequestBuilder.build(), new FutureCallback<SimpleHttpResponse>() {
+    return getRandomClient().execute(simpleRequestBuilder.build(), new FutureCallback<SimpleHttpResponse>() {
       @Override
       public void completed(SimpleHttpResponse result) {
         completedCallBack.accept(new HttpClient5Response(result));
@@ -158,7 +159,7 @@ public class HttpClient5StorageNodeClient implements StorageNodeClient {
       simpleRequestBuilder.setRequestConfig(
           RequestConfig.custom().setResponseTimeout(request.getTimeout(), TimeUnit.MILLISECONDS).build());
     }
-    getRandomClient().execute(simpleRequestBuilder.build(), new FutureCallback<SimpleHttpResponse>() {
+    return getRandomClient().execute(simpleRequestBuilder.build(), new FutureCallback<SimpleHttpResponse>() {
       @Override
       public void completed(SimpleHttpResponse result) {
         responseFuture.complete(new HttpClient5Response(result));
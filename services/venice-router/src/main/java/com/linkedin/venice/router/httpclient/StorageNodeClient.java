@@ -5,6 +5,7 @@ import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.router.api.path.VenicePath;
 import java.io.Closeable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
@@ -28,9 +29,10 @@ public interface StorageNodeClient extends Closeable {
    * @param completedCallBack Callback function for a complete response
    * @param failedCallBack    if any exception thrown in the channel
    * @param cancelledCallBack for requests that are cancelled by the channel
+   * @return the future of the request, which aborts the request when it is cancelled
    * @throws RouterException
    */
-  void query(
+  Future<?> query(
       Instance host,
       VenicePath path,
       Consumer<PortableHttpResponse> completedCallBack,
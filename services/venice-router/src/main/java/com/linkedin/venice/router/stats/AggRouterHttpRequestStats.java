@@ -139,6 +139,16 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     }
   }
 
+  public void recordCoalescedRequest(String storeName) {
+    totalStats.recordCoalescedRequest();
+    getStoreStats(storeName).recordCoalescedRequest();
+  }
+
+  public void recordCancelledHedgedRequest(String storeName) {
+    totalStats.recordCancelledHedgedRequest();
+    getStoreStats(storeName).recordCancelledHedgedRequest();
+  }
+
   public void recordFanoutRequestCount(String storeName, int count) {
     totalStats.recordFanoutRequestCount(count);
     getStoreStats(storeName).recordFanoutRequestCount(count);
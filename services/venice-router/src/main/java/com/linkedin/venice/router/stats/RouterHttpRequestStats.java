@@ -40,6 +40,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor tardyRequestRatioSensor;
   private final Sensor throttleSensor;
   private final Sensor errorRetryCountSensor;
+  private final Sensor coalescedRequestSensor;
+  private final Sensor cancelledHedgedRequestSensor;
 
   private final Sensor latencySensor;
   private final Sensor healthyRequestLatencySensor;
@@ -103,6 +105,8 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor(new TehutiUtils.SimpleRatioStat(tardyRequestRate, requestRate, "tardy_request_ratio"));
     throttleSensor = registerSensor("throttled_request", new Count());
     errorRetryCountSensor = registerSensor("error_retry", new Count());
+    coalescedRequestSensor = registerSensor("coalesced_request", new Count());
+    cancelledHedgedRequestSensor = registerSensor("cancelled_hedged_request", new Count());
     badRequestSensor = registerSensor("bad_request", new Count());
     badRequestKeyCountSensor = registerSensor("bad_request_key_count", new OccurrenceRate(), new Avg(), new Max());
     requestThrottledByRouterCapacitySensor = registerSensor("request_throttled_by_router_capacity", new Count());
@@ -260,6 +264,21 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     errorRetryCountSensor.record();
   }
 
+  /**
+   * Record a request which shares the in-flight storage node request of an identical request instead of sending its
+   * own, see {@link com.linkedin.venice.router.api.SingleGetRequestCoalescer}.
+   */
+  public void recordCoalescedRequest() {
+    coalescedRequestSensor.record();
+  }
+
+  /**
+   * Record the in-flight request which is cancelled since another request of the same part has won.
+   */
+  public void recordCancelledHedgedRequest() {
+    cancelledHedgedRequestSensor.record();
+  }
+
   public void recordBadRequest() {
     badRequestSensor.record();
   }
@@ -11,12 +11,14 @@ import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.throttle.EventThrottler;
-import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.throttle.StripedTokenBucket;
+import com.linkedin.venice.throttle.VeniceRateLimiter;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -28,12 +30,23 @@ import org.apache.logging.log4j.Logger;
  * throttler for this store and all storage nodes which get the ONLINE replica for the current version of this store.
  * For each read request throttler will ask the related StoreReadThrottler to check both store level quota and storage
  * level quota then accept or reject it.
+ *
+ * The store throttlers are either {@link EventThrottler}s or, when
+ * {@link VeniceRouterConfig#isReadQuotaStripedTokenBucketEnabled()}, {@link StripedTokenBucket}s, which let the event
+ * loop threads check the quota without contending on a shared counter.
  */
 public class ReadRequestThrottler
     implements RouterThrottler, StoreDataChangedListener, RoutersClusterManager.RouterCountChangedListener {
   // We want to give more tight restriction for store-level quota to protect router but more lenient restriction for
   // storage node level quota. Because in some case per-storage node quota is too small to user.
   public static final long DEFAULT_STORE_QUOTA_TIME_WINDOW = TimeUnit.SECONDS.toMillis(10); // 10sec
+  private static final long STRIPED_TOKEN_BUCKET_REFILL_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+  /**
+   * The stores with a small quota get fewer stripes, since their tokens would be spread too thin across many stripes,
+   * and all the stores would otherwise take as many stripes as the cores.
+   */
+  private static final long STRIPED_TOKEN_BUCKET_MIN_QUOTA_PER_STRIPE = 1000;
+  private static final int STRIPED_TOKEN_BUCKET_MAX_STRIPE_COUNT = Runtime.getRuntime().availableProcessors();
 
   private static final Logger LOGGER = LogManager.getLogger(ReadRequestThrottler.class);
   private final RoutersClusterManager zkRoutersManager;
@@ -47,13 +60,12 @@ public class ReadRequestThrottler
   private long idealTotalQuotaPerRouter;
 
   /**
-   * The atomic reference of all store throttlers. While updating any throttler, lock this reference to prevent race
-   * condition. We could not use volatile variable here because we will replace the whole inside map once router count
-   * is changed(ReadRequestThrottler#handleRouterCountChanged), in that case lock will fail because the object that
-   * this reference points to has been changed.
+   * The immutable snapshot of all store throttlers, so the read requests look up their throttler without any locking.
+   * Any update copies the snapshot and swaps in the updated copy while holding {@link #storesThrottlersLock}, which
+   * serializes the updates.
    */
-  private final AtomicReference<ConcurrentMap<String, EventThrottler>> storesThrottlers =
-      new AtomicReference<>(new VeniceConcurrentHashMap<>());
+  private volatile Map<String, VeniceRateLimiter> storesThrottlers = Collections.emptyMap();
+  private final Object storesThrottlersLock = new Object();
 
   private final AggRouterHttpRequestStats stats;
 
@@ -61,6 +73,8 @@ public class ReadRequestThrottler
 
   private final long storeQuotaCheckTimeWindow;
 
+  private final boolean isStripedTokenBucketEnabled;
+
   private volatile boolean isNoopThrottlerEnabled;
 
   public ReadRequestThrottler(
@@ -74,7 +88,8 @@ public class ReadRequestThrottler
         routerConfig.getMaxReadCapacityCu(),
         stats,
         routerConfig.getPerStoreRouterQuotaBuffer(),
-        DEFAULT_STORE_QUOTA_TIME_WINDOW);
+        DEFAULT_STORE_QUOTA_TIME_WINDOW,
+        routerConfig.isReadQuotaStripedTokenBucketEnabled());
   }
 
   public ReadRequestThrottler(
@@ -84,6 +99,24 @@ public class ReadRequestThrottler
       AggRouterHttpRequestStats stats,
       double perStoreRouterQuotaBuffer,
       long storeQuotaCheckTimeWindow) {
+    this(
+        zkRoutersManager,
+        storeRepository,
+        maxRouterReadCapacity,
+        stats,
+        perStoreRouterQuotaBuffer,
+        storeQuotaCheckTimeWindow,
+        false);
+  }
+
+  public ReadRequestThrottler(
+      RoutersClusterManager zkRoutersManager,
+      ReadOnlyStoreRepository storeRepository,
+      long maxRouterReadCapacity,
+      AggRouterHttpRequestStats stats,
+      double perStoreRouterQuotaBuffer,
+      long storeQuotaCheckTimeWindow,
+      boolean isStripedTokenBucketEnabled) {
     this.zkRoutersManager = zkRoutersManager;
     this.storeRepository = storeRepository;
     this.storeQuotaCheckTimeWindow = storeQuotaCheckTimeWindow;
@@ -93,9 +126,10 @@ public class ReadRequestThrottler
     this.perStoreRouterQuotaBuffer = perStoreRouterQuotaBuffer;
     this.idealTotalQuotaPerRouter = calculateIdealTotalQuotaPerRouter();
     this.isNoopThrottlerEnabled = false;
+    this.isStripedTokenBucketEnabled = isStripedTokenBucketEnabled;
 
     /** Calling {@link #buildAllStoreReadThrottlers()} should be done after all internal state is initialized */
-    this.storesThrottlers.set(buildAllStoreReadThrottlers());
+    this.storesThrottlers = buildAllStoreReadThrottlers();
 
     /** Subscribing to listeners should be the very last thing, to avoid calls prior to full initialization */
     this.zkRoutersManager.subscribeRouterCountChangedEvent(this);
@@ -114,11 +148,16 @@ public class ReadRequestThrottler
     if (!zkRoutersManager.isThrottlingEnabled() || isNoopThrottlerEnabled) {
       return;
     }
-    EventThrottler throttler = getStoreReadThrottler(storeName);
+    VeniceRateLimiter throttler = getStoreReadThrottler(storeName);
     if (throttler == null) {
       throw new VeniceException("Could not find the throttler for store: " + storeName);
-    } else {
-      throttler.maybeThrottle(readCapacityUnit);
+    } else if (throttler instanceof EventThrottler) {
+      ((EventThrottler) throttler).maybeThrottle(readCapacityUnit);
+    } else if (!throttler.tryAcquirePermit((int) Math.ceil(readCapacityUnit))) {
+      throw new QuotaExceededException(
+          storeName + "-throttler",
+          readCapacityUnit + " rcu",
+          throttler.getQuota() + " rcu/sec");
     }
   }
 
@@ -186,24 +225,42 @@ public class ReadRequestThrottler
     return totalQuota;
   }
 
-  protected EventThrottler getStoreReadThrottler(String storeName) {
-    return this.storesThrottlers.get().get(storeName);
+  protected VeniceRateLimiter getStoreReadThrottler(String storeName) {
+    return this.storesThrottlers.get(storeName);
   }
 
-  private EventThrottler buildStoreReadThrottler(String storeName, long storeQuotaPerRouter) {
+  private VeniceRateLimiter buildStoreReadThrottler(String storeName, long storeQuotaPerRouter) {
     stats.recordQuota(storeName, storeQuotaPerRouter);
-    return new EventThrottler(
-        storeQuotaPerRouter,
-        storeQuotaCheckTimeWindow,
-        storeName + "-throttler",
-        true,
-        EventThrottler.REJECT_STRATEGY);
+    VeniceRateLimiter throttler;
+    if (isStripedTokenBucketEnabled) {
+      // The bucket holds the quota of one refill interval, so a burst never goes beyond the quota of one second
+      throttler = StripedTokenBucket.fromRcuPerSecond(
+          storeQuotaPerRouter,
+          STRIPED_TOKEN_BUCKET_REFILL_INTERVAL_MS,
+          1,
+          getStripeCount(storeQuotaPerRouter),
+          Clock.systemUTC());
+    } else {
+      throttler = new EventThrottler(
+          storeQuotaPerRouter,
+          storeQuotaCheckTimeWindow,
+          storeName + "-throttler",
+          true,
+          EventThrottler.REJECT_STRATEGY);
+    }
+    throttler.setQuota(storeQuotaPerRouter);
+    return throttler;
+  }
+
+  static int getStripeCount(long storeQuotaPerRouter) {
+    long stripeCount = storeQuotaPerRouter / STRIPED_TOKEN_BUCKET_MIN_QUOTA_PER_STRIPE;
+    return (int) Math.max(1, Math.min(STRIPED_TOKEN_BUCKET_MAX_STRIPE_COUNT, stripeCount));
   }
 
-  private ConcurrentMap<String, EventThrottler> buildAllStoreReadThrottlers() {
+  private Map<String, VeniceRateLimiter> buildAllStoreReadThrottlers() {
     // Total quota for this router is changed, we have to update all store throttlers.
     List<Store> allStores = storeRepository.getAllStores();
-    ConcurrentMap<String, EventThrottler> newStoreThrottlers = new ConcurrentHashMap<>();
+    Map<String, VeniceRateLimiter> newStoreThrottlers = new HashMap<>();
     for (Store store: allStores) {
       if (storeHasNoValidVersion(store)) {
         continue;
@@ -212,7 +269,7 @@ public class ReadRequestThrottler
           store.getName(),
           buildStoreReadThrottler(store.getName(), calculateStoreQuotaPerRouter(store.getReadQuotaInCU())));
     }
-    return newStoreThrottlers;
+    return Collections.unmodifiableMap(newStoreThrottlers);
   }
 
   @Override
@@ -228,22 +285,29 @@ public class ReadRequestThrottler
     if (storeHasNoValidVersion(store)) {
       return;
     }
-    updateStoreThrottler(storesThrottlerInstance -> {
-      long storeQuotaPerRouter = calculateStoreQuotaPerRouter(store.getReadQuotaInCU());
-      LOGGER.info(
-          "Store: {} is created. Add a throttler with quota: {} for this store.",
-          store.getName(),
-          storeQuotaPerRouter);
-      storesThrottlerInstance.get().put(store.getName(), buildStoreReadThrottler(store.getName(), storeQuotaPerRouter));
-    });
+    updateStoreThrottler(newStoresThrottlers -> addStoreThrottler(newStoresThrottlers, store));
+  }
+
+  private void addStoreThrottler(Map<String, VeniceRateLimiter> newStoresThrottlers, Store store) {
+    long storeQuotaPerRouter = calculateStoreQuotaPerRouter(store.getReadQuotaInCU());
+    LOGGER.info(
+        "Store: {} is created. Add a throttler with quota: {} for this store.",
+        store.getName(),
+        storeQuotaPerRouter);
+    newStoresThrottlers.put(store.getName(), buildStoreReadThrottler(store.getName(), storeQuotaPerRouter));
   }
 
-  private void updateStoreThrottler(Consumer<AtomicReference<ConcurrentMap<String, EventThrottler>>> updater) {
-    synchronized (this.storesThrottlers) {
+  /**
+   * Applies the given update on a copy of the current store throttlers, and then swaps in the updated copy.
+   */
+  private void updateStoreThrottler(Consumer<Map<String, VeniceRateLimiter>> updater) {
+    synchronized (this.storesThrottlersLock) {
       // Total store quota should be changed because of add/update/delete store.
       long oldIdealTotalQuotaPerRouter = idealTotalQuotaPerRouter;
       idealTotalQuotaPerRouter = calculateIdealTotalQuotaPerRouter();
-      updater.accept(this.storesThrottlers);
+      Map<String, VeniceRateLimiter> newStoresThrottlers = new HashMap<>(this.storesThrottlers);
+      updater.accept(newStoresThrottlers);
+      this.storesThrottlers = Collections.unmodifiableMap(newStoresThrottlers);
       if (oldIdealTotalQuotaPerRouter > maxRouterReadCapacity || idealTotalQuotaPerRouter > maxRouterReadCapacity) {
         // Old router's quota and/or new router's quota exceed the router's max capacity, update all store throttlers
         // 1. If the new router's quota exceeded the router's max capacity, we have to reduce the quota for each store
@@ -255,7 +319,7 @@ public class ReadRequestThrottler
         if (oldIdealTotalQuotaPerRouter != idealTotalQuotaPerRouter) {
           LOGGER.info(
               "Old router's quota and/or new router's quota exceeds the router's max capacity, update throttlers for all stores.");
-          this.storesThrottlers.set(buildAllStoreReadThrottlers());
+          this.storesThrottlers = buildAllStoreReadThrottlers();
         }
       }
     }
@@ -263,9 +327,9 @@ public class ReadRequestThrottler
 
   @Override
   public void handleStoreDeleted(String storeName) {
-    updateStoreThrottler(storesThrottlerInstance -> {
+    updateStoreThrottler(newStoresThrottlers -> {
       LOGGER.info("Store: {} has been deleted. Remove the throttler for this store.", storeName);
-      EventThrottler throttler = storesThrottlerInstance.get().remove(storeName);
+      VeniceRateLimiter throttler = newStoresThrottlers.remove(storeName);
       if (throttler == null) {
         return;
       }
@@ -278,26 +342,25 @@ public class ReadRequestThrottler
     if (storeHasNoValidVersion(store)) {
       return;
     }
-    updateStoreThrottler(storesThrottlerInstance -> {
-      EventThrottler eventThrottler = getStoreReadThrottler(store.getName());
-      if (eventThrottler == null) {
+    updateStoreThrottler(newStoresThrottlers -> {
+      VeniceRateLimiter throttler = newStoresThrottlers.get(store.getName());
+      if (throttler == null) {
         LOGGER.warn(
             "Throttler have not been created for store: {}. Router might miss the creation event.",
             store.getName());
-        handleStoreCreated(store);
+        addStoreThrottler(newStoresThrottlers, store);
         return;
       }
 
       long storeQuotaPerRouter = calculateStoreQuotaPerRouter(store.getReadQuotaInCU());
-      if (storeQuotaPerRouter != getStoreReadThrottler(store.getName()).getMaxRatePerSecond()) {
+      if (storeQuotaPerRouter != throttler.getQuota()) {
         // Handle store's quota was updated.
         LOGGER.info(
             "Read quota has been changed for store: {} - oldQuota: {}, newQuota: {}. Updating the store read throttler.",
             store.getName(),
-            eventThrottler.getMaxRatePerSecond(),
+            throttler.getQuota(),
             storeQuotaPerRouter);
-        storesThrottlerInstance.get()
-            .put(store.getName(), buildStoreReadThrottler(store.getName(), storeQuotaPerRouter));
+        newStoresThrottlers.put(store.getName(), buildStoreReadThrottler(store.getName(), storeQuotaPerRouter));
       }
     });
   }
@@ -307,21 +370,21 @@ public class ReadRequestThrottler
   }
 
   private void resetAllThrottlers() {
-    synchronized (this.storesThrottlers) {
+    synchronized (this.storesThrottlersLock) {
       long newIdealTotalQuotaPerRouter = calculateIdealTotalQuotaPerRouter();
       if (idealTotalQuotaPerRouter != newIdealTotalQuotaPerRouter) {
         idealTotalQuotaPerRouter = newIdealTotalQuotaPerRouter;
         // Total quota for this router is changed, we have to update all store throttlers.
-        this.storesThrottlers.set(buildAllStoreReadThrottlers());
+        this.storesThrottlers = buildAllStoreReadThrottlers();
       }
     }
   }
 
   // This function is for testing
   protected void restoreAllThrottlers() {
-    synchronized (this.storesThrottlers) {
+    synchronized (this.storesThrottlersLock) {
       // Restore all throttlers.
-      this.storesThrottlers.set(buildAllStoreReadThrottlers());
+      this.storesThrottlers = buildAllStoreReadThrottlers();
     }
   }
 }
@@ -24,6 +24,8 @@ import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.venice.blobtransfer.BlobPeersDiscoveryResponse;
 import com.linkedin.venice.common.VeniceSystemStoreType;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.controllerapi.LeaderControllerResponse;
 import com.linkedin.venice.controllerapi.MultiSchemaIdResponse;
@@ -96,6 +98,7 @@ public class TestMetaDataHandler {
   private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
   private final HelixHybridStoreQuotaRepository hybridStoreQuotaRepository =
       Mockito.mock(HelixHybridStoreQuotaRepository.class);
+  private final CompressorFactory compressorFactory = Mockito.mock(CompressorFactory.class);
 
   public FullHttpResponse passRequestToMetadataHandler(
       String requestUri,
@@ -190,7 +193,8 @@ public class TestMetaDataHandler {
         KAFKA_BOOTSTRAP_SERVERS,
         false,
         null,
-        pushStatusStoreReader);
+        pushStatusStoreReader,
+        compressorFactory);
     handler.channelRead0(ctx, httpRequest);
     ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
     Mockito.verify(ctx).writeAndFlush(captor.capture());
@@ -525,6 +529,27 @@ public class TestMetaDataHandler {
     Assert.assertEquals(schemaResponse.getSchemaStr(), valueSchemaStr);
   }
 
+  @Test
+  public void testDictionaryLookup() throws IOException {
+    String storeName = "test_store";
+    byte[] dictionary = "test_dictionary".getBytes(StandardCharsets.UTF_8);
+    ZstdWithDictCompressor compressor = Mockito.mock(ZstdWithDictCompressor.class);
+    Mockito.doReturn(dictionary).when(compressor).getDictionary();
+    Mockito.doReturn(compressor).when(compressorFactory).getVersionSpecificCompressor(storeName + "_v1");
+
+    FullHttpResponse response =
+        passRequestToMetadataHandler("http://myRouterHost:4567/dictionary/" + storeName + "/1", null, null);
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(response.content().array(), dictionary);
+
+    // The dictionary of the version is not downloaded
+    response = passRequestToMetadataHandler("http://myRouterHost:4567/dictionary/" + storeName + "/2", null, null);
+    Assert.assertEquals(response.status(), HttpResponseStatus.NOT_FOUND);
+
+    response = passRequestToMetadataHandler("http://myRouterHost:4567/dictionary/" + storeName + "/abc", null, null);
+    Assert.assertEquals(response.status(), HttpResponseStatus.BAD_REQUEST);
+  }
+
   @Test
   public void testLatestValueSchemaLookupWithNoLatestSchema() throws IOException {
     String storeName = "test_store";
@@ -963,7 +988,8 @@ public class TestMetaDataHandler {
         KAFKA_BOOTSTRAP_SERVERS,
         false,
         null,
-        pushStatusStoreReader);
+        pushStatusStoreReader,
+        compressorFactory);
     handler.channelRead0(ctx, httpRequest);
     // '/storage' request should be handled by upstream, instead of current MetaDataHandler
     Mockito.verify(ctx, Mockito.times(1)).fireChannelRead(Mockito.any());
@@ -0,0 +1,142 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestMultiKeyResponseContent {
+  private static final RouterKey KEY1 = createKey("key1", 1);
+  private static final RouterKey KEY2 = createKey("key2", 2);
+  private static final RouterKey KEY3 = createKey("key3", 3);
+  /**
+   * The key index only matters to the sub-responses which partially overlap the received partitions.
+   */
+  static final ToIntFunction<RouterKey> KEY_INDEX_GETTER = RouterKey::getPartitionId;
+
+  @Test
+  public void testRetryResponseIsSkipped() {
+    MultiKeyResponseContent responseContent = new MultiKeyResponseContent(-1, RequestType.MULTI_GET);
+    responseContent.add(Arrays.asList(KEY1, KEY2), KEY_INDEX_GETTER, Unpooled.wrappedBuffer(new byte[2]));
+    // The long-tail retries of the same partitions, even split differently
+    ByteBuf retryContent = Unpooled.wrappedBuffer(new byte[2]);
+    responseContent.add(Arrays.asList(KEY1, KEY2), KEY_INDEX_GETTER, retryContent);
+    Assert.assertEquals(retryContent.refCnt(), 0);
+    ByteBuf partialRetryContent = Unpooled.wrappedBuffer(new byte[1]);
+    responseContent.add(Collections.singletonList(createKey("key5", 1)), KEY_INDEX_GETTER, partialRetryContent);
+    Assert.assertEquals(partialRetryContent.refCnt(), 0);
+    // A sub-response of new partitions is kept
+    responseContent.add(Collections.singletonList(KEY3), KEY_INDEX_GETTER, Unpooled.wrappedBuffer(new byte[2]));
+
+    ByteBuf content = responseContent.retrieve();
+    Assert.assertEquals(content.readableBytes(), 4);
+    Assert.assertThrows(VeniceException.class, responseContent::retrieve);
+
+    // The content arriving after the content is retrieved is released
+    ByteBuf lateContent = Unpooled.wrappedBuffer(new byte[2]);
+    responseContent.add(Collections.singletonList(createKey("key4", 4)), KEY_INDEX_GETTER, lateContent);
+    Assert.assertEquals(lateContent.refCnt(), 0);
+    Assert.assertEquals(content.readableBytes(), 4);
+    content.release();
+  }
+
+  @Test
+  public void testRecordsOfReceivedPartitionsAreSkipped() {
+    MultiKeyResponseContent responseContent = new MultiKeyResponseContent(-1, RequestType.MULTI_GET);
+    Map<RouterKey, Integer> keyIndexes = new HashMap<>();
+    keyIndexes.put(KEY1, 0);
+    keyIndexes.put(KEY2, 1);
+    keyIndexes.put(KEY3, 2);
+    responseContent.add(Collections.singletonList(KEY1), keyIndexes::get, serializeRecords(0));
+    // A long-tail retry which groups the partitions differently than the original request
+    ByteBuf retryContent = serializeRecords(0, 1);
+    responseContent.add(Arrays.asList(KEY1, KEY2), keyIndexes::get, retryContent);
+    Assert.assertEquals(retryContent.refCnt(), 0);
+    // The late sub-response of the original request is skipped as a whole
+    ByteBuf lateContent = serializeRecords(1);
+    responseContent.add(Collections.singletonList(KEY2), keyIndexes::get, lateContent);
+    Assert.assertEquals(lateContent.refCnt(), 0);
+    responseContent.add(Collections.singletonList(KEY3), keyIndexes::get, serializeRecords(2));
+
+    ByteBuf content = responseContent.retrieve();
+    byte[] contentBytes = new byte[content.readableBytes()];
+    content.readBytes(contentBytes);
+    content.release();
+    List<MultiGetResponseRecordV1> records = SerializerDeserializerFactory
+        .getAvroSpecificDeserializer(MultiGetResponseRecordV1.class)
+        .deserializeObjects(contentBytes);
+    Assert.assertEquals(records.size(), 3);
+    for (int i = 0; i < records.size(); i++) {
+      MultiGetResponseRecordV1 record = records.get(i);
+      Assert.assertEquals(record.keyIndex, i);
+      Assert.assertEquals(record.schemaId, i + 1);
+      Assert.assertEquals(ByteUtils.extractByteArray(record.value), ("value" + i).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testSizeLimit() {
+    MultiKeyResponseContent responseContent = new MultiKeyResponseContent(4, RequestType.MULTI_GET);
+    ByteBuf content1 = Unpooled.wrappedBuffer(new byte[4]);
+    responseContent.add(Collections.singletonList(KEY1), KEY_INDEX_GETTER, content1);
+    Assert.assertFalse(responseContent.isSizeLimitExceeded());
+    ByteBuf content2 = Unpooled.wrappedBuffer(new byte[1]);
+    responseContent.add(Collections.singletonList(KEY2), KEY_INDEX_GETTER, content2);
+    Assert.assertTrue(responseContent.isSizeLimitExceeded());
+    Assert.assertEquals(content1.refCnt(), 0);
+    Assert.assertEquals(content2.refCnt(), 0);
+
+    ByteBuf content3 = Unpooled.wrappedBuffer(new byte[1]);
+    responseContent.add(Collections.singletonList(KEY3), KEY_INDEX_GETTER, content3);
+    Assert.assertEquals(content3.refCnt(), 0);
+    Assert.assertThrows(VeniceException.class, responseContent::retrieve);
+    // Releasing again is a no-op
+    responseContent.release();
+  }
+
+  @Test
+  public void testRelease() {
+    MultiKeyResponseContent responseContent = new MultiKeyResponseContent(-1, RequestType.MULTI_GET);
+    ByteBuf content = Unpooled.wrappedBuffer(new byte[4]);
+    responseContent.add(Collections.singletonList(KEY1), KEY_INDEX_GETTER, content);
+    responseContent.release();
+    Assert.assertEquals(content.refCnt(), 0);
+    responseContent.release();
+  }
+
+  private static ByteBuf serializeRecords(int... keyIndexes) {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>();
+    for (int keyIndex: keyIndexes) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = keyIndex;
+      record.value = ByteBuffer.wrap(("value" + keyIndex).getBytes(StandardCharsets.UTF_8));
+      record.schemaId = keyIndex + 1;
+      records.add(record);
+    }
+    RecordSerializer<MultiGetResponseRecordV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
+    return Unpooled.wrappedBuffer(serializer.serializeObjects(records));
+  }
+
+  static RouterKey createKey(String key, int partitionId) {
+    RouterKey routerKey = RouterKey.fromString(key);
+    routerKey.setPartitionId(partitionId);
+    return routerKey;
+  }
+}
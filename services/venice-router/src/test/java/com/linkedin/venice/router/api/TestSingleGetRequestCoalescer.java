@@ -0,0 +1,172 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSingleGetRequestCoalescer {
+  private static final String STORE_NAME = "test_store";
+  private static final String RESOURCE_NAME = "test_store_v1";
+  private static final Instance STORAGE_NODE = new Instance("host1_123", "host1", 123);
+
+  @Test
+  public void testIsCoalescingEnabled() {
+    SingleGetRequestCoalescer coalescer =
+        new SingleGetRequestCoalescer(Utils.setOf(STORE_NAME), mock(RouterStats.class));
+    VenicePath path = mockPath(STORE_NAME, RESOURCE_NAME, "key");
+    Assert.assertTrue(coalescer.isCoalescingEnabled(path));
+
+    doReturn(true).when(path).isRetryRequest();
+    Assert.assertFalse(coalescer.isCoalescingEnabled(path));
+
+    path = mockPath(STORE_NAME, RESOURCE_NAME, "key");
+    doReturn(RequestType.MULTI_GET).when(path).getRequestType();
+    Assert.assertFalse(coalescer.isCoalescingEnabled(path));
+
+    Assert.assertFalse(coalescer.isCoalescingEnabled(mockPath("other_store", "other_store_v1", "key")));
+  }
+
+  @Test
+  public void testConcurrentRequestsShareOneResponse() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    SingleGetRequestCoalescer coalescer = new SingleGetRequestCoalescer(Utils.setOf(STORE_NAME), routerStats);
+
+    AtomicInteger sentRequestCount = new AtomicInteger();
+    CompletableFuture<PortableHttpResponse> serverResponseFuture = new CompletableFuture<>();
+    SingleGetRequestCoalescer.RequestSender sender = () -> {
+      sentRequestCount.incrementAndGet();
+      return serverResponseFuture;
+    };
+    SingleGetRequestCoalescer.RequestSender pendingSender = () -> {
+      sentRequestCount.incrementAndGet();
+      return new CompletableFuture<>();
+    };
+    CompletableFuture<PortableHttpResponse> leaderFuture =
+        coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), STORAGE_NODE, sender);
+    CompletableFuture<PortableHttpResponse> followerFuture =
+        coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), STORAGE_NODE, sender);
+    // Requests for another key or another version are not coalesced
+    coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "another_key"), STORAGE_NODE, pendingSender);
+    coalescer.send(mockPath(STORE_NAME, "test_store_v2", "key"), STORAGE_NODE, pendingSender);
+    Assert.assertEquals(sentRequestCount.get(), 3);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 3);
+    verify(stats, times(1)).recordCoalescedRequest(STORE_NAME);
+    Assert.assertFalse(followerFuture.isDone());
+
+    ByteBuf content = Unpooled.wrappedBuffer("value".getBytes(StandardCharsets.UTF_8));
+    PortableHttpResponse serverResponse = mock(PortableHttpResponse.class);
+    doReturn(200).when(serverResponse).getStatusCode();
+    doReturn(content).when(serverResponse).getContentInByteBuf();
+    doReturn("1").when(serverResponse).getFirstHeader("X-VENICE-SCHEMA-ID");
+    serverResponseFuture.complete(serverResponse);
+
+    PortableHttpResponse leaderResponse = leaderFuture.get();
+    PortableHttpResponse followerResponse = followerFuture.get();
+    Assert.assertEquals(followerResponse.getStatusCode(), 200);
+    Assert.assertEquals(followerResponse.getFirstHeader("X-VENICE-SCHEMA-ID"), "1");
+    ByteBuf leaderContent = leaderResponse.getContentInByteBuf();
+    ByteBuf followerContent = followerResponse.getContentInByteBuf();
+    Assert.assertEquals(leaderContent.toString(StandardCharsets.UTF_8), "value");
+    Assert.assertEquals(followerContent.toString(StandardCharsets.UTF_8), "value");
+    // Every response owns one reference of the content
+    Assert.assertEquals(content.refCnt(), 2);
+    leaderContent.release();
+    Assert.assertEquals(followerContent.toString(StandardCharsets.UTF_8), "value");
+    followerContent.release();
+    Assert.assertEquals(content.refCnt(), 0);
+
+    // The completed request is not shared anymore
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 2);
+    coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), STORAGE_NODE, pendingSender);
+    Assert.assertEquals(sentRequestCount.get(), 4);
+  }
+
+  @Test
+  public void testFailedRequestFailsFollowers() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    SingleGetRequestCoalescer coalescer = new SingleGetRequestCoalescer(Utils.setOf(STORE_NAME), routerStats);
+
+    CompletableFuture<PortableHttpResponse> serverResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> leaderFuture =
+        coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), STORAGE_NODE, () -> serverResponseFuture);
+    CompletableFuture<PortableHttpResponse> followerFuture =
+        coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), STORAGE_NODE, () -> serverResponseFuture);
+    serverResponseFuture.completeExceptionally(new VeniceException("Storage node failure"));
+
+    Assert.assertThrows(ExecutionException.class, leaderFuture::get);
+    Assert.assertThrows(ExecutionException.class, followerFuture::get);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+
+    // A request with no follower gets the storage node response as is
+    CompletableFuture<PortableHttpResponse> anotherServerResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> responseFuture =
+        coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), STORAGE_NODE, () -> anotherServerResponseFuture);
+    PortableHttpResponse serverResponse = mock(PortableHttpResponse.class);
+    anotherServerResponseFuture.complete(serverResponse);
+    Assert.assertSame(responseFuture.get(), serverResponse);
+    verify(serverResponse, never()).getContentInByteBuf();
+  }
+
+  @Test
+  public void testCoalescedRequestIsServedByStorageNodeOfInFlightRequest() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    SingleGetRequestCoalescer coalescer = new SingleGetRequestCoalescer(Utils.setOf(STORE_NAME), routerStats);
+
+    CompletableFuture<PortableHttpResponse> serverResponseFuture = new CompletableFuture<>();
+    SingleGetRequestCoalescer.ResponseFuture leaderFuture =
+        coalescer.send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), STORAGE_NODE, () -> serverResponseFuture);
+    Instance anotherStorageNode = new Instance("host2_123", "host2", 123);
+    SingleGetRequestCoalescer.ResponseFuture followerFuture = coalescer
+        .send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), anotherStorageNode, () -> new CompletableFuture<>());
+    SingleGetRequestCoalescer.ResponseFuture cancelledFollowerFuture = coalescer
+        .send(mockPath(STORE_NAME, RESOURCE_NAME, "key"), anotherStorageNode, () -> new CompletableFuture<>());
+    Assert.assertSame(leaderFuture.getStorageNode(), STORAGE_NODE);
+    Assert.assertSame(followerFuture.getStorageNode(), STORAGE_NODE);
+    cancelledFollowerFuture.cancel(false);
+
+    ByteBuf content = Unpooled.wrappedBuffer("value".getBytes(StandardCharsets.UTF_8));
+    PortableHttpResponse serverResponse = mock(PortableHttpResponse.class);
+    doReturn(content).when(serverResponse).getContentInByteBuf();
+    serverResponseFuture.complete(serverResponse);
+
+    // The slice of the cancelled follower is released right away
+    Assert.assertEquals(content.refCnt(), 2);
+    leaderFuture.get().getContentInByteBuf().release();
+    followerFuture.get().getContentInByteBuf().release();
+    Assert.assertEquals(content.refCnt(), 0);
+  }
+
+  private static VenicePath mockPath(String storeName, String resourceName, String key) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(storeName).when(path).getStoreName();
+    doReturn(resourceName).when(path).getResourceName();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    doReturn(RouterKey.fromString(key)).when(path).getPartitionKey();
+    return path;
+  }
+}
@@ -0,0 +1,248 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.netty4.misc.BasicHttpRequest;
+import com.linkedin.alpini.router.api.Scatter;
+import com.linkedin.alpini.router.api.ScatterGatherRequest;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.AggHostHealthStats;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouteHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceDispatcher {
+  private static final String STORE_NAME = "test_store";
+  private static final Instance STORAGE_NODE = new Instance("host1_123", "host1", 123);
+
+  @Test
+  public void testCancelRequestOnceThePartResponseIsSet() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    Future<?> requestFuture = mock(Future.class);
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doReturn(requestFuture).when(storageNodeClient).query(any(), any(), any(), any(), any());
+    VeniceDispatcher dispatcher = createDispatcher(true, storageNodeClient, routerStats);
+    try {
+      VenicePath path = mockPath();
+      AsyncPromise<List<FullHttpResponse>> responseFuture = AsyncFuture.deferred(false);
+      AsyncPromise<HttpResponseStatus> retryFuture = AsyncFuture.deferred(false);
+      dispatch(dispatcher, path, responseFuture, retryFuture);
+      Assert.assertNotNull(path.getPartResponseCompletionFuture());
+      verify(requestFuture, never()).cancel(true);
+
+      // Another request of the same part, e.g. the long-tail retry request, sets the response of the part
+      responseFuture.setSuccess(Collections.emptyList());
+      verify(requestFuture).cancel(true);
+      verify(stats).recordCancelledHedgedRequest(STORE_NAME);
+      // The cancelled request must neither trigger an error retry nor override the response of the part
+      Assert.assertFalse(retryFuture.isDone());
+      verify(stats, never()).recordErrorRetryCount(STORE_NAME);
+      Assert.assertTrue(responseFuture.isSuccess());
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  @Test
+  public void testNotCancelRequestWhenDisabled() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    Future<?> requestFuture = mock(Future.class);
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    doReturn(requestFuture).when(storageNodeClient).query(any(), any(), any(), any(), any());
+    VeniceDispatcher dispatcher = createDispatcher(false, storageNodeClient, routerStats);
+    try {
+      VenicePath path = mockPath();
+      AsyncPromise<List<FullHttpResponse>> responseFuture = AsyncFuture.deferred(false);
+      dispatch(dispatcher, path, responseFuture, AsyncFuture.deferred(false));
+      Assert.assertNull(path.getPartResponseCompletionFuture());
+
+      responseFuture.setSuccess(Collections.emptyList());
+      verify(requestFuture, never()).cancel(true);
+      verify(stats, never()).recordCancelledHedgedRequest(STORE_NAME);
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  @Test
+  public void testRetryRegroupingThePartitionsOfReceivedResponses() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(RequestType.COMPUTE);
+    StorageNodeClient storageNodeClient = mock(StorageNodeClient.class);
+    Map<RouterKey, Integer> keyIndexes = new HashMap<>();
+    doAnswer(invocation -> {
+      VenicePath path = invocation.getArgument(1);
+      Consumer<PortableHttpResponse> completedCallBack = invocation.getArgument(2);
+      completedCallBack.accept(mockComputeResponse(path.getPartitionKeys(), keyIndexes));
+      return null;
+    }).when(storageNodeClient).query(any(), any(), any(), any(), any());
+    VeniceDispatcher dispatcher = createDispatcher(false, storageNodeClient, routerStats);
+    try {
+      RouterKey key1 = TestMultiKeyResponseContent.createKey("key1", 1);
+      RouterKey key2 = TestMultiKeyResponseContent.createKey("key2", 2);
+      keyIndexes.put(key1, 0);
+      keyIndexes.put(key2, 1);
+      MultiKeyResponseContent multiKeyResponseContent = new MultiKeyResponseContent(-1, RequestType.COMPUTE);
+      VenicePath originalPath = mockComputePath(Collections.singletonList(key1), keyIndexes, multiKeyResponseContent);
+      AsyncPromise<List<FullHttpResponse>> responseFuture = AsyncFuture.deferred(false);
+      dispatch(dispatcher, originalPath, responseFuture, AsyncFuture.deferred(false));
+      Assert.assertTrue(responseFuture.isSuccess());
+
+      // The long-tail retry puts the partitions of both parts into a single part
+      VenicePath retryPath = mockComputePath(Arrays.asList(key1, key2), keyIndexes, multiKeyResponseContent);
+      doReturn(true).when(retryPath).isRetryRequest();
+      AsyncPromise<List<FullHttpResponse>> retryResponseFuture = AsyncFuture.deferred(false);
+      dispatch(dispatcher, retryPath, retryResponseFuture, AsyncFuture.deferred(false));
+      Assert.assertTrue(retryResponseFuture.isSuccess());
+
+      ByteBuf content = multiKeyResponseContent.retrieve();
+      byte[] contentBytes = new byte[content.readableBytes()];
+      content.readBytes(contentBytes);
+      content.release();
+      List<ComputeResponseRecordV1> records = SerializerDeserializerFactory
+          .getAvroSpecificDeserializer(ComputeResponseRecordV1.class)
+          .deserializeObjects(contentBytes);
+      Assert.assertEquals(records.size(), 2);
+      for (int i = 0; i < records.size(); i++) {
+        Assert.assertEquals(records.get(i).keyIndex, i);
+        Assert.assertEquals(
+            ByteUtils.extractByteArray(records.get(i).value),
+            ("value" + i).getBytes(StandardCharsets.UTF_8));
+      }
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  private static VeniceDispatcher createDispatcher(
+      boolean hedgedRequestCancellationEnabled,
+      StorageNodeClient storageNodeClient,
+      RouterStats<AggRouterHttpRequestStats> routerStats) {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(100L).when(config).getMaxPendingRequest();
+    doReturn(1000L).when(config).getLeakedFutureCleanupPollIntervalMs();
+    doReturn(60000L).when(config).getLeakedFutureCleanupThresholdMs();
+    doReturn(Collections.emptySet()).when(config).getSingleGetCoalescingStores();
+    doReturn(hedgedRequestCancellationEnabled).when(config).isHedgedRequestCancellationEnabled();
+    return new VeniceDispatcher(
+        config,
+        mock(ReadOnlyStoreRepository.class),
+        mock(RouterStats.class),
+        new MetricsRepository(),
+        storageNodeClient,
+        mock(RouteHttpRequestStats.class),
+        mock(AggHostHealthStats.class),
+        routerStats);
+  }
+
+  private static VenicePath mockPath() {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    AtomicReference<CompletableFuture<Void>> partResponseCompletionFuture = new AtomicReference<>();
+    doAnswer(invocation -> {
+      partResponseCompletionFuture.set(invocation.getArgument(0));
+      return null;
+    }).when(path).setPartResponseCompletionFuture(any());
+    doAnswer(invocation -> partResponseCompletionFuture.get()).when(path).getPartResponseCompletionFuture();
+    return path;
+  }
+
+  private static VenicePath mockComputePath(
+      List<RouterKey> keys,
+      Map<RouterKey, Integer> keyIndexes,
+      MultiKeyResponseContent multiKeyResponseContent) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(RequestType.COMPUTE).when(path).getRequestType();
+    doReturn(keys).when(path).getPartitionKeys();
+    doAnswer(invocation -> keyIndexes.get(invocation.getArgument(0))).when(path).getKeyIndex(any());
+    doReturn(multiKeyResponseContent).when(path).getMultiKeyResponseContent();
+    return path;
+  }
+
+  private static PortableHttpResponse mockComputeResponse(
+      Collection<RouterKey> keys,
+      Map<RouterKey, Integer> keyIndexes) throws IOException {
+    List<ComputeResponseRecordV1> records = new ArrayList<>();
+    for (RouterKey key: keys) {
+      ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+      record.keyIndex = keyIndexes.get(key);
+      record.value = ByteBuffer.wrap(("value" + record.keyIndex).getBytes(StandardCharsets.UTF_8));
+      records.add(record);
+    }
+    RecordSerializer<ComputeResponseRecordV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(ComputeResponseRecordV1.SCHEMA$);
+    PortableHttpResponse response = mock(PortableHttpResponse.class);
+    doReturn(HttpStatus.SC_OK).when(response).getStatusCode();
+    doReturn(Unpooled.wrappedBuffer(serializer.serializeObjects(records))).when(response).getContentInByteBuf();
+    doReturn("avro/binary").when(response).getFirstHeader(HttpHeaders.CONTENT_TYPE);
+    doReturn("1").when(response).getFirstHeader(HttpConstants.VENICE_SCHEMA_ID);
+    return response;
+  }
+
+  private static void dispatch(
+      VeniceDispatcher dispatcher,
+      VenicePath path,
+      AsyncPromise<List<FullHttpResponse>> responseFuture,
+      AsyncPromise<HttpResponseStatus> retryFuture) throws Exception {
+    ScatterGatherRequest<Instance, RouterKey> part = mock(ScatterGatherRequest.class);
+    doReturn(Collections.singletonList(STORAGE_NODE)).when(part).getHosts();
+    dispatcher.dispatch(
+        mock(Scatter.class),
+        part,
+        path,
+        mock(BasicHttpRequest.class),
+        AsyncFuture.deferred(false),
+        responseFuture,
+        retryFuture,
+        AsyncFuture.deferred(false),
+        Runnable::run);
+  }
+}
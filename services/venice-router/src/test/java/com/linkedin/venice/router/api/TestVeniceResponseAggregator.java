@@ -222,6 +222,92 @@ public class TestVeniceResponseAggregator {
     verify(mockStatsForMultiGet).recordThrottledRequest(storeName, 1.0);
   }
 
+  @Test
+  public void testBuildResponseForMultiGetWithMultiKeyResponseContent() {
+    String storeName = Utils.getUniqueString("test_store");
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), "avro/binary");
+    headers.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+
+    BasicFullHttpRequest request =
+        new BasicFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/storage/test_store", -1, -1);
+    AggRouterHttpRequestStats mockStatsForMultiGet = mock(AggRouterHttpRequestStats.class);
+    RouterStats mockRouterStat = mock(RouterStats.class);
+    when(mockRouterStat.getStatsByType(RequestType.SINGLE_GET)).thenReturn(mock(AggRouterHttpRequestStats.class));
+    when(mockRouterStat.getStatsByType(RequestType.MULTI_GET)).thenReturn(mockStatsForMultiGet);
+    VenicePath path = getPath(storeName, RequestType.MULTI_GET, mockRouterStat, request, mock(CompressorFactory.class));
+    when(path.getResponseHeaders()).thenReturn(Optional.empty());
+    Metrics metrics = new Metrics();
+    metrics.setPath(path);
+    VeniceResponseAggregator responseAggregator = new VeniceResponseAggregator(mockRouterStat, Optional.empty());
+
+    // The sub-responses were written into the aggregated content on arrival
+    MultiKeyResponseContent multiKeyResponseContent = new MultiKeyResponseContent(-1, RequestType.MULTI_GET);
+    doReturn(multiKeyResponseContent).when(path).getMultiKeyResponseContent();
+    List<FullHttpResponse> gatheredResponses = new ArrayList<>();
+    List<String> values = Arrays.asList("value1", "value2", "value3");
+    for (int i = 0; i < values.size(); i++) {
+      byte[] content = getResponseContentWithSchemaString(values.get(i));
+      multiKeyResponseContent.add(
+          Collections.singletonList(TestMultiKeyResponseContent.createKey(values.get(i), i)),
+          TestMultiKeyResponseContent.KEY_INDEX_GETTER,
+          Unpooled.wrappedBuffer(content));
+      FullHttpResponse response = buildFullHttpResponse(OK, new byte[0], headers);
+      response.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.length);
+      gatheredResponses.add(response);
+    }
+
+    FullHttpResponse finalResponse = responseAggregator.buildResponse(request, metrics, gatheredResponses);
+    Assert.assertEquals(finalResponse.status(), OK);
+    ByteBuf finalContent = finalResponse.content();
+    Assert.assertEquals(finalResponse.headers().getInt(HttpHeaderNames.CONTENT_LENGTH), finalContent.readableBytes());
+    byte[] finalContentBytes = new byte[finalContent.readableBytes()];
+    finalContent.getBytes(finalContent.readerIndex(), finalContentBytes);
+    Set<String> receivedValues = new HashSet<>();
+    for (CharSequence value: deserializeResponse(finalContentBytes)) {
+      receivedValues.add(value.toString());
+    }
+    Assert.assertEquals(receivedValues, new HashSet<>(values));
+    finalResponse.release();
+
+    // The request fails once the sub-responses exceed the max size, and their content is released right away
+    multiKeyResponseContent = new MultiKeyResponseContent(10, RequestType.MULTI_GET);
+    doReturn(multiKeyResponseContent).when(path).getMultiKeyResponseContent();
+    ByteBuf content1 = Unpooled.wrappedBuffer(new byte[8]);
+    ByteBuf content2 = Unpooled.wrappedBuffer(new byte[8]);
+    multiKeyResponseContent.add(
+        Collections.singletonList(TestMultiKeyResponseContent.createKey("key1", 1)),
+        TestMultiKeyResponseContent.KEY_INDEX_GETTER,
+        content1);
+    multiKeyResponseContent.add(
+        Collections.singletonList(TestMultiKeyResponseContent.createKey("key2", 2)),
+        TestMultiKeyResponseContent.KEY_INDEX_GETTER,
+        content2);
+    Assert.assertTrue(multiKeyResponseContent.isSizeLimitExceeded());
+    Assert.assertEquals(content1.refCnt(), 0);
+    Assert.assertEquals(content2.refCnt(), 0);
+    List<FullHttpResponse> responses = Arrays.asList(
+        buildFullHttpResponse(OK, new byte[0], headers),
+        buildFullHttpResponse(OK, new byte[0], headers));
+    Assert.assertThrows(VeniceException.class, () -> responseAggregator.buildResponse(request, metrics, responses));
+
+    // The aggregated content is released when a sub-response fails
+    multiKeyResponseContent = new MultiKeyResponseContent(-1, RequestType.MULTI_GET);
+    doReturn(multiKeyResponseContent).when(path).getMultiKeyResponseContent();
+    ByteBuf content3 = Unpooled.wrappedBuffer(new byte[8]);
+    multiKeyResponseContent.add(
+        Collections.singletonList(TestMultiKeyResponseContent.createKey("key3", 3)),
+        TestMultiKeyResponseContent.KEY_INDEX_GETTER,
+        content3);
+    FullHttpResponse errorResponse = buildFullHttpResponse(TOO_MANY_REQUESTS, new byte[0], headers);
+    finalResponse = responseAggregator.buildResponse(
+        request,
+        metrics,
+        Arrays.asList(buildFullHttpResponse(OK, new byte[0], headers), errorResponse));
+    Assert.assertSame(finalResponse, errorResponse);
+    Assert.assertEquals(content3.refCnt(), 0);
+  }
+
   @Test
   public void testBuildResponseForMigratedStore() {
     RouterStats mockRouterStat = mock(RouterStats.class);
@@ -1,5 +1,7 @@
 package com.linkedin.venice.router.api;
 
+import static com.linkedin.venice.HttpConstants.VENICE_CLIENT_DICTIONARY_SUPPORTED;
+import static com.linkedin.venice.HttpConstants.VENICE_STREAMING;
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
@@ -8,12 +10,25 @@ import static org.mockito.Mockito.mock;
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.Pair;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -120,4 +135,93 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  /**
+   * The streaming multi-get records compressed with dictionary are passed through to the clients fetching the
+   * dictionaries by themselves, but not the non-streaming ones, which don't carry the store version.
+   */
+  @Test
+  public void testRouterPassThroughStreamingMultiGetIfClientSupportsDictionary() {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+    request.headers().add(VENICE_SUPPORTED_COMPRESSION_STRATEGY, CompressionStrategy.GZIP.getValue());
+    request.headers().add(VENICE_CLIENT_DICTIONARY_SUPPORTED, "1");
+    CompressorFactory compressorFactory = mock(CompressorFactory.class);
+
+    VeniceResponseDecompressor responseDecompressor =
+        new VeniceResponseDecompressor(true, null, request, "test-store", 1, compressorFactory);
+    Assert.assertFalse(responseDecompressor.canPassThroughResponse(CompressionStrategy.ZSTD_WITH_DICT));
+
+    request.headers().add(VENICE_STREAMING, "1");
+    responseDecompressor = new VeniceResponseDecompressor(true, null, request, "test-store", 1, compressorFactory);
+    ByteBuf content = Unpooled.wrappedBuffer(new byte[] { 1, 2, 3 });
+    Pair<ByteBuf, CompressionStrategy> result =
+        responseDecompressor.processMultiGetResponseForStreaming(CompressionStrategy.ZSTD_WITH_DICT, content);
+    Assert.assertSame(result.getFirst(), content);
+    Assert.assertEquals(result.getSecond(), CompressionStrategy.ZSTD_WITH_DICT);
+
+    // The router doesn't decompress on behalf of the clients in the first place
+    responseDecompressor = new VeniceResponseDecompressor(false, null, request, "test-store", 1, compressorFactory);
+    Assert.assertFalse(responseDecompressor.canPassThroughResponse(CompressionStrategy.ZSTD_WITH_DICT));
+  }
+
+  /**
+   * The records are decompressed and encoded one by one into the output, which should be read back as the same records
+   * with the decompressed values.
+   */
+  @Test
+  public void testRouterDecompressesMultiGetRecords() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "storage/test-store",
+        System.currentTimeMillis(),
+        100000);
+    request.headers().add(VENICE_SUPPORTED_COMPRESSION_STRATEGY, CompressionStrategy.GZIP.getValue());
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.createVersionSpecificCompressorIfNotExist(
+          CompressionStrategy.ZSTD_WITH_DICT,
+          "test-store_v1",
+          ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData());
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i;
+        record.value = ByteBuffer.wrap(compressor.compress(("value_" + i).getBytes(StandardCharsets.UTF_8)));
+        record.schemaId = i + 1;
+        records.add(record);
+      }
+      RecordSerializer<MultiGetResponseRecordV1> serializer =
+          SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$);
+      ByteBuf content = Unpooled.wrappedBuffer(serializer.serializeObjects(records));
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(true, null, request, "test-store", 1, compressorFactory);
+      ContentDecompressResult result =
+          responseDecompressor.decompressMultiGetContent(CompressionStrategy.ZSTD_WITH_DICT, content);
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+
+      ByteBuf output = result.getContent();
+      byte[] outputBytes = new byte[output.readableBytes()];
+      output.readBytes(outputBytes);
+      output.release();
+      RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+      List<MultiGetResponseRecordV1> decompressedRecords = deserializer.deserializeObjects(outputBytes);
+      Assert.assertEquals(decompressedRecords.size(), 3);
+      for (int i = 0; i < 3; i++) {
+        MultiGetResponseRecordV1 record = decompressedRecords.get(i);
+        Assert.assertEquals(record.keyIndex, i);
+        Assert.assertEquals(record.schemaId, i + 1);
+        byte[] value = new byte[record.value.remaining()];
+        record.value.get(value);
+        Assert.assertEquals(new String(value, StandardCharsets.UTF_8), "value_" + i);
+      }
+    }
+  }
 }
@@ -16,6 +16,7 @@ import com.linkedin.venice.meta.StoreDataChangedListener;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.throttle.StripedTokenBucket;
 import com.linkedin.venice.utils.TestUtils;
 import java.util.Arrays;
 import java.util.Collections;
@@ -119,6 +120,47 @@ public class ReadRequestThrottlerTest {
     }
   }
 
+  @Test
+  public void testMayThrottleReadWithStripedTokenBucket() {
+    ReadRequestThrottler stripedThrottler = new ReadRequestThrottler(
+        zkRoutersClusterManager,
+        storeRepository,
+        maxCapacity,
+        stats,
+        PER_STORE_ROUTER_QUOTA_BUFFER,
+        1000,
+        true);
+    Assert.assertTrue(stripedThrottler.getStoreReadThrottler(store.getName()) instanceof StripedTokenBucket);
+    Assert.assertEquals(
+        stripedThrottler.getStoreReadThrottler(store.getName()).getQuota(),
+        totalQuota / routerCount * appliedQuotaBuffer);
+    int numberOfRequests = 10;
+    try {
+      for (int i = 0; i < numberOfRequests; i++) {
+        stripedThrottler
+            .mayThrottleRead(store.getName(), (int) (totalQuota / routerCount / numberOfRequests) * appliedQuotaBuffer);
+      }
+    } catch (QuotaExceededException e) {
+      Assert.fail("Usage has not exceeded the quota.");
+    }
+
+    try {
+      stripedThrottler.mayThrottleRead(store.getName(), 10 * appliedQuotaBuffer);
+      Assert.fail("Usage has exceed the quota. Should get the QuotaExceededException.");
+    } catch (QuotaExceededException e) {
+      // expected.
+    }
+  }
+
+  @Test
+  public void testStripeCount() {
+    Assert.assertEquals(ReadRequestThrottler.getStripeCount(0), 1);
+    Assert.assertEquals(ReadRequestThrottler.getStripeCount(1500), 1);
+    Assert.assertEquals(
+        ReadRequestThrottler.getStripeCount(Long.MAX_VALUE),
+        Runtime.getRuntime().availableProcessors());
+  }
+
   @Test
   public void testOnRouterCountChanged() {
     try {
@@ -198,7 +240,7 @@ public class ReadRequestThrottlerTest {
 
     for (int i = 0; i < storeCount; i++) {
       Assert.assertEquals(
-          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getMaxRatePerSecond(),
+          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getQuota(),
           stores[i].getReadQuotaInCU() / routerCount);
     }
 
@@ -214,7 +256,7 @@ public class ReadRequestThrottlerTest {
 
     for (int i = 0; i < storeCount; i++) {
       Assert.assertEquals(
-          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getMaxRatePerSecond(),
+          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getQuota(),
           stores[i].getReadQuotaInCU() / routerCount);
     }
 
@@ -229,7 +271,7 @@ public class ReadRequestThrottlerTest {
         .recordQuota(stores[0].getName(), (double) stores[0].getReadQuotaInCU() / 2);
     for (int i = 0; i < storeCount; i++) {
       Assert.assertEquals(
-          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getMaxRatePerSecond(),
+          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getQuota(),
           stores[i].getReadQuotaInCU() / 2);
     }
 
@@ -241,7 +283,7 @@ public class ReadRequestThrottlerTest {
     // now we have 750 quota total, ideally store quota wil be [250,200,300], but actual quotas are 2/3 of ideal quotas.
     for (int i = 0; i < storeCount; i++) {
       Assert.assertEquals(
-          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getMaxRatePerSecond(),
+          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getQuota(),
           stores[i].getReadQuotaInCU() * maxCapcity / totalQuota);
     }
 
@@ -252,7 +294,7 @@ public class ReadRequestThrottlerTest {
     // now we have 500 quota which does not exceed the max capacity, store quota will be [250, 200, 50]
     for (int i = 0; i < storeCount; i++) {
       Assert.assertEquals(
-          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getMaxRatePerSecond(),
+          multiStoreThrottler.getStoreReadThrottler("testOnStoreQuotaChangedWithMultiStores" + i).getQuota(),
           stores[i].getReadQuotaInCU());
     }
   }
@@ -267,7 +309,7 @@ public class ReadRequestThrottlerTest {
     Mockito.doReturn(totalQuota + extraQuota).when(storeRepository).getTotalStoreReadQuota();
     throttler.handleStoreChanged(newStore);
     Assert.assertEquals(
-        throttler.getStoreReadThrottler("testOnStoreCreatedAndDeleted").getMaxRatePerSecond(),
+        throttler.getStoreReadThrottler("testOnStoreCreatedAndDeleted").getQuota(),
         extraQuota / routerCount * appliedQuotaBuffer);
     // Mock delete the new store.
     Mockito.doReturn(Arrays.asList(store)).when(storeRepository).getAllStores();
@@ -285,10 +327,10 @@ public class ReadRequestThrottlerTest {
     Mockito.doReturn(totalQuota + extraQuota).when(storeRepository).getTotalStoreReadQuota();
     throttler.handleStoreCreated(newStore);
     Assert.assertEquals(
-        throttler.getStoreReadThrottler(store.getName()).getMaxRatePerSecond(),
+        throttler.getStoreReadThrottler(store.getName()).getQuota(),
         store.getReadQuotaInCU() * maxCapacity / (totalQuota + extraQuota));
     Assert.assertEquals(
-        throttler.getStoreReadThrottler("testOnStoreCreatedAndDeleted").getMaxRatePerSecond(),
+        throttler.getStoreReadThrottler("testOnStoreCreatedAndDeleted").getQuota(),
         extraQuota * maxCapacity / (totalQuota + extraQuota));
 
     // Delete store
@@ -297,7 +339,7 @@ public class ReadRequestThrottlerTest {
     throttler.handleStoreDeleted(store.getName());
     // Now the total quota per router falls back under the max capacity.
     Assert.assertEquals(
-        throttler.getStoreReadThrottler("testOnStoreCreatedAndDeleted").getMaxRatePerSecond(),
+        throttler.getStoreReadThrottler("testOnStoreCreatedAndDeleted").getQuota(),
         extraQuota * appliedQuotaBuffer);
   }
 
@@ -19,6 +19,8 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.stats.ThreadPoolStats;
+import com.linkedin.venice.stats.VirtualThreadPinningStats;
+import com.linkedin.venice.utils.VirtualThreadFactory;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import io.grpc.ServerInterceptor;
 import io.netty.bootstrap.ServerBootstrap;
@@ -60,6 +62,8 @@ public class ListenerService extends AbstractVeniceService {
   private final ThreadPoolExecutor computeExecutor;
   private final ThreadPoolExecutor grpcExecutor;
   private ThreadPoolExecutor sslHandshakeExecutor;
+  private final boolean readVirtualThreadEnabled;
+  private final VirtualThreadPinningStats virtualThreadPinningStats;
 
   // TODO: move netty config to a config file
   private static int nettyBacklogSize = 1000;
@@ -85,13 +89,27 @@ public class ListenerService extends AbstractVeniceService {
     this.isGrpcEnabled = serverConfig.isGrpcEnabled();
     this.grpcPort = serverConfig.getGrpcPort();
 
-    executor = createThreadPool(
+    if (serverConfig.isReadVirtualThreadEnabled() && !VirtualThreadFactory.isSupported()) {
+      LOGGER.warn(
+          "Virtual threads are not supported by java version: {}, fixed size thread pools will be used for reads",
+          System.getProperty("java.version"));
+      this.readVirtualThreadEnabled = false;
+    } else {
+      this.readVirtualThreadEnabled = serverConfig.isReadVirtualThreadEnabled();
+    }
+    if (readVirtualThreadEnabled) {
+      this.virtualThreadPinningStats = new VirtualThreadPinningStats(metricsRepository, "storage_read_virtual_thread");
+    } else {
+      this.virtualThreadPinningStats = null;
+    }
+
+    executor = createReadThreadPool(
         serverConfig.getRestServiceStorageThreadNum(),
         "StorageExecutionThread",
         serverConfig.getDatabaseLookupQueueCapacity());
     new ThreadPoolStats(metricsRepository, executor, "storage_execution_thread_pool");
 
-    computeExecutor = createThreadPool(
+    computeExecutor = createReadThreadPool(
         serverConfig.getServerComputeThreadNum(),
         "StorageComputeThread",
         serverConfig.getComputeQueueCapacity());
@@ -166,7 +184,8 @@ public class ListenerService extends AbstractVeniceService {
     if (isGrpcEnabled && grpcServer == null) {
       List<ServerInterceptor> interceptors = channelInitializer.initGrpcInterceptors();
       VeniceServerGrpcRequestProcessor requestProcessor = channelInitializer.initGrpcRequestProcessor();
-      grpcExecutor = createThreadPool(serverConfig.getGrpcWorkerThreadCount(), "GrpcWorkerThread", nettyBacklogSize);
+      grpcExecutor =
+          createReadThreadPool(serverConfig.getGrpcWorkerThreadCount(), "GrpcWorkerThread", nettyBacklogSize);
 
       VeniceGrpcServerConfig.Builder grpcServerBuilder = new VeniceGrpcServerConfig.Builder().setPort(grpcPort)
           .setService(new VeniceReadServiceImpl(requestProcessor))
@@ -183,6 +202,9 @@ public class ListenerService extends AbstractVeniceService {
 
   @Override
   public boolean startInner() throws Exception {
+    if (virtualThreadPinningStats != null) {
+      virtualThreadPinningStats.start();
+    }
     serverFuture = bootstrap.bind(port).sync();
     LOGGER.info("Listener service started on port: {}", port);
 
@@ -215,6 +237,10 @@ public class ListenerService extends AbstractVeniceService {
       LOGGER.info("Stopping gRPC service on port {}", grpcPort);
       grpcServer.stop();
     }
+
+    if (virtualThreadPinningStats != null) {
+      virtualThreadPinningStats.close();
+    }
   }
 
   protected ThreadPoolExecutor createThreadPool(int threadCount, String threadNamePrefix, int capacity) {
@@ -222,6 +248,21 @@ public class ListenerService extends AbstractVeniceService {
         .createThreadPool(threadCount, threadNamePrefix, capacity, serverConfig.getBlockingQueueType());
   }
 
+  /**
+   * The executors of the read paths run the tasks in virtual threads if enabled, in which case the concurrency is
+   * bounded by {@link VeniceServerConfig#getReadVirtualThreadMaxConcurrency()} instead of the thread count.
+   */
+  protected ThreadPoolExecutor createReadThreadPool(int threadCount, String threadNamePrefix, int capacity) {
+    if (readVirtualThreadEnabled) {
+      return ThreadPoolFactory.createVirtualThreadPool(
+          serverConfig.getReadVirtualThreadMaxConcurrency(),
+          threadNamePrefix,
+          capacity,
+          serverConfig.getBlockingQueueType());
+    }
+    return createThreadPool(threadCount, threadNamePrefix, capacity);
+  }
+
   protected StorageReadRequestHandler createRequestHandler(
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
@@ -87,6 +87,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
           statsHandler.setRequestTerminatedEarly();
         }
         statsHandler.setMisroutedStoreVersionRequest(shortcutResponse.isMisroutedStoreVersion());
+        statsHandler.setRequestCancelled(shortcutResponse.isRequestCancelled());
       } else if (msg instanceof BinaryResponse) {
         // For dictionary Fetch requests
         body = ((BinaryResponse) msg).getBody();
@@ -161,6 +162,10 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         contentType = HttpConstants.TEXT_PLAIN;
       }
     } catch (Exception e) {
+      if (msg instanceof AbstractReadResponse) {
+        // The error response below is sent instead, so the body of the read response won't be released by Netty.
+        ((AbstractReadResponse) msg).release();
+      }
       responseStatus = INTERNAL_SERVER_ERROR;
       body = Unpooled.wrappedBuffer(
           ("Internal Server Error:\n\n" + ExceptionUtils.stackTraceToString(e) + "\n(End of server-side stacktrace)\n")
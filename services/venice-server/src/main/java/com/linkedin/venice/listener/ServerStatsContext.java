@@ -30,6 +30,7 @@ public class ServerStatsContext {
   private int requestKeyCount = -1;
   private int requestSizeInBytes = -1;
   private boolean isRequestTerminatedEarly = false;
+  private boolean isRequestCancelled = false;
   private final AggServerHttpRequestStats singleGetStats;
   private final AggServerHttpRequestStats multiGetStats;
   private final AggServerHttpRequestStats computeStats;
@@ -114,6 +115,7 @@ public class ServerStatsContext {
     requestKeyCount = -1;
     requestSizeInBytes = -1;
     isRequestTerminatedEarly = false;
+    isRequestCancelled = false;
     isMisroutedStoreVersion = false;
     flushLatency = -1;
     responseSize = -1;
@@ -165,6 +167,10 @@ public class ServerStatsContext {
     this.isRequestTerminatedEarly = true;
   }
 
+  public void setRequestCancelled(boolean requestCancelled) {
+    this.isRequestCancelled = requestCancelled;
+  }
+
   public HttpResponseStatus getResponseStatus() {
     return responseStatus;
   }
@@ -230,7 +236,9 @@ public class ServerStatsContext {
       consumeDoubleIfAbove(serverHttpRequestStats::recordRequestSecondPartLatency, this.secondPartLatency, 0);
       consumeIntIfAbove(serverHttpRequestStats::recordRequestPartCount, this.requestPartCount, 0);
 
-      if (this.isRequestTerminatedEarly) {
+      if (this.isRequestCancelled) {
+        serverHttpRequestStats.recordCancelledRequest();
+      } else if (this.isRequestTerminatedEarly) {
         serverHttpRequestStats.recordEarlyTerminatedEarlyRequest();
       }
       if (flushLatency >= 0) {
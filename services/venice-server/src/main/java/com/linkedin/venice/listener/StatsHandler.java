@@ -53,6 +53,10 @@ public class StatsHandler extends ChannelDuplexHandler {
     serverStatsContext.setRequestTerminatedEarly();
   }
 
+  public void setRequestCancelled(boolean requestCancelled) {
+    serverStatsContext.setRequestCancelled(requestCancelled);
+  }
+
   public void setRequestInfo(RouterRequest request) {
     serverStatsContext.setRequestInfo(request);
   }
@@ -14,16 +14,20 @@ import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.cache.OffHeapValueCache;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compute.ComputeUtils;
+import com.linkedin.venice.compute.TopKSelector;
 import com.linkedin.venice.compute.protocol.request.ComputeOperation;
 import com.linkedin.venice.compute.protocol.request.ComputeRequest;
+import com.linkedin.venice.compute.protocol.request.TopK;
 import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
@@ -72,16 +76,24 @@ import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -119,6 +131,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final boolean fastAvroEnabled;
   private final Function<Schema, RecordSerializer<GenericRecord>> genericSerializerGetter;
   private final int parallelBatchGetChunkSize;
+  /**
+   * Allocator of the direct buffers which the single-get values are read into, or null if the values should be read
+   * on heap.
+   */
+  private final ByteBufAllocator singleGetValueAllocator;
+  private final boolean batchLookupMultiGetEnabled;
   private final VeniceServerConfig serverConfig;
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
@@ -248,6 +266,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         : SerializerDeserializerFactory::getAvroGenericSerializer;
     this.computeResultSchemaCache = new VeniceConcurrentHashMap<>();
     this.parallelBatchGetChunkSize = serverConfig.getParallelBatchGetChunkSize();
+    this.singleGetValueAllocator =
+        serverConfig.isSingleGetPooledDirectBufferEnabled() ? PooledByteBufAllocator.DEFAULT : null;
+    this.batchLookupMultiGetEnabled = serverConfig.isBatchLookupMultiGetEnabled();
     if (serverConfig.isEnableParallelBatchGet()) {
       this.multiGetHandler = this::handleMultiGetRequestInParallel;
       this.computeHandler = this::handleComputeRequestInParallel;
@@ -272,13 +293,22 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     if (message instanceof RouterRequest) {
       RouterRequest request = (RouterRequest) message;
       this.resourceReadUsageTracker.accept(request.getResourceName());
+      /**
+       * The Router cancels a request by resetting its HTTP/2 stream, or by closing the connection for HTTP/1.1, which
+       * both close the channel of the request.
+       */
+      Channel channel = context.channel();
+      if (channel != null) {
+        request.setCancellationChecker(() -> !channel.isActive());
+      }
       // Check before putting the request to the intermediate queue
       if (request.shouldRequestBeTerminatedEarly()) {
         // Try to make the response short
-        context.writeAndFlush(
-            new HttpShortcutResponse(
-                VeniceRequestEarlyTerminationException.getMessage(request.getStoreName()),
-                VeniceRequestEarlyTerminationException.getHttpResponseStatus()));
+        HttpShortcutResponse shortcutResponse = new HttpShortcutResponse(
+            VeniceRequestEarlyTerminationException.getMessage(request.getStoreName()),
+            VeniceRequestEarlyTerminationException.getHttpResponseStatus());
+        shortcutResponse.setRequestCancelled(request.isRequestCancelled());
+        context.writeAndFlush(shortcutResponse);
         return;
       }
 
@@ -319,11 +349,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           context.writeAndFlush(new HttpShortcutResponse("No storage exists for: " + e.getStoreName(), status));
         } else if (throwable instanceof VeniceRequestEarlyTerminationException) {
           VeniceRequestEarlyTerminationException e = (VeniceRequestEarlyTerminationException) throwable;
+          boolean isRequestCancelled = request.isRequestCancelled();
           String msg = "Request timed out for store: " + e.getStoreName();
-          if (!REDUNDANT_LOGGING_FILTER.isRedundantException(msg)) {
+          if (!isRequestCancelled && !REDUNDANT_LOGGING_FILTER.isRedundantException(msg)) {
             LOGGER.error(msg, e);
           }
-          context.writeAndFlush(new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.REQUEST_TIMEOUT));
+          HttpShortcutResponse shortcutResponse =
+              new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.REQUEST_TIMEOUT);
+          shortcutResponse.setRequestCancelled(isRequestCancelled);
+          context.writeAndFlush(shortcutResponse);
         } else if (throwable instanceof OperationNotAllowedException) {
           OperationNotAllowedException e = (OperationNotAllowedException) throwable;
           String msg = "METHOD_NOT_ALLOWED: " + e.getMessage();
@@ -466,8 +500,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       response.setCompressionStrategy(storageEngine.getCompressionStrategy());
 
       ValueRecord valueRecord =
-          SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats());
-      response.setValueRecord(valueRecord);
+          getValueRecord(storageEngine, request.getPartition(), key, isChunked, response.getStats());
+      /**
+       * Only the values read into the pooled direct buffers are owned by the response, while the other values either
+       * wrap heap arrays, e.g. the re-assembled chunked values, or the off-heap buffers of the value cache.
+       */
+      response.setValueRecord(
+          valueRecord,
+          valueRecord != null && singleGetValueAllocator != null
+              && valueRecord.getData().alloc() == singleGetValueAllocator);
 
       response.getStats().addKeySize(key.length);
       response.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
@@ -477,6 +518,158 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     }, executor);
   }
 
+  /**
+   * Look up the value in the value cache of the store-version first if it is enabled, and cache the value read from the
+   * storage engine on a miss.
+   */
+  private ValueRecord getValueRecord(
+      AbstractStorageEngine storageEngine,
+      int partition,
+      byte[] key,
+      boolean isChunked,
+      ReadResponseStats responseStats) {
+    OffHeapValueCache valueCache = storageEngine.getValueCache();
+    if (valueCache == null) {
+      return getValueRecordFromStorage(storageEngine, partition, key, isChunked, responseStats);
+    }
+    byte[] storageKey = isChunked ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key) : key;
+    OffHeapValueCache.CachedValue cachedValue = valueCache.getIfPresent(storageKey);
+    if (cachedValue != null) {
+      // No copy, the response will be written out from the off-heap buffer directly.
+      return ValueRecord.create(cachedValue.getSchemaId(), Unpooled.wrappedBuffer(cachedValue.getData()));
+    }
+    long invalidationStamp = valueCache.getInvalidationStamp(storageKey);
+    ValueRecord valueRecord = getValueRecordFromStorage(storageEngine, partition, key, isChunked, responseStats);
+    if (valueRecord != null) {
+      ByteBuf data = valueRecord.getData();
+      valueCache.put(
+          storageKey,
+          valueRecord.getSchemaId(),
+          data.nioBuffer(data.readerIndex(), data.readableBytes()),
+          invalidationStamp);
+    }
+    return valueRecord;
+  }
+
+  /**
+   * The value read into a pooled direct buffer is released by Netty once the response has been written out, or by
+   * {@link SingleGetResponseWrapper#release()} otherwise.
+   */
+  private ValueRecord getValueRecordFromStorage(
+      AbstractStorageEngine storageEngine,
+      int partition,
+      byte[] key,
+      boolean isChunked,
+      ReadResponseStats responseStats) {
+    if (singleGetValueAllocator == null) {
+      return SingleGetChunkingAdapter.get(storageEngine, partition, key, isChunked, responseStats);
+    }
+    return SingleGetChunkingAdapter
+        .get(storageEngine, partition, key, isChunked, responseStats, singleGetValueAllocator);
+  }
+
+  /**
+   * Batch-get counterpart of {@link #getValueRecord}.
+   */
+  private static MultiGetResponseRecordV1 getMultiGetResponseRecord(
+      AbstractStorageEngine storageEngine,
+      int partition,
+      ByteBuffer key,
+      boolean isChunked,
+      ReadResponseStats responseStats) {
+    OffHeapValueCache valueCache = storageEngine.getValueCache();
+    if (valueCache == null) {
+      return BatchGetChunkingAdapter.get(storageEngine, partition, key, isChunked, responseStats);
+    }
+    byte[] keyBytes = ByteUtils.extractByteArray(key);
+    byte[] storageKey =
+        isChunked ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(keyBytes) : keyBytes;
+    OffHeapValueCache.CachedValue cachedValue = valueCache.getIfPresent(storageKey);
+    if (cachedValue != null) {
+      return toMultiGetResponseRecord(cachedValue);
+    }
+    long invalidationStamp = valueCache.getInvalidationStamp(storageKey);
+    MultiGetResponseRecordV1 record =
+        BatchGetChunkingAdapter.get(storageEngine, partition, key, isChunked, responseStats);
+    if (record != null) {
+      valueCache.put(storageKey, record.schemaId, record.value, invalidationStamp);
+    }
+    return record;
+  }
+
+  private static MultiGetResponseRecordV1 toMultiGetResponseRecord(OffHeapValueCache.CachedValue cachedValue) {
+    ByteBuffer value = ByteBuffer.allocate(cachedValue.getDataSize());
+    value.put(cachedValue.getData());
+    value.flip();
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.value = value;
+    record.schemaId = cachedValue.getSchemaId();
+    return record;
+  }
+
+  /**
+   * Look up the keys within [startPos, endPos) with one batched lookup per partition, see
+   * {@link BatchGetChunkingAdapter#multiGet}. If the value cache of the store-version is enabled, only the keys
+   * missing from it are looked up from the storage engine, and their values are cached, like
+   * {@link #getMultiGetResponseRecord}.
+   *
+   * @return the records of the keys within [startPos, endPos), with null for the keys which do not exist.
+   */
+  private static MultiGetResponseRecordV1[] getMultiGetResponseRecords(
+      AbstractStorageEngine storageEngine,
+      int startPos,
+      int endPos,
+      List<MultiGetRouterRequestKeyV1> keys,
+      boolean isChunked,
+      ReadResponseStats responseStats) {
+    int keyCount = endPos - startPos;
+    MultiGetResponseRecordV1[] records = new MultiGetResponseRecordV1[keyCount];
+    byte[][] keyBytes = new byte[keyCount][];
+    OffHeapValueCache valueCache = storageEngine.getValueCache();
+    byte[][] storageKeys = null;
+    long[] invalidationStamps = null;
+    if (valueCache != null) {
+      storageKeys = new byte[keyCount][];
+      invalidationStamps = new long[keyCount];
+    }
+    Map<Integer, List<Integer>> partitionToKeyOffsets = new HashMap<>();
+    for (int offset = 0; offset < keyCount; offset++) {
+      MultiGetRouterRequestKeyV1 key = keys.get(startPos + offset);
+      keyBytes[offset] = ByteUtils.extractByteArray(key.keyBytes);
+      if (valueCache != null) {
+        storageKeys[offset] = isChunked
+            ? ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(keyBytes[offset])
+            : keyBytes[offset];
+        OffHeapValueCache.CachedValue cachedValue = valueCache.getIfPresent(storageKeys[offset]);
+        if (cachedValue != null) {
+          records[offset] = toMultiGetResponseRecord(cachedValue);
+          continue;
+        }
+        invalidationStamps[offset] = valueCache.getInvalidationStamp(storageKeys[offset]);
+      }
+      partitionToKeyOffsets.computeIfAbsent(key.partitionId, p -> new ArrayList<>()).add(offset);
+    }
+
+    for (Map.Entry<Integer, List<Integer>> entry: partitionToKeyOffsets.entrySet()) {
+      List<Integer> keyOffsets = entry.getValue();
+      List<byte[]> partitionKeys = new ArrayList<>(keyOffsets.size());
+      for (int offset: keyOffsets) {
+        partitionKeys.add(keyBytes[offset]);
+      }
+      MultiGetResponseRecordV1[] partitionRecords =
+          BatchGetChunkingAdapter.multiGet(storageEngine, entry.getKey(), partitionKeys, isChunked, responseStats);
+      for (int i = 0; i < partitionRecords.length; i++) {
+        int offset = keyOffsets.get(i);
+        MultiGetResponseRecordV1 record = partitionRecords[i];
+        records[offset] = record;
+        if (valueCache != null && record != null) {
+          valueCache.put(storageKeys[offset], record.schemaId, record.value, invalidationStamps[offset]);
+        }
+      }
+    }
+    return records;
+  }
+
   private CompletableFuture<ReadResponse> handleMultiGetRequestInParallel(MultiGetRouterRequestWrapper request) {
     List<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     RequestContext requestContext = new RequestContext(request, this);
@@ -489,7 +682,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         this.multiGetResponseProvider,
         this.executor,
         requestContext,
-        this::processMultiGet);
+        this::processMultiGet,
+        null);
   }
 
   private interface ParallelResponseProvider<T extends MultiKeyResponseWrapper> {
@@ -500,6 +694,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     void process(int startPos, int endPos, List<K> keys, C requestContext, R chunkOfResponse);
   }
 
+  /**
+   * @param chunksProcessedHandler which is called once all the chunks are processed, or null if nothing is needed.
+   */
   private <K, C extends RequestContext, R extends MultiKeyResponseWrapper> CompletableFuture<ReadResponse> processBatchInParallel(
       List<K> keys,
       CompressionStrategy compressionStrategy,
@@ -508,7 +705,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       IntFunction<R> individualResponseProvider,
       ThreadPoolExecutor threadPoolExecutor,
       C requestContext,
-      SingleBatchProcessor<K, C, R> batchProcessor) {
+      SingleBatchProcessor<K, C, R> batchProcessor,
+      Consumer<ParallelMultiKeyResponseWrapper<R>> chunksProcessedHandler) {
     int totalKeyNum = keys.size();
     int chunkCount = (int) Math.ceil((double) totalKeyNum / this.parallelBatchGetChunkSize);
     ParallelMultiKeyResponseWrapper<R> responseWrapper =
@@ -542,6 +740,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         throw new VeniceException(e);
       }
 
+      if (chunksProcessedHandler != null) {
+        chunksProcessedHandler.accept(responseWrapper);
+      }
       responseWrapper.getChunk(0).getStats().setStorageExecutionQueueLen(queueLen);
       return responseWrapper;
     });
@@ -553,17 +754,29 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       List<MultiGetRouterRequestKeyV1> keys,
       RequestContext requestContext,
       MultiGetResponseWrapper response) {
+    MultiGetResponseRecordV1[] records = null;
+    if (batchLookupMultiGetEnabled) {
+      records = getMultiGetResponseRecords(
+          requestContext.storeVersion.storageEngine,
+          startPos,
+          endPos,
+          keys,
+          requestContext.isChunked,
+          response.getStats());
+    }
     MultiGetRouterRequestKeyV1 key;
     MultiGetResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
-      record = BatchGetChunkingAdapter.get(
-          requestContext.storeVersion.storageEngine,
-          key.partitionId,
-          key.keyBytes,
-          requestContext.isChunked,
-          response.getStats());
+      record = records != null
+          ? records[subChunkCur - startPos]
+          : getMultiGetResponseRecord(
+              requestContext.storeVersion.storageEngine,
+              key.partitionId,
+              key.keyBytes,
+              requestContext.isChunked,
+              response.getStats());
       if (record == null) {
         if (requestContext.isStreaming) {
           // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
@@ -631,6 +844,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       ComputeResponseWrapper response = this.computeResponseProvider.apply(keyCount);
 
       processCompute(0, keyCount, request.getKeys(), computeRequestContext, response);
+      if (computeRequestContext.topKSelector != null) {
+        addTopKRecords(computeRequestContext, response);
+        // Trigger serialization
+        response.getResponseBody();
+      }
 
       response.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
       response.getStats().setStorageExecutionQueueLen(queueLen);
@@ -658,7 +876,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         this.computeResponseProvider,
         this.computeExecutor,
         requestContext,
-        this::processCompute);
+        this::processCompute,
+        requestContext.topKSelector == null ? null : responseWrapper -> {
+          // All the chunks share the top-K selector, so its records are only added once all the chunks are processed
+          addTopKRecords(requestContext, responseWrapper.getChunk(0));
+          for (int i = 0; i < responseWrapper.getChunkCount(); i++) {
+            // Trigger serialization
+            responseWrapper.getChunk(i).getResponseBody();
+          }
+        });
   }
 
   /**
@@ -684,6 +910,18 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     final RecordSerializer<GenericRecord> resultSerializer;
     final List<ComputeOperation> operations;
     final List<Schema.Field> operationResultFields;
+    final TopK topK;
+    final Schema.Field rankingField;
+    /**
+     * For top-K compute requests, the selector is shared by all the chunks of the request, so that only the top K
+     * results of the storage node are returned. It is not thread-safe, so it is only accessed under its monitor.
+     */
+    final TopKSelector<ComputeResponseRecordV1> topKSelector;
+    /**
+     * The indexes of the keys which exist and are ranked, so that the keys ranked out can be sent back for streaming.
+     * It is guarded by the monitor of {@link #topKSelector} too.
+     */
+    final List<Integer> rankedKeyIndexes;
 
     ComputeRequestContext(ComputeRouterRequestWrapper request, StorageReadRequestHandler handler) {
       super(request, handler);
@@ -696,9 +934,19 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           handler.serverConfig.getZstdDictCompressionLevel());
       this.operations = request.getComputeRequest().getOperations();
       this.operationResultFields = ComputeUtils.getOperationResultFields(operations, resultSchema);
+      this.topK = ComputeUtils.getTopK(operations);
+      this.rankingField = topK == null ? null : resultSchema.getField(topK.field.toString());
+      this.topKSelector = topK == null ? null : new TopKSelector<>(topK.k);
+      this.rankedKeyIndexes = topK == null || !isStreaming ? null : new ArrayList<>();
     }
   }
 
+  /**
+   * A placeholder for the value which exists, but is not among the top K results of a top-K compute request, so its
+   * result record is not even serialized.
+   */
+  private static final ComputeResponseRecordV1 RANKED_OUT_RECORD = new ComputeResponseRecordV1();
+
   private void processCompute(
       int startPos,
       int endPos,
@@ -716,47 +964,56 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         reusableObjects.resultRecordMap.computeIfAbsent(requestContext.resultSchema, GenericData.Record::new);
     reusableObjects.computeContext.clear();
 
+    ComputeResponseRecordV1[] records = null;
+    if (batchLookupMultiGetEnabled) {
+      records = computeWithBatchLookup(
+          startPos,
+          endPos,
+          keys,
+          requestContext,
+          reusableObjects,
+          reusableValueRecord,
+          reusableResultRecord,
+          response.getStats());
+    }
+
     int hits = 0;
-    long serializeStartTimeInNS, computeStartTimeInNS;
     ComputeRouterRequestKeyV1 key;
     ComputeResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
-      AvroRecordUtils.clearRecord(reusableResultRecord);
-      reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
-          requestContext.storeVersion.storageEngine,
-          key.getPartitionId(),
-          ByteUtils.extractByteArray(key.getKeyBytes()),
-          reusableObjects.byteBuffer,
-          reusableValueRecord,
-          reusableObjects.binaryDecoder,
-          requestContext.isChunked,
-          response.getStats(),
-          requestContext.valueSchemaEntry.getId(),
-          requestContext.storeVersion.storeDeserializerCache,
-          requestContext.compressor);
-      if (reusableValueRecord != null) {
-        computeStartTimeInNS = System.nanoTime();
-        reusableResultRecord = ComputeUtils.computeResult(
-            requestContext.operations,
-            requestContext.operationResultFields,
-            reusableObjects.computeContext,
+      if (records != null) {
+        record = records[subChunkCur - startPos];
+      } else {
+        reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
+            requestContext.storeVersion.storageEngine,
+            key.getPartitionId(),
+            ByteUtils.extractByteArray(key.getKeyBytes()),
+            reusableObjects.byteBuffer,
             reusableValueRecord,
-            reusableResultRecord);
-
-        serializeStartTimeInNS = System.nanoTime(); // N.B. This clock call is also used as the end of the compute time
-        record = new ComputeResponseRecordV1();
-        record.keyIndex = key.getKeyIndex();
-        record.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(reusableResultRecord));
-
-        response.getStats()
-            .addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
-        response.getStats()
-            .addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
-        response.getStats().addReadComputeOutputSize(record.value.remaining());
-
-        response.addRecord(record);
+            reusableObjects.binaryDecoder,
+            requestContext.isChunked,
+            response.getStats(),
+            requestContext.valueSchemaEntry.getId(),
+            requestContext.storeVersion.storeDeserializerCache,
+            requestContext.compressor);
+        record = computeResponseRecord(
+            key.getKeyIndex(),
+            requestContext,
+            reusableObjects,
+            reusableValueRecord,
+            reusableResultRecord,
+            response.getStats());
+      }
+      if (record != null) {
+        if (requestContext.topKSelector == null) {
+          response.addRecord(record);
+        } else if (requestContext.rankedKeyIndexes != null) {
+          synchronized (requestContext.topKSelector) {
+            requestContext.rankedKeyIndexes.add(key.getKeyIndex());
+          }
+        }
         hits++;
       } else if (requestContext.isStreaming) {
         // For streaming, we need to send back non-existing keys
@@ -768,12 +1025,148 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       }
     }
 
-    // Trigger serialization
-    response.getResponseBody();
+    if (requestContext.topKSelector == null) {
+      // Trigger serialization, which is deferred for top-K compute requests until all the keys are ranked
+      response.getResponseBody();
+    }
 
     incrementOperatorCounters(response.getStats(), requestContext.operations, hits);
   }
 
+  /**
+   * Only the top K results of the storage node are returned, and the client merges the results of all the storage
+   * nodes, see {@link com.linkedin.venice.compute.TopKOperator}.
+   */
+  private static void addTopKRecords(ComputeRequestContext requestContext, ComputeResponseWrapper response) {
+    TopKSelector<ComputeResponseRecordV1> topKSelector = requestContext.topKSelector;
+    Set<Integer> selectedKeyIndexes = new HashSet<>(topKSelector.size());
+    for (ComputeResponseRecordV1 record: topKSelector.getSelectedElements()) {
+      response.addRecord(record);
+      selectedKeyIndexes.add(record.keyIndex);
+    }
+    if (requestContext.rankedKeyIndexes != null) {
+      // For streaming, the keys ranked out are sent back the same way as non-existing keys
+      for (int keyIndex: requestContext.rankedKeyIndexes) {
+        if (!selectedKeyIndexes.contains(keyIndex)) {
+          ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+          record.keyIndex = Math.negateExact(keyIndex);
+          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+          response.addRecord(record);
+        }
+      }
+    }
+  }
+
+  /**
+   * Look up the keys within [startPos, endPos) with one batched lookup per partition, see
+   * {@link GenericRecordChunkingAdapter#multiGet}, and compute the result of each value as soon as it is decoded, since
+   * the value record is reused across keys.
+   *
+   * @return the records of the keys within [startPos, endPos), with null for the keys which do not exist.
+   */
+  private static ComputeResponseRecordV1[] computeWithBatchLookup(
+      int startPos,
+      int endPos,
+      List<ComputeRouterRequestKeyV1> keys,
+      ComputeRequestContext requestContext,
+      ReusableObjects reusableObjects,
+      GenericRecord reusableValueRecord,
+      GenericRecord reusableResultRecord,
+      ReadResponseStats responseStats) {
+    ComputeResponseRecordV1[] records = new ComputeResponseRecordV1[endPos - startPos];
+    Map<Integer, List<Integer>> partitionToKeyOffsets = new HashMap<>();
+    for (int pos = startPos; pos < endPos; pos++) {
+      partitionToKeyOffsets.computeIfAbsent(keys.get(pos).getPartitionId(), p -> new ArrayList<>())
+          .add(pos - startPos);
+    }
+    for (Map.Entry<Integer, List<Integer>> entry: partitionToKeyOffsets.entrySet()) {
+      List<Integer> keyOffsets = entry.getValue();
+      List<byte[]> partitionKeys = new ArrayList<>(keyOffsets.size());
+      for (int offset: keyOffsets) {
+        partitionKeys.add(ByteUtils.extractByteArray(keys.get(startPos + offset).getKeyBytes()));
+      }
+      GenericRecordChunkingAdapter.INSTANCE.multiGet(
+          requestContext.storeVersion.storageEngine,
+          entry.getKey(),
+          partitionKeys,
+          reusableValueRecord,
+          reusableObjects.binaryDecoder,
+          requestContext.isChunked,
+          responseStats,
+          requestContext.valueSchemaEntry.getId(),
+          requestContext.storeVersion.storeDeserializerCache,
+          requestContext.compressor,
+          (valueRecord, i) -> {
+            int offset = keyOffsets.get(i);
+            records[offset] = computeResponseRecord(
+                keys.get(startPos + offset).getKeyIndex(),
+                requestContext,
+                reusableObjects,
+                valueRecord,
+                reusableResultRecord,
+                responseStats);
+          });
+    }
+    return records;
+  }
+
+  /**
+   * For top-K compute requests, the record is offered to {@link ComputeRequestContext#topKSelector}.
+   *
+   * @return the record holding the serialized compute result of the value, or null if the value does not exist, or
+   *         {@link #RANKED_OUT_RECORD} if the result is not among the top K results so far.
+   */
+  private static ComputeResponseRecordV1 computeResponseRecord(
+      int keyIndex,
+      ComputeRequestContext requestContext,
+      ReusableObjects reusableObjects,
+      GenericRecord valueRecord,
+      GenericRecord reusableResultRecord,
+      ReadResponseStats responseStats) {
+    if (valueRecord == null) {
+      return null;
+    }
+    AvroRecordUtils.clearRecord(reusableResultRecord);
+    long computeStartTimeInNS = System.nanoTime();
+    GenericRecord resultRecord = ComputeUtils.computeResult(
+        requestContext.operations,
+        requestContext.operationResultFields,
+        reusableObjects.computeContext,
+        valueRecord,
+        reusableResultRecord);
+
+    TopKSelector<ComputeResponseRecordV1> topKSelector = requestContext.topKSelector;
+    Double score = null;
+    if (topKSelector != null) {
+      score = ComputeUtils.getScore(resultRecord, requestContext.rankingField);
+      if (score == null || !isTopKCandidate(topKSelector, score)) {
+        responseStats.addReadComputeLatency(LatencyUtils.getElapsedTimeFromNSToMS(computeStartTimeInNS));
+        return RANKED_OUT_RECORD;
+      }
+    }
+
+    long serializeStartTimeInNS = System.nanoTime(); // N.B. This clock call is also used as the end of the compute time
+    ComputeResponseRecordV1 record = new ComputeResponseRecordV1();
+    record.keyIndex = keyIndex;
+    record.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(resultRecord));
+
+    responseStats.addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
+    responseStats.addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
+    responseStats.addReadComputeOutputSize(record.value.remaining());
+    if (topKSelector != null) {
+      synchronized (topKSelector) {
+        topKSelector.offer(record, score);
+      }
+    }
+    return record;
+  }
+
+  private static boolean isTopKCandidate(TopKSelector<ComputeResponseRecordV1> topKSelector, double score) {
+    synchronized (topKSelector) {
+      return topKSelector.isCandidate(score);
+    }
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = ingestionMetadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
@@ -17,16 +17,27 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
   @Override
   public void processRequest(GrpcRequestContext ctx) {
+    ReadResponse obj = ctx.getReadResponse();
+    try {
+      buildResponse(ctx, obj);
+    } finally {
+      // The response body is always copied into the gRPC response, so the pooled buffers are not needed anymore.
+      if (obj != null) {
+        obj.release();
+      }
+    }
+    invokeNextHandler(ctx);
+  }
+
+  private void buildResponse(GrpcRequestContext ctx, ReadResponse obj) {
     ByteBuf body;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
 
-    ReadResponse obj = ctx.getReadResponse();
     ServerStatsContext statsContext = ctx.getGrpcStatsContext();
     VeniceServerResponse.Builder veniceServerResponseBuilder = ctx.getVeniceServerResponseBuilder();
     if (ctx.hasError()) {
       statsContext.setResponseStatus(HttpResponseStatus.BAD_REQUEST);
       veniceServerResponseBuilder.setData(ByteString.EMPTY).setCompressionStrategy(compressionStrategy.getValue());
-      invokeNextHandler(ctx);
       return;
     }
 
@@ -46,7 +57,6 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
 
       veniceServerResponseBuilder.setSchemaId(obj.getResponseSchemaIdHeader());
       statsContext.setResponseStatus(OK);
-      invokeNextHandler(ctx);
       return;
     }
 
@@ -55,6 +65,5 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
     veniceServerResponseBuilder.setData(ByteString.EMPTY);
     veniceServerResponseBuilder.setErrorCode(VeniceReadResponseStatus.KEY_NOT_FOUND);
     veniceServerResponseBuilder.setErrorMessage("Key not found");
-    invokeNextHandler(ctx);
   }
 }
@@ -5,6 +5,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.streaming.StreamingUtils;
 import io.netty.handler.codec.http.HttpRequest;
+import java.util.function.BooleanSupplier;
 
 
 /**
@@ -17,6 +18,8 @@ public abstract class RouterRequest {
   public static final long NO_REQUEST_TIMEOUT = -1;
 
   private long requestTimeoutInNS = NO_REQUEST_TIMEOUT;
+  // Tells whether the client has given up on the request, e.g. the Router cancels a hedged request which has lost
+  private BooleanSupplier cancellationChecker = () -> false;
   private final boolean isRetryRequest;
   private final String resourceName;
   private final String storeName;
@@ -40,6 +43,14 @@ public abstract class RouterRequest {
     this.requestTimeoutInNS = requestTimeoutInNS;
   }
 
+  public void setCancellationChecker(BooleanSupplier cancellationChecker) {
+    this.cancellationChecker = cancellationChecker;
+  }
+
+  public boolean isRequestCancelled() {
+    return cancellationChecker.getAsBoolean();
+  }
+
   public String getResourceName() {
     return resourceName;
   }
@@ -64,7 +75,12 @@ public abstract class RouterRequest {
     return request.headers().contains(HttpConstants.VENICE_RETRY);
   }
 
+  /**
+   * @return true if the request has timed out or has been cancelled by the client, so the storage lookups can be
+   *         skipped since nobody is waiting for the response.
+   */
   public boolean shouldRequestBeTerminatedEarly() {
-    return requestTimeoutInNS != NO_REQUEST_TIMEOUT && System.nanoTime() > requestTimeoutInNS;
+    return (requestTimeoutInNS != NO_REQUEST_TIMEOUT && System.nanoTime() > requestTimeoutInNS)
+        || isRequestCancelled();
   }
 }
@@ -54,5 +54,9 @@ public abstract class AbstractReadResponse implements ReadResponse {
 
   public abstract int getResponseSchemaIdHeader();
 
+  @Override
+  public void release() {
+  }
+
   public abstract ReadResponseStatsRecorder getStatsRecorder();
 }
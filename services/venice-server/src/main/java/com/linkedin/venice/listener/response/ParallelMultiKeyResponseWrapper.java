@@ -48,6 +48,10 @@ public class ParallelMultiKeyResponseWrapper<T extends MultiKeyResponseWrapper>
     return this.chunks[chunkIndex];
   }
 
+  public int getChunkCount() {
+    return this.chunks.length;
+  }
+
   /**
    * N.B.: Only the individual chunks should be passed into code paths that require this API. If some refactoring causes
    *       that assumption to change, then we have a regression.
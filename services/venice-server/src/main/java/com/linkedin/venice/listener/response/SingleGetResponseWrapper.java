@@ -10,13 +10,23 @@ import io.netty.buffer.ByteBuf;
 public class SingleGetResponseWrapper extends AbstractReadResponse {
   // Value record storing both schema id and the real data
   private ValueRecord valueRecord;
+  /**
+   * Whether the data of {@link #valueRecord} is a pooled buffer owned by this response, which has to be released
+   * exactly once, either by Netty after writing it out, or by {@link #release()}.
+   */
+  private boolean ownsPooledData = false;
   private final SingleGetResponseStats responseStats = new SingleGetResponseStats();
 
   public SingleGetResponseWrapper() {
   }
 
   public void setValueRecord(ValueRecord valueRecord) {
+    setValueRecord(valueRecord, false);
+  }
+
+  public void setValueRecord(ValueRecord valueRecord, boolean ownsPooledData) {
     this.valueRecord = valueRecord;
+    this.ownsPooledData = valueRecord != null && ownsPooledData;
   }
 
   public ValueRecord getValueRecord() {
@@ -47,4 +57,12 @@ public class SingleGetResponseWrapper extends AbstractReadResponse {
   public int getResponseSchemaIdHeader() {
     return getValueRecord().getSchemaId();
   }
+
+  @Override
+  public void release() {
+    if (ownsPooledData) {
+      ownsPooledData = false;
+      valueRecord.getData().release();
+    }
+  }
 }
@@ -7,6 +7,7 @@ import static com.linkedin.venice.listener.response.stats.ResponseStatsUtil.cons
 import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.venice.stats.ServerHttpRequestStats;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.VirtualThreadFactory;
 
 
 /**
@@ -27,6 +28,11 @@ public abstract class AbstractReadResponseStats implements ReadResponseStats, Re
   private static final int UNINITIALIZED = -1;
 
   private double databaseLookupLatency = 0;
+  /**
+   * The part of {@link #databaseLookupLatency} spent in virtual threads, which stay pinned to their carrier threads
+   * while blocked inside the native RocksDB calls.
+   */
+  private double virtualThreadDatabaseLookupLatency = 0;
   private double storageExecutionSubmissionWaitTime = UNINITIALIZED;
   private int storageExecutionQueueLen = UNINITIALIZED;
   protected int multiChunkLargeValueCount = 0;
@@ -40,7 +46,11 @@ public abstract class AbstractReadResponseStats implements ReadResponseStats, Re
 
   @Override
   public void addDatabaseLookupLatency(long startTimeInNanos) {
-    this.databaseLookupLatency += LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNanos);
+    double latency = LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNanos);
+    this.databaseLookupLatency += latency;
+    if (VirtualThreadFactory.isVirtual(Thread.currentThread())) {
+      this.virtualThreadDatabaseLookupLatency += latency;
+    }
   }
 
   @Override
@@ -64,6 +74,10 @@ public abstract class AbstractReadResponseStats implements ReadResponseStats, Re
         this.databaseLookupLatency,
         isAssembledMultiChunkLargeValue(),
         0);
+    consumeDoubleIfAbove(
+        stats::recordVirtualThreadDatabaseLookupLatency,
+        this.virtualThreadDatabaseLookupLatency,
+        0);
     consumeIntIfAbove(stats::recordMultiChunkLargeValueCount, this.multiChunkLargeValueCount, 0);
     consumeIntIfAbove(stats::recordSuccessRequestKeyCount, getRecordCount(), 0);
     consumeIntIfAbove(stats::recordStorageExecutionQueueLen, this.storageExecutionQueueLen, UNINITIALIZED);
@@ -86,6 +100,7 @@ public abstract class AbstractReadResponseStats implements ReadResponseStats, Re
     if (other instanceof AbstractReadResponseStats) {
       AbstractReadResponseStats otherStats = (AbstractReadResponseStats) other;
       this.databaseLookupLatency += otherStats.databaseLookupLatency;
+      this.virtualThreadDatabaseLookupLatency += otherStats.virtualThreadDatabaseLookupLatency;
       this.multiChunkLargeValueCount += otherStats.multiChunkLargeValueCount;
     }
   }
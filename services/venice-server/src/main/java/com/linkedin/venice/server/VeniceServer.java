@@ -463,7 +463,10 @@ public class VeniceServer {
           metadataRepo,
           storageService.getStorageEngineRepository(),
           serverConfig.getMaxConcurrentSnapshotUser(),
-          serverConfig.getSnapshotRetentionTimeInMin());
+          serverConfig.getSnapshotRetentionTimeInMin(),
+          serverConfig.getBlobTransferClientStreamCount(),
+          serverConfig.isBlobTransferIncrementalEnabled(),
+          metricsRepository);
     } else {
       blobTransferManager = null;
     }
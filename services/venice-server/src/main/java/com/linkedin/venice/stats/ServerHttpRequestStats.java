@@ -26,6 +26,7 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor databaseLookupLatencySensor;
   private final Sensor databaseLookupLatencyForSmallValueSensor;
   private final Sensor databaseLookupLatencyForLargeValueSensor;
+  private final Sensor virtualThreadDatabaseLookupLatencySensor;
   private final Sensor multiChunkLargeValueCountSensor;
   private final Sensor requestKeyCountSensor;
   private final Sensor successRequestKeyCountSensor;
@@ -50,6 +51,7 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor countOperatorSensor;
 
   private final Sensor earlyTerminatedEarlyRequestCountSensor;
+  private final Sensor cancelledRequestCountSensor;
 
   private Sensor requestKeySizeSensor;
   private Sensor requestValueSizeSensor;
@@ -118,6 +120,14 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         TehutiUtils.getPercentileStatWithAvgAndMax(
             getName(),
             getFullMetricName("storage_engine_query_latency_for_large_value")));
+    // The lookups pinning the carrier threads of the virtual threads while blocked inside the native RocksDB calls,
+    // which are not reported by VirtualThreadPinningStats since the JVM only reports the pinned threads which park.
+    virtualThreadDatabaseLookupLatencySensor = registerPerStoreAndTotal(
+        "storage_engine_query_latency_on_virtual_thread",
+        totalStats,
+        () -> totalStats.virtualThreadDatabaseLookupLatencySensor,
+        new Avg(),
+        new Max());
 
     storageExecutionHandlerSubmissionWaitTime = registerSensor(
         "storage_execution_handler_submission_wait_time",
@@ -294,6 +304,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         totalStats,
         () -> totalStats.earlyTerminatedEarlyRequestCountSensor,
         new OccurrenceRate());
+    cancelledRequestCountSensor = registerPerStoreAndTotal(
+        "cancelled_request_count",
+        totalStats,
+        () -> totalStats.cancelledRequestCountSensor,
+        new OccurrenceRate());
 
     if (isKeyValueProfilingEnabled || requestType == RequestType.SINGLE_GET) {
       // size profiling is only expensive for requests with lots of keys, but we keep it always on for single gets...
@@ -363,6 +378,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     }
   }
 
+  public void recordVirtualThreadDatabaseLookupLatency(double latency) {
+    virtualThreadDatabaseLookupLatencySensor.record(latency);
+  }
+
   public void recordRequestKeyCount(int keyCount) {
     requestKeyCountSensor.record(keyCount);
   }
@@ -444,6 +463,13 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     earlyTerminatedEarlyRequestCountSensor.record();
   }
 
+  /**
+   * Record the request which is skipped since the client has cancelled it, e.g. a hedged request which has lost.
+   */
+  public void recordCancelledRequest() {
+    cancelledRequestCountSensor.record();
+  }
+
   public void recordKeySizeInByte(int keySize) {
     requestKeySizeSensor.record(keySize);
   }
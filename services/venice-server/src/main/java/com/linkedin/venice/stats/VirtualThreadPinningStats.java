@@ -0,0 +1,97 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Count;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Stats of virtual threads pinning their carrier threads, e.g. by blocking inside a synchronized block or a native
+ * call, which would make the virtual threads hold on to the limited carrier threads and defeat the purpose of using
+ * them.
+ *
+ * The pinning is detected by the JFR event {@link #PINNED_EVENT_NAME} emitted by the JVM, which is consumed by a JFR
+ * recording stream. The JFR streaming API is accessed reflectively since the code base still targets Java 8, and no
+ * pinning will be recorded if it is not available.
+ *
+ * Note that the JVM only emits {@link #PINNED_EVENT_NAME} when a pinned virtual thread parks, so the time spent
+ * blocked inside native calls, e.g. the RocksDB lookups, is not reported here. That time is tracked by the
+ * "storage_engine_query_latency_on_virtual_thread" sensor of {@link ServerHttpRequestStats} instead.
+ */
+public class VirtualThreadPinningStats extends AbstractVeniceStats implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(VirtualThreadPinningStats.class);
+  static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+  /**
+   * Same as the default threshold of {@link #PINNED_EVENT_NAME}, since short pinning is harmless.
+   */
+  private static final Duration PINNED_EVENT_THRESHOLD = Duration.ofMillis(20);
+
+  private final Sensor pinnedEventSensor;
+  private final Sensor pinnedDurationSensor;
+  private AutoCloseable recordingStream;
+
+  public VirtualThreadPinningStats(MetricsRepository metricsRepository, String name) {
+    super(metricsRepository, name);
+    pinnedEventSensor = registerSensor("virtual_thread_pinned_event", new OccurrenceRate(), new Count());
+    pinnedDurationSensor = registerSensor("virtual_thread_pinned_duration_ms", new Avg(), new Max());
+  }
+
+  /**
+   * Start consuming the pinning events of the current JVM.
+   */
+  public synchronized void start() {
+    if (recordingStream != null) {
+      return;
+    }
+    try {
+      Class<?> recordingStreamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+      Class<?> eventSettingsClass = Class.forName("jdk.jfr.EventSettings");
+      Method getDuration = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getDuration");
+
+      Object stream = recordingStreamClass.getConstructor().newInstance();
+      Object eventSettings = recordingStreamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT_NAME);
+      eventSettingsClass.getMethod("withThreshold", Duration.class).invoke(eventSettings, PINNED_EVENT_THRESHOLD);
+      Consumer<Object> eventHandler = event -> {
+        try {
+          recordPinnedEvent(((Duration) getDuration.invoke(event)).toNanos() / (double) Duration.ofMillis(1).toNanos());
+        } catch (ReflectiveOperationException e) {
+          LOGGER.warn("Failed to read the duration of event: {}", PINNED_EVENT_NAME, e);
+        }
+      };
+      recordingStreamClass.getMethod("onEvent", String.class, Consumer.class)
+          .invoke(stream, PINNED_EVENT_NAME, eventHandler);
+      recordingStreamClass.getMethod("startAsync").invoke(stream);
+      recordingStream = (AutoCloseable) stream;
+      LOGGER.info("Started consuming JFR event: {}", PINNED_EVENT_NAME);
+    } catch (Exception e) {
+      LOGGER.warn("Virtual thread pinning will not be tracked since JFR event streaming is not available", e);
+    }
+  }
+
+  public void recordPinnedEvent(double durationInMs) {
+    pinnedEventSensor.record();
+    pinnedDurationSensor.record(durationInMs);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (recordingStream == null) {
+      return;
+    }
+    try {
+      recordingStream.close();
+    } catch (Exception e) {
+      LOGGER.warn("Failed to close the JFR recording stream of event: {}", PINNED_EVENT_NAME, e);
+    }
+    recordingStream = null;
+  }
+}
@@ -192,6 +192,32 @@ public class OutboundHttpWrapperHandlerTest {
     verify(grpcHandler).processRequest(context);
   }
 
+  @Test
+  public void testGrpcWriteReleasesResponse() {
+    ReadResponse readResponse = mock(ReadResponse.class);
+    when(readResponse.isFound()).thenReturn(true);
+    when(readResponse.getResponseBody()).thenReturn(Unpooled.wrappedBuffer("value".getBytes()));
+    when(readResponse.getCompressionStrategy()).thenReturn(CompressionStrategy.NO_OP);
+    GrpcRequestContext context = new GrpcRequestContext(null, VeniceServerResponse.newBuilder(), getStreamObserver());
+    context.setReadResponse(readResponse);
+    context.setGrpcStatsContext(mock(ServerStatsContext.class));
+
+    new GrpcOutboundResponseHandler().processRequest(context);
+    Assert.assertEquals(context.getVeniceServerResponseBuilder().getData(), ByteString.copyFromUtf8("value"));
+    verify(readResponse).release();
+
+    // The response is released as well when an error response is sent instead.
+    ReadResponse erroredReadResponse = mock(ReadResponse.class);
+    GrpcRequestContext erroredContext =
+        new GrpcRequestContext(null, VeniceServerResponse.newBuilder(), getStreamObserver());
+    erroredContext.setReadResponse(erroredReadResponse);
+    erroredContext.setGrpcStatsContext(mock(ServerStatsContext.class));
+    erroredContext.setError();
+
+    new GrpcOutboundResponseHandler().processRequest(erroredContext);
+    verify(erroredReadResponse).release();
+  }
+
   @Test
   public void testWriteTopicPartitionIngestionContextResponse() throws JsonProcessingException {
     ReplicaIngestionResponse msg = new ReplicaIngestionResponse();
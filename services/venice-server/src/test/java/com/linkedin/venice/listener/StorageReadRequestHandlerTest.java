@@ -112,6 +112,7 @@ import com.linkedin.venice.utils.ValueSize;
 import com.linkedin.venice.utils.concurrent.BlockingQueueType;
 import com.linkedin.venice.utils.concurrent.ThreadPoolFactory;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
@@ -294,6 +295,28 @@ public class StorageReadRequestHandlerTest {
     assertEquals(responseObject.getValueRecord().getSchemaId(), schemaId);
   }
 
+  @Test
+  public void testCancelledRequestSkipsStorageLookup() throws Exception {
+    String keyString = "test-key";
+    int partition = 2;
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1/" + partition + "/" + keyString;
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    GetRouterRequest request =
+        GetRouterRequest.parseGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(httpRequest.uri())));
+    // The channel of the request is closed once the Router cancels it
+    Channel channel = mock(Channel.class);
+    doReturn(false).when(channel).isActive();
+    doReturn(channel).when(context).channel();
+
+    StorageReadRequestHandler requestHandler = createStorageReadRequestHandler();
+    requestHandler.channelRead(context, request);
+
+    verify(context, times(1)).writeAndFlush(argumentCaptor.capture());
+    HttpShortcutResponse shortcutResponse = (HttpShortcutResponse) argumentCaptor.getValue();
+    assertTrue(shortcutResponse.isRequestCancelled());
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+  }
+
   @Test
   public void testDiskHealthCheckService() throws Exception {
     doReturn(true).when(healthCheckService).isDiskHealthy();
@@ -768,6 +791,91 @@ public class StorageReadRequestHandlerTest {
     }
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testHandleTopKComputeRequest(boolean parallelBatchGetEnabled) throws Exception {
+    doReturn(true).when(storeRepository).isReadComputationEnabled(any());
+    doReturn(parallelBatchGetEnabled).when(serverConfig).isEnableParallelBatchGet();
+    // Every key is processed in a chunk of its own with the parallel batch get
+    doReturn(1).when(serverConfig).getParallelBatchGetChunkSize();
+
+    Schema valueSchema = SchemaBuilder.record("SampleSchema")
+        .fields()
+        .name("listField")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .endRecord();
+    SchemaEntry schemaEntry = new SchemaEntry(1, valueSchema);
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(any());
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(any(), anyInt());
+
+    int partition = 1;
+    int keyCount = 4;
+    AvroSerializer valueSerializer = new AvroSerializer<>(valueSchema);
+    List<ComputeRouterRequestKeyV1> keys = new ArrayList<>(keyCount);
+    Set<Object> keySet = new HashSet<>();
+    for (int i = 0; i < keyCount; i++) {
+      String keyString = "test-key-" + i;
+      GenericRecord valueRecord = new GenericData.Record(valueSchema);
+      // The score of the dot product grows with the key index, so the last keys are the top K
+      valueRecord.put("listField", Collections.singletonList((float) i));
+      byte[] valueBytes = ValueRecord.create(schemaEntry.getId(), valueSerializer.serialize(valueRecord)).serialize();
+      doReturn(ByteBuffer.wrap(valueBytes)).when(storageEngine).get(eq(partition), eq(keyString.getBytes()), any());
+      // The key indexes start from 1, since the key index 0 of a key ranked out can't be told apart from its negation
+      keys.add(new ComputeRouterRequestKeyV1(i + 1, ByteBuffer.wrap(keyString.getBytes()), partition));
+      keySet.add(keyString);
+    }
+
+    AvroGenericReadComputeStoreClient storeClient = mock(AvroGenericReadComputeStoreClient.class);
+    doReturn("test-store").when(storeClient).getStoreName();
+    Schema keySchema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation("\"string\"");
+    new AvroComputeRequestBuilderV3<>(storeClient, getMockSchemaReader(keySchema, valueSchema))
+        .dotProduct("listField", Collections.singletonList(1.0f), "dotProduct")
+        .topK("dotProduct", 2)
+        .execute(keySet);
+    ArgumentCaptor<ComputeRequestWrapper> requestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    verify(storeClient, times(1)).compute(requestCaptor.capture(), any(), any(), any(), anyLong());
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(ByteBuffer.wrap(requestCaptor.getValue().serialize())),
+        null);
+
+    ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+    doReturn(RequestType.COMPUTE).when(request).getRequestType();
+    doReturn(true).when(request).isStreamingRequest();
+    doReturn(schemaEntry.getId()).when(request).getValueSchemaId();
+    doReturn(computeRequest).when(request).getComputeRequest();
+    doReturn(version.kafkaTopicName()).when(request).getResourceName();
+    doReturn(keys).when(request).getKeys();
+    doReturn(keyCount).when(request).getKeyCount();
+
+    StorageReadRequestHandler requestHandler =
+        createStorageReadRequestHandler(parallelBatchGetEnabled, MultiGetResponseWrapper::new);
+    requestHandler.channelRead(context, request);
+
+    verify(context, timeout(5000)).writeAndFlush(argumentCaptor.capture());
+    AbstractReadResponse computeResponse = (AbstractReadResponse) argumentCaptor.getValue();
+    byte[] responseBytes = new byte[computeResponse.getResponseBody().readableBytes()];
+    computeResponse.getResponseBody().getBytes(0, responseBytes);
+    RecordDeserializer<ComputeResponseRecordV1> responseDeserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+    Set<Integer> selectedKeyIndexes = new HashSet<>();
+    Set<Integer> rankedOutKeyIndexes = new HashSet<>();
+    for (ComputeResponseRecordV1 record: responseDeserializer.deserializeObjects(responseBytes)) {
+      if (record.getKeyIndex() < 0) {
+        assertEquals(record.getValue(), StreamingUtils.EMPTY_BYTE_BUFFER);
+        rankedOutKeyIndexes.add(-record.getKeyIndex());
+      } else {
+        selectedKeyIndexes.add(record.getKeyIndex());
+      }
+    }
+    // Only the top K of the whole request are returned, not the top K of every chunk
+    assertEquals(selectedKeyIndexes, new HashSet<>(Arrays.asList(3, 4)));
+    assertEquals(rankedOutKeyIndexes, new HashSet<>(Arrays.asList(1, 2)));
+  }
+
   /**
    * There was a regression where the "perStoreVersionStateMap" inside {@link StorageReadRequestHandler} could be stale
    * during rebalance. In the following rebalance scenario, the storage engine reference in the map would be stale:
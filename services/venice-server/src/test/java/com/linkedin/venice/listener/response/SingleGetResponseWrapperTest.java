@@ -0,0 +1,39 @@
+package com.linkedin.venice.listener.response;
+
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.davinci.store.record.ValueRecord;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.testng.annotations.Test;
+
+
+public class SingleGetResponseWrapperTest {
+  @Test
+  public void testReleaseOwnedPooledData() {
+    ByteBuf data = PooledByteBufAllocator.DEFAULT.directBuffer(4).writeInt(1);
+    SingleGetResponseWrapper response = new SingleGetResponseWrapper();
+    response.setValueRecord(ValueRecord.create(1, data), true);
+
+    response.release();
+    assertEquals(data.refCnt(), 0);
+    // Releasing the response again should not release the buffer twice.
+    response.release();
+  }
+
+  @Test
+  public void testReleaseNotOwnedData() {
+    ByteBuf data = Unpooled.wrappedBuffer(new byte[] { 0, 1, 2, 3 });
+    SingleGetResponseWrapper response = new SingleGetResponseWrapper();
+    response.setValueRecord(ValueRecord.create(1, data));
+
+    response.release();
+    assertEquals(data.refCnt(), 1);
+
+    // A not found response doesn't own anything to release.
+    SingleGetResponseWrapper notFoundResponse = new SingleGetResponseWrapper();
+    notFoundResponse.setValueRecord(null, true);
+    notFoundResponse.release();
+  }
+}
@@ -0,0 +1,31 @@
+package com.linkedin.venice.stats;
+
+import io.tehuti.metrics.MetricsRepository;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class VirtualThreadPinningStatsTest {
+  @Test
+  public void testRecordPinnedEvent() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    VirtualThreadPinningStats stats = new VirtualThreadPinningStats(metricsRepository, "virtual_thread");
+    // Starting should not fail even if JFR event streaming or virtual threads are not available.
+    stats.start();
+    try {
+      stats.recordPinnedEvent(30);
+      stats.recordPinnedEvent(50);
+      Assert.assertEquals(
+          metricsRepository.getMetric(".virtual_thread--virtual_thread_pinned_event.Count").value(),
+          2d);
+      Assert.assertEquals(
+          metricsRepository.getMetric(".virtual_thread--virtual_thread_pinned_duration_ms.Max").value(),
+          50d);
+      Assert.assertEquals(
+          metricsRepository.getMetric(".virtual_thread--virtual_thread_pinned_duration_ms.Avg").value(),
+          40d);
+    } finally {
+      stats.close();
+    }
+  }
+}